@@ -1,7 +1,9 @@
 package io.github.ryntric;
 
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * Default implementation of {@link HashCodeProvider}.
@@ -14,6 +16,9 @@ import java.util.Arrays;
  * This normalization technique is similar to the one used in
  * {@link java.util.HashMap} to reduce collisions caused by
  * poorly distributed higher-order bits.
+ * <p>
+ * Slices are hashed in place with the same polynomial as {@link Arrays#hashCode(byte[])} and
+ * {@link String#hashCode()}, and a two-long key like {@link java.util.UUID#hashCode()}.
  */
 public final class DefaultHashCodeProvider implements HashCodeProvider {
     public static final DefaultHashCodeProvider INSTANCE = new DefaultHashCodeProvider();
@@ -43,4 +48,42 @@ public final class DefaultHashCodeProvider implements HashCodeProvider {
     public int provide(byte[] key) {
         return normalize(Arrays.hashCode(key));
     }
+
+    @Override
+    public int provide(byte[] key, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, key.length);
+        int hashcode = 1;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            hashcode = 31 * hashcode + key[i];
+        }
+        return normalize(hashcode);
+    }
+
+    @Override
+    public int provide(ByteBuffer key, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, key.limit());
+        int hashcode = 1;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            hashcode = 31 * hashcode + key.get(i);
+        }
+        return normalize(hashcode);
+    }
+
+    @Override
+    public int provide(CharSequence key, int start, int end) {
+        Objects.checkFromToIndex(start, end, key.length());
+        if (start == 0 && end == key.length() && key instanceof String) {
+            return provide((String) key);
+        }
+        int hashcode = 0;
+        for (int i = start; i < end; i++) {
+            hashcode = 31 * hashcode + key.charAt(i);
+        }
+        return normalize(hashcode);
+    }
+
+    @Override
+    public int provide(long mostSignificantBits, long leastSignificantBits) {
+        return normalize(Long.hashCode(mostSignificantBits ^ leastSignificantBits));
+    }
 }
@@ -0,0 +1,33 @@
+package io.github.ryntric;
+
+/**
+ * A marker published into a worker's ring buffer during a routing change. It claims a regular
+ * ring slot and remembers the preallocated event of that slot; once the worker reaches that
+ * event, everything published to the worker before the marker has been handled.
+ * <p>
+ * Markers are swallowed by {@link WorkerEventHandler} and never reach the user handler,
+ * so the handler observes a gap in the sequence numbers instead.
+ */
+@SuppressWarnings("unchecked")
+final class DrainMarker {
+    private static final EventTranslator.EventTranslatorOneArg<Object, DrainMarker> TRANSLATOR = (event, marker) -> marker.event = event;
+
+    private Object event;
+    private volatile boolean done;
+
+    static <T> EventTranslator.EventTranslatorOneArg<T, DrainMarker> translator() {
+        return (EventTranslator.EventTranslatorOneArg<T, DrainMarker>) (EventTranslator.EventTranslatorOneArg<?, ?>) TRANSLATOR;
+    }
+
+    boolean matches(Object event) {
+        return this.event == event;
+    }
+
+    void complete() {
+        done = true;
+    }
+
+    boolean isDone() {
+        return done;
+    }
+}
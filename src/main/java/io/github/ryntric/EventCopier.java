@@ -0,0 +1,13 @@
+package io.github.ryntric;
+
+/**
+ * Copies the fields of one event into another, used by {@link StagedEventProducer} to copy a
+ * staged event into its ring slot on commit.
+ *
+ * @param <T> the event type
+ */
+@FunctionalInterface
+public interface EventCopier<T> {
+
+    void copy(T source, T target);
+}
@@ -0,0 +1,31 @@
+package io.github.ryntric;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Writes events into a worker journal and reads them back for replay, see
+ * {@link WorkerServiceConfig.Builder#journal(java.nio.file.Path)}.
+ *
+ * @param <T> the event type
+ */
+public interface EventSerializer<T> {
+
+    /**
+     * Writes the event at the position of {@code target}, advancing the position. The buffer's
+     * limit is the end of the journal segment; relative puts beyond it throw
+     * {@link java.nio.BufferOverflowException}, upon which the event is written to a new segment.
+     *
+     * @param event  the translated event
+     * @param target the journal segment
+     */
+    void write(T event, ByteBuffer target);
+
+    /**
+     * Reads an event written by {@link #write(Object, ByteBuffer)}. The buffer holds exactly
+     * the written bytes, between its position and limit.
+     *
+     * @param source the written bytes
+     * @param event  the event to populate
+     */
+    void read(ByteBuffer source, T event);
+}
@@ -0,0 +1,55 @@
+package io.github.ryntric;
+
+import java.util.Arrays;
+
+/**
+ * Per-thread scratch arrays of {@link WorkerService#publishGrouped}, which groups a multi-key
+ * batch by worker with a counting sort. The arrays grow to the largest batch and worker count
+ * the thread has published with and are reused after that, so a grouped publish allocates
+ * nothing once the thread has seen its largest batch.
+ * <p>
+ * Scratch arrays still in use, by a translator that publishes a multi-key batch itself, are
+ * never handed out twice; fresh ones are created instead. {@link #release(int)} drops the
+ * references to the grouped arguments.
+ */
+final class GroupingScratch {
+    private static final ThreadLocal<GroupingScratch> SCRATCH = ThreadLocal.withInitial(GroupingScratch::new);
+
+    int[] owners = new int[0];
+    int[] offsets = new int[1];
+    int[] positions = new int[0];
+    int[] hashcodes = new int[0];
+    Object[] args = new Object[0];
+    private boolean inUse;
+
+    private GroupingScratch() {}
+
+    /**
+     * @return scratch arrays for a batch of {@code length} events over {@code workerCount}
+     * workers, with {@link #offsets} cleared
+     */
+    static GroupingScratch acquire(int length, int workerCount) {
+        GroupingScratch scratch = SCRATCH.get();
+        if (scratch.inUse) {
+            scratch = new GroupingScratch();
+        }
+        scratch.inUse = true;
+        if (scratch.owners.length < length) {
+            scratch.owners = new int[length];
+            scratch.hashcodes = new int[length];
+            scratch.args = new Object[length];
+        }
+        if (scratch.positions.length < workerCount) {
+            scratch.offsets = new int[workerCount + 1];
+            scratch.positions = new int[workerCount];
+        } else {
+            Arrays.fill(scratch.offsets, 0, workerCount + 1, 0);
+        }
+        return scratch;
+    }
+
+    void release(int length) {
+        Arrays.fill(args, 0, length, null);
+        inUse = false;
+    }
+}
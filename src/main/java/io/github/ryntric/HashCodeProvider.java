@@ -1,10 +1,17 @@
 package io.github.ryntric;
 
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
 /**
  * Strategy interface for computing hash codes from different types of keys.
  * Typical implementations may use simple wrappers around
  * {@link Object#hashCode()} or custom hashing algorithms optimized for specific use cases.
+ * <p>
+ * Slices of arrays, buffers and character sequences must hash like a copy of the slice, so that
+ * a key routes to the same worker whichever form it is published in. The default methods do
+ * exactly that by copying; implementations override them to hash in place.
  */
 public interface HashCodeProvider {
 
@@ -15,4 +22,41 @@ public interface HashCodeProvider {
     int provide(long key);
 
     int provide(byte[] key);
+
+    /**
+     * @return the hash of {@code key[offset, offset + length)}
+     */
+    default int provide(byte[] key, int offset, int length) {
+        return provide(Arrays.copyOfRange(key, offset, offset + length));
+    }
+
+    /**
+     * Hashes {@code length} bytes of {@code key} starting at the absolute index {@code offset},
+     * independently of the buffer's position and limit.
+     *
+     * @return the hash of the bytes
+     */
+    default int provide(ByteBuffer key, int offset, int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = key.get(offset + i);
+        }
+        return provide(bytes);
+    }
+
+    /**
+     * @return the hash of the characters {@code [start, end)} of {@code key}
+     */
+    default int provide(CharSequence key, int start, int end) {
+        return provide(key.subSequence(start, end).toString());
+    }
+
+    /**
+     * Hashes a 128-bit key held as two longs, e.g. the bits of a {@link java.util.UUID}.
+     *
+     * @return the hash of the key
+     */
+    default int provide(long mostSignificantBits, long leastSignificantBits) {
+        return provide(mostSignificantBits ^ leastSignificantBits);
+    }
 }
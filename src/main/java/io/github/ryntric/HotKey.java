@@ -0,0 +1,50 @@
+package io.github.ryntric;
+
+import java.util.Arrays;
+
+/**
+ * A frequently published routing key reported by {@link WorkerService#hotKeys()}.
+ * <p>
+ * The key is a {@link String}, {@link Integer}, {@link Long} or {@code byte[]},
+ * matching the {@code publishEvent} overload it was published with. Keys published as
+ * {@link java.nio.ByteBuffer} or array slices are reported as {@code byte[]}, {@link CharSequence}
+ * slices as {@link String} and two-long keys as {@link java.util.UUID}.
+ */
+public final class HotKey {
+    private final Object key;
+    private final int worker;
+    private final long estimatedCount;
+
+    HotKey(Object key, int worker, long estimatedCount) {
+        this.key = key;
+        this.worker = worker;
+        this.estimatedCount = estimatedCount;
+    }
+
+    /**
+     * @return the routing key
+     */
+    public Object getKey() {
+        return key;
+    }
+
+    /**
+     * @return index of the worker currently owning the key
+     */
+    public int getWorker() {
+        return worker;
+    }
+
+    /**
+     * @return estimated number of recently published events with this key
+     */
+    public long getEstimatedCount() {
+        return estimatedCount;
+    }
+
+    @Override
+    public String toString() {
+        String value = key instanceof byte[] ? Arrays.toString((byte[]) key) : String.valueOf(key);
+        return String.format("HotKey{key=%s, worker=%d, estimatedCount=%d}", value, worker, estimatedCount);
+    }
+}
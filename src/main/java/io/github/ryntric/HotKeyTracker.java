@@ -0,0 +1,443 @@
+package io.github.ryntric;
+
+import io.github.ryntric.routing.RoutingTable;
+import io.github.ryntric.util.WorkerUtil;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sampled hot-key detection: a count-min sketch estimates how often each routing hash is
+ * published, and a small min-heap keeps the {@code capacity} keys with the highest estimates.
+ * <p>
+ * One in {@code sampleRate} publishes is recorded. The sketch is striped by thread id so that
+ * producers on different threads update different arrays; counters are plain racy increments,
+ * which may lose a few samples under contention. Every stripe halves its counters after
+ * {@link #AGING_INTERVAL} samples, so the estimates follow the recent workload.
+ * <p>
+ * Producers never touch the heap. A sample whose estimate beats the smallest one in the heap
+ * nominates its key into a small hash-indexed candidate table of its stripe, guarded by a
+ * try-lock that a contended producer simply skips. {@link #snapshot(RoutingTable)} folds the
+ * candidates of all stripes into the heap; hot keys are sampled again and again, so they are
+ * back among the candidates long before the next snapshot.
+ * <p>
+ * Recording is allocation-free: entries are preallocated and reused, and a sampled key is
+ * compared against the candidates in place, by hash and then by content. Only a key that
+ * becomes a new candidate is materialized: {@code byte[]} keys and slices are copied once,
+ * {@link CharSequence} ranges become a {@link String}; two-long keys become a {@link UUID}
+ * when a snapshot reports them.
+ */
+final class HotKeyTracker {
+    static final int AGING_INTERVAL = 1 << 16;
+
+    private static final VarHandle BUSY;
+    private static final int DEPTH = 4;
+    private static final int WIDTH_BITS = 10;
+    private static final int WIDTH = 1 << WIDTH_BITS;
+    private static final int COUNTER = DEPTH * WIDTH;
+    private static final int PAD = 16;
+    private static final int[] SEEDS = {0x9E3779B1, 0x85EBCA77, 0xC2B2AE3D, 0x27D4EB2F};
+
+    private static final byte NONE = -1;
+    private static final byte STRING = 0;
+    private static final byte INT = 1;
+    private static final byte LONG = 2;
+    private static final byte BYTES = 3;
+    private static final byte UUIDS = 4;
+
+    static {
+        try {
+            BUSY = MethodHandles.lookup().findVarHandle(Stripe.class, "busy", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final int sampleMask;
+    private final int stripeMask;
+    private final Stripe[] stripes;
+    // guarded by this
+    private final Entry[] heap;
+    private int size;
+    // zero until the heap is full, so any estimate passes the pre-check; halved on aging
+    private volatile long minCount;
+
+    HotKeyTracker(int capacity, int sampleRate) {
+        int stripeCount = Math.min(16, WorkerUtil.ceilPowerOfTwo(WorkerUtil.getAvailableProcessors()));
+        int candidateCount = WorkerUtil.ceilPowerOfTwo(capacity) * 4;
+        this.sampleMask = sampleRate - 1;
+        this.stripeMask = stripeCount - 1;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(candidateCount);
+        }
+        this.heap = new Entry[capacity];
+        for (int i = 0; i < capacity; i++) {
+            heap[i] = new Entry();
+        }
+    }
+
+    private boolean skip() {
+        return (ThreadLocalRandom.current().nextInt() & sampleMask) != 0;
+    }
+
+    void sample(String key, int hashcode, int count) {
+        if (skip()) return;
+        record(STRING, 0L, 0L, key, 0, key.length(), hashcode, count);
+    }
+
+    void sample(int key, int hashcode, int count) {
+        if (skip()) return;
+        record(INT, key, 0L, null, 0, 0, hashcode, count);
+    }
+
+    void sample(long key, int hashcode, int count) {
+        if (skip()) return;
+        record(LONG, key, 0L, null, 0, 0, hashcode, count);
+    }
+
+    void sample(byte[] key, int hashcode, int count) {
+        if (skip()) return;
+        record(BYTES, 0L, 0L, key, 0, key.length, hashcode, count);
+    }
+
+    void sample(byte[] key, int offset, int length, int hashcode, int count) {
+        if (skip()) return;
+        record(BYTES, 0L, 0L, key, offset, length, hashcode, count);
+    }
+
+    void sample(ByteBuffer key, int offset, int length, int hashcode, int count) {
+        if (skip()) return;
+        record(BYTES, 0L, 0L, key, offset, length, hashcode, count);
+    }
+
+    void sample(CharSequence key, int start, int end, int hashcode, int count) {
+        if (skip()) return;
+        record(STRING, 0L, 0L, key, start, end - start, hashcode, count);
+    }
+
+    void sample(long mostSignificantBits, long leastSignificantBits, int hashcode, int count) {
+        if (skip()) return;
+        record(UUIDS, mostSignificantBits, leastSignificantBits, null, 0, 0, hashcode, count);
+    }
+
+    private static int index(int row, int mixed) {
+        return row * WIDTH + ((mixed * SEEDS[row]) >>> (Integer.SIZE - WIDTH_BITS));
+    }
+
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * A key is given by its kind and either up to two longs, or a range of its source: a
+     * {@link String} or {@link CharSequence} for string keys, a {@code byte[]} or
+     * {@link ByteBuffer} for byte keys.
+     */
+    private void record(byte kind, long primitive, long secondary, Object source, int offset, int length, int hashcode, int count) {
+        long estimate = count(hashcode, count);
+        if (estimate <= minCount) {
+            return;
+        }
+        nominate(kind, primitive, secondary, source, offset, length, hashcode, estimate);
+    }
+
+    private Stripe stripe() {
+        return stripes[(int) Thread.currentThread().getId() & stripeMask];
+    }
+
+    /**
+     * Adds a sample to the sketch.
+     *
+     * @return the estimated count of the hash
+     */
+    private long count(int hashcode, int count) {
+        int[] counters = stripe().counters;
+        int mixed = mix(hashcode);
+        for (int row = 0; row < DEPTH; row++) {
+            counters[index(row, mixed)] += count;
+        }
+        if (++counters[COUNTER] >= AGING_INTERVAL) {
+            age(counters);
+        }
+        return estimate(mixed);
+    }
+
+    private void age(int[] counters) {
+        for (int i = 0; i < COUNTER; i++) {
+            counters[i] >>>= 1;
+        }
+        counters[COUNTER] = 0;
+        // the heap is refreshed by the next snapshot only, keep the pre-check from going stale
+        minCount = minCount >>> 1;
+    }
+
+    private long estimate(int mixed) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            int index = index(row, mixed);
+            long sum = 0;
+            for (Stripe stripe : stripes) {
+                sum += stripe.counters[index];
+            }
+            estimate = Math.min(estimate, sum);
+        }
+        return estimate;
+    }
+
+    /**
+     * Makes the key a candidate of the calling thread's stripe unless another producer holds
+     * the stripe. Of the two slots the hash maps to, the key updates its own, or else replaces
+     * the one with the lower count if its estimate is at least as high. Otherwise that count is
+     * halved, so that a candidate which is no longer sampled eventually gives way.
+     */
+    private void nominate(byte kind, long primitive, long secondary, Object source, int offset, int length, int hashcode, long estimate) {
+        Stripe stripe = stripe();
+        if (!BUSY.compareAndSet(stripe, 0, 1)) {
+            return;
+        }
+        try {
+            Entry[] candidates = stripe.candidates;
+            int index = mix(hashcode) & (candidates.length - 1);
+            Entry first = candidates[index];
+            Entry second = candidates[index ^ 1];
+            if (first.matches(kind, primitive, secondary, source, offset, length, hashcode)) {
+                first.count = estimate;
+            } else if (second.matches(kind, primitive, secondary, source, offset, length, hashcode)) {
+                second.count = estimate;
+            } else {
+                // empty slots count zero
+                Entry weaker = first.count <= second.count ? first : second;
+                if (weaker.count <= estimate) {
+                    weaker.set(kind, primitive, secondary, source, offset, length, hashcode, estimate);
+                } else {
+                    weaker.count >>>= 1;
+                }
+            }
+        } finally {
+            BUSY.setRelease(stripe, 0);
+        }
+    }
+
+    /**
+     * Refreshes the estimates of the heap and moves the candidates of every stripe into it.
+     * Caller must hold the monitor.
+     */
+    private void fold() {
+        for (int i = 0; i < size; i++) {
+            heap[i].count = estimate(mix(heap[i].hashcode));
+        }
+        for (int i = (size >>> 1) - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+        for (Stripe stripe : stripes) {
+            while (!BUSY.compareAndSet(stripe, 0, 1)) {
+                Thread.onSpinWait();
+            }
+            try {
+                for (Entry candidate : stripe.candidates) {
+                    if (candidate.kind != NONE) {
+                        offer(candidate);
+                        candidate.clear();
+                    }
+                }
+            } finally {
+                BUSY.setRelease(stripe, 0);
+            }
+        }
+        updateMin();
+    }
+
+    private void offer(Entry candidate) {
+        for (int i = 0; i < size; i++) {
+            if (heap[i].sameKey(candidate)) {
+                return;
+            }
+        }
+        long estimate = estimate(mix(candidate.hashcode));
+        if (size < heap.length) {
+            heap[size].take(candidate, estimate);
+            siftUp(size++);
+        } else if (estimate > heap[0].count) {
+            heap[0].take(candidate, estimate);
+            siftDown(0);
+        }
+    }
+
+    private void updateMin() {
+        minCount = size == heap.length ? heap[0].count : 0;
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent].count <= heap[i].count) return;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        for (;;) {
+            int smallest = i;
+            int left = 2 * i + 1;
+            int right = left + 1;
+            if (left < size && heap[left].count < heap[smallest].count) smallest = left;
+            if (right < size && heap[right].count < heap[smallest].count) smallest = right;
+            if (smallest == i) return;
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swap(int i, int j) {
+        Entry entry = heap[i];
+        heap[i] = heap[j];
+        heap[j] = entry;
+    }
+
+    /**
+     * @param table routing table used to attribute keys to their current worker
+     * @return tracked keys ordered by descending estimated count
+     */
+    synchronized List<HotKey> snapshot(RoutingTable table) {
+        fold();
+        List<HotKey> keys = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Entry entry = heap[i];
+            long count = entry.count * (sampleMask + 1L);
+            keys.add(new HotKey(entry.key(), table.route(entry.hashcode), count));
+        }
+        keys.sort((a, b) -> Long.compare(b.getEstimatedCount(), a.getEstimatedCount()));
+        return keys;
+    }
+
+    private static final class Stripe {
+        private final int[] counters = new int[COUNTER + PAD];
+        private final Entry[] candidates;
+        @SuppressWarnings("unused")
+        private int busy;
+
+        Stripe(int candidateCount) {
+            this.candidates = new Entry[candidateCount];
+            for (int i = 0; i < candidateCount; i++) {
+                candidates[i] = new Entry();
+            }
+        }
+    }
+
+    private static final class Entry {
+        private byte kind = NONE;
+        private long primitive;
+        private long secondary;
+        // a String or a private byte[] copy
+        private Object reference;
+        private int hashcode;
+        private long count;
+
+        /**
+         * Compares against a key in place, without materializing it.
+         */
+        boolean matches(byte kind, long primitive, long secondary, Object source, int offset, int length, int hashcode) {
+            if (this.hashcode != hashcode || this.kind != kind) return false;
+            switch (kind) {
+                case STRING: return equals((String) reference, (CharSequence) source, offset, length);
+                case BYTES: return equals((byte[]) reference, source, offset, length);
+                case UUIDS: return this.primitive == primitive && this.secondary == secondary;
+                default: return this.primitive == primitive;
+            }
+        }
+
+        boolean sameKey(Entry other) {
+            if (hashcode != other.hashcode || kind != other.kind || primitive != other.primitive || secondary != other.secondary) {
+                return false;
+            }
+            return kind == BYTES ? Arrays.equals((byte[]) reference, (byte[]) other.reference) : Objects.equals(reference, other.reference);
+        }
+
+        /**
+         * Materializes the key; only a {@code String} key passed as a whole is kept as it is.
+         */
+        void set(byte kind, long primitive, long secondary, Object source, int offset, int length, int hashcode, long count) {
+            this.kind = kind;
+            this.primitive = primitive;
+            this.secondary = secondary;
+            this.reference = kind == STRING ? string((CharSequence) source, offset, length) : kind == BYTES ? bytes(source, offset, length) : null;
+            this.hashcode = hashcode;
+            this.count = count;
+        }
+
+        /**
+         * Takes over the key of a candidate, whose {@code byte[]} keys are already private copies.
+         */
+        void take(Entry candidate, long count) {
+            this.kind = candidate.kind;
+            this.primitive = candidate.primitive;
+            this.secondary = candidate.secondary;
+            this.reference = candidate.reference;
+            this.hashcode = candidate.hashcode;
+            this.count = count;
+        }
+
+        void clear() {
+            this.kind = NONE;
+            this.reference = null;
+            this.count = 0;
+        }
+
+        Object key() {
+            switch (kind) {
+                case INT: return (int) primitive;
+                case LONG: return primitive;
+                case UUIDS: return new UUID(primitive, secondary);
+                case BYTES: return ((byte[]) reference).clone();
+                default: return reference;
+            }
+        }
+
+        private static boolean equals(String key, CharSequence source, int start, int length) {
+            if (key.length() != length) return false;
+            if (source instanceof String && start == 0 && source.length() == length) return key.equals(source);
+            for (int i = 0; i < length; i++) {
+                if (key.charAt(i) != source.charAt(start + i)) return false;
+            }
+            return true;
+        }
+
+        private static boolean equals(byte[] key, Object source, int offset, int length) {
+            if (key.length != length) return false;
+            if (source instanceof byte[]) return Arrays.equals(key, 0, length, (byte[]) source, offset, offset + length);
+            ByteBuffer buffer = (ByteBuffer) source;
+            for (int i = 0; i < length; i++) {
+                if (key[i] != buffer.get(offset + i)) return false;
+            }
+            return true;
+        }
+
+        private static String string(CharSequence source, int start, int length) {
+            if (source instanceof String && start == 0 && source.length() == length) return (String) source;
+            return source.subSequence(start, start + length).toString();
+        }
+
+        private static byte[] bytes(Object source, int offset, int length) {
+            if (source instanceof byte[]) return Arrays.copyOfRange((byte[]) source, offset, offset + length);
+            ByteBuffer buffer = (ByteBuffer) source;
+            byte[] bytes = new byte[length];
+            for (int i = 0; i < length; i++) {
+                bytes[i] = buffer.get(offset + i);
+            }
+            return bytes;
+        }
+    }
+}
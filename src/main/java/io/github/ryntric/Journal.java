@@ -0,0 +1,432 @@
+package io.github.ryntric;
+
+import io.github.ryntric.EventTranslator.EventTranslatorOneArg;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Write-ahead journal of one worker: a chain of memory-mapped segment files holding the worker's
+ * events in ring order, and a memory-mapped acknowledgement of how far the worker has handled them.
+ * <p>
+ * Producers append while holding the journal's monitor and publish to the ring under the same
+ * monitor, so journal order is ring order. A record is a header of its length and the routing
+ * hashcode, followed by the serialized event. The length is stored last, so a record torn by a
+ * crash reads as the end of the journal. A segment that cannot take a record is closed with a
+ * roll mark and continued in the next file.
+ * <p>
+ * The consumer thread walks the journal along with the ring, one record per handled event, and
+ * stores its position once per batch, or whenever it has caught up with the producers. Segments
+ * before the acknowledged one are deleted. Records after the acknowledged position at
+ * {@link #open()} are handed to {@link #replay(Replay)}, which re-publishes them as new records;
+ * a crash during replay therefore leads to events handled twice, never to lost ones.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+final class Journal<T> {
+    private static final int HEADER = 8;
+    private static final int ROLL = -1;
+    private static final String SUFFIX = ".journal";
+    private static final String ACK = "ack";
+    private static final byte[] ZEROS = new byte[4096];
+
+    private final Path directory;
+    private final EventSerializer<T> serializer;
+    private final int segmentSize;
+    private final JournalSync sync;
+    private final int batchSize;
+    private final Appending appending = new Appending();
+    private final Object ackLock = new Object();
+    // guarded by ackLock
+    private MappedByteBuffer ack;
+    private long acknowledged;
+    private long deferred;
+    private long oldest;
+    private boolean replaying;
+    // guarded by this, tail is also read by the consumer to force it
+    private volatile Segment tail;
+    private int tailPosition;
+    private volatile long appended;
+    // written by the consumer thread only
+    private Segment head;
+    private int headPosition;
+    private int unacknowledged;
+    // set by open, cleared by replay
+    private Segment replayFrom;
+    private int replayPosition;
+    private long replayEnd;
+
+    /**
+     * @param directory   directory of this journal's files
+     * @param serializer  event serializer
+     * @param segmentSize size of new segment files in bytes
+     * @param sync        when the journal is forced
+     * @param batchSize   handled events after which the consumer acknowledges at the latest
+     */
+    Journal(Path directory, EventSerializer<T> serializer, int segmentSize, JournalSync sync, int batchSize) {
+        this.directory = directory;
+        this.serializer = serializer;
+        this.segmentSize = segmentSize;
+        this.sync = sync;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @return directories of journals of the given service whose worker index is at least
+     * {@code workerCount}, left behind by a run with more workers
+     */
+    static List<Path> orphans(Path directory, String service, int workerCount) throws IOException {
+        List<Path> orphans = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return orphans;
+        }
+        String prefix = service + "-";
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory, prefix + "*")) {
+            for (Path entry : entries) {
+                String suffix = entry.getFileName().toString().substring(prefix.length());
+                if (!suffix.isEmpty() && suffix.chars().allMatch(Character::isDigit) && Integer.parseInt(suffix) >= workerCount) {
+                    orphans.add(entry);
+                }
+            }
+        }
+        return orphans;
+    }
+
+    /**
+     * @return an unopened journal in another directory with the same settings
+     */
+    Journal<T> sibling(Path directory) {
+        return new Journal<>(directory, serializer, segmentSize, sync, batchSize);
+    }
+
+    private static long pack(long index, int position) {
+        return index << 32 | position;
+    }
+
+    private Path path(long index) {
+        return directory.resolve(String.format("%020d%s", index, SUFFIX));
+    }
+
+    /**
+     * Maps a file in full, or with the given size if it is new or empty.
+     */
+    private static MappedByteBuffer map(Path path, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long length = channel.size();
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, length > 0 ? length : size);
+        }
+    }
+
+    private Segment segment(long index) throws IOException {
+        return new Segment(index, map(path(index), segmentSize));
+    }
+
+    /**
+     * Maps the acknowledgement and the segments from the acknowledged one on, finds the end of
+     * the journal and prepares the records in between for {@link #replay(Replay)}.
+     */
+    void open() throws IOException {
+        Files.createDirectories(directory);
+        List<Long> indexes = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                indexes.add(Long.parseLong(name.substring(0, name.length() - SUFFIX.length())));
+            }
+        }
+        Collections.sort(indexes);
+
+        MappedByteBuffer ack = map(directory.resolve(ACK), Long.BYTES);
+        long position = ack.getLong(0);
+        long ackIndex = position >>> 32;
+        Segment first = null;
+        Segment last = null;
+        for (long index : indexes) {
+            if (index < ackIndex) {
+                Files.deleteIfExists(path(index));
+                continue;
+            }
+            Segment segment = segment(index);
+            if (first == null) first = segment;
+            else last.next = segment;
+            last = segment;
+        }
+        if (first == null) {
+            first = segment(ackIndex);
+        }
+
+        Segment segment = first;
+        int offset = first.index == ackIndex ? (int) position : 0;
+        int start = offset;
+        for (;;) {
+            int length = offset <= segment.size - HEADER ? segment.buffer.getInt(offset) : ROLL;
+            if (length == ROLL && segment.next != null) {
+                segment = segment.next;
+                offset = 0;
+            } else if (length > 0) {
+                offset += length;
+            } else {
+                break;
+            }
+        }
+        for (Segment stale = segment.next; stale != null; stale = stale.next) {
+            Files.deleteIfExists(path(stale.index));
+        }
+        segment.next = null;
+        clear(segment, offset, segment.size);
+
+        synchronized (ackLock) {
+            this.ack = ack;
+            this.acknowledged = pack(first.index, start);
+            this.oldest = first.index;
+            this.replaying = true;
+            ack.putLong(0, acknowledged);
+        }
+        synchronized (this) {
+            this.tail = segment;
+            this.tailPosition = offset;
+            this.appended = pack(segment.index, offset);
+        }
+        this.head = segment;
+        this.headPosition = offset;
+        this.replayFrom = first;
+        this.replayPosition = start;
+        this.replayEnd = pack(segment.index, offset);
+    }
+
+    /**
+     * Hands every record that was not acknowledged at {@link #open()} to {@code replay}, in journal
+     * order, and acknowledges them once all are handed over.
+     */
+    void replay(Replay replay) {
+        Segment segment = replayFrom;
+        int position = replayPosition;
+        ByteBuffer view = segment.buffer.duplicate();
+        while (pack(segment.index, position) != replayEnd) {
+            int length = position <= segment.size - HEADER ? segment.buffer.getInt(position) : ROLL;
+            if (length == ROLL) {
+                segment = segment.next;
+                position = 0;
+                view = segment.buffer.duplicate();
+                continue;
+            }
+            view.limit(position + length).position(position + HEADER);
+            replay.record(segment.buffer.getInt(position + Integer.BYTES), view);
+            position += length;
+        }
+        replayFrom = null;
+        synchronized (ackLock) {
+            replaying = false;
+            acknowledge(Math.max(replayEnd, deferred));
+        }
+    }
+
+    /**
+     * Removes all files of the journal; used for orphaned journals once replayed.
+     */
+    void delete() throws IOException {
+        synchronized (ackLock) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+                for (Path file : files) Files.deleteIfExists(file);
+            }
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private static void clear(Segment segment, int from, int to) {
+        ByteBuffer view = segment.buffer.duplicate();
+        view.limit(to).position(from);
+        while (view.hasRemaining()) {
+            view.put(ZEROS, 0, Math.min(ZEROS.length, view.remaining()));
+        }
+    }
+
+    /**
+     * Appends the translated event. Caller must hold the monitor.
+     */
+    private void append(int hashcode, T event) {
+        for (;;) {
+            Segment segment = tail;
+            int position = tailPosition;
+            if (position <= segment.size - HEADER) {
+                ByteBuffer view = segment.view;
+                view.limit(segment.size).position(position + HEADER);
+                boolean written = false;
+                try {
+                    serializer.write(event, view);
+                    written = true;
+                } catch (BufferOverflowException e) {
+                    if (position == 0) {
+                        throw new IllegalArgumentException("Event does not fit a journal segment of " + segment.size + " bytes");
+                    }
+                } finally {
+                    if (!written) clear(segment, position + HEADER, Math.max(position + HEADER, view.position()));
+                }
+                if (written) {
+                    int end = view.position();
+                    segment.buffer.putInt(position + Integer.BYTES, hashcode);
+                    VarHandle.releaseFence();
+                    segment.buffer.putInt(position, end - position);
+                    tailPosition = end;
+                    appended = pack(segment.index, end);
+                    return;
+                }
+            }
+            roll(segment, position);
+        }
+    }
+
+    private void roll(Segment segment, int position) {
+        Segment next;
+        try {
+            next = segment(segment.index + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        segment.next = next;
+        if (position <= segment.size - HEADER) {
+            VarHandle.releaseFence();
+            segment.buffer.putInt(position, ROLL);
+        }
+        if (sync != JournalSync.NONE) {
+            segment.buffer.force();
+        }
+        tail = next;
+        tailPosition = 0;
+    }
+
+    /**
+     * Called by the producer after its publish; caller must hold the monitor.
+     */
+    void flush() {
+        if (sync == JournalSync.EVENT) {
+            tail.buffer.force();
+        }
+    }
+
+    /**
+     * Called by the consumer thread after every handled event: steps over the event's record and
+     * acknowledges at the end of a batch.
+     */
+    void handled() {
+        Segment segment = head;
+        int position = headPosition;
+        int length = position <= segment.size - HEADER ? segment.buffer.getInt(position) : ROLL;
+        if (length == ROLL && segment.next != null) {
+            segment = segment.next;
+            position = 0;
+            length = segment.buffer.getInt(0);
+            head = segment;
+            headPosition = 0;
+        }
+        if (length <= 0) {
+            // the event failed to be journaled
+            return;
+        }
+        headPosition = position + length;
+        long current = pack(segment.index, headPosition);
+        if (++unacknowledged >= batchSize || current == appended) {
+            unacknowledged = 0;
+            acknowledge(current);
+        }
+    }
+
+    private void acknowledge(long position) {
+        synchronized (ackLock) {
+            if (replaying) {
+                deferred = Math.max(deferred, position);
+                return;
+            }
+            if (position <= acknowledged) {
+                return;
+            }
+            if (sync == JournalSync.BATCH) {
+                tail.buffer.force();
+            }
+            acknowledged = position;
+            ack.putLong(0, position);
+            if (sync != JournalSync.NONE) {
+                ack.force();
+            }
+            for (long index = position >>> 32; oldest < index; oldest++) {
+                try {
+                    Files.deleteIfExists(path(oldest));
+                } catch (IOException ignored) {
+                    // retried with the next segment
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Forces the journal and its acknowledgement unless the sync policy is {@link JournalSync#NONE}.
+     */
+    void force() {
+        if (sync != JournalSync.NONE) {
+            synchronized (ackLock) {
+                tail.buffer.force();
+                ack.force();
+            }
+        }
+    }
+
+    // the returned wrapper is reused by the next publish, so the caller must hold the monitor
+
+    /**
+     * Wraps the translator so that every translated event is journaled with {@code hashcode}, or,
+     * for a batch whose events have different keys, the i-th one with the {@code first + i}-th of
+     * {@code hashcodes}.
+     */
+    <A> EventTranslatorOneArg<T, A> appending(int hashcode, int[] hashcodes, int first, EventTranslatorOneArg<T, A> translator) {
+        appending.hashcode = hashcode;
+        appending.hashcodes = hashcodes;
+        appending.next = first;
+        appending.delegate = translator;
+        return appending;
+    }
+
+    @FunctionalInterface
+    interface Replay {
+        void record(int hashcode, ByteBuffer payload);
+    }
+
+    private static final class Segment {
+        private final long index;
+        private final MappedByteBuffer buffer;
+        private final ByteBuffer view;
+        private final int size;
+        private volatile Segment next;
+
+        Segment(long index, MappedByteBuffer buffer) {
+            this.index = index;
+            this.buffer = buffer;
+            this.view = buffer.duplicate();
+            this.size = buffer.capacity();
+        }
+    }
+
+    private final class Appending implements EventTranslatorOneArg {
+        private EventTranslatorOneArg delegate;
+        private int hashcode;
+        private int[] hashcodes;
+        private int next;
+
+        @Override
+        public void translateTo(Object event, Object arg) {
+            delegate.translateTo(event, arg);
+            append(hashcodes == null ? hashcode : hashcodes[next++], (T) event);
+        }
+    }
+}
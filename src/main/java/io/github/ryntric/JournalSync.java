@@ -0,0 +1,24 @@
+package io.github.ryntric;
+
+/**
+ * When a worker journal is forced to the storage device. Journals are memory-mapped, so an
+ * appended event survives the death of the JVM in any mode; forcing only matters when the
+ * operating system itself fails.
+ */
+public enum JournalSync {
+    /**
+     * Never forced; the operating system writes the pages back on its own.
+     */
+    NONE,
+
+    /**
+     * Forced by the worker once per handled batch of at most the batch size limit, together
+     * with its acknowledgement, so the cost of a force is shared by the whole batch.
+     */
+    BATCH,
+
+    /**
+     * Forced by the producer before every publish returns; a batch publish forces once.
+     */
+    EVENT
+}
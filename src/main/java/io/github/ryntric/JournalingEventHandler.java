@@ -0,0 +1,39 @@
+package io.github.ryntric;
+
+/**
+ * Per-worker decoration of the handler stepping the worker's {@link Journal} over the record of
+ * every handled event, successful or not, so that the journal acknowledges it.
+ */
+final class JournalingEventHandler<T> implements EventHandler<T> {
+    private final EventHandler<T> delegate;
+    private final Journal<T> journal;
+
+    JournalingEventHandler(EventHandler<T> delegate, Journal<T> journal) {
+        this.delegate = delegate;
+        this.journal = journal;
+    }
+
+    @Override
+    public void onEvent(String name, T event, long sequence) {
+        try {
+            delegate.onEvent(name, event, sequence);
+        } finally {
+            journal.handled();
+        }
+    }
+
+    @Override
+    public void onError(String name, T event, long sequence, Throwable ex) {
+        delegate.onError(name, event, sequence, ex);
+    }
+
+    @Override
+    public void onStart(String name) {
+        delegate.onStart(name);
+    }
+
+    @Override
+    public void onShutdown(String name) {
+        delegate.onShutdown(name);
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.ryntric;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+
+/**
+ * Streams handler results back to subscribers, one {@link Flow.Publisher} per routing key.
+ * The {@link EventHandler} calls {@link #emit(Object, Object)} with the key of the event it
+ * handled; subscribers obtain the results of a key from {@link #forKey(Object)}.
+ * <p>
+ * Every key is handled by one worker at a time, so results of a key are emitted in order.
+ * {@link #emit(Object, Object)} blocks the worker while a subscriber's buffer is full, so a
+ * slow subscriber slows down its worker, whose ring then fills up and in turn reduces the
+ * demand of a {@link WorkerServiceSubscriber}. Results of keys nobody asked for are dropped.
+ * <p>
+ * {@code byte[]} keys are compared by content.
+ *
+ * @param <R> the result type
+ */
+public final class KeyedResultPublisher<R> implements AutoCloseable {
+    private final ConcurrentHashMap<Object, SubmissionPublisher<R>> publishers = new ConcurrentHashMap<>();
+    private final Executor executor;
+    private final int bufferSize;
+    private volatile boolean closed;
+
+    /**
+     * Creates a publisher delivering results on the common pool with {@link Flow#defaultBufferSize()}.
+     */
+    public KeyedResultPublisher() {
+        this(ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+    }
+
+    /**
+     * @param executor   the executor delivering results to subscribers
+     * @param bufferSize the maximum number of buffered results per subscriber, rounded up to a power of 2
+     */
+    public KeyedResultPublisher(Executor executor, int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize must be positive: " + bufferSize);
+        }
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+    }
+
+    private static Object normalize(Object key) {
+        return key instanceof byte[] ? ByteBuffer.wrap((byte[]) key) : key;
+    }
+
+    /**
+     * Returns the publisher of the results of {@code key}, creating it on first use.
+     *
+     * @param key the routing key
+     * @return the publisher of the key's results
+     * @throws IllegalStateException if this publisher is closed
+     */
+    public Flow.Publisher<R> forKey(Object key) {
+        if (closed) {
+            throw new IllegalStateException("KeyedResultPublisher is closed");
+        }
+        return publishers.computeIfAbsent(normalize(key), k -> new SubmissionPublisher<>(executor, bufferSize));
+    }
+
+    /**
+     * Delivers a result to the subscribers of {@code key}, waiting while any of their buffers is full.
+     *
+     * @param key    the routing key of the handled event
+     * @param result the result
+     */
+    public void emit(Object key, R result) {
+        SubmissionPublisher<R> publisher = publishers.get(normalize(key));
+        if (publisher != null && !publisher.isClosed()) {
+            publisher.submit(result);
+        }
+    }
+
+    /**
+     * Completes the publishers of all keys.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        publishers.values().forEach(SubmissionPublisher::close);
+    }
+
+    /**
+     * Completes the publishers of all keys exceptionally.
+     *
+     * @param error the error passed to all subscribers
+     */
+    public void closeExceptionally(Throwable error) {
+        closed = true;
+        publishers.values().forEach(publisher -> publisher.closeExceptionally(error));
+    }
+}
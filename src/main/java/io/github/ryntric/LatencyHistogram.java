@@ -0,0 +1,68 @@
+package io.github.ryntric;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Preallocated log-linear histogram of nanosecond values with a single writer thread.
+ * <p>
+ * Values below {@code 2 * SUB_BUCKETS} get a bucket each; above that every power of two
+ * is split into {@link #SUB_BUCKETS} linear buckets, bounding the relative error to about 3%.
+ * Values from {@code 2^MAX_BITS} (about 18 minutes) on are clamped into the last bucket.
+ * <p>
+ * Recording is an opaque read and write of one array element, with no allocation and no
+ * atomic instruction. Snapshots are taken from other threads without stopping the writer;
+ * a reset only moves the snapshot baseline, so it never races with the writer either.
+ */
+final class LatencyHistogram {
+    private static final VarHandle COUNTS = MethodHandles.arrayElementVarHandle(long[].class);
+    static final int SUB_BITS = 5;
+    static final int SUB_BUCKETS = 1 << SUB_BITS;
+    static final int MAX_BITS = 40;
+    static final int BUCKETS = (MAX_BITS - SUB_BITS + 1) * SUB_BUCKETS;
+    private static final long MAX_VALUE = (1L << MAX_BITS) - 1;
+
+    private final long[] counts = new long[BUCKETS];
+    // guarded by this, touched by readers only
+    private final long[] baseline = new long[BUCKETS];
+
+    static int index(long value) {
+        long clamped = Math.min(Math.max(value, 0L), MAX_VALUE);
+        int shift = Math.max(0, 63 - Long.numberOfLeadingZeros(clamped) - SUB_BITS);
+        return (int) (shift * SUB_BUCKETS + (clamped >>> shift));
+    }
+
+    /**
+     * @return the highest value that falls into the bucket
+     */
+    static long highestValue(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long mantissa = index - (long) shift * SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    /**
+     * Must only be called by the owning thread.
+     */
+    void record(long nanos) {
+        int index = index(nanos);
+        COUNTS.setOpaque(counts, index, (long) COUNTS.getOpaque(counts, index) + 1);
+    }
+
+    /**
+     * @param reset whether the next snapshot starts counting from now
+     * @return the bucket counts recorded since the previous reset
+     */
+    synchronized LatencySnapshot snapshot(boolean reset) {
+        long[] interval = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            long count = (long) COUNTS.getOpaque(counts, i);
+            interval[i] = count - baseline[i];
+            if (reset) baseline[i] = count;
+        }
+        return new LatencySnapshot(interval);
+    }
+}
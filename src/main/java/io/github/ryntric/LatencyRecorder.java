@@ -0,0 +1,117 @@
+package io.github.ryntric;
+
+import io.github.ryntric.EventTranslator.EventTranslatorOneArg;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Records queueing delay and handler time of one worker into histograms owned by its
+ * consumer thread.
+ * <p>
+ * Queueing delay is measured for at most one event in flight at a time. A sampled publish
+ * that finds the recorder idle wraps its translator in the preallocated stamping
+ * translator below, which notes the event instance and the publish time before translating.
+ * Ring slots are not reused before the consumer has passed them, so when the consumer later
+ * handles that same instance it is the stamped publish, and the delay is recorded.
+ * Publishes that are not sampled, or find a stamp in flight, pass their translator unchanged.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+final class LatencyRecorder<T> {
+    private static final VarHandle STATE;
+    private static final int IDLE = 0;
+    private static final int STAMPING = 1;
+    private static final int ARMED = 2;
+
+    static {
+        try {
+            STATE = MethodHandles.lookup().findVarHandle(LatencyRecorder.class, "state", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final LatencyHistogram queueingDelay = new LatencyHistogram();
+    private final LatencyHistogram handlerTime = new LatencyHistogram();
+    private final Stamping stamping = new Stamping();
+    @SuppressWarnings("unused")
+    private int state;
+    // written by the stamping producer before it publishes, read by the consumer after
+    private Object stamped;
+    private long publishNanos;
+    // the producer holding the recorder in STAMPING until its translator runs, read only by itself
+    private Thread stamper;
+
+    <A> EventTranslatorOneArg<T, A> stamping(EventTranslatorOneArg<T, A> translator) {
+        if (!STATE.compareAndSet(this, IDLE, STAMPING)) return translator;
+        stamper = Thread.currentThread();
+        stamping.delegate = translator;
+        return stamping;
+    }
+
+    /**
+     * Called by a producer whose sampled publish failed, so that a claim its translator never
+     * got to stamp does not keep the recorder from stamping again. A claim that was stamped is
+     * left to {@link #arrived} or {@link #discarded}, and a claim held by another producer is
+     * left alone.
+     */
+    void abandoned() {
+        if (stamper == Thread.currentThread()) {
+            stamper = null;
+            STATE.setRelease(this, IDLE);
+        }
+    }
+
+    private void stamp(Object event) {
+        stamped = event;
+        publishNanos = System.nanoTime();
+        STATE.setRelease(this, ARMED);
+    }
+
+    /**
+     * Called by the consumer thread for every event before it is handled.
+     */
+    void arrived(Object event) {
+        if ((int) STATE.getAcquire(this) == ARMED && stamped == event) {
+            queueingDelay.record(System.nanoTime() - publishNanos);
+            stamped = null;
+            STATE.setRelease(this, IDLE);
+        }
+    }
+
+    /**
+     * Called by a producer whose event was spilled to the overflow instead of entering the ring,
+     * so that a stamp it may carry does not wait for an arrival that never comes.
+     */
+    void discarded(Object event) {
+        if ((int) STATE.getAcquire(this) == ARMED && stamped == event) {
+            stamped = null;
+            STATE.setRelease(this, IDLE);
+        }
+    }
+
+    /**
+     * Called by the consumer thread.
+     */
+    void handled(long nanos) {
+        handlerTime.record(nanos);
+    }
+
+    WorkerLatencies snapshot(int worker, boolean reset) {
+        return new WorkerLatencies(worker, queueingDelay.snapshot(reset), handlerTime.snapshot(reset));
+    }
+
+    // the delegate is read before stamping, after which another producer may take the wrapper over
+
+    private final class Stamping implements EventTranslatorOneArg {
+        private EventTranslatorOneArg delegate;
+
+        @Override
+        public void translateTo(Object event, Object arg) {
+            EventTranslatorOneArg translator = delegate;
+            stamper = null;
+            stamp(event);
+            translator.translateTo(event, arg);
+        }
+    }
+}
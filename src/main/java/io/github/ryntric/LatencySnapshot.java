@@ -0,0 +1,80 @@
+package io.github.ryntric;
+
+/**
+ * Distribution of sampled latencies in nanoseconds, taken from a worker's histogram by
+ * {@link WorkerService#latencies(boolean)}. Values are reported as the upper bound of their
+ * histogram bucket, which is at most about 3% above the recorded value.
+ */
+public final class LatencySnapshot {
+    private final long[] counts;
+    private final long count;
+
+    LatencySnapshot(long[] counts) {
+        long total = 0;
+        for (long bucket : counts) total += bucket;
+        this.counts = counts;
+        this.count = total;
+    }
+
+    /**
+     * @return number of recorded samples
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @param percentile percentile between {@code 0} and {@code 100}
+     * @return the value at the percentile in nanoseconds, {@code 0} if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        if (count == 0) {
+            return 0L;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return LatencyHistogram.highestValue(i);
+            }
+        }
+        return LatencyHistogram.highestValue(counts.length - 1);
+    }
+
+    /**
+     * @return the median in nanoseconds
+     */
+    public long getP50() {
+        return getValueAtPercentile(50.0);
+    }
+
+    /**
+     * @return the 99th percentile in nanoseconds
+     */
+    public long getP99() {
+        return getValueAtPercentile(99.0);
+    }
+
+    /**
+     * @return the 99.9th percentile in nanoseconds
+     */
+    public long getP999() {
+        return getValueAtPercentile(99.9);
+    }
+
+    /**
+     * @return the largest recorded value in nanoseconds
+     */
+    public long getMax() {
+        return getValueAtPercentile(100.0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LatencySnapshot{count=%d, p50=%d, p99=%d, p999=%d, max=%d}", count, getP50(), getP99(), getP999(), getMax());
+    }
+}
@@ -0,0 +1,283 @@
+package io.github.ryntric;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+
+/**
+ * Spill queue of one worker: a chain of memory-mapped segment files holding the serialized events
+ * that found the worker's ring full, or were published while earlier ones were still spilled.
+ * <p>
+ * Producers translate into a scratch event and append it while holding the queue's monitor. A
+ * record is its length followed by the serialized event; a segment that cannot take a record is
+ * closed with a roll mark and continued in the next file. The appended count is published last,
+ * so the consumer thread reads records without locking. A segment the consumer has left goes
+ * back to a pool of up to {@value #POOL} segments that the next rolls reuse, mapping and all,
+ * so mapped memory stays bounded by the spilled backlog; beyond that, its file is deleted.
+ * <p>
+ * The consumer handles spilled events only when it has caught up with every event claimed into
+ * its ring, so events that entered the ring before a spill are handled first. While the queue is
+ * not empty producers keep spilling, so the events of a key stay in publish order. A producer that
+ * spills to a consumer that may have gone idle on its empty ring wakes it with a
+ * {@link DrainMarker}; both sides fence before reading the other side's state, so either the
+ * consumer sees the spilled event or the producer sees the idle consumer.
+ */
+final class Overflow<T> {
+    private static final VarHandle WAKE;
+    private static final int HEADER = 4;
+    private static final int ROLL = -1;
+    private static final String SUFFIX = ".overflow";
+    private static final int POOL = 2;
+
+    static {
+        try {
+            WAKE = MethodHandles.lookup().findVarHandle(Overflow.class, "wake", DrainMarker.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Path directory;
+    private final EventSerializer<T> serializer;
+    private final int segmentSize;
+    // guarded by this
+    private final T spilled;
+    private final ArrayDeque<Segment> recycled = new ArrayDeque<>(POOL);
+    private Segment tail;
+    private int tailPosition;
+    private long files;
+    // used by the consumer thread only
+    private final T drained;
+    private Segment head;
+    private int headPosition;
+    private volatile long appended;
+    private volatile long handled;
+    private volatile boolean draining;
+    private volatile DrainMarker wake;
+
+    /**
+     * @param directory   directory of this queue's files
+     * @param serializer  event serializer
+     * @param segmentSize size of a segment file in bytes
+     * @param factory     factory of the scratch events of producers and consumer
+     */
+    Overflow(Path directory, EventSerializer<T> serializer, int segmentSize, EventFactory<T> factory) {
+        this.directory = directory;
+        this.serializer = serializer;
+        this.segmentSize = segmentSize;
+        this.spilled = factory.newInstance();
+        this.drained = factory.newInstance();
+    }
+
+    private Path path(long index) {
+        return directory.resolve(String.format("%020d%s", index, SUFFIX));
+    }
+
+    private Segment segment(long index) throws IOException {
+        try (FileChannel channel = FileChannel.open(path(index), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            return new Segment(index, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize));
+        }
+    }
+
+    /**
+     * Removes the files a previous run left behind and maps the first segment. Spilled events
+     * do not outlive the service.
+     */
+    void open() throws IOException {
+        Files.createDirectories(directory);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : files) Files.deleteIfExists(file);
+        }
+        Segment first = segment(0);
+        synchronized (this) {
+            this.tail = first;
+            this.tailPosition = 0;
+            this.files = 1;
+            this.recycled.clear();
+        }
+        this.head = first;
+        this.headPosition = 0;
+    }
+
+    /**
+     * @return spilled events not yet handled
+     */
+    long depth() {
+        return appended - handled;
+    }
+
+    boolean isEmpty() {
+        return appended == handled;
+    }
+
+    /**
+     * @return the scratch event to translate a spilled event into; caller must hold the monitor
+     */
+    T event() {
+        return spilled;
+    }
+
+    /**
+     * Appends the translated scratch event. Caller must hold the monitor.
+     */
+    void append() {
+        for (;;) {
+            Segment segment = tail;
+            int position = tailPosition;
+            if (position <= segment.size - HEADER) {
+                ByteBuffer view = segment.view;
+                view.limit(segment.size).position(position + HEADER);
+                try {
+                    serializer.write(spilled, view);
+                    int end = view.position();
+                    segment.buffer.putInt(position, end - position);
+                    tailPosition = end;
+                    appended = appended + 1;
+                    return;
+                } catch (BufferOverflowException e) {
+                    if (position == 0) {
+                        throw new IllegalArgumentException("Event does not fit an overflow segment of " + segment.size + " bytes");
+                    }
+                }
+            }
+            roll(segment, position);
+        }
+    }
+
+    private void roll(Segment segment, int position) {
+        Segment next = recycled.poll();
+        if (next == null) {
+            try {
+                next = segment(files);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            files++;
+        }
+        segment.next = next;
+        if (position <= segment.size - HEADER) {
+            segment.buffer.putInt(position, ROLL);
+        }
+        tail = next;
+        tailPosition = 0;
+    }
+
+    /**
+     * Called by a producer after it spilled, outside the monitor.
+     *
+     * @param ring the worker's claim counts
+     * @return a marker the caller must register with and publish into the worker's ring, for which
+     * one event of ring capacity has been claimed, or {@code null} if the consumer is not idle or
+     * already being woken
+     */
+    DrainMarker wake(WorkerEventHandler<T> ring) {
+        VarHandle.fullFence();
+        if (draining || !ring.isCaughtUp()) {
+            return null;
+        }
+        DrainMarker current = wake;
+        if (current != null && !current.isDone()) {
+            return null;
+        }
+        DrainMarker marker = new DrainMarker();
+        if (!WAKE.compareAndSet(this, current, marker)) {
+            return null;
+        }
+        if (!ring.tryClaim(1)) {
+            // the ring is not empty after all, its consumer will come back here
+            wake = null;
+            return null;
+        }
+        return marker;
+    }
+
+    /**
+     * Called by the consumer thread after every ring event: handles spilled events for as long as
+     * the ring has no claimed events left. Spilled events are handled with sequence {@code -1}.
+     *
+     * @param name    worker name
+     * @param ring    the worker's claim counts
+     * @param handler handler of spilled events
+     */
+    void drain(String name, WorkerEventHandler<T> ring, EventHandler<T> handler) {
+        VarHandle.fullFence();
+        while (appended != handled && ring.isCaughtUp()) {
+            draining = true;
+            do {
+                handle(name, handler);
+            } while (appended != handled && ring.isCaughtUp());
+            draining = false;
+            VarHandle.fullFence();
+        }
+    }
+
+    private void handle(String name, EventHandler<T> handler) {
+        Segment segment = head;
+        int position = headPosition;
+        int length = position <= segment.size - HEADER ? segment.buffer.getInt(position) : ROLL;
+        if (length == ROLL) {
+            Segment next = segment.next;
+            recycle(segment);
+            segment = head = next;
+            position = 0;
+            length = segment.buffer.getInt(0);
+        }
+        ByteBuffer view = segment.reading;
+        view.limit(position + length).position(position + HEADER);
+        headPosition = position + length;
+        try {
+            serializer.read(view, drained);
+            handler.onEvent(name, drained, -1L);
+        } catch (Throwable ex) {
+            handler.onError(name, drained, -1L, ex);
+        } finally {
+            handled = handled + 1;
+        }
+    }
+
+    /**
+     * Called by the consumer thread for a segment it has left. Records in a reused segment are
+     * only read once their appended count is published, so its old content needs no clearing.
+     */
+    private void recycle(Segment segment) {
+        segment.next = null;
+        synchronized (this) {
+            if (recycled.size() < POOL) {
+                recycled.push(segment);
+                return;
+            }
+        }
+        try {
+            Files.deleteIfExists(path(segment.index));
+        } catch (IOException ignored) {
+            // the file is removed by the next open
+        }
+    }
+
+    private static final class Segment {
+        private final long index;
+        private final MappedByteBuffer buffer;
+        private final ByteBuffer view;
+        private final ByteBuffer reading;
+        private final int size;
+        private volatile Segment next;
+
+        Segment(long index, MappedByteBuffer buffer) {
+            this.index = index;
+            this.buffer = buffer;
+            this.view = buffer.duplicate();
+            this.reading = buffer.duplicate();
+            this.size = buffer.capacity();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.ryntric;
+
+/**
+ * Per-worker decoration of the handler draining the worker's {@link Overflow} after every ring
+ * event, once the ring holds no claimed events any more. Spilled events bypass the worker's
+ * {@link WorkerEventHandler}, whose counts describe the ring only, and go to the handler below it.
+ */
+final class OverflowEventHandler<T> implements EventHandler<T> {
+    private final EventHandler<T> delegate;
+    private final WorkerEventHandler<T> ring;
+    private final EventHandler<T> spilled;
+    private final Overflow<T> overflow;
+
+    /**
+     * @param ring     the worker's handler, passed ring events
+     * @param spilled  the handler passed spilled events
+     * @param overflow the worker's overflow
+     */
+    OverflowEventHandler(WorkerEventHandler<T> ring, EventHandler<T> spilled, Overflow<T> overflow) {
+        this.delegate = ring;
+        this.ring = ring;
+        this.spilled = spilled;
+        this.overflow = overflow;
+    }
+
+    @Override
+    public void onEvent(String name, T event, long sequence) {
+        try {
+            delegate.onEvent(name, event, sequence);
+        } catch (Throwable ex) {
+            delegate.onError(name, event, sequence, ex);
+        }
+        overflow.drain(name, ring, spilled);
+    }
+
+    @Override
+    public void onError(String name, T event, long sequence, Throwable ex) {
+        delegate.onError(name, event, sequence, ex);
+    }
+
+    @Override
+    public void onStart(String name) {
+        delegate.onStart(name);
+    }
+
+    @Override
+    public void onShutdown(String name) {
+        delegate.onShutdown(name);
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.ryntric;
+
+import io.github.ryntric.placement.CpuPlacement;
+
+/**
+ * Per-worker decoration of the handler pinning the worker thread to its CPU before the
+ * handler starts. Events pass through without any further cost.
+ */
+final class PinningEventHandler<T> implements EventHandler<T> {
+    private final EventHandler<T> delegate;
+    private final CpuPlacement placement;
+    private final String service;
+    private final int worker;
+
+    PinningEventHandler(EventHandler<T> delegate, CpuPlacement placement, String service, int worker) {
+        this.delegate = delegate;
+        this.placement = placement;
+        this.service = service;
+        this.worker = worker;
+    }
+
+    @Override
+    public void onEvent(String name, T event, long sequence) {
+        delegate.onEvent(name, event, sequence);
+    }
+
+    @Override
+    public void onError(String name, T event, long sequence, Throwable ex) {
+        delegate.onError(name, event, sequence, ex);
+    }
+
+    @Override
+    public void onStart(String name) {
+        placement.pin(worker, service);
+        delegate.onStart(name);
+    }
+
+    @Override
+    public void onShutdown(String name) {
+        delegate.onShutdown(name);
+    }
+}
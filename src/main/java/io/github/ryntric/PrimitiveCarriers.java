@@ -0,0 +1,201 @@
+package io.github.ryntric;
+
+import io.github.ryntric.EventTranslator.EventTranslatorOneArg;
+import io.github.ryntric.EventTranslator.EventTranslatorTwoArg;
+import io.github.ryntric.PrimitiveTranslator.DoubleTranslator;
+import io.github.ryntric.PrimitiveTranslator.IntTranslator;
+import io.github.ryntric.PrimitiveTranslator.LongDoubleTranslator;
+import io.github.ryntric.PrimitiveTranslator.LongLongTranslator;
+import io.github.ryntric.PrimitiveTranslator.LongTranslator;
+import io.github.ryntric.PrimitiveTranslator.ObjLongTranslator;
+
+/**
+ * Per-thread adapters from the {@link PrimitiveTranslator}s to the generic translators of a
+ * {@code Worker}. The primitives are stored in a carrier right before the publish and read back
+ * by the carrier's {@code translateTo}, which runs on the publishing thread during that publish;
+ * the primitive translator itself travels as the generic argument.
+ * <p>
+ * Batches of {@code long} values, and slices of argument arrays, are published in chunks of up
+ * to {@link #CHUNK} events, each event receiving its index into the chunk from a shared array of
+ * cached {@link Integer}s.
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+final class PrimitiveCarriers {
+    static final int CHUNK = 64;
+    static final Integer[][] INDEXES = new Integer[CHUNK + 1][];
+
+    private static final ThreadLocal<PrimitiveCarriers> CARRIERS = ThreadLocal.withInitial(PrimitiveCarriers::new);
+
+    static {
+        for (int length = 0; length <= CHUNK; length++) {
+            INDEXES[length] = new Integer[length];
+            for (int i = 0; i < length; i++) {
+                INDEXES[length][i] = i;
+            }
+        }
+    }
+
+    final IntCarrier intCarrier = new IntCarrier();
+    final LongCarrier longCarrier = new LongCarrier();
+    final DoubleCarrier doubleCarrier = new DoubleCarrier();
+    final LongLongCarrier longLongCarrier = new LongLongCarrier();
+    final LongDoubleCarrier longDoubleCarrier = new LongDoubleCarrier();
+    final ObjLongCarrier objLongCarrier = new ObjLongCarrier();
+    final LongBatchCarrier longBatchCarrier = new LongBatchCarrier();
+    final SliceCarrier sliceCarrier = new SliceCarrier();
+
+    private PrimitiveCarriers() {}
+
+    static PrimitiveCarriers get() {
+        return CARRIERS.get();
+    }
+
+    <T> EventTranslatorOneArg<T, IntTranslator<T>> of(int value) {
+        intCarrier.value = value;
+        return (EventTranslatorOneArg) intCarrier;
+    }
+
+    <T> EventTranslatorOneArg<T, LongTranslator<T>> of(long value) {
+        longCarrier.value = value;
+        return (EventTranslatorOneArg) longCarrier;
+    }
+
+    <T> EventTranslatorOneArg<T, DoubleTranslator<T>> of(double value) {
+        doubleCarrier.value = value;
+        return (EventTranslatorOneArg) doubleCarrier;
+    }
+
+    <T> EventTranslatorOneArg<T, LongLongTranslator<T>> of(long value0, long value1) {
+        longLongCarrier.value0 = value0;
+        longLongCarrier.value1 = value1;
+        return (EventTranslatorOneArg) longLongCarrier;
+    }
+
+    <T> EventTranslatorOneArg<T, LongDoubleTranslator<T>> of(long value0, double value1) {
+        longDoubleCarrier.value0 = value0;
+        longDoubleCarrier.value1 = value1;
+        return (EventTranslatorOneArg) longDoubleCarrier;
+    }
+
+    <T, A> EventTranslatorTwoArg<T, ObjLongTranslator<T, A>, A> ofObj(long value) {
+        objLongCarrier.value = value;
+        return (EventTranslatorTwoArg) objLongCarrier;
+    }
+
+    /**
+     * Prepares the batch carrier for the chunk of {@code values} starting at {@code offset};
+     * {@link LongBatchCarrier#clear()} must be called once the batch is published.
+     */
+    <T> EventTranslatorOneArg<T, Integer> of(LongTranslator<T> translator, long[] values, int offset) {
+        longBatchCarrier.translator = (LongTranslator) translator;
+        longBatchCarrier.values = values;
+        longBatchCarrier.offset = offset;
+        return (EventTranslatorOneArg) longBatchCarrier;
+    }
+
+    /**
+     * Prepares a slice carrier for {@code args}, to be positioned on each chunk with
+     * {@link SliceCarrier#at(int)}; {@link SliceCarrier#clear()} must be called once the slice
+     * is published. A slice carrier still in use, by a translator that publishes a slice itself,
+     * is never handed out twice; a fresh one is created instead.
+     */
+    <T, A> SliceCarrier of(EventTranslatorOneArg<T, A> translator, A[] args) {
+        SliceCarrier carrier = sliceCarrier.args == null ? sliceCarrier : new SliceCarrier();
+        carrier.translator = (EventTranslatorOneArg) translator;
+        carrier.args = args;
+        return carrier;
+    }
+
+    static final class IntCarrier implements EventTranslatorOneArg<Object, IntTranslator<Object>> {
+        private int value;
+
+        @Override
+        public void translateTo(Object event, IntTranslator<Object> translator) {
+            translator.translateTo(event, value);
+        }
+    }
+
+    static final class LongCarrier implements EventTranslatorOneArg<Object, LongTranslator<Object>> {
+        private long value;
+
+        @Override
+        public void translateTo(Object event, LongTranslator<Object> translator) {
+            translator.translateTo(event, value);
+        }
+    }
+
+    static final class DoubleCarrier implements EventTranslatorOneArg<Object, DoubleTranslator<Object>> {
+        private double value;
+
+        @Override
+        public void translateTo(Object event, DoubleTranslator<Object> translator) {
+            translator.translateTo(event, value);
+        }
+    }
+
+    static final class LongLongCarrier implements EventTranslatorOneArg<Object, LongLongTranslator<Object>> {
+        private long value0;
+        private long value1;
+
+        @Override
+        public void translateTo(Object event, LongLongTranslator<Object> translator) {
+            translator.translateTo(event, value0, value1);
+        }
+    }
+
+    static final class LongDoubleCarrier implements EventTranslatorOneArg<Object, LongDoubleTranslator<Object>> {
+        private long value0;
+        private double value1;
+
+        @Override
+        public void translateTo(Object event, LongDoubleTranslator<Object> translator) {
+            translator.translateTo(event, value0, value1);
+        }
+    }
+
+    static final class ObjLongCarrier implements EventTranslatorTwoArg<Object, ObjLongTranslator<Object, Object>, Object> {
+        private long value;
+
+        @Override
+        public void translateTo(Object event, ObjLongTranslator<Object, Object> translator, Object arg) {
+            translator.translateTo(event, arg, value);
+        }
+    }
+
+    static final class LongBatchCarrier implements EventTranslatorOneArg<Object, Integer> {
+        private LongTranslator<Object> translator;
+        private long[] values;
+        private int offset;
+
+        @Override
+        public void translateTo(Object event, Integer index) {
+            translator.translateTo(event, values[offset + index]);
+        }
+
+        void clear() {
+            translator = null;
+            values = null;
+        }
+    }
+
+    static final class SliceCarrier implements EventTranslatorOneArg<Object, Integer> {
+        private EventTranslatorOneArg<Object, Object> translator;
+        private Object[] args;
+        private int offset;
+
+        @Override
+        public void translateTo(Object event, Integer index) {
+            translator.translateTo(event, args[offset + index]);
+        }
+
+        <T> EventTranslatorOneArg<T, Integer> at(int offset) {
+            this.offset = offset;
+            return (EventTranslatorOneArg) this;
+        }
+
+        void clear() {
+            translator = null;
+            args = null;
+        }
+    }
+}
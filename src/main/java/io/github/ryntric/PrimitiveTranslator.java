@@ -0,0 +1,36 @@
+package io.github.ryntric;
+
+/**
+ * Translators taking {@code int}, {@code long} and {@code double} arguments, so that numeric
+ * payloads such as ids, prices and timestamps are published without boxing them.
+ * <p>
+ * The {@code WorkerService} overloads taking these translators hand the primitives to the ring
+ * through preallocated per-thread carriers, so a steady-state publish allocates nothing.
+ * A translator must not publish to a {@code WorkerService} itself.
+ */
+public interface PrimitiveTranslator {
+
+    interface IntTranslator<T> {
+        void translateTo(T event, int value);
+    }
+
+    interface LongTranslator<T> {
+        void translateTo(T event, long value);
+    }
+
+    interface DoubleTranslator<T> {
+        void translateTo(T event, double value);
+    }
+
+    interface LongLongTranslator<T> {
+        void translateTo(T event, long value0, long value1);
+    }
+
+    interface LongDoubleTranslator<T> {
+        void translateTo(T event, long value0, double value1);
+    }
+
+    interface ObjLongTranslator<T, A> {
+        void translateTo(T event, A arg, long value);
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.ryntric;
+
+import io.github.ryntric.util.WorkerUtil;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Tracks publishers that are in the middle of a publish, split by the parity of the
+ * {@link Routing} version they read. After a new routing is installed,
+ * {@link #awaitPublishers(int)} returns once every publisher that read an older routing
+ * has finished, so no event can reach a worker through a stale route afterwards.
+ * <p>
+ * Counters are striped by thread id and padded to separate cache lines, so unrelated
+ * producers do not contend. A disabled gate costs a single branch per publish.
+ */
+final class PublishGate {
+    private static final VarHandle COUNTERS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final int PAD = 16;
+
+    private final boolean enabled;
+    private final int mask;
+    private final long[] counters;
+
+    PublishGate(boolean enabled) {
+        int stripes = WorkerUtil.ceilPowerOfTwo(WorkerUtil.getAvailableProcessors() * 2);
+        this.enabled = enabled;
+        this.mask = stripes - 1;
+        this.counters = enabled ? new long[(stripes * 2 + 1) * PAD] : null;
+    }
+
+    private int index(int version) {
+        int stripe = (int) Thread.currentThread().getId() & mask;
+        return ((stripe << 1 | (version & 1)) + 1) * PAD;
+    }
+
+    /**
+     * Registers the calling publisher for the given routing version. The caller must
+     * re-read the routing afterwards and {@link #exit(int)} and retry if it changed.
+     */
+    void enter(int version) {
+        if (enabled) {
+            COUNTERS.getAndAdd(counters, index(version), 1L);
+        }
+    }
+
+    void exit(int version) {
+        if (enabled) {
+            COUNTERS.getAndAdd(counters, index(version), -1L);
+        }
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Waits until no publisher holds a routing version with the parity of {@code version}.
+     * Must be called after the routing {@code version + 1} has been installed.
+     */
+    void awaitPublishers(int version) {
+        int parity = version & 1;
+        for (int stripe = 0; stripe <= mask; stripe++) {
+            int index = ((stripe << 1 | parity) + 1) * PAD;
+            while ((long) COUNTERS.getVolatile(counters, index) != 0L) {
+                LockSupport.parkNanos(1000L);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.ryntric;
+
+import io.github.ryntric.jfr.HandlerErrorEvent;
+import io.github.ryntric.jfr.HandlerEvent;
+
+/**
+ * Per-worker decoration of the user {@link EventHandler} emitting Flight Recorder events for
+ * slow handler calls and handler errors. While the events are disabled the decoration costs
+ * an enabled check per event.
+ */
+final class RecordingEventHandler<T> implements EventHandler<T> {
+    private final EventHandler<T> delegate;
+    private final String service;
+    private final int worker;
+
+    RecordingEventHandler(EventHandler<T> delegate, String service, int worker) {
+        this.delegate = delegate;
+        this.service = service;
+        this.worker = worker;
+    }
+
+    @Override
+    public void onEvent(String name, T event, long sequence) {
+        HandlerEvent recording = HandlerEvent.beginIfEnabled();
+        delegate.onEvent(name, event, sequence);
+        if (recording != null) recording.end(service, worker, sequence);
+    }
+
+    @Override
+    public void onError(String name, T event, long sequence, Throwable ex) {
+        HandlerErrorEvent.emit(service, worker, sequence, ex);
+        delegate.onError(name, event, sequence, ex);
+    }
+
+    @Override
+    public void onStart(String name) {
+        delegate.onStart(name);
+    }
+
+    @Override
+    public void onShutdown(String name) {
+        delegate.onShutdown(name);
+    }
+}
@@ -0,0 +1,225 @@
+package io.github.ryntric;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+
+/**
+ * Pooled completion handle returned by {@code WorkerService.call(...)}.
+ * <p>
+ * The call's translator stores the handle in a reply slot of the event, and the handler
+ * completes it with {@link #complete(Object)} or {@link #completeExceptionally(Throwable)}.
+ * The caller either waits with {@link #await()} or {@link #await(long, TimeUnit)} and then
+ * {@link #close() closes} the handle, or registers a {@link #whenComplete(BiConsumer) callback}
+ * after which the handle closes itself. A closed handle goes back to the service's pool and
+ * is handed out again by a later call, so it must not be used after closing.
+ * <p>
+ * A handle closed before it was completed, e.g. after a timeout, is not reused, so a late
+ * completion cannot reach another call.
+ *
+ * @param <R> the reply type
+ */
+public final class Reply<R> implements AutoCloseable {
+    private static final VarHandle STATE;
+    private static final int SPINS = 100;
+    private static final int PENDING = 0;
+    private static final int CALLBACK = 1;
+    private static final int DONE = 2;
+    private static final int FREE = 3;
+
+    static {
+        try {
+            STATE = MethodHandles.lookup().findVarHandle(Reply.class, "state", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final ReplyPool pool;
+    private final int home;
+    @SuppressWarnings("unused")
+    private volatile int state;
+    private volatile Thread waiter;
+    // published by the state transitions
+    private R value;
+    private Throwable error;
+    private BiConsumer<? super R, ? super Throwable> callback;
+
+    Reply(ReplyPool pool, int home) {
+        this.pool = pool;
+        this.home = home;
+    }
+
+    int home() {
+        return home;
+    }
+
+    /**
+     * Prepares a pooled handle for a new call; the pool hands it to a single caller.
+     */
+    void reset() {
+        value = null;
+        error = null;
+        callback = null;
+        waiter = null;
+        state = PENDING;
+    }
+
+    /**
+     * Completes the call with a value. Called once per call, usually by the handler.
+     *
+     * @param value the reply
+     * @return {@code false} if the call was already completed
+     */
+    public boolean complete(R value) {
+        return finish(value, null);
+    }
+
+    /**
+     * Completes the call with an error, rethrown to the waiting caller wrapped in a
+     * {@link CompletionException} or passed to the callback.
+     *
+     * @param error the failure
+     * @return {@code false} if the call was already completed
+     */
+    public boolean completeExceptionally(Throwable error) {
+        return finish(null, error);
+    }
+
+    private boolean finish(R value, Throwable error) {
+        int current = state;
+        if (current != PENDING && current != CALLBACK) {
+            return false;
+        }
+        this.value = value;
+        this.error = error;
+        if (STATE.compareAndSet(this, PENDING, DONE)) {
+            Thread parked = waiter;
+            if (parked != null) {
+                LockSupport.unpark(parked);
+            }
+            return true;
+        }
+        if (STATE.compareAndSet(this, CALLBACK, DONE)) {
+            runCallback();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return whether the call has been completed
+     */
+    public boolean isDone() {
+        return state == DONE;
+    }
+
+    /**
+     * Waits for the reply, spinning briefly before parking.
+     *
+     * @return the reply value
+     * @throws InterruptedException if interrupted while waiting
+     * @throws CompletionException  if the call was completed exceptionally
+     */
+    public R await() throws InterruptedException {
+        if (!spin()) {
+            waiter = Thread.currentThread();
+            try {
+                while (state != DONE) {
+                    LockSupport.park(this);
+                    if (Thread.interrupted()) {
+                        throw new InterruptedException();
+                    }
+                }
+            } finally {
+                waiter = null;
+            }
+        }
+        return result();
+    }
+
+    /**
+     * Waits at most the given time for the reply.
+     *
+     * @param timeout maximum time to wait
+     * @param unit    unit of the timeout
+     * @return the reply value
+     * @throws InterruptedException if interrupted while waiting
+     * @throws TimeoutException     if the reply did not arrive in time
+     * @throws CompletionException  if the call was completed exceptionally
+     */
+    public R await(long timeout, TimeUnit unit) throws InterruptedException, TimeoutException {
+        if (!spin()) {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            waiter = Thread.currentThread();
+            try {
+                while (state != DONE) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        throw new TimeoutException();
+                    }
+                    LockSupport.parkNanos(this, remaining);
+                    if (Thread.interrupted()) {
+                        throw new InterruptedException();
+                    }
+                }
+            } finally {
+                waiter = null;
+            }
+        }
+        return result();
+    }
+
+    private boolean spin() {
+        for (int i = 0; i < SPINS; i++) {
+            if (state == DONE) {
+                return true;
+            }
+            Thread.onSpinWait();
+        }
+        return false;
+    }
+
+    private R result() {
+        if (error != null) {
+            throw new CompletionException(error);
+        }
+        return value;
+    }
+
+    /**
+     * Registers a callback run once with the value or the error, on the completing thread,
+     * or on the calling thread if the call is already complete. The handle closes itself
+     * after the callback, so the caller must not use it afterwards.
+     *
+     * @param callback receives the value and {@code null}, or {@code null} and the error
+     */
+    public void whenComplete(BiConsumer<? super R, ? super Throwable> callback) {
+        this.callback = callback;
+        if (!STATE.compareAndSet(this, PENDING, CALLBACK)) {
+            runCallback();
+        }
+    }
+
+    private void runCallback() {
+        try {
+            callback.accept(value, error);
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Returns a completed handle to the pool. A pending handle is left to the garbage collector.
+     */
+    @Override
+    public void close() {
+        if (STATE.compareAndSet(this, DONE, FREE)) {
+            pool.release(this);
+        }
+    }
+}
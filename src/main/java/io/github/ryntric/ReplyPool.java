@@ -0,0 +1,53 @@
+package io.github.ryntric;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Bounded lock-free pool of {@link Reply} handles.
+ * <p>
+ * Every thread probes its own block of {@value #PROBES} slots, chosen by thread id, so callers
+ * on different threads rarely touch the same slots. A handle returns to the block of the
+ * thread that took it, even when a callback closes it on a worker thread. Slots are taken and
+ * filled with a single CAS each; when a block is empty a new handle is allocated, when it is
+ * full the handle is dropped.
+ */
+final class ReplyPool {
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(Reply[].class);
+    private static final int PROBES = 8;
+
+    private final Reply<?>[] slots;
+    private final int mask;
+
+    /**
+     * @param capacity number of slots, a power of two of at least {@value #PROBES}
+     */
+    ReplyPool(int capacity) {
+        this.slots = new Reply[capacity];
+        this.mask = capacity - 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    <R> Reply<R> acquire() {
+        int home = (int) Thread.currentThread().getId() * PROBES & mask;
+        for (int i = 0; i < PROBES; i++) {
+            int index = home + i;
+            Reply<?> reply = (Reply<?>) SLOTS.getAcquire(slots, index);
+            if (reply != null && SLOTS.compareAndSet(slots, index, reply, null)) {
+                reply.reset();
+                return (Reply<R>) reply;
+            }
+        }
+        return new Reply<>(this, home);
+    }
+
+    void release(Reply<?> reply) {
+        int home = reply.home();
+        for (int i = 0; i < PROBES; i++) {
+            int index = home + i;
+            if (SLOTS.getAcquire(slots, index) == null && SLOTS.compareAndSet(slots, index, null, reply)) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package io.github.ryntric;
+
+import io.github.ryntric.routing.RoutingTable;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Immutable snapshot of how hashes are routed: the routing table, the workers it points at,
+ * and for slots whose owner is changing, the drain markers of their previous owners.
+ * A new snapshot is installed on every routing change.
+ * <p>
+ * When load sampling is on, every publish also counts its events per slot and per worker.
+ * Slot counts are plain racy increments; losing some under contention is fine for sampling.
+ * When capacity tracking is on, every publish claims its events from the owner's
+ * {@link WorkerEventHandler}.
+ */
+final class Routing<T> {
+    private static final int SPINS = 100;
+    private static final long MAX_PARK_NANOS = 10_000L;
+
+    final int version;
+    final RoutingTable table;
+    final Worker<T>[] workers;
+    final WorkerEventHandler<T>[] handlers;
+    private final DrainMarker[][] fences;
+    private final int[] hits;
+    private final boolean claiming;
+    private final boolean direct;
+
+    Routing(int version, RoutingTable table, Worker<T>[] workers, WorkerEventHandler<T>[] handlers, DrainMarker[][] fences, boolean sampling, boolean claiming) {
+        this(version, table, workers, handlers, fences, sampling ? new int[table.slotCount()] : null, claiming);
+    }
+
+    private Routing(int version, RoutingTable table, Worker<T>[] workers, WorkerEventHandler<T>[] handlers, DrainMarker[][] fences, int[] hits, boolean claiming) {
+        this.version = version;
+        this.table = table;
+        this.workers = workers;
+        this.handlers = handlers;
+        this.fences = fences;
+        this.hits = hits;
+        this.claiming = claiming;
+        this.direct = fences == null && hits == null && !claiming;
+    }
+
+    /**
+     * @return index of the worker to publish {@code count} events of the hash to
+     */
+    int index(int hashcode, int count) {
+        if (direct) {
+            return table.route(hashcode);
+        }
+        return route(hashcode, count);
+    }
+
+    /**
+     * Finds the owner of the hash. If the hash falls into a slot that is being handed over,
+     * waits until the previous owners have drained everything published before the handoff,
+     * spinning briefly and then parking, since a large backlog can take a while to drain.
+     *
+     * @return index of the owning worker
+     */
+    int route(int hashcode, int count) {
+        int slot = table.slot(hashcode);
+        if (fences != null) {
+            DrainMarker[] fence = fences[slot];
+            if (fence != null) {
+                for (DrainMarker marker : fence) {
+                    for (int spins = 0; !marker.isDone(); spins++) backoff(spins);
+                }
+            }
+        }
+        int owner = table.owner(slot);
+        if (claiming) {
+            handlers[owner].claim(count);
+        }
+        sample(slot, owner, count);
+        return owner;
+    }
+
+    /**
+     * Like {@link #route(int, int)}, but gives up when the slot's handoff or free ring capacity
+     * for {@code count} events are not available within the timeout.
+     *
+     * @return index of the owning worker with capacity claimed, or {@code -1} if refused
+     */
+    int tryRoute(int hashcode, int count, long timeoutNanos) {
+        long deadline = timeoutNanos > 0 ? System.nanoTime() + timeoutNanos : 0L;
+        int slot = table.slot(hashcode);
+        int owner = table.owner(slot);
+        WorkerEventHandler<T> handler = handlers[owner];
+        if (fences != null) {
+            DrainMarker[] fence = fences[slot];
+            if (fence != null) {
+                for (DrainMarker marker : fence) {
+                    for (int spins = 0; !marker.isDone(); spins++) {
+                        if (!pause(timeoutNanos, deadline, spins)) {
+                            handler.rejected();
+                            return -1;
+                        }
+                    }
+                }
+            }
+        }
+        for (int spins = 0; !handler.tryClaim(count); spins++) {
+            if (!pause(timeoutNanos, deadline, spins)) {
+                handler.rejected();
+                return -1;
+            }
+        }
+        sample(slot, owner, count);
+        return owner;
+    }
+
+    private static boolean pause(long timeoutNanos, long deadline, int spins) {
+        if (timeoutNanos <= 0) {
+            return false;
+        }
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            return false;
+        }
+        if (spins < SPINS) {
+            Thread.onSpinWait();
+        } else {
+            LockSupport.parkNanos(Math.min(remaining, MAX_PARK_NANOS));
+        }
+        return true;
+    }
+
+    static void backoff(int spins) {
+        if (spins < SPINS) {
+            Thread.onSpinWait();
+        } else {
+            LockSupport.parkNanos(MAX_PARK_NANOS);
+        }
+    }
+
+    private void sample(int slot, int owner, int count) {
+        if (hits != null) {
+            hits[slot] += count;
+            handlers[owner].published(count);
+        }
+    }
+
+    boolean isSampling() {
+        return hits != null;
+    }
+
+    boolean isClaiming() {
+        return claiming;
+    }
+
+    /**
+     * @return events published per slot since the previous call
+     */
+    int[] drainHits() {
+        int[] snapshot = new int[hits.length];
+        for (int slot = 0; slot < hits.length; slot++) {
+            snapshot[slot] = hits[slot];
+            hits[slot] = 0;
+        }
+        return snapshot;
+    }
+
+    Routing<T> withoutFences() {
+        return new Routing<>(version + 1, table, workers, handlers, null, hits, claiming);
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.ryntric;
+
+import io.github.ryntric.routing.RoutingTable;
+
+/**
+ * Plans slot migrations from overloaded workers to underloaded ones.
+ * <p>
+ * A worker is overloaded when it received more than {@code threshold} times the mean load
+ * during the last sampling window and its ring holds more pending events than the ring of
+ * the least loaded worker. Per round at most {@code migrationRate} slots move, each from the
+ * currently most loaded worker to the currently least loaded one. Only a slot lighter than
+ * the gap between the two is moved, so the move always narrows the gap, and the same slot
+ * never qualifies to move straight back.
+ */
+final class SlotRebalancer {
+    private final double threshold;
+    private final int migrationRate;
+
+    SlotRebalancer(double threshold, int migrationRate) {
+        this.threshold = threshold;
+        this.migrationRate = migrationRate;
+    }
+
+    /**
+     * @param table   current routing table
+     * @param hits    events published per slot during the sampling window
+     * @param backlog pending events per worker
+     * @return the table with hot slots reassigned, or {@code table} itself if nothing moves
+     */
+    RoutingTable plan(RoutingTable table, int[] hits, long[] backlog) {
+        int workerCount = table.workerCount();
+        long[] load = new long[workerCount];
+        long total = 0;
+        for (int slot = 0; slot < hits.length; slot++) {
+            load[table.owner(slot)] += hits[slot];
+            total += hits[slot];
+        }
+        if (total == 0 || workerCount == 1) {
+            return table;
+        }
+
+        double limit = threshold * total / workerCount;
+        for (int moved = 0; moved < migrationRate; moved++) {
+            int hot = 0;
+            int cold = 0;
+            for (int worker = 1; worker < workerCount; worker++) {
+                if (load[worker] > load[hot]) hot = worker;
+                if (load[worker] < load[cold]) cold = worker;
+            }
+            if (load[hot] <= limit || backlog[hot] <= backlog[cold]) {
+                break;
+            }
+
+            // the best slot leaves both workers closest to the middle of the gap
+            long gap = load[hot] - load[cold];
+            int candidate = -1;
+            long best = 0;
+            for (int slot = 0; slot < hits.length; slot++) {
+                if (table.owner(slot) != hot || hits[slot] == 0 || hits[slot] >= gap) continue;
+                long balance = Math.min(hits[slot], gap - hits[slot]);
+                if (balance > best) {
+                    best = balance;
+                    candidate = slot;
+                }
+            }
+            if (candidate < 0) {
+                break;
+            }
+            table = table.withOwner(candidate, cold);
+            load[hot] -= hits[candidate];
+            load[cold] += hits[candidate];
+        }
+        return table;
+    }
+}
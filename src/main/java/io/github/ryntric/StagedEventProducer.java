@@ -0,0 +1,221 @@
+package io.github.ryntric;
+
+import io.github.ryntric.EventTranslator.EventTranslatorOneArg;
+
+import java.util.Arrays;
+
+/**
+ * Thread-confined copy-in staging buffer, created with
+ * {@link WorkerService#newStagedEventProducer(EventCopier, int)}. {@code stage(key)} hands out
+ * producer-local events that the caller fills field by field, {@link #commit()} publishes them
+ * to the worker of the key, {@link #abort()} discards them.
+ * <p>
+ * This is not a ring claim: staging reserves no ring capacity, and every event is written twice,
+ * once by the caller into the staged event and once by the {@link EventCopier}, which runs as the
+ * translator of the publish on commit. In exchange, events of any shape are published without
+ * translator lambdas, argument holders or boxing. The staged events are created once per
+ * producer by the service's {@link EventFactory}. Up to {@code maxBatchSize} staged events are
+ * committed as one batch of a single worker. Commits of the same key keep their order, and
+ * once the publish path is compiled they allocate nothing.
+ * <p>
+ * Fields the caller does not write keep the values of the previous staging, so the copier should
+ * copy every field the handler reads. Instances are not thread-safe and must only be used by
+ * the thread that publishes through them.
+ *
+ * @param <T> the event type
+ */
+public final class StagedEventProducer<T> {
+    private final WorkerService<T> service;
+    private final EventTranslatorOneArg<T, T> copying;
+    private final T[] events;
+    private final T[][] batches;
+    private int hashcode;
+    private int staged;
+
+    @SuppressWarnings("unchecked")
+    StagedEventProducer(WorkerService<T> service, EventFactory<T> factory, EventCopier<T> copier, int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Max batch size must be positive: " + maxBatchSize);
+        }
+        this.service = service;
+        this.copying = (event, staged) -> copier.copy(staged, event);
+        this.events = (T[]) new Object[maxBatchSize];
+        for (int i = 0; i < maxBatchSize; i++) {
+            events[i] = factory.newInstance();
+        }
+        this.batches = (T[][]) new Object[maxBatchSize + 1][];
+    }
+
+    /**
+     * Stages one event for the worker determined by the hash of the given key.
+     *
+     * @param key routing key used for consistent worker selection
+     * @return this handle, see {@link #event()}
+     * @throws IllegalStateException if the previously staged events are neither committed nor aborted
+     */
+    public StagedEventProducer<T> stage(String key) {
+        return stage(key, 1);
+    }
+
+    /**
+     * Stages one event for the worker determined by the hash of the given key.
+     *
+     * @param key routing key used for consistent worker selection
+     * @return this handle, see {@link #event()}
+     * @throws IllegalStateException if the previously staged events are neither committed nor aborted
+     */
+    public StagedEventProducer<T> stage(int key) {
+        return stage(key, 1);
+    }
+
+    /**
+     * Stages one event for the worker determined by the hash of the given key.
+     *
+     * @param key routing key used for consistent worker selection
+     * @return this handle, see {@link #event()}
+     * @throws IllegalStateException if the previously staged events are neither committed nor aborted
+     */
+    public StagedEventProducer<T> stage(long key) {
+        return stage(key, 1);
+    }
+
+    /**
+     * Stages one event for the worker determined by the hash of the given key.
+     * The key is hashed immediately, so the array may be reused after the call.
+     *
+     * @param key routing key used for consistent worker selection
+     * @return this handle, see {@link #event()}
+     * @throws IllegalStateException if the previously staged events are neither committed nor aborted
+     */
+    public StagedEventProducer<T> stage(byte[] key) {
+        return stage(key, 1);
+    }
+
+    /**
+     * Stages {@code count} events for the worker determined by the hash of the given key.
+     *
+     * @param key   routing key used for consistent worker selection
+     * @param count number of events, at most {@code maxBatchSize}
+     * @return this handle, see {@link #event(int)}
+     * @throws IllegalStateException if the previously staged events are neither committed nor aborted
+     */
+    public StagedEventProducer<T> stage(String key, int count) {
+        checkStage(count);
+        return staged(service.hash(key, count), count);
+    }
+
+    /**
+     * Stages {@code count} events for the worker determined by the hash of the given key.
+     *
+     * @param key   routing key used for consistent worker selection
+     * @param count number of events, at most {@code maxBatchSize}
+     * @return this handle, see {@link #event(int)}
+     * @throws IllegalStateException if the previously staged events are neither committed nor aborted
+     */
+    public StagedEventProducer<T> stage(int key, int count) {
+        checkStage(count);
+        return staged(service.hash(key, count), count);
+    }
+
+    /**
+     * Stages {@code count} events for the worker determined by the hash of the given key.
+     *
+     * @param key   routing key used for consistent worker selection
+     * @param count number of events, at most {@code maxBatchSize}
+     * @return this handle, see {@link #event(int)}
+     * @throws IllegalStateException if the previously staged events are neither committed nor aborted
+     */
+    public StagedEventProducer<T> stage(long key, int count) {
+        checkStage(count);
+        return staged(service.hash(key, count), count);
+    }
+
+    /**
+     * Stages {@code count} events for the worker determined by the hash of the given key.
+     * The key is hashed immediately, so the array may be reused after the call.
+     *
+     * @param key   routing key used for consistent worker selection
+     * @param count number of events, at most {@code maxBatchSize}
+     * @return this handle, see {@link #event(int)}
+     * @throws IllegalStateException if the previously staged events are neither committed nor aborted
+     */
+    public StagedEventProducer<T> stage(byte[] key, int count) {
+        checkStage(count);
+        return staged(service.hash(key, count), count);
+    }
+
+    private void checkStage(int count) {
+        if (staged != 0) {
+            throw new IllegalStateException("Previously staged events are not committed");
+        }
+        if (count <= 0 || count > events.length) {
+            throw new IllegalArgumentException("Staged count must be between 1 and " + events.length + ": " + count);
+        }
+    }
+
+    private StagedEventProducer<T> staged(int hashcode, int count) {
+        this.hashcode = hashcode;
+        this.staged = count;
+        return this;
+    }
+
+    /**
+     * @return the first staged event
+     */
+    public T event() {
+        return event(0);
+    }
+
+    /**
+     * @param index index of the staged event
+     * @return the staged event
+     */
+    public T event(int index) {
+        if (index >= staged) {
+            throw new IndexOutOfBoundsException("Staged " + staged + " events: " + index);
+        }
+        return events[index];
+    }
+
+    /**
+     * @return number of staged events, {@code 0} if nothing is staged
+     */
+    public int getStagedCount() {
+        return staged;
+    }
+
+    /**
+     * Publishes the staged events, copying each into its ring slot with the {@link EventCopier}.
+     * Like {@code publishEvent}, this waits while the worker's ring is full.
+     *
+     * @throws IllegalStateException if nothing is staged
+     */
+    public void commit() {
+        int count = staged;
+        if (count == 0) {
+            throw new IllegalStateException("Nothing is staged");
+        }
+        // a failed publish discards the staged events, so the handle stays usable
+        staged = 0;
+        if (count == 1) {
+            service.publishHashed(hashcode, copying, events[0]);
+        } else {
+            service.publishHashed(hashcode, copying, batch(count));
+        }
+    }
+
+    /**
+     * Discards the staged events.
+     */
+    public void abort() {
+        staged = 0;
+    }
+
+    private T[] batch(int count) {
+        T[] batch = batches[count];
+        if (batch == null) {
+            batch = batches[count] = Arrays.copyOf(events, count);
+        }
+        return batch;
+    }
+}
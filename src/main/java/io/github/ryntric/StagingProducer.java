@@ -0,0 +1,124 @@
+package io.github.ryntric;
+
+import io.github.ryntric.EventTranslator.EventTranslatorOneArg;
+
+import java.util.Arrays;
+
+/**
+ * Thread-confined producer handle that stages events and publishes them in batches,
+ * created with {@link WorkerService#newProducer(EventTranslatorOneArg, int, long)}.
+ * <p>
+ * Staged events are published when {@link #flush()} is called, when {@code batchSize} events
+ * are staged, or on the first publish after the oldest staged event has waited
+ * {@code lingerNanos}. A flush groups the staged events by worker and claims one sequence
+ * range per worker, so with many producers the contended claims drop by up to
+ * {@code batchSize} times. Events of the same key keep their publish order.
+ * <p>
+ * The linger time is only checked when publishing; an idle producer must call {@link #flush()}
+ * itself, for example at the end of an I/O read loop. {@link #close()} flushes as well.
+ * <p>
+ * Instances are not thread-safe and must only be used by the thread that publishes through them.
+ *
+ * @param <T> the event type
+ * @param <A> the translator argument type
+ */
+public final class StagingProducer<T, A> implements AutoCloseable {
+    private final WorkerService<T> service;
+    private final EventTranslatorOneArg<T, A> translator;
+    private final long lingerNanos;
+    private final int[] hashcodes;
+    private final A[] args;
+    private int size;
+    private long firstStagedAt;
+
+    @SuppressWarnings("unchecked")
+    StagingProducer(WorkerService<T> service, EventTranslatorOneArg<T, A> translator, int batchSize, long lingerNanos) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        this.service = service;
+        this.translator = translator;
+        this.lingerNanos = lingerNanos;
+        this.hashcodes = new int[batchSize];
+        this.args = (A[]) new Object[batchSize];
+    }
+
+    /**
+     * Stages an event for the worker determined by the hash of the given key.
+     *
+     * @param key routing key used for consistent worker selection
+     * @param arg argument passed to the translator
+     */
+    public void publishEvent(String key, A arg) {
+        stage(service.hash(key, 1), arg);
+    }
+
+    /**
+     * Stages an event for the worker determined by the hash of the given key.
+     *
+     * @param key routing key used for consistent worker selection
+     * @param arg argument passed to the translator
+     */
+    public void publishEvent(int key, A arg) {
+        stage(service.hash(key, 1), arg);
+    }
+
+    /**
+     * Stages an event for the worker determined by the hash of the given key.
+     *
+     * @param key routing key used for consistent worker selection
+     * @param arg argument passed to the translator
+     */
+    public void publishEvent(long key, A arg) {
+        stage(service.hash(key, 1), arg);
+    }
+
+    /**
+     * Stages an event for the worker determined by the hash of the given key.
+     * The key is hashed immediately, so the array may be reused after the call.
+     *
+     * @param key routing key used for consistent worker selection
+     * @param arg argument passed to the translator
+     */
+    public void publishEvent(byte[] key, A arg) {
+        stage(service.hash(key, 1), arg);
+    }
+
+    private void stage(int hashcode, A arg) {
+        if (size == 0 && lingerNanos > 0) {
+            firstStagedAt = System.nanoTime();
+        }
+        hashcodes[size] = hashcode;
+        args[size++] = arg;
+        if (size == args.length || (lingerNanos > 0 && System.nanoTime() - firstStagedAt >= lingerNanos)) {
+            flush();
+        }
+    }
+
+    /**
+     * @return number of staged events not yet published
+     */
+    public int getStagedCount() {
+        return size;
+    }
+
+    /**
+     * Publishes all staged events.
+     */
+    public void flush() {
+        if (size == 0) {
+            return;
+        }
+        service.publishGrouped(hashcodes, translator, args, size);
+        Arrays.fill(args, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Flushes the staged events.
+     */
+    @Override
+    public void close() {
+        flush();
+    }
+}
@@ -0,0 +1,282 @@
+package io.github.ryntric;
+
+import io.github.ryntric.EventTranslator.EventTranslatorFiveArg;
+import io.github.ryntric.EventTranslator.EventTranslatorFourArg;
+import io.github.ryntric.EventTranslator.EventTranslatorOneArg;
+import io.github.ryntric.EventTranslator.EventTranslatorThreeArg;
+import io.github.ryntric.EventTranslator.EventTranslatorTwoArg;
+
+/**
+ * Per-thread adapters from the two- to five-argument translators to the one-argument translator
+ * that the publish path of {@link WorkerService} is written against, so that routing, journaling,
+ * overflow and latency stamping exist once for every arity. The first argument travels as the
+ * generic argument, the translator and the remaining arguments are stored in a carrier right
+ * before the publish and read back by the carrier's {@code translateTo}, which runs on the
+ * publishing thread during that publish.
+ * <p>
+ * A batch carrier holds the argument arrays after the first and steps through them one event
+ * per {@code translateTo}, relying on a batch being translated once per event, in order.
+ * <p>
+ * Every carrier must be {@link #release(EventTranslatorOneArg) released} once its publish is
+ * done, which drops the references to the arguments. A carrier still in use, by a translator
+ * that publishes itself, is never handed out twice; a fresh one is created instead.
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+final class TranslatorCarriers {
+    private static final ThreadLocal<TranslatorCarriers> CARRIERS = ThreadLocal.withInitial(TranslatorCarriers::new);
+
+    private final TwoArgCarrier two = new TwoArgCarrier();
+    private final ThreeArgCarrier three = new ThreeArgCarrier();
+    private final FourArgCarrier four = new FourArgCarrier();
+    private final FiveArgCarrier five = new FiveArgCarrier();
+    private final TwoArgBatchCarrier twoBatch = new TwoArgBatchCarrier();
+    private final ThreeArgBatchCarrier threeBatch = new ThreeArgBatchCarrier();
+    private final FourArgBatchCarrier fourBatch = new FourArgBatchCarrier();
+    private final FiveArgBatchCarrier fiveBatch = new FiveArgBatchCarrier();
+
+    private TranslatorCarriers() {}
+
+    static TranslatorCarriers get() {
+        return CARRIERS.get();
+    }
+
+    static void release(EventTranslatorOneArg<?, ?> carrier) {
+        ((Carrier) carrier).clear();
+    }
+
+    <T, A, B> EventTranslatorOneArg<T, A> of(EventTranslatorTwoArg<T, A, B> translator, B arg1) {
+        TwoArgCarrier carrier = two.delegate == null ? two : new TwoArgCarrier();
+        carrier.delegate = translator;
+        carrier.arg1 = arg1;
+        return (EventTranslatorOneArg) carrier;
+    }
+
+    <T, A, B, C> EventTranslatorOneArg<T, A> of(EventTranslatorThreeArg<T, A, B, C> translator, B arg1, C arg2) {
+        ThreeArgCarrier carrier = three.delegate == null ? three : new ThreeArgCarrier();
+        carrier.delegate = translator;
+        carrier.arg1 = arg1;
+        carrier.arg2 = arg2;
+        return (EventTranslatorOneArg) carrier;
+    }
+
+    <T, A, B, C, D> EventTranslatorOneArg<T, A> of(EventTranslatorFourArg<T, A, B, C, D> translator, B arg1, C arg2, D arg3) {
+        FourArgCarrier carrier = four.delegate == null ? four : new FourArgCarrier();
+        carrier.delegate = translator;
+        carrier.arg1 = arg1;
+        carrier.arg2 = arg2;
+        carrier.arg3 = arg3;
+        return (EventTranslatorOneArg) carrier;
+    }
+
+    <T, A, B, C, D, E> EventTranslatorOneArg<T, A> of(EventTranslatorFiveArg<T, A, B, C, D, E> translator, B arg1, C arg2, D arg3, E arg4) {
+        FiveArgCarrier carrier = five.delegate == null ? five : new FiveArgCarrier();
+        carrier.delegate = translator;
+        carrier.arg1 = arg1;
+        carrier.arg2 = arg2;
+        carrier.arg3 = arg3;
+        carrier.arg4 = arg4;
+        return (EventTranslatorOneArg) carrier;
+    }
+
+    <T, A, B> EventTranslatorOneArg<T, A> ofBatch(EventTranslatorTwoArg<T, A, B> translator, B[] arg1) {
+        TwoArgBatchCarrier carrier = twoBatch.delegate == null ? twoBatch : new TwoArgBatchCarrier();
+        carrier.delegate = translator;
+        carrier.arg1 = arg1;
+        carrier.next = 0;
+        return (EventTranslatorOneArg) carrier;
+    }
+
+    <T, A, B, C> EventTranslatorOneArg<T, A> ofBatch(EventTranslatorThreeArg<T, A, B, C> translator, B[] arg1, C[] arg2) {
+        ThreeArgBatchCarrier carrier = threeBatch.delegate == null ? threeBatch : new ThreeArgBatchCarrier();
+        carrier.delegate = translator;
+        carrier.arg1 = arg1;
+        carrier.arg2 = arg2;
+        carrier.next = 0;
+        return (EventTranslatorOneArg) carrier;
+    }
+
+    <T, A, B, C, D> EventTranslatorOneArg<T, A> ofBatch(EventTranslatorFourArg<T, A, B, C, D> translator, B[] arg1, C[] arg2, D[] arg3) {
+        FourArgBatchCarrier carrier = fourBatch.delegate == null ? fourBatch : new FourArgBatchCarrier();
+        carrier.delegate = translator;
+        carrier.arg1 = arg1;
+        carrier.arg2 = arg2;
+        carrier.arg3 = arg3;
+        carrier.next = 0;
+        return (EventTranslatorOneArg) carrier;
+    }
+
+    <T, A, B, C, D, E> EventTranslatorOneArg<T, A> ofBatch(EventTranslatorFiveArg<T, A, B, C, D, E> translator, B[] arg1, C[] arg2, D[] arg3, E[] arg4) {
+        FiveArgBatchCarrier carrier = fiveBatch.delegate == null ? fiveBatch : new FiveArgBatchCarrier();
+        carrier.delegate = translator;
+        carrier.arg1 = arg1;
+        carrier.arg2 = arg2;
+        carrier.arg3 = arg3;
+        carrier.arg4 = arg4;
+        carrier.next = 0;
+        return (EventTranslatorOneArg) carrier;
+    }
+
+    private interface Carrier {
+        void clear();
+    }
+
+    static final class TwoArgCarrier implements EventTranslatorOneArg, Carrier {
+        private EventTranslatorTwoArg delegate;
+        private Object arg1;
+
+        @Override
+        public void translateTo(Object event, Object arg0) {
+            delegate.translateTo(event, arg0, arg1);
+        }
+
+        @Override
+        public void clear() {
+            delegate = null;
+            arg1 = null;
+        }
+    }
+
+    static final class ThreeArgCarrier implements EventTranslatorOneArg, Carrier {
+        private EventTranslatorThreeArg delegate;
+        private Object arg1;
+        private Object arg2;
+
+        @Override
+        public void translateTo(Object event, Object arg0) {
+            delegate.translateTo(event, arg0, arg1, arg2);
+        }
+
+        @Override
+        public void clear() {
+            delegate = null;
+            arg1 = null;
+            arg2 = null;
+        }
+    }
+
+    static final class FourArgCarrier implements EventTranslatorOneArg, Carrier {
+        private EventTranslatorFourArg delegate;
+        private Object arg1;
+        private Object arg2;
+        private Object arg3;
+
+        @Override
+        public void translateTo(Object event, Object arg0) {
+            delegate.translateTo(event, arg0, arg1, arg2, arg3);
+        }
+
+        @Override
+        public void clear() {
+            delegate = null;
+            arg1 = null;
+            arg2 = null;
+            arg3 = null;
+        }
+    }
+
+    static final class FiveArgCarrier implements EventTranslatorOneArg, Carrier {
+        private EventTranslatorFiveArg delegate;
+        private Object arg1;
+        private Object arg2;
+        private Object arg3;
+        private Object arg4;
+
+        @Override
+        public void translateTo(Object event, Object arg0) {
+            delegate.translateTo(event, arg0, arg1, arg2, arg3, arg4);
+        }
+
+        @Override
+        public void clear() {
+            delegate = null;
+            arg1 = null;
+            arg2 = null;
+            arg3 = null;
+            arg4 = null;
+        }
+    }
+
+    static final class TwoArgBatchCarrier implements EventTranslatorOneArg, Carrier {
+        private EventTranslatorTwoArg delegate;
+        private Object[] arg1;
+        private int next;
+
+        @Override
+        public void translateTo(Object event, Object arg0) {
+            int i = next++;
+            delegate.translateTo(event, arg0, arg1[i]);
+        }
+
+        @Override
+        public void clear() {
+            delegate = null;
+            arg1 = null;
+        }
+    }
+
+    static final class ThreeArgBatchCarrier implements EventTranslatorOneArg, Carrier {
+        private EventTranslatorThreeArg delegate;
+        private Object[] arg1;
+        private Object[] arg2;
+        private int next;
+
+        @Override
+        public void translateTo(Object event, Object arg0) {
+            int i = next++;
+            delegate.translateTo(event, arg0, arg1[i], arg2[i]);
+        }
+
+        @Override
+        public void clear() {
+            delegate = null;
+            arg1 = null;
+            arg2 = null;
+        }
+    }
+
+    static final class FourArgBatchCarrier implements EventTranslatorOneArg, Carrier {
+        private EventTranslatorFourArg delegate;
+        private Object[] arg1;
+        private Object[] arg2;
+        private Object[] arg3;
+        private int next;
+
+        @Override
+        public void translateTo(Object event, Object arg0) {
+            int i = next++;
+            delegate.translateTo(event, arg0, arg1[i], arg2[i], arg3[i]);
+        }
+
+        @Override
+        public void clear() {
+            delegate = null;
+            arg1 = null;
+            arg2 = null;
+            arg3 = null;
+        }
+    }
+
+    static final class FiveArgBatchCarrier implements EventTranslatorOneArg, Carrier {
+        private EventTranslatorFiveArg delegate;
+        private Object[] arg1;
+        private Object[] arg2;
+        private Object[] arg3;
+        private Object[] arg4;
+        private int next;
+
+        @Override
+        public void translateTo(Object event, Object arg0) {
+            int i = next++;
+            delegate.translateTo(event, arg0, arg1[i], arg2[i], arg3[i], arg4[i]);
+        }
+
+        @Override
+        public void clear() {
+            delegate = null;
+            arg1 = null;
+            arg2 = null;
+            arg3 = null;
+            arg4 = null;
+        }
+    }
+}
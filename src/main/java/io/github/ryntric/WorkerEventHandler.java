@@ -0,0 +1,284 @@
+package io.github.ryntric;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-worker decoration of the user {@link EventHandler}.
+ * <p>
+ * It completes {@link DrainMarker}s instead of passing their events on. Outside of a routing
+ * change the marker array is empty and the check costs a single volatile read per event.
+ * <p>
+ * It also counts the worker's handled events. Producers count what they publish, either
+ * sampled for the rebalancer or, with capacity tracking, as exact claims checked against
+ * the ring size so that a publish can be refused instead of waiting for a full ring.
+ * Journaled publishes claim the same way, so that they wait for a full ring before they take
+ * the journal's monitor rather than inside it.
+ * Capacity listeners, e.g. of a starved {@link WorkerServiceSubscriber}, are run by the
+ * consumer once a quarter of the ring is free again.
+ * <p>
+ * With metrics on, the consumer thread additionally counts handler errors and times one
+ * in {@value #TIMING_INTERVAL} events, chosen by sequence so no random number is drawn.
+ * With latency sampling on, timed events go by the latency sample rate instead and are
+ * also recorded into the worker's {@link LatencyRecorder}.
+ */
+final class WorkerEventHandler<T> implements EventHandler<T> {
+    private static final DrainMarker[] NO_MARKERS = new DrainMarker[0];
+    private static final Runnable[] NO_LISTENERS = new Runnable[0];
+    private static final VarHandle HANDLED;
+    private static final VarHandle ERRORS;
+    private static final VarHandle TIMED;
+    private static final VarHandle TIMED_NANOS;
+    private static final VarHandle CLAIMS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final int PAD = 16;
+    static final int TIMING_INTERVAL = 64;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HANDLED = lookup.findVarHandle(WorkerEventHandler.class, "handled", long.class);
+            ERRORS = lookup.findVarHandle(WorkerEventHandler.class, "errors", long.class);
+            TIMED = lookup.findVarHandle(WorkerEventHandler.class, "timed", long.class);
+            TIMED_NANOS = lookup.findVarHandle(WorkerEventHandler.class, "timedNanos", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final EventHandler<T> delegate;
+    private final long capacity;
+    private final long timingMask;
+    private final LatencyRecorder<T> latency;
+    // claimed count at index PAD, padded away from the consumer-written handled count
+    private final long[] claims;
+    private final LongAdder published = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder waits = new LongAdder();
+    private volatile DrainMarker[] markers = NO_MARKERS;
+    private volatile Runnable[] capacityListeners = NO_LISTENERS;
+    // written by the consumer thread only
+    @SuppressWarnings("unused")
+    private long handled;
+    @SuppressWarnings("unused")
+    private long errors;
+    @SuppressWarnings("unused")
+    private long timed;
+    @SuppressWarnings("unused")
+    private long timedNanos;
+
+    /**
+     * @param delegate user handler
+     * @param capacity ring size for capacity tracking, {@code 0} if claims are not tracked
+     * @param timing   one in how many events to time, a power of two, {@code 0} to time none
+     * @param latency  whether to record handler time and queueing delay histograms
+     */
+    WorkerEventHandler(EventHandler<T> delegate, int capacity, int timing, boolean latency) {
+        this.delegate = delegate;
+        this.capacity = capacity;
+        this.timingMask = timing - 1;
+        this.latency = latency ? new LatencyRecorder<>() : null;
+        this.claims = capacity > 0 ? new long[PAD * 2] : null;
+    }
+
+    synchronized void register(DrainMarker marker) {
+        DrainMarker[] current = markers;
+        DrainMarker[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = marker;
+        markers = updated;
+    }
+
+    private synchronized void unregister(DrainMarker marker) {
+        DrainMarker[] current = markers;
+        DrainMarker[] updated = new DrainMarker[current.length - 1];
+        for (int i = 0, j = 0; i < current.length; i++) {
+            if (current[i] != marker) updated[j++] = current[i];
+        }
+        markers = updated;
+    }
+
+    /**
+     * Registers a one-shot listener run by the consumer thread once at least a quarter
+     * of the ring is free. Requires capacity tracking.
+     */
+    synchronized void onCapacity(Runnable listener) {
+        Runnable[] current = capacityListeners;
+        Runnable[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        capacityListeners = updated;
+    }
+
+    private void notifyCapacity() {
+        Runnable[] current;
+        synchronized (this) {
+            current = capacityListeners;
+            capacityListeners = NO_LISTENERS;
+        }
+        for (Runnable listener : current) listener.run();
+    }
+
+    void published(int count) {
+        published.add(count);
+    }
+
+    /**
+     * @return events published to the worker but not yet handled, as seen by a sampling thread
+     */
+    long backlog() {
+        return Math.max(0, published.sum() - (long) HANDLED.getOpaque(this));
+    }
+
+    /**
+     * Unconditionally claims ring capacity for a publish that may wait for it.
+     * A claim beyond the free capacity is counted as a producer wait.
+     */
+    void claim(int count) {
+        long claimed = (long) CLAIMS.getAndAdd(claims, PAD, (long) count) + count;
+        if (claimed - (long) HANDLED.getAcquire(this) > capacity) {
+            waits.increment();
+        }
+    }
+
+    /**
+     * @return ring entries neither claimed nor waiting to be handled, negative if producers wait
+     */
+    long freeCapacity() {
+        return capacity - ((long) CLAIMS.getVolatile(claims, PAD) - (long) HANDLED.getAcquire(this));
+    }
+
+    /**
+     * Claims ring capacity only if the ring has room for {@code count} more events.
+     * The room is counted by handled events, so a successful claim may still wait
+     * for the consumer to finish its current batch, but never for further events.
+     */
+    boolean tryClaim(int count) {
+        for (;;) {
+            long claimed = (long) CLAIMS.getVolatile(claims, PAD);
+            if (claimed + count - (long) HANDLED.getAcquire(this) > capacity) {
+                return false;
+            }
+            if (CLAIMS.compareAndSet(claims, PAD, claimed, claimed + count)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Claims ring capacity for a publish that must not wait inside the ring, e.g. while holding
+     * the worker's journal. Spins briefly and then parks until the ring has room for
+     * {@code count} more events. A batch larger than the ring, which the ring refuses
+     * anyway, is claimed unconditionally. A claim that has to wait is counted as a producer wait.
+     */
+    void reserve(int count) {
+        if (count > capacity) {
+            claim(count);
+            return;
+        }
+        if (tryClaim(count)) {
+            return;
+        }
+        waits.increment();
+        for (int spins = 0; !tryClaim(count); spins++) {
+            Routing.backoff(spins);
+        }
+    }
+
+    /**
+     * @return whether every event claimed so far has been handled
+     */
+    boolean isCaughtUp() {
+        return (long) CLAIMS.getVolatile(claims, PAD) == (long) HANDLED.getVolatile(this);
+    }
+
+    void rejected() {
+        rejected.increment();
+    }
+
+    long rejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * @return the latency recorder, {@code null} if latency sampling is off
+     */
+    LatencyRecorder<T> latency() {
+        return latency;
+    }
+
+    /**
+     * @param worker        index of the worker this handler belongs to
+     * @param sampling      whether producers count published events for the rebalancer
+     * @param overflowDepth spilled events of the worker, {@code -1} without overflow
+     * @return the worker's counters, producer-side counts are {@code -1} when not tracked
+     */
+    WorkerMetrics metrics(int worker, boolean sampling, long overflowDepth) {
+        long consumed = (long) HANDLED.getOpaque(this);
+        long publishedCount = -1L;
+        long waitCount = -1L;
+        long rejectedCount = -1L;
+        if (claims != null) {
+            publishedCount = (long) CLAIMS.getOpaque(claims, PAD);
+            waitCount = waits.sum();
+            rejectedCount = rejected.sum();
+        } else if (sampling) {
+            publishedCount = published.sum();
+        }
+        long count = (long) TIMED.getOpaque(this);
+        long nanos = (long) TIMED_NANOS.getOpaque(this);
+        double meanHandlerNanos = count > 0 ? (double) nanos / count : Double.NaN;
+        return new WorkerMetrics(worker, publishedCount, consumed, waitCount, rejectedCount, (long) ERRORS.getOpaque(this), meanHandlerNanos, overflowDepth);
+    }
+
+    @Override
+    public void onEvent(String name, T event, long sequence) {
+        try {
+            DrainMarker[] current = markers;
+            for (DrainMarker marker : current) {
+                if (marker.matches(event)) {
+                    unregister(marker);
+                    marker.complete();
+                    return;
+                }
+            }
+            if (latency != null) {
+                latency.arrived(event);
+            }
+            if (timingMask >= 0 && (sequence & timingMask) == 0) {
+                long start = System.nanoTime();
+                try {
+                    delegate.onEvent(name, event, sequence);
+                } finally {
+                    long nanos = System.nanoTime() - start;
+                    TIMED_NANOS.setOpaque(this, (long) TIMED_NANOS.get(this) + nanos);
+                    TIMED.setOpaque(this, (long) TIMED.get(this) + 1);
+                    if (latency != null) latency.handled(nanos);
+                }
+                return;
+            }
+            delegate.onEvent(name, event, sequence);
+        } finally {
+            // single writer, the consumer thread
+            HANDLED.setRelease(this, (long) HANDLED.get(this) + 1);
+            if (capacityListeners != NO_LISTENERS && freeCapacity() >= capacity / 4) {
+                notifyCapacity();
+            }
+        }
+    }
+
+    @Override
+    public void onError(String name, T event, long sequence, Throwable ex) {
+        ERRORS.setOpaque(this, (long) ERRORS.get(this) + 1);
+        delegate.onError(name, event, sequence, ex);
+    }
+
+    @Override
+    public void onStart(String name) {
+        delegate.onStart(name);
+    }
+
+    @Override
+    public void onShutdown(String name) {
+        delegate.onShutdown(name);
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.ryntric;
+
+/**
+ * Sampled latency distributions of a single worker, returned by {@link WorkerService#latencies(boolean)}.
+ */
+public final class WorkerLatencies {
+    private final int worker;
+    private final LatencySnapshot queueingDelay;
+    private final LatencySnapshot handlerTime;
+
+    WorkerLatencies(int worker, LatencySnapshot queueingDelay, LatencySnapshot handlerTime) {
+        this.worker = worker;
+        this.queueingDelay = queueingDelay;
+        this.handlerTime = handlerTime;
+    }
+
+    /**
+     * @return index of the worker
+     */
+    public int getWorker() {
+        return worker;
+    }
+
+    /**
+     * @return time from {@code publishEvent} until the worker starts handling the event
+     */
+    public LatencySnapshot getQueueingDelay() {
+        return queueingDelay;
+    }
+
+    /**
+     * @return run time of {@link EventHandler#onEvent}
+     */
+    public LatencySnapshot getHandlerTime() {
+        return handlerTime;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("WorkerLatencies{worker=%d, queueingDelay=%s, handlerTime=%s}", worker, queueingDelay, handlerTime);
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.ryntric;
+
+/**
+ * Counters of a single worker, part of a {@link WorkerServiceMetrics} snapshot.
+ * <p>
+ * Consumer-side counts are always available. Producer-side counts are only kept when
+ * producers count their publishes anyway and are {@code -1} otherwise: published events
+ * with capacity tracking or rebalancing, waits and rejections with capacity tracking.
+ * The overflow depth is {@code -1} for services without overflow.
+ * Counters are read one by one without a common lock, so they may be slightly apart.
+ */
+public final class WorkerMetrics {
+    private final int worker;
+    private final long publishedCount;
+    private final long consumedCount;
+    private final long producerWaitCount;
+    private final long rejectedCount;
+    private final long handlerErrorCount;
+    private final double meanHandlerNanos;
+    private final long overflowDepth;
+
+    WorkerMetrics(int worker, long publishedCount, long consumedCount, long producerWaitCount, long rejectedCount, long handlerErrorCount, double meanHandlerNanos, long overflowDepth) {
+        this.worker = worker;
+        this.publishedCount = publishedCount;
+        this.consumedCount = consumedCount;
+        this.producerWaitCount = producerWaitCount;
+        this.rejectedCount = rejectedCount;
+        this.handlerErrorCount = handlerErrorCount;
+        this.meanHandlerNanos = meanHandlerNanos;
+        this.overflowDepth = overflowDepth;
+    }
+
+    /**
+     * @return index of the worker
+     */
+    public int getWorker() {
+        return worker;
+    }
+
+    /**
+     * @return events published to the worker, or {@code -1} if not tracked
+     */
+    public long getPublishedCount() {
+        return publishedCount;
+    }
+
+    /**
+     * @return events handled by the worker, including internal handoff markers
+     */
+    public long getConsumedCount() {
+        return consumedCount;
+    }
+
+    /**
+     * @return events published but not yet handled, or {@code -1} if published events are not tracked
+     */
+    public long getOccupancy() {
+        return publishedCount < 0 ? -1L : Math.max(0L, publishedCount - consumedCount);
+    }
+
+    /**
+     * @return publishes that found the ring full and had to wait, or {@code -1} if not tracked
+     */
+    public long getProducerWaitCount() {
+        return producerWaitCount;
+    }
+
+    /**
+     * @return refused {@code tryPublishEvent} and timed {@code publishEvent} calls, or {@code -1} if not tracked
+     */
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * @return events whose handler threw and were passed to {@link EventHandler#onError}
+     */
+    public long getHandlerErrorCount() {
+        return handlerErrorCount;
+    }
+
+    /**
+     * @return mean {@link EventHandler#onEvent} run time in nanoseconds over the sampled events,
+     * {@code NaN} if no event has been sampled yet
+     */
+    public double getMeanHandlerNanos() {
+        return meanHandlerNanos;
+    }
+
+    /**
+     * @return events spilled to the worker's overflow and not yet handled, or {@code -1} without overflow
+     */
+    public long getOverflowDepth() {
+        return overflowDepth;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "WorkerMetrics{worker=%d, published=%d, consumed=%d, occupancy=%d, producerWaits=%d, rejected=%d, handlerErrors=%d, meanHandlerNanos=%.1f, overflowDepth=%d}",
+                worker, publishedCount, consumedCount, getOccupancy(), producerWaitCount, rejectedCount, handlerErrorCount, meanHandlerNanos, overflowDepth
+        );
+    }
+}
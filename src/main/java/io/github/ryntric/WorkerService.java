@@ -5,8 +5,33 @@ import io.github.ryntric.EventTranslator.EventTranslatorFourArg;
 import io.github.ryntric.EventTranslator.EventTranslatorOneArg;
 import io.github.ryntric.EventTranslator.EventTranslatorThreeArg;
 import io.github.ryntric.EventTranslator.EventTranslatorTwoArg;
+import io.github.ryntric.PrimitiveCarriers.SliceCarrier;
+import io.github.ryntric.PrimitiveTranslator.DoubleTranslator;
+import io.github.ryntric.PrimitiveTranslator.IntTranslator;
+import io.github.ryntric.PrimitiveTranslator.LongDoubleTranslator;
+import io.github.ryntric.PrimitiveTranslator.LongLongTranslator;
+import io.github.ryntric.PrimitiveTranslator.LongTranslator;
+import io.github.ryntric.PrimitiveTranslator.ObjLongTranslator;
+import io.github.ryntric.jfr.ProducerStallEvent;
+import io.github.ryntric.jfr.WorkerServiceLifecycleEvent;
+import io.github.ryntric.placement.CpuPlacement;
+import io.github.ryntric.placement.CpuTopology;
+import io.github.ryntric.routing.RoutingTable;
+import io.github.ryntric.routing.RoutingTables;
 import io.github.ryntric.util.WorkerUtil;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
 /**
  * A high-performance event processing service that manages a group of workers
  * backed by ring buffers.
@@ -18,21 +43,45 @@ import io.github.ryntric.util.WorkerUtil;
  * Each worker processes events independently using the provided
  * {@link EventHandler}, and can be configured with various wait strategies,
  * buffer sizes, and sequencing options via {@link WorkerServiceConfig}.
+ * <p>
+ * An elastic service (see {@link WorkerServiceConfig.Builder#elastic(boolean)}) can change
+ * its worker count at runtime with {@link #resize(int)} without breaking per-key ordering.
+ * With a rebalance interval configured it also moves hot routing slots from overloaded
+ * workers to underloaded ones in the background, using the same ordered handoff.
  *
  * @param <T> the event type handled by this service
  */
 
 @SuppressWarnings("unchecked")
 public final class WorkerService<T> {
+    private static final int REPLY_POOL_SIZE = 1024;
     private final String name;
-    private final Worker<T>[] workers;
-    private final WorkerNode<T>[] nodes;
     private final HashCodeProvider hashCodeProvider;
-    private final int workerCount;
-    private final int replicaCount;
-    private final int nodeCount;
-    private final int mask;
+    private final EventHandler<T> handler;
+    private final EventFactory<T> factory;
+    private final RingBufferFactory<T> ringBufferFactory;
+    private final WaitPolicy consumerWaitPolicy;
+    private final BatchSizeLimit batchSizeLimit;
+    private final int trackedCapacity;
+    private final PublishGate gate;
+    private final SlotRebalancer rebalancer;
+    private final long rebalanceIntervalNanos;
+    private final HotKeyTracker hotKeyTracker;
+    private final WorkerServiceMonitor monitor;
+    private final int latencySampleRate;
+    private final CpuPlacement placement;
+    private final EventSerializer<T> serializer;
+    private final Journal<T>[] journals;
+    private final Path journalDirectory;
+    private final Overflow<T>[] overflows;
+    private final Path overflowDirectory;
+    private final ReplyPool replies = new ReplyPool(REPLY_POOL_SIZE);
+    private final Object lifecycleLock = new Object();
     private final PaddedBoolean isAlive = new PaddedBoolean();
+    private volatile Routing<T> routing;
+    private Thread rebalanceThread;
+    private boolean journalsOpened;
+    private boolean overflowsOpened;
 
 
     /**
@@ -50,748 +99,3606 @@ public final class WorkerService<T> {
             EventFactory<T> factory,
             HashCodeProvider hashCodeProvider,
             WorkerServiceConfig config) {
+        this(name, handler, factory, hashCodeProvider, config, null);
+    }
+
+    /**
+     * Creates a new {@code WorkerService} instance with the given configuration whose workers
+     * journal or spill their events through the given serializer, see
+     * {@link WorkerServiceConfig.Builder#journal(Path)} and {@link WorkerServiceConfig.Builder#overflow(Path)}.
+     *
+     * @param name              name prefix for worker threads
+     * @param handler           the event handler that processes events
+     * @param factory           the factory for creating new event instances
+     * @param hashCodeProvider  the provider used to hash routing keys
+     * @param config            worker service configuration
+     * @param serializer        serializer of journaled or spilled events, {@code null} without either
+     * @throws IllegalArgumentException if a journal or overflow is configured without a serializer or vice versa,
+     *                                  or either together with an elastic or rebalancing service; or overflow
+     *                                  together with a journal or capacity tracking; or an elastic or
+     *                                  rebalancing service with a single-producer sequencer
+     */
+    public WorkerService(
+            String name,
+            EventHandler<T> handler,
+            EventFactory<T> factory,
+            HashCodeProvider hashCodeProvider,
+            WorkerServiceConfig config,
+            EventSerializer<T> serializer) {
+        this.journalDirectory = config.getJournalDirectory();
+        this.overflowDirectory = config.getOverflowDirectory();
+        if ((journalDirectory == null && overflowDirectory == null) != (serializer == null)) {
+            throw new IllegalArgumentException("A journal or overflow requires both a directory and an event serializer: " + name);
+        }
+        if (config.isElastic() && config.getSequencerType() == SequencerType.SINGLE_PRODUCER) {
+            throw new IllegalArgumentException("An elastic service publishes drain markers from the resizing thread and requires a multi-producer sequencer: " + name);
+        }
+        if (config.getRebalanceIntervalMillis() > 0 && config.getSequencerType() == SequencerType.SINGLE_PRODUCER) {
+            throw new IllegalArgumentException("A rebalancing service publishes drain markers from its rebalancer thread and requires a multi-producer sequencer: " + name);
+        }
+        if (journalDirectory != null && (config.isCapacityTracking() || config.isElastic() || config.getRebalanceIntervalMillis() > 0)) {
+            throw new IllegalArgumentException("A journal cannot be combined with capacity tracking or an elastic or rebalancing service: " + name);
+        }
+        if (overflowDirectory != null && (journalDirectory != null || config.isCapacityTracking() || config.isElastic() || config.getRebalanceIntervalMillis() > 0)) {
+            throw new IllegalArgumentException("Overflow cannot be combined with a journal, capacity tracking or an elastic or rebalancing service: " + name);
+        }
         this.name = name;
-        this.workerCount = config.getWorkerCount();
-        this.replicaCount = config.getReplicaCount();
-        this.nodeCount = WorkerUtil.ceilPowerOfTwo(workerCount * replicaCount);
+        this.serializer = serializer;
         this.hashCodeProvider = hashCodeProvider;
-        this.workers = new Worker[workerCount];
-        this.nodes = new WorkerNode[nodeCount];
-        this.mask = nodeCount - 1;
-        this.init(name, config.getBufferSize(), handler, factory, config);
+        this.handler = handler;
+        this.factory = factory;
+        this.ringBufferFactory = new RingBufferFactory<>(config.getBufferSize(), config.getProducerWaitPolicy(), config.getSequencerType(), factory);
+        this.consumerWaitPolicy = config.getConsumerWaitPolicy();
+        this.batchSizeLimit = config.getBatchSizeLimit();
+        this.trackedCapacity = config.isCapacityTracking() || overflowDirectory != null || journalDirectory != null ? config.getBufferSize() : 0;
+        this.rebalanceIntervalNanos = TimeUnit.MILLISECONDS.toNanos(config.getRebalanceIntervalMillis());
+        this.rebalancer = rebalanceIntervalNanos > 0 ? new SlotRebalancer(config.getRebalanceThreshold(), config.getRebalanceMigrationRate()) : null;
+        this.hotKeyTracker = config.getHotKeyCapacity() > 0 ? new HotKeyTracker(config.getHotKeyCapacity(), config.getHotKeySampleRate()) : null;
+        this.gate = new PublishGate(config.isElastic() || rebalancer != null);
+        this.monitor = config.isMetrics() ? new WorkerServiceMonitor(this, name) : null;
+        this.latencySampleRate = config.getLatencySampleRate();
+        this.placement = CpuPlacement.of(CpuTopology.system(), config.getPlacementStrategy(), config.getCpuSet());
+        this.journals = journalDirectory != null ? new Journal[config.getWorkerCount()] : null;
+        this.overflows = overflowDirectory != null ? new Overflow[config.getWorkerCount()] : null;
+        this.init(config);
     }
 
-    private void init(String name, int bufferSize, EventHandler<T> handler, EventFactory<T> factory, WorkerServiceConfig config) {
-        RingBufferFactory<T> ringBufferFactory = new RingBufferFactory<>(bufferSize, config.getProducerWaitPolicy(), config.getSequencerType(), factory);
-        WorkerFactory<T> workerFactory = new WorkerFactory<>(name, config.getConsumerWaitPolicy(), handler, config.getBatchSizeLimit(), ringBufferFactory);
-
+    private void init(WorkerServiceConfig config) {
+        int workerCount = config.getWorkerCount();
+        Worker<T>[] workers = new Worker[workerCount];
+        WorkerEventHandler<T>[] handlers = gate.isEnabled() || trackedCapacity > 0 || monitor != null || latencySampleRate > 0 ? new WorkerEventHandler[workerCount] : null;
         for (int i = 0; i < workerCount; i++) {
-            workers[i] = workerFactory.newWorker();
+            if (journals != null) {
+                int batchSize = WorkerUtil.batchSize(config.getBatchSizeLimit(), config.getBufferSize());
+                journals[i] = new Journal<>(journal(i), serializer, config.getJournalSegmentSize(), config.getJournalSync(), batchSize);
+            }
+            if (overflows != null) {
+                overflows[i] = new Overflow<>(overflowDirectory.resolve(name + "-" + i), serializer, config.getOverflowSegmentSize(), factory);
+            }
+            workers[i] = newWorker(handlers, i);
+        }
+        RoutingTable table = RoutingTables.of(config.getRoutingStrategy(), workerCount, config.getReplicaCount());
+        this.routing = new Routing<>(0, table, workers, handlers, null, rebalancer != null, config.isCapacityTracking());
+    }
+
+    /**
+     * Creates a worker whose handler emits Flight Recorder events; an elastic, capacity tracking,
+     * journaling, overflowing, monitored or latency sampling service also gives every worker its own
+     * {@link WorkerEventHandler} stored at the same index of {@code handlers}.
+     * With a journal every handled event is acknowledged to the worker's journal.
+     * With overflow the worker drains its overflow queue whenever its ring is caught up.
+     * With a CPU placement the worker thread pins itself before its handler starts.
+     */
+    private Worker<T> newWorker(WorkerEventHandler<T>[] handlers, int index) {
+        EventHandler<T> workerHandler = new RecordingEventHandler<>(handler, name, index);
+        if (handlers != null) {
+            int timing = latencySampleRate > 0 ? latencySampleRate : monitor != null ? WorkerEventHandler.TIMING_INTERVAL : 0;
+            EventHandler<T> userHandler = workerHandler;
+            workerHandler = handlers[index] = new WorkerEventHandler<>(workerHandler, trackedCapacity, timing, latencySampleRate > 0);
+            if (overflows != null) {
+                workerHandler = new OverflowEventHandler<>(handlers[index], userHandler, overflows[index]);
+            }
+        }
+        if (journals != null) {
+            workerHandler = new JournalingEventHandler<>(workerHandler, journals[index]);
+        }
+        if (placement.isEnabled()) {
+            workerHandler = new PinningEventHandler<>(workerHandler, placement, name, index);
+        }
+        return new WorkerFactory<>(name, consumerWaitPolicy, workerHandler, batchSizeLimit, ringBufferFactory).newWorker();
+    }
+
+    /**
+     * Reads the current routing and registers the caller as a publisher holding it,
+     * so that a concurrent routing change waits for this publish to complete.
+     * Must be paired with {@code gate.exit(routing.version)}.
+     */
+    private Routing<T> enter() {
+        Routing<T> current = routing;
+        if (!gate.isEnabled()) {
+            return current;
+        }
+        for (;;) {
+            gate.enter(current.version);
+            Routing<T> latest = routing;
+            if (latest == current) {
+                return current;
+            }
+            gate.exit(current.version);
+            current = latest;
+        }
+    }
+
+    int hash(String key, int count) {
+        int hashcode = hashCodeProvider.provide(key);
+        if (hotKeyTracker != null) hotKeyTracker.sample(key, hashcode, count);
+        return hashcode;
+    }
+
+    int hash(int key, int count) {
+        int hashcode = hashCodeProvider.provide(key);
+        if (hotKeyTracker != null) hotKeyTracker.sample(key, hashcode, count);
+        return hashcode;
+    }
+
+    int hash(long key, int count) {
+        int hashcode = hashCodeProvider.provide(key);
+        if (hotKeyTracker != null) hotKeyTracker.sample(key, hashcode, count);
+        return hashcode;
+    }
+
+    int hash(byte[] key, int count) {
+        int hashcode = hashCodeProvider.provide(key);
+        if (hotKeyTracker != null) hotKeyTracker.sample(key, hashcode, count);
+        return hashcode;
+    }
+
+    int hash(byte[] key, int offset, int length, int count) {
+        int hashcode = hashCodeProvider.provide(key, offset, length);
+        if (hotKeyTracker != null) hotKeyTracker.sample(key, offset, length, hashcode, count);
+        return hashcode;
+    }
+
+    int hash(ByteBuffer key, int offset, int length, int count) {
+        int hashcode = hashCodeProvider.provide(key, offset, length);
+        if (hotKeyTracker != null) hotKeyTracker.sample(key, offset, length, hashcode, count);
+        return hashcode;
+    }
+
+    int hash(CharSequence key, int start, int end, int count) {
+        int hashcode = hashCodeProvider.provide(key, start, end);
+        if (hotKeyTracker != null) hotKeyTracker.sample(key, start, end, hashcode, count);
+        return hashcode;
+    }
+
+    int hash(long mostSignificantBits, long leastSignificantBits, int count) {
+        int hashcode = hashCodeProvider.provide(mostSignificantBits, leastSignificantBits);
+        if (hotKeyTracker != null) hotKeyTracker.sample(mostSignificantBits, leastSignificantBits, hashcode, count);
+        return hashcode;
+    }
+
+    /**
+     * Returns the most frequently published routing keys, each with its current worker
+     * and an estimate of its recent event count, ordered by descending count.
+     * Estimates are sampled and may overcount keys sharing sketch counters.
+     *
+     * @return up to {@link WorkerServiceConfig#getHotKeyCapacity()} hot keys
+     * @throws IllegalStateException if hot-key tracking is disabled
+     */
+    public List<HotKey> hotKeys() {
+        if (hotKeyTracker == null) {
+            throw new IllegalStateException(String.format("Hot-key tracking is disabled: %s", name));
+        }
+        return hotKeyTracker.snapshot(routing.table);
+    }
+
+    /**
+     * Creates a thread-confined producer handle that stages events and publishes them
+     * in per-worker batches. See {@link StagingProducer}.
+     *
+     * @param translator  translator used to populate the events with data
+     * @param batchSize   number of staged events that triggers a flush
+     * @param lingerNanos maximum time an event stays staged while the producer keeps publishing,
+     *                    {@code 0} to flush on size and explicit {@link StagingProducer#flush()} only
+     * @param <A>         type of the argument
+     * @return a new producer handle
+     */
+    public <A> StagingProducer<T, A> newProducer(EventTranslatorOneArg<T, A> translator, int batchSize, long lingerNanos) {
+        return new StagingProducer<>(this, translator, batchSize, lingerNanos);
+    }
+
+    /**
+     * Creates a {@link java.util.concurrent.Flow.Subscriber} that publishes every item under the key
+     * extracted from it, requesting upstream demand only as far as the workers' rings have room.
+     * See {@link WorkerServiceSubscriber}.
+     *
+     * @param keyExtractor extracts the routing key, a {@link String}, {@link Integer}, {@link Long} or {@code byte[]}
+     * @param translator   translator used to populate the events with the items
+     * @param <I>          type of the items
+     * @return a new, unsubscribed subscriber
+     * @throws IllegalStateException if capacity tracking is disabled
+     */
+    public <I> WorkerServiceSubscriber<T, I> subscriber(Function<? super I, ?> keyExtractor, EventTranslatorOneArg<T, I> translator) {
+        checkCapacityTracking();
+        return new WorkerServiceSubscriber<>(this, keyExtractor, translator);
+    }
+
+    int hash(Object key) {
+        if (key instanceof String) return hash((String) key, 1);
+        if (key instanceof Integer) return hash((int) key, 1);
+        if (key instanceof Long) return hash((long) key, 1);
+        if (key instanceof byte[]) return hash((byte[]) key, 1);
+        throw new IllegalArgumentException("Unsupported key type: " + (key == null ? null : key.getClass().getName()));
+    }
+
+    <A> void publishHashed(int hashcode, EventTranslatorOneArg<T, A> translator, A arg) {
+        _publishEvent(hashcode, translator, arg);
+    }
+
+    <A> void publishHashed(int hashcode, EventTranslatorOneArg<T, A> translator, A[] args) {
+        _publishEvents(hashcode, translator, args);
+    }
+
+    /**
+     * @return the free ring capacity of the fullest worker
+     */
+    long freeCapacity() {
+        WorkerEventHandler<T>[] handlers = checkCapacityTracking().handlers;
+        long free = Long.MAX_VALUE;
+        for (WorkerEventHandler<T> handler : handlers) {
+            free = Math.min(free, handler.freeCapacity());
+        }
+        return Math.max(free, 0L);
+    }
+
+    /**
+     * Runs {@code listener} once, on the consumer thread of the fullest worker, when a quarter
+     * of its ring is free. The caller re-checks capacity afterwards to cover a concurrent drain.
+     */
+    void onCapacity(Runnable listener) {
+        WorkerEventHandler<T>[] handlers = checkCapacityTracking().handlers;
+        WorkerEventHandler<T> fullest = handlers[0];
+        for (WorkerEventHandler<T> handler : handlers) {
+            if (handler.freeCapacity() < fullest.freeCapacity()) fullest = handler;
+        }
+        fullest.onCapacity(listener);
+    }
+
+    /**
+     * Creates a thread-confined producer handle that stages events in producer-local instances,
+     * lets the caller fill them and copies them into the ring on commit. See {@link StagedEventProducer}.
+     *
+     * @param copier       copies a staged event into its ring slot
+     * @param maxBatchSize maximum number of events staged at once
+     * @return a new producer handle
+     */
+    public StagedEventProducer<T> newStagedEventProducer(EventCopier<T> copier, int maxBatchSize) {
+        return new StagedEventProducer<>(this, factory, copier, maxBatchSize);
+    }
+
+    /**
+     * Returns how many {@code tryPublishEvent} and timed {@code publishEvent} calls were refused
+     * per worker, indexed like the workers of the current routing.
+     *
+     * @return rejected publishes per worker
+     * @throws IllegalStateException if capacity tracking is disabled
+     */
+    public long[] getRejectedCounts() {
+        Routing<T> current = checkCapacityTracking();
+        long[] counts = new long[current.handlers.length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = current.handlers[i].rejectedCount();
+        }
+        return counts;
+    }
+
+    /**
+     * Returns how many events each worker has spilled to its overflow and not yet handled.
+     *
+     * @return overflow depth per worker
+     * @throws IllegalStateException if overflow is disabled
+     */
+    public long[] getOverflowDepths() {
+        if (overflows == null) {
+            throw new IllegalStateException(String.format("Overflow is disabled: %s", name));
+        }
+        long[] depths = new long[overflows.length];
+        for (int i = 0; i < depths.length; i++) {
+            depths[i] = overflows[i].depth();
+        }
+        return depths;
+    }
+
+    private Routing<T> checkCapacityTracking() {
+        Routing<T> current = routing;
+        if (!current.isClaiming()) {
+            throw new IllegalStateException(String.format("Capacity tracking is disabled: %s", name));
+        }
+        return current;
+    }
+
+    /**
+     * Takes a snapshot of the per-worker counters. Reading them does not stop or slow down
+     * producers or workers. The same snapshot is available over JMX while the service is
+     * running, see {@link WorkerServiceMXBean}.
+     *
+     * @return metrics of the current workers
+     * @throws IllegalStateException if metrics are disabled
+     */
+    public WorkerServiceMetrics metrics() {
+        if (monitor == null) {
+            throw new IllegalStateException(String.format("Metrics are disabled: %s", name));
+        }
+        Routing<T> current = routing;
+        WorkerMetrics[] workers = new WorkerMetrics[current.handlers.length];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = current.handlers[i].metrics(i, current.isSampling(), overflows != null ? overflows[i].depth() : -1L);
+        }
+        return new WorkerServiceMetrics(name, List.of(workers));
+    }
+
+    /**
+     * Takes a snapshot of the per-worker latency histograms: the delay between
+     * {@code publishEvent} and the start of {@link EventHandler#onEvent}, and the run time
+     * of {@code onEvent}. Only sampled single-event publishes are stamped, see
+     * {@link WorkerServiceConfig.Builder#latencySampleRate(int)}.
+     *
+     * @param reset whether the next snapshot only covers latencies recorded after this one
+     * @return latencies of the current workers, indexed by worker
+     * @throws IllegalStateException if latency sampling is disabled
+     */
+    public List<WorkerLatencies> latencies(boolean reset) {
+        if (latencySampleRate == 0) {
+            throw new IllegalStateException(String.format("Latency sampling is disabled: %s", name));
+        }
+        Routing<T> current = routing;
+        WorkerLatencies[] workers = new WorkerLatencies[current.handlers.length];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = current.handlers[i].latency().snapshot(i, reset);
+        }
+        return List.of(workers);
+    }
+
+    /**
+     * @return the current number of workers
+     */
+    public int getWorkerCount() {
+        return routing.workers.length;
+    }
+
+    /**
+     * Returns the approximate memory retained by the routing structures of this service,
+     * i.e. the routing table plus the worker reference array.
+     *
+     * @return footprint in bytes
+     */
+    public long getRoutingFootprint() {
+        Routing<T> current = routing;
+        return current.table.footprint() + 16 + 4L * current.workers.length;
+    }
+
+    /**
+     * Starts all workers.
+     * Workers will begin consuming events from their ring buffers.
+     * <p>
+     * With a journal, the first start opens the journals and republishes the events that were
+     * not acknowledged in a previous run, in per-key order, before it returns. The service only
+     * goes live once they are all republished, so publishes racing with this first start fail
+     * with {@link WorkerServiceTerminatedException} rather than get ahead of them.
+     *
+     * With overflow, the first start clears the overflow directory of the service.
+     *
+     * @throws UncheckedIOException if the journals or overflow queues cannot be opened
+     */
+    public void start() {
+        synchronized (lifecycleLock) {
+            if (isAlive.getAcquire()) {
+                return;
+            }
+            List<Journal<T>> orphans = openJournals();
+            openOverflows();
+            for (Worker<T> worker : routing.workers) worker.start();
+            if (orphans != null) replayJournals(orphans);
+            isAlive.compareAndSetVolatile(false, true);
+            if (rebalancer != null) {
+                rebalanceThread = new Thread(this::rebalanceLoop, name + "-rebalancer");
+                rebalanceThread.setDaemon(true);
+                rebalanceThread.start();
+            }
+            if (monitor != null) monitor.register();
+            WorkerServiceLifecycleEvent.emit(name, WorkerServiceLifecycleEvent.STARTED, routing.workers.length);
+        }
+    }
+
+    /**
+     * Shuts down all workers gracefully.
+     * Workers will stop consuming events and release resources.
+     */
+    public void shutdown() {
+        synchronized (lifecycleLock) {
+            if (isAlive.compareAndSetVolatile(true, false)) {
+                for (Worker<T> worker : routing.workers) worker.shutdown();
+                if (rebalanceThread != null) {
+                    LockSupport.unpark(rebalanceThread);
+                    rebalanceThread = null;
+                }
+                if (monitor != null) monitor.unregister();
+                if (journals != null) {
+                    for (Journal<T> journal : journals) journal.force();
+                }
+                WorkerServiceLifecycleEvent.emit(name, WorkerServiceLifecycleEvent.SHUTDOWN, routing.workers.length);
+            }
+        }
+    }
+
+    private Path journal(int worker) {
+        return journalDirectory.resolve(name + "-" + worker);
+    }
+
+    /**
+     * Opens the worker journals on the first start, along with journals of workers that no
+     * longer exist. Caller must hold {@code lifecycleLock}.
+     *
+     * @return the opened journals of workers that no longer exist, {@code null} if nothing was opened
+     */
+    private List<Journal<T>> openJournals() {
+        if (journals == null || journalsOpened) {
+            return null;
+        }
+        try {
+            for (Journal<T> journal : journals) journal.open();
+            List<Journal<T>> orphans = new ArrayList<>();
+            for (Path directory : Journal.orphans(journalDirectory, name, journals.length)) {
+                Journal<T> orphan = journals[0].sibling(directory);
+                orphan.open();
+                orphans.add(orphan);
+            }
+            journalsOpened = true;
+            return orphans;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Opens the worker overflow queues on the first start. Caller must hold {@code lifecycleLock}.
+     */
+    private void openOverflows() {
+        if (overflows == null || overflowsOpened) {
+            return;
+        }
+        try {
+            for (Overflow<T> overflow : overflows) overflow.open();
+            overflowsOpened = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Republishes the events the journals hold beyond their acknowledgements. The events of a key
+     * are all in the journal of its worker in the previous run, so replaying journal by journal
+     * keeps their order. Orphaned journals are deleted once replayed. The events go straight to
+     * the started workers while the service is not yet live. Caller must hold {@code lifecycleLock}.
+     */
+    private void replayJournals(List<Journal<T>> orphans) {
+        EventTranslatorOneArg<T, ByteBuffer> reading = (event, payload) -> serializer.read(payload, event);
+        Journal.Replay replay = (hashcode, payload) -> {
+            Routing<T> routing = enter();
+            try {
+                publishTo(routing, routing.index(hashcode, 1), hashcode, reading, payload);
+            } finally {
+                gate.exit(routing.version);
+            }
+        };
+        for (Journal<T> journal : journals) journal.replay(replay);
+        for (Journal<T> orphan : orphans) {
+            orphan.replay(replay);
+            try {
+                orphan.delete();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Changes the number of workers at runtime. Only the routing slots whose owner changes
+     * are moved; with {@link io.github.ryntric.routing.RoutingStrategy#CONSISTENT_HASH} that is
+     * about {@code |newWorkerCount - workerCount| / max(newWorkerCount, workerCount)} of the keys.
+     * <p>
+     * Producers keep publishing throughout. Events for a moved slot are held back in the
+     * publishing thread until the slot's previous owner has handled everything published
+     * to it before the change, so events of a key are still handled in publish order.
+     * Removed workers are shut down once drained. The call returns when the handoff is complete.
+     * The drain markers are published into the rings of the previous owners from the calling thread,
+     * which is why an elastic service requires {@link SequencerType#MULTI_PRODUCER}.
+     *
+     * @param newWorkerCount the new number of workers
+     * @throws IllegalStateException if the service is not elastic
+     */
+    public void resize(int newWorkerCount) {
+        if (!gate.isEnabled()) {
+            throw new IllegalStateException(String.format("Worker service is not elastic: %s", name));
+        }
+        if (newWorkerCount <= 0) {
+            throw new IllegalArgumentException("Worker count must be positive: " + newWorkerCount);
+        }
+        synchronized (lifecycleLock) {
+            Routing<T> current = routing;
+            int workerCount = current.workers.length;
+            if (newWorkerCount == workerCount) {
+                return;
+            }
+            boolean alive = isAlive.getAcquire();
+            Worker<T>[] workers = Arrays.copyOf(current.workers, newWorkerCount);
+            WorkerEventHandler<T>[] handlers = Arrays.copyOf(current.handlers, newWorkerCount);
+            for (int i = workerCount; i < newWorkerCount; i++) {
+                workers[i] = newWorker(handlers, i);
+                if (alive) workers[i].start();
+            }
+
+            RoutingTable table = current.table.withWorkerCount(newWorkerCount);
+            if (alive) {
+                handoff(current, table, workers, handlers);
+                for (int i = newWorkerCount; i < workerCount; i++) current.workers[i].shutdown();
+            } else {
+                routing = new Routing<>(current.version + 1, table, workers, handlers, null, current.isSampling(), current.isClaiming());
+            }
+        }
+    }
+
+    /**
+     * Installs a new routing in which every moved slot is fenced by drain markers of its previous
+     * owners, waits for publishers of the previous routing to finish, publishes the markers and
+     * lifts the fences once all markers have been reached.
+     */
+    private void handoff(Routing<T> current, RoutingTable table, Worker<T>[] workers, WorkerEventHandler<T>[] handlers) {
+        int[][] previousOwners = RoutingTables.previousOwners(current.table, table);
+        DrainMarker[] markers = new DrainMarker[current.workers.length];
+        DrainMarker[][] fences = new DrainMarker[previousOwners.length][];
+        for (int slot = 0; slot < previousOwners.length; slot++) {
+            int[] owners = previousOwners[slot];
+            if (owners == null) continue;
+            fences[slot] = new DrainMarker[owners.length];
+            for (int i = 0; i < owners.length; i++) {
+                if (markers[owners[i]] == null) markers[owners[i]] = new DrainMarker();
+                fences[slot][i] = markers[owners[i]];
+            }
+        }
+
+        Routing<T> fenced = new Routing<>(current.version + 1, table, workers, handlers, fences, current.isSampling(), current.isClaiming());
+        routing = fenced;
+        gate.awaitPublishers(current.version);
+
+        for (int i = 0; i < markers.length; i++) {
+            if (markers[i] == null) continue;
+            current.handlers[i].register(markers[i]);
+            if (current.isClaiming()) current.handlers[i].claim(1);
+            current.workers[i].publishEvent(DrainMarker.translator(), markers[i]);
+        }
+        for (DrainMarker marker : markers) {
+            if (marker == null) continue;
+            while (!marker.isDone()) LockSupport.parkNanos(1000L);
+        }
+
+        routing = fenced.withoutFences();
+        gate.awaitPublishers(fenced.version);
+    }
+
+    private void rebalanceLoop() {
+        Thread self = Thread.currentThread();
+        for (;;) {
+            LockSupport.parkNanos(this, rebalanceIntervalNanos);
+            synchronized (lifecycleLock) {
+                if (!isAlive.getAcquire() || rebalanceThread != self) {
+                    return;
+                }
+                rebalance();
+            }
+        }
+    }
+
+    /**
+     * Runs one rebalancing round over the publish counts sampled since the previous round.
+     * Caller must hold {@code lifecycleLock}.
+     */
+    private void rebalance() {
+        Routing<T> current = routing;
+        int[] hits = current.drainHits();
+        long[] backlog = new long[current.handlers.length];
+        for (int i = 0; i < backlog.length; i++) {
+            backlog[i] = current.handlers[i].backlog();
+        }
+        RoutingTable table = rebalancer.plan(current.table, hits, backlog);
+        if (table != current.table) {
+            handoff(current, table, current.workers, current.handlers);
+        }
+    }
+
+    private void checkLiveness() {
+        if (!isAlive.getAcquire()) throw new WorkerServiceTerminatedException(name);
+    }
+
+    // every arity enters the publish path below as a one-argument translator, see TranslatorCarriers
+
+    private <A, B> boolean _tryPublishEvent(int hashcode, long timeoutNanos, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        EventTranslatorOneArg<T, A> carrier = TranslatorCarriers.get().of(translator, arg1);
+        try {
+            return _tryPublishEvent(hashcode, timeoutNanos, carrier, arg0);
+        } finally {
+            TranslatorCarriers.release(carrier);
+        }
+    }
+
+    private <A, B, C> boolean _tryPublishEvent(int hashcode, long timeoutNanos, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        EventTranslatorOneArg<T, A> carrier = TranslatorCarriers.get().of(translator, arg1, arg2);
+        try {
+            return _tryPublishEvent(hashcode, timeoutNanos, carrier, arg0);
+        } finally {
+            TranslatorCarriers.release(carrier);
+        }
+    }
+
+    private <A, B, C, D> boolean _tryPublishEvent(int hashcode, long timeoutNanos, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        EventTranslatorOneArg<T, A> carrier = TranslatorCarriers.get().of(translator, arg1, arg2, arg3);
+        try {
+            return _tryPublishEvent(hashcode, timeoutNanos, carrier, arg0);
+        } finally {
+            TranslatorCarriers.release(carrier);
+        }
+    }
+
+    private <A, B, C, D, E> boolean _tryPublishEvent(int hashcode, long timeoutNanos, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        EventTranslatorOneArg<T, A> carrier = TranslatorCarriers.get().of(translator, arg1, arg2, arg3, arg4);
+        try {
+            return _tryPublishEvent(hashcode, timeoutNanos, carrier, arg0);
+        } finally {
+            TranslatorCarriers.release(carrier);
+        }
+    }
+
+    private <A, B> void _publishEvent(int hashcode, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        EventTranslatorOneArg<T, A> carrier = TranslatorCarriers.get().of(translator, arg1);
+        try {
+            _publishEvent(hashcode, carrier, arg0);
+        } finally {
+            TranslatorCarriers.release(carrier);
+        }
+    }
+
+    private <A, B, C> void _publishEvent(int hashcode, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        EventTranslatorOneArg<T, A> carrier = TranslatorCarriers.get().of(translator, arg1, arg2);
+        try {
+            _publishEvent(hashcode, carrier, arg0);
+        } finally {
+            TranslatorCarriers.release(carrier);
+        }
+    }
+
+    private <A, B, C, D> void _publishEvent(int hashcode, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        EventTranslatorOneArg<T, A> carrier = TranslatorCarriers.get().of(translator, arg1, arg2, arg3);
+        try {
+            _publishEvent(hashcode, carrier, arg0);
+        } finally {
+            TranslatorCarriers.release(carrier);
+        }
+    }
+
+    private <A, B, C, D, E> void _publishEvent(int hashcode, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        EventTranslatorOneArg<T, A> carrier = TranslatorCarriers.get().of(translator, arg1, arg2, arg3, arg4);
+        try {
+            _publishEvent(hashcode, carrier, arg0);
+        } finally {
+            TranslatorCarriers.release(carrier);
+        }
+    }
+
+    private <A, B> void _publishEvents(int hashcode, EventTranslatorTwoArg<T, A, B> translator, A[] arg0, B[] arg1) {
+        EventTranslatorOneArg<T, A> carrier = TranslatorCarriers.get().ofBatch(translator, arg1);
+        try {
+            _publishEvents(hashcode, carrier, arg0);
+        } finally {
+            TranslatorCarriers.release(carrier);
+        }
+    }
+
+    private <A, B, C> void _publishEvents(int hashcode, EventTranslatorThreeArg<T, A, B, C> translator, A[] arg0, B[] arg1, C[] arg2) {
+        EventTranslatorOneArg<T, A> carrier = TranslatorCarriers.get().ofBatch(translator, arg1, arg2);
+        try {
+            _publishEvents(hashcode, carrier, arg0);
+        } finally {
+            TranslatorCarriers.release(carrier);
+        }
+    }
+
+    private <A, B, C, D> void _publishEvents(int hashcode, EventTranslatorFourArg<T, A, B, C, D> translator, A[] arg0, B[] arg1, C[] arg2, D[] arg3) {
+        EventTranslatorOneArg<T, A> carrier = TranslatorCarriers.get().ofBatch(translator, arg1, arg2, arg3);
+        try {
+            _publishEvents(hashcode, carrier, arg0);
+        } finally {
+            TranslatorCarriers.release(carrier);
+        }
+    }
+
+    private <A, B, C, D, E> void _publishEvents(int hashcode, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A[] arg0, B[] arg1, C[] arg2, D[] arg3, E[] arg4) {
+        EventTranslatorOneArg<T, A> carrier = TranslatorCarriers.get().ofBatch(translator, arg1, arg2, arg3, arg4);
+        try {
+            _publishEvents(hashcode, carrier, arg0);
+        } finally {
+            TranslatorCarriers.release(carrier);
+        }
+    }
+
+    private <A> boolean _tryPublishEvent(int hashcode, long timeoutNanos, EventTranslatorOneArg<T, A> translator, A arg) {
+        checkLiveness();
+        checkCapacityTracking();
+        Routing<T> routing = enter();
+        try {
+            int worker = routing.tryRoute(hashcode, 1, timeoutNanos);
+            if (worker < 0) {
+                return false;
+            }
+            publishTo(routing, worker, hashcode, translator, arg);
+            return true;
+        } finally {
+            gate.exit(routing.version);
+        }
+    }
+
+    private <A> void _publishEvent(int hashcode, EventTranslatorOneArg<T, A> translator, A arg) {
+        checkLiveness();
+        ProducerStallEvent stall = ProducerStallEvent.beginIfEnabled();
+        Routing<T> routing = enter();
+        try {
+            int worker = routing.index(hashcode, 1);
+            publishTo(routing, worker, hashcode, translator, arg);
+            if (stall != null) stall.end(name, worker, hashcode, 1);
+        } finally {
+            gate.exit(routing.version);
         }
+    }
 
-        for (int i = 0; i < nodeCount; i++) {
-            nodes[i] = new WorkerNode<>(workers[i % workerCount]);
+    private <A> void _publishEvents(int hashcode, EventTranslatorOneArg<T, A> translator, A[] args) {
+        checkLiveness();
+        ProducerStallEvent stall = ProducerStallEvent.beginIfEnabled();
+        Routing<T> routing = enter();
+        try {
+            int worker = routing.index(hashcode, args.length);
+            publishAllTo(routing, worker, hashcode, null, translator, args, 0, args.length);
+            if (stall != null) stall.end(name, worker, hashcode, args.length);
+        } finally {
+            gate.exit(routing.version);
         }
     }
 
-    private WorkerNode<T> selectNode(int hashcode) {
-        return nodes[hashcode & mask];
+    private void _publishLongs(int hashcode, LongTranslator<T> translator, long[] values) {
+        PrimitiveCarriers carriers = PrimitiveCarriers.get();
+        try {
+            for (int offset = 0; offset < values.length; offset += PrimitiveCarriers.CHUNK) {
+                int length = Math.min(PrimitiveCarriers.CHUNK, values.length - offset);
+                _publishEvents(hashcode, carriers.of(translator, values, offset), PrimitiveCarriers.INDEXES[length]);
+            }
+        } finally {
+            carriers.longBatchCarrier.clear();
+        }
+    }
+
+    private boolean sampleLatency() {
+        return latencySampleRate > 0 && (ThreadLocalRandom.current().nextInt() & (latencySampleRate - 1)) == 0;
+    }
+
+    /**
+     * With overflow, decides whether a publish of {@code count} events goes to the worker's overflow:
+     * if the overflow still holds events, or the ring has no room for them. Otherwise the events
+     * are claimed and go to the ring.
+     */
+    private boolean spills(Routing<T> routing, int worker, int count) {
+        return !overflows[worker].isEmpty() || !routing.handlers[worker].tryClaim(count);
+    }
+
+    /**
+     * Appends the event translated into the overflow's scratch event, dropping a latency stamp it
+     * may carry. Caller must hold the overflow's monitor.
+     */
+    private void spill(Routing<T> routing, int worker, Overflow<T> overflow) {
+        LatencyRecorder<T> latency = routing.handlers[worker].latency();
+        if (latency != null) {
+            latency.discarded(overflow.event());
+        }
+        overflow.append();
+    }
+
+    /**
+     * Wakes a worker that may be waiting on its empty ring after a spill, by publishing a marker
+     * it swallows before it looks at its overflow again.
+     */
+    private void wake(Routing<T> routing, int worker) {
+        DrainMarker marker = overflows[worker].wake(routing.handlers[worker]);
+        if (marker != null) {
+            routing.handlers[worker].register(marker);
+            routing.workers[worker].publishEvent(DrainMarker.translator(), marker);
+        }
+    }
+
+    /**
+     * Publishes a single event to the worker, the one path all single-event publishes take. A
+     * sampled publish is stamped for the worker's queueing delay histogram; if it fails, the
+     * stamp it claimed is given back.
+     */
+    private <A> void publishTo(Routing<T> routing, int worker, int hashcode, EventTranslatorOneArg<T, A> translator, A arg) {
+        if (sampleLatency()) {
+            LatencyRecorder<T> latency = routing.handlers[worker].latency();
+            EventTranslatorOneArg<T, A> stamping = latency.stamping(translator);
+            if (stamping != translator) {
+                try {
+                    deliver(routing, worker, hashcode, stamping, arg);
+                } catch (Throwable e) {
+                    latency.abandoned();
+                    throw e;
+                }
+                return;
+            }
+        }
+        deliver(routing, worker, hashcode, translator, arg);
+    }
+
+    /**
+     * Publishes a single event to the worker's ring. With journaling, the event is published
+     * while holding the worker's journal and appended to it, so that journal and ring order
+     * agree; its ring capacity is claimed before, so that a full ring is waited for outside
+     * the journal's monitor. With overflow, the event goes to the worker's overflow instead while it holds
+     * events or the ring is full.
+     */
+    private <A> void deliver(Routing<T> routing, int worker, int hashcode, EventTranslatorOneArg<T, A> translator, A arg) {
+        if (overflows != null && spills(routing, worker, 1)) {
+            Overflow<T> overflow = overflows[worker];
+            synchronized (overflow) {
+                translator.translateTo(overflow.event(), arg);
+                spill(routing, worker, overflow);
+            }
+            wake(routing, worker);
+        } else if (journals != null) {
+            Journal<T> journal = journals[worker];
+            routing.handlers[worker].reserve(1);
+            synchronized (journal) {
+                routing.workers[worker].publishEvent(journal.appending(hashcode, null, 0, translator), arg);
+                journal.flush();
+            }
+        } else {
+            routing.workers[worker].publishEvent(translator, arg);
+        }
+    }
+
+    /**
+     * Publishes the events of {@code args} from {@code from} to {@code to} to the worker's ring
+     * like {@link #deliver}, the one path all batch publishes take; batches are not stamped.
+     * With journaling, the i-th event is journaled with the i-th of {@code hashcodes}, or with
+     * {@code hashcode} if they are {@code null}. A slice short of the whole array is published
+     * in place, in chunks of up to {@link PrimitiveCarriers#CHUNK} events.
+     */
+    private <A> void publishAllTo(Routing<T> routing, int worker, int hashcode, int[] hashcodes, EventTranslatorOneArg<T, A> translator, A[] args, int from, int to) {
+        if (overflows != null && spills(routing, worker, to - from)) {
+            Overflow<T> overflow = overflows[worker];
+            synchronized (overflow) {
+                for (int i = from; i < to; i++) {
+                    translator.translateTo(overflow.event(), args[i]);
+                    spill(routing, worker, overflow);
+                }
+            }
+            wake(routing, worker);
+        } else if (from == 0 && to == args.length) {
+            deliverAll(routing, worker, hashcode, hashcodes, 0, translator, args);
+        } else {
+            SliceCarrier slice = PrimitiveCarriers.get().of(translator, args);
+            try {
+                for (int offset = from; offset < to; offset += PrimitiveCarriers.CHUNK) {
+                    int length = Math.min(PrimitiveCarriers.CHUNK, to - offset);
+                    deliverAll(routing, worker, hashcode, hashcodes, offset, slice.at(offset), PrimitiveCarriers.INDEXES[length]);
+                }
+            } finally {
+                slice.clear();
+            }
+        }
+    }
+
+    /**
+     * Publishes a batch to the worker's ring, journaled from the {@code first} of {@code hashcodes}.
+     */
+    private <A> void deliverAll(Routing<T> routing, int worker, int hashcode, int[] hashcodes, int first, EventTranslatorOneArg<T, A> translator, A[] args) {
+        if (journals != null) {
+            Journal<T> journal = journals[worker];
+            routing.handlers[worker].reserve(args.length);
+            synchronized (journal) {
+                routing.workers[worker].publishEvents(journal.appending(hashcode, hashcodes, first, translator), args);
+                journal.flush();
+            }
+        } else {
+            routing.workers[worker].publishEvents(translator, args);
+        }
+    }
+
+    /**
+     * Publishes one event per hash for the first {@code length} hashes and args. Indices are
+     * grouped by target worker with a stable counting sort into per-thread scratch arrays, so
+     * every worker receives its events as one slice, in their original relative order.
+     */
+    <A> void publishGrouped(int[] hashcodes, EventTranslatorOneArg<T, A> translator, A[] args, int length) {
+        checkLiveness();
+        if (length == 0) {
+            return;
+        }
+        Routing<T> routing = enter();
+        int workerCount = routing.workers.length;
+        GroupingScratch scratch = GroupingScratch.acquire(length, workerCount);
+        try {
+            int[] owners = scratch.owners;
+            int[] offsets = scratch.offsets;
+            for (int i = 0; i < length; i++) {
+                owners[i] = routing.index(hashcodes[i], 1);
+                offsets[owners[i] + 1]++;
+            }
+            for (int worker = 0; worker < workerCount; worker++) {
+                if (offsets[worker + 1] == length) {
+                    publishAllTo(routing, worker, 0, hashcodes, translator, args, 0, length);
+                    return;
+                }
+                offsets[worker + 1] += offsets[worker];
+            }
+
+            A[] grouped = (A[]) scratch.args;
+            int[] groupedHashcodes = journals != null ? scratch.hashcodes : null;
+            int[] positions = scratch.positions;
+            System.arraycopy(offsets, 0, positions, 0, workerCount);
+            for (int i = 0; i < length; i++) {
+                int position = positions[owners[i]]++;
+                grouped[position] = args[i];
+                if (groupedHashcodes != null) groupedHashcodes[position] = hashcodes[i];
+            }
+            for (int worker = 0; worker < workerCount; worker++) {
+                int from = offsets[worker];
+                int to = offsets[worker + 1];
+                if (from != to) {
+                    publishAllTo(routing, worker, 0, groupedHashcodes, translator, grouped, from, to);
+                }
+            }
+        } finally {
+            scratch.release(length);
+            gate.exit(routing.version);
+        }
+    }
+
+    private static void checkBatch(int keyCount, int argCount) {
+        if (keyCount != argCount) {
+            throw new IllegalArgumentException("Keys and args must have the same length: " + keyCount + " != " + argCount);
+        }
+    }
+
+    /**
+     * Publishes one event per key, each to the worker determined by the hash of its key.
+     * Events are grouped by worker and published as one batch per worker, keeping the order
+     * of events with the same key.
+     *
+     * @param keys       routing keys, one per event
+     * @param translator translator used to populate the events with data
+     * @param args       arguments passed to the translator, one per event
+     * @param <A>        type of the argument
+     */
+    public <A> void publishEvents(String[] keys, EventTranslatorOneArg<T, A> translator, A[] args) {
+        checkBatch(keys.length, args.length);
+        int[] hashcodes = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            hashcodes[i] = hash(keys[i], 1);
+        }
+        publishGrouped(hashcodes, translator, args, args.length);
+    }
+
+    /**
+     * Publishes one event per key, each to the worker determined by the hash of its key.
+     * Events are grouped by worker and published as one batch per worker, keeping the order
+     * of events with the same key.
+     *
+     * @param keys       routing keys, one per event
+     * @param translator translator used to populate the events with data
+     * @param args       arguments passed to the translator, one per event
+     * @param <A>        type of the argument
+     */
+    public <A> void publishEvents(int[] keys, EventTranslatorOneArg<T, A> translator, A[] args) {
+        checkBatch(keys.length, args.length);
+        int[] hashcodes = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            hashcodes[i] = hash(keys[i], 1);
+        }
+        publishGrouped(hashcodes, translator, args, args.length);
+    }
+
+    /**
+     * Publishes one event per key, each to the worker determined by the hash of its key.
+     * Events are grouped by worker and published as one batch per worker, keeping the order
+     * of events with the same key.
+     *
+     * @param keys       routing keys, one per event
+     * @param translator translator used to populate the events with data
+     * @param args       arguments passed to the translator, one per event
+     * @param <A>        type of the argument
+     */
+    public <A> void publishEvents(long[] keys, EventTranslatorOneArg<T, A> translator, A[] args) {
+        checkBatch(keys.length, args.length);
+        int[] hashcodes = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            hashcodes[i] = hash(keys[i], 1);
+        }
+        publishGrouped(hashcodes, translator, args, args.length);
+    }
+
+    /**
+     * Publishes one event per key, each to the worker determined by the hash of its key.
+     * Events are grouped by worker and published as one batch per worker, keeping the order
+     * of events with the same key.
+     *
+     * @param keys       routing keys, one per event
+     * @param translator translator used to populate the events with data
+     * @param args       arguments passed to the translator, one per event
+     * @param <A>        type of the argument
+     */
+    public <A> void publishEvents(byte[][] keys, EventTranslatorOneArg<T, A> translator, A[] args) {
+        checkBatch(keys.length, args.length);
+        int[] hashcodes = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            hashcodes[i] = hash(keys[i], 1);
+        }
+        publishGrouped(hashcodes, translator, args, args.length);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg        argument passed to the translator
+     * @param <A>        type of the argument
+     */
+    public <A> void publishEvent(String key, EventTranslatorOneArg<T, A> translator, A arg) {
+        _publishEvent(hash(key, 1), translator, arg);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg        argument passed to the translator
+     * @param <A>        type of the argument
+     */
+    public <A> void publishEvent(int key, EventTranslatorOneArg<T, A> translator, A arg) {
+        _publishEvent(hash(key, 1), translator, arg);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg        argument passed to the translator
+     * @param <A>        type of the argument
+     */
+    public <A> void publishEvent(long key, EventTranslatorOneArg<T, A> translator, A arg) {
+        _publishEvent(hash(key, 1), translator, arg);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg        argument passed to the translator
+     * @param <A>        type of the argument
+     */
+    public <A> void publishEvent(byte[] key, EventTranslatorOneArg<T, A> translator, A arg) {
+        _publishEvent(hash(key, 1), translator, arg);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of a slice of the given array,
+     * routed like a copy of the slice without copying it.
+     *
+     * @param key        array holding the routing key
+     * @param offset     index of the first key byte
+     * @param length     number of key bytes
+     * @param translator translator used to populate the event with data
+     * @param arg        argument passed to the translator
+     * @param <A>        type of the argument
+     */
+    public <A> void publishEvent(byte[] key, int offset, int length, EventTranslatorOneArg<T, A> translator, A arg) {
+        _publishEvent(hash(key, offset, length, 1), translator, arg);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of bytes of the given buffer,
+     * heap or direct, routed like a {@code byte[]} copy of them without copying them. The buffer's
+     * position and limit are left unchanged.
+     *
+     * @param key        buffer holding the routing key
+     * @param offset     absolute index of the first key byte
+     * @param length     number of key bytes
+     * @param translator translator used to populate the event with data
+     * @param arg        argument passed to the translator
+     * @param <A>        type of the argument
+     */
+    public <A> void publishEvent(ByteBuffer key, int offset, int length, EventTranslatorOneArg<T, A> translator, A arg) {
+        _publishEvent(hash(key, offset, length, 1), translator, arg);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of a range of the given characters,
+     * routed like the equal {@link String} without building it.
+     *
+     * @param key        characters holding the routing key
+     * @param start      index of the first key character
+     * @param end        index after the last key character
+     * @param translator translator used to populate the event with data
+     * @param arg        argument passed to the translator
+     * @param <A>        type of the argument
+     */
+    public <A> void publishEvent(CharSequence key, int start, int end, EventTranslatorOneArg<T, A> translator, A arg) {
+        _publishEvent(hash(key, start, end, 1), translator, arg);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of a 128-bit key held as two longs,
+     * e.g. the bits of a {@link java.util.UUID}.
+     *
+     * @param mostSignificantBits  high 64 bits of the routing key
+     * @param leastSignificantBits low 64 bits of the routing key
+     * @param translator           translator used to populate the event with data
+     * @param arg                  argument passed to the translator
+     * @param <A>                  type of the argument
+     */
+    public <A> void publishEvent(long mostSignificantBits, long leastSignificantBits, EventTranslatorOneArg<T, A> translator, A arg) {
+        _publishEvent(hash(mostSignificantBits, leastSignificantBits, 1), translator, arg);
+    }
+
+    /**
+     * Publishes an event batch to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param args       arguments passed to the translator
+     * @param <A>        type of the argument
+     */
+    public <A> void publishEvents(String key, EventTranslatorOneArg<T, A> translator, A[] args) {
+        _publishEvents(hash(key, args.length), translator, args);
+    }
+
+    /**
+     * Publishes an event batch to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param args       arguments passed to the translator
+     * @param <A>        type of the argument
+     */
+    public <A> void publishEvents(int key, EventTranslatorOneArg<T, A> translator, A[] args) {
+        _publishEvents(hash(key, args.length), translator, args);
+    }
+
+    /**
+     * Publishes an event batch to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param args       arguments passed to the translator
+     * @param <A>        type of the argument
+     */
+    public <A> void publishEvents(long key, EventTranslatorOneArg<T, A> translator, A[] args) {
+        _publishEvents(hash(key, args.length), translator, args);
+    }
+
+    /**
+     * Publishes an event batch to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param args       arguments passed to the translator
+     * @param <A>        type of the argument
+     */
+    public <A> void publishEvents(byte[] key, EventTranslatorOneArg<T, A> translator, A[] args) {
+        _publishEvents(hash(key, args.length), translator, args);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     */
+    public <A, B> void publishEvent(String key, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        _publishEvent(hash(key, 1), translator, arg0, arg1);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     */
+    public <A, B> void publishEvent(int key, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        _publishEvent(hash(key, 1), translator, arg0, arg1);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     */
+    public <A, B> void publishEvent(long key, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        _publishEvent(hash(key, 1), translator, arg0, arg1);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     */
+    public <A, B> void publishEvent(byte[] key, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        _publishEvent(hash(key, 1), translator, arg0, arg1);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of a slice of the given array,
+     * routed like a copy of the slice without copying it.
+     *
+     * @param key        array holding the routing key
+     * @param offset     index of the first key byte
+     * @param length     number of key bytes
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     */
+    public <A, B> void publishEvent(byte[] key, int offset, int length, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        _publishEvent(hash(key, offset, length, 1), translator, arg0, arg1);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of bytes of the given buffer,
+     * heap or direct, routed like a {@code byte[]} copy of them without copying them. The buffer's
+     * position and limit are left unchanged.
+     *
+     * @param key        buffer holding the routing key
+     * @param offset     absolute index of the first key byte
+     * @param length     number of key bytes
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     */
+    public <A, B> void publishEvent(ByteBuffer key, int offset, int length, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        _publishEvent(hash(key, offset, length, 1), translator, arg0, arg1);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of a range of the given characters,
+     * routed like the equal {@link String} without building it.
+     *
+     * @param key        characters holding the routing key
+     * @param start      index of the first key character
+     * @param end        index after the last key character
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     */
+    public <A, B> void publishEvent(CharSequence key, int start, int end, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        _publishEvent(hash(key, start, end, 1), translator, arg0, arg1);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of a 128-bit key held as two longs,
+     * e.g. the bits of a {@link java.util.UUID}.
+     *
+     * @param mostSignificantBits  high 64 bits of the routing key
+     * @param leastSignificantBits low 64 bits of the routing key
+     * @param translator           translator used to populate the event with data
+     * @param arg0                 1st argument passed to the translator
+     * @param arg1                 2nd argument passed to the translator
+     * @param <A>                  type of the 1st argument
+     * @param <B>                  type of the 2nd argument
+     */
+    public <A, B> void publishEvent(long mostSignificantBits, long leastSignificantBits, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        _publishEvent(hash(mostSignificantBits, leastSignificantBits, 1), translator, arg0, arg1);
+    }
+
+    /**
+     * Publishes an event batch to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st arguments passed to the translator
+     * @param arg1       2nd arguments passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     */
+    public <A, B> void publishEvents(String key, EventTranslatorTwoArg<T, A, B> translator, A[] arg0, B[] arg1) {
+        _publishEvents(hash(key, arg0.length), translator, arg0, arg1);
+    }
+
+    /**
+     * Publishes an event batch to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st arguments passed to the translator
+     * @param arg1       2nd arguments passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     */
+    public <A, B> void publishEvents(int key, EventTranslatorTwoArg<T, A, B> translator, A[] arg0, B[] arg1) {
+        _publishEvents(hash(key, arg0.length), translator, arg0, arg1);
+    }
+
+    /**
+     * Publishes an event batch to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st arguments passed to the translator
+     * @param arg1       2nd arguments passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     */
+    public <A, B> void publishEvents(long key, EventTranslatorTwoArg<T, A, B> translator, A[] arg0, B[] arg1) {
+        _publishEvents(hash(key, arg0.length), translator, arg0, arg1);
+    }
+
+    /**
+     * Publishes an event batch to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st arguments passed to the translator
+     * @param arg1       2nd arguments passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     */
+    public <A, B> void publishEvents(byte[] key, EventTranslatorTwoArg<T, A, B> translator, A[] arg0, B[] arg1) {
+        _publishEvents(hash(key, arg0.length), translator, arg0, arg1);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     */
+    public <A, B, C> void publishEvent(String key, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        _publishEvent(hash(key, 1), translator, arg0, arg1, arg2);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     */
+    public <A, B, C> void publishEvent(int key, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        _publishEvent(hash(key, 1), translator, arg0, arg1, arg2);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     */
+    public <A, B, C> void publishEvent(long key, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        _publishEvent(hash(key, 1), translator, arg0, arg1, arg2);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     */
+    public <A, B, C> void publishEvent(byte[] key, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        _publishEvent(hash(key, 1), translator, arg0, arg1, arg2);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of a slice of the given array,
+     * routed like a copy of the slice without copying it.
+     *
+     * @param key        array holding the routing key
+     * @param offset     index of the first key byte
+     * @param length     number of key bytes
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     */
+    public <A, B, C> void publishEvent(byte[] key, int offset, int length, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        _publishEvent(hash(key, offset, length, 1), translator, arg0, arg1, arg2);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of bytes of the given buffer,
+     * heap or direct, routed like a {@code byte[]} copy of them without copying them. The buffer's
+     * position and limit are left unchanged.
+     *
+     * @param key        buffer holding the routing key
+     * @param offset     absolute index of the first key byte
+     * @param length     number of key bytes
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     */
+    public <A, B, C> void publishEvent(ByteBuffer key, int offset, int length, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        _publishEvent(hash(key, offset, length, 1), translator, arg0, arg1, arg2);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of a range of the given characters,
+     * routed like the equal {@link String} without building it.
+     *
+     * @param key        characters holding the routing key
+     * @param start      index of the first key character
+     * @param end        index after the last key character
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     */
+    public <A, B, C> void publishEvent(CharSequence key, int start, int end, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        _publishEvent(hash(key, start, end, 1), translator, arg0, arg1, arg2);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of a 128-bit key held as two longs,
+     * e.g. the bits of a {@link java.util.UUID}.
+     *
+     * @param mostSignificantBits  high 64 bits of the routing key
+     * @param leastSignificantBits low 64 bits of the routing key
+     * @param translator           translator used to populate the event with data
+     * @param arg0                 1st argument passed to the translator
+     * @param arg1                 2nd argument passed to the translator
+     * @param arg2                 3rd argument passed to the translator
+     * @param <A>                  type of the 1st argument
+     * @param <B>                  type of the 2nd argument
+     * @param <C>                  type of the 3rd argument
+     */
+    public <A, B, C> void publishEvent(long mostSignificantBits, long leastSignificantBits, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        _publishEvent(hash(mostSignificantBits, leastSignificantBits, 1), translator, arg0, arg1, arg2);
+    }
+
+    /**
+     * Publishes an event batch to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st arguments passed to the translator
+     * @param arg1       2nd arguments passed to the translator
+     * @param arg2       3rd arguments passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     */
+    public <A, B, C> void publishEvents(String key, EventTranslatorThreeArg<T, A, B, C> translator, A[] arg0, B[] arg1, C[] arg2) {
+        _publishEvents(hash(key, arg0.length), translator, arg0, arg1, arg2);
+    }
+
+    /**
+     * Publishes an event batch to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st arguments passed to the translator
+     * @param arg1       2nd arguments passed to the translator
+     * @param arg2       3rd arguments passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     */
+    public <A, B, C> void publishEvents(int key, EventTranslatorThreeArg<T, A, B, C> translator, A[] arg0, B[] arg1, C[] arg2) {
+        _publishEvents(hash(key, arg0.length), translator, arg0, arg1, arg2);
+    }
+
+    /**
+     * Publishes an event batch to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st arguments passed to the translator
+     * @param arg1       2nd arguments passed to the translator
+     * @param arg2       3rd arguments passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     */
+    public <A, B, C> void publishEvents(long key, EventTranslatorThreeArg<T, A, B, C> translator, A[] arg0, B[] arg1, C[] arg2) {
+        _publishEvents(hash(key, arg0.length), translator, arg0, arg1, arg2);
+    }
+
+    /**
+     * Publishes an event batch to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st arguments passed to the translator
+     * @param arg1       2nd arguments passed to the translator
+     * @param arg2       3rd arguments passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     */
+    public <A, B, C> void publishEvents(byte[] key, EventTranslatorThreeArg<T, A, B, C> translator, A[] arg0, B[] arg1, C[] arg2) {
+        _publishEvents(hash(key, arg0.length), translator, arg0, arg1, arg2);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     */
+    public <A, B, C, D> void publishEvent(String key, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        _publishEvent(hash(key, 1), translator, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     */
+    public <A, B, C, D> void publishEvent(int key, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        _publishEvent(hash(key, 1), translator, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     */
+    public <A, B, C, D> void publishEvent(long key, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        _publishEvent(hash(key, 1), translator, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     */
+    public <A, B, C, D> void publishEvent(byte[] key, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        _publishEvent(hash(key, 1), translator, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of a slice of the given array,
+     * routed like a copy of the slice without copying it.
+     *
+     * @param key        array holding the routing key
+     * @param offset     index of the first key byte
+     * @param length     number of key bytes
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     */
+    public <A, B, C, D> void publishEvent(byte[] key, int offset, int length, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        _publishEvent(hash(key, offset, length, 1), translator, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of bytes of the given buffer,
+     * heap or direct, routed like a {@code byte[]} copy of them without copying them. The buffer's
+     * position and limit are left unchanged.
+     *
+     * @param key        buffer holding the routing key
+     * @param offset     absolute index of the first key byte
+     * @param length     number of key bytes
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     */
+    public <A, B, C, D> void publishEvent(ByteBuffer key, int offset, int length, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        _publishEvent(hash(key, offset, length, 1), translator, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of a range of the given characters,
+     * routed like the equal {@link String} without building it.
+     *
+     * @param key        characters holding the routing key
+     * @param start      index of the first key character
+     * @param end        index after the last key character
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     */
+    public <A, B, C, D> void publishEvent(CharSequence key, int start, int end, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        _publishEvent(hash(key, start, end, 1), translator, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of a 128-bit key held as two longs,
+     * e.g. the bits of a {@link java.util.UUID}.
+     *
+     * @param mostSignificantBits  high 64 bits of the routing key
+     * @param leastSignificantBits low 64 bits of the routing key
+     * @param translator           translator used to populate the event with data
+     * @param arg0                 1st argument passed to the translator
+     * @param arg1                 2nd argument passed to the translator
+     * @param arg2                 3rd argument passed to the translator
+     * @param arg3                 4th argument passed to the translator
+     * @param <A>                  type of the 1st argument
+     * @param <B>                  type of the 2nd argument
+     * @param <C>                  type of the 3rd argument
+     * @param <D>                  type of the 4th argument
+     */
+    public <A, B, C, D> void publishEvent(long mostSignificantBits, long leastSignificantBits, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        _publishEvent(hash(mostSignificantBits, leastSignificantBits, 1), translator, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Publishes an event batch to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st arguments passed to the translator
+     * @param arg1       2nd arguments passed to the translator
+     * @param arg2       3rd arguments passed to the translator
+     * @param arg3       4th arguments passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     */
+    public <A, B, C, D> void publishEvents(String key, EventTranslatorFourArg<T, A, B, C, D> translator, A[] arg0, B[] arg1, C[] arg2, D[] arg3) {
+        _publishEvents(hash(key, arg0.length), translator, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Publishes an event batch to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st arguments passed to the translator
+     * @param arg1       2nd arguments passed to the translator
+     * @param arg2       3rd arguments passed to the translator
+     * @param arg3       4th arguments passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     */
+    public <A, B, C, D> void publishEvents(int key, EventTranslatorFourArg<T, A, B, C, D> translator, A[] arg0, B[] arg1, C[] arg2, D[] arg3) {
+        _publishEvents(hash(key, arg0.length), translator, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Publishes an event batch to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st arguments passed to the translator
+     * @param arg1       2nd arguments passed to the translator
+     * @param arg2       3rd arguments passed to the translator
+     * @param arg3       4th arguments passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     */
+    public <A, B, C, D> void publishEvents(long key, EventTranslatorFourArg<T, A, B, C, D> translator, A[] arg0, B[] arg1, C[] arg2, D[] arg3) {
+        _publishEvents(hash(key, arg0.length), translator, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Publishes an event batch to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st arguments passed to the translator
+     * @param arg1       2nd arguments passed to the translator
+     * @param arg2       3rd arguments passed to the translator
+     * @param arg3       4th arguments passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     */
+    public <A, B, C, D> void publishEvents(byte[] key, EventTranslatorFourArg<T, A, B, C, D> translator, A[] arg0, B[] arg1, C[] arg2, D[] arg3) {
+        _publishEvents(hash(key, arg0.length), translator, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     */
+    public <A, B, C, D, E> void publishEvent(String key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        _publishEvent(hash(key, 1), translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     */
+    public <A, B, C, D, E> void publishEvent(int key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        _publishEvent(hash(key, 1), translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     */
+    public <A, B, C, D, E> void publishEvent(long key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        _publishEvent(hash(key, 1), translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     */
+    public <A, B, C, D, E> void publishEvent(byte[] key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        _publishEvent(hash(key, 1), translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of a slice of the given array,
+     * routed like a copy of the slice without copying it.
+     *
+     * @param key        array holding the routing key
+     * @param offset     index of the first key byte
+     * @param length     number of key bytes
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param arg4       5th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     */
+    public <A, B, C, D, E> void publishEvent(byte[] key, int offset, int length, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        _publishEvent(hash(key, offset, length, 1), translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of bytes of the given buffer,
+     * heap or direct, routed like a {@code byte[]} copy of them without copying them. The buffer's
+     * position and limit are left unchanged.
+     *
+     * @param key        buffer holding the routing key
+     * @param offset     absolute index of the first key byte
+     * @param length     number of key bytes
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param arg4       5th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     */
+    public <A, B, C, D, E> void publishEvent(ByteBuffer key, int offset, int length, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        _publishEvent(hash(key, offset, length, 1), translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of a range of the given characters,
+     * routed like the equal {@link String} without building it.
+     *
+     * @param key        characters holding the routing key
+     * @param start      index of the first key character
+     * @param end        index after the last key character
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param arg4       5th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     */
+    public <A, B, C, D, E> void publishEvent(CharSequence key, int start, int end, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        _publishEvent(hash(key, start, end, 1), translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of a 128-bit key held as two longs,
+     * e.g. the bits of a {@link java.util.UUID}.
+     *
+     * @param mostSignificantBits  high 64 bits of the routing key
+     * @param leastSignificantBits low 64 bits of the routing key
+     * @param translator           translator used to populate the event with data
+     * @param arg0                 1st argument passed to the translator
+     * @param arg1                 2nd argument passed to the translator
+     * @param arg2                 3rd argument passed to the translator
+     * @param arg3                 4th argument passed to the translator
+     * @param arg4                 5th argument passed to the translator
+     * @param <A>                  type of the 1st argument
+     * @param <B>                  type of the 2nd argument
+     * @param <C>                  type of the 3rd argument
+     * @param <D>                  type of the 4th argument
+     * @param <E>                  type of the 5th argument
+     */
+    public <A, B, C, D, E> void publishEvent(long mostSignificantBits, long leastSignificantBits, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        _publishEvent(hash(mostSignificantBits, leastSignificantBits, 1), translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Publishes an event batch to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st arguments passed to the translator
+     * @param arg1       2nd arguments passed to the translator
+     * @param arg2       3rd arguments passed to the translator
+     * @param arg3       4th arguments passed to the translator
+     * @param arg4       5th arguments passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     */
+    public <A, B, C, D, E> void publishEvents(String key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A[] arg0, B[] arg1, C[] arg2, D[] arg3, E[] arg4) {
+        _publishEvents(hash(key, arg0.length), translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Publishes an event batch to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st arguments passed to the translator
+     * @param arg1       2nd arguments passed to the translator
+     * @param arg2       3rd arguments passed to the translator
+     * @param arg3       4th arguments passed to the translator
+     * @param arg4       5th arguments passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     */
+    public <A, B, C, D, E> void publishEvents(int key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A[] arg0, B[] arg1, C[] arg2, D[] arg3, E[] arg4) {
+        _publishEvents(hash(key, arg0.length), translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Publishes an event batch to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st arguments passed to the translator
+     * @param arg1       2nd arguments passed to the translator
+     * @param arg2       3rd arguments passed to the translator
+     * @param arg3       4th arguments passed to the translator
+     * @param arg4       5th arguments passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     */
+    public <A, B, C, D, E> void publishEvents(long key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A[] arg0, B[] arg1, C[] arg2, D[] arg3, E[] arg4) {
+        _publishEvents(hash(key, arg0.length), translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Publishes an event batch to the worker determined by the hash of the given key.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st arguments passed to the translator
+     * @param arg1       2nd arguments passed to the translator
+     * @param arg2       3rd arguments passed to the translator
+     * @param arg3       4th arguments passed to the translator
+     * @param arg4       5th arguments passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     */
+    public <A, B, C, D, E> void publishEvents(byte[] key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A[] arg0, B[] arg1, C[] arg2, D[] arg3, E[] arg4) {
+        _publishEvents(hash(key, arg0.length), translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Publishes an event batch to the worker determined by the hash of the given key.
+     *
+     * @deprecated misnamed batch overload, use
+     * {@link #publishEvents(String, EventTranslatorFiveArg, Object[], Object[], Object[], Object[], Object[])}
+     */
+    @Deprecated
+    public <A, B, C, D, E> void publishEvent(String key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A[] arg0, B[] arg1, C[] arg2, D[] arg3, E[] arg4) {
+        publishEvents(key, translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Publishes an event batch to the worker determined by the hash of the given key.
+     *
+     * @deprecated misnamed batch overload, use
+     * {@link #publishEvents(int, EventTranslatorFiveArg, Object[], Object[], Object[], Object[], Object[])}
+     */
+    @Deprecated
+    public <A, B, C, D, E> void publishEvent(int key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A[] arg0, B[] arg1, C[] arg2, D[] arg3, E[] arg4) {
+        publishEvents(key, translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Publishes an event batch to the worker determined by the hash of the given key.
+     *
+     * @deprecated misnamed batch overload, use
+     * {@link #publishEvents(long, EventTranslatorFiveArg, Object[], Object[], Object[], Object[], Object[])}
+     */
+    @Deprecated
+    public <A, B, C, D, E> void publishEvent(long key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A[] arg0, B[] arg1, C[] arg2, D[] arg3, E[] arg4) {
+        publishEvents(key, translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Publishes an event batch to the worker determined by the hash of the given key.
+     *
+     * @deprecated misnamed batch overload, use
+     * {@link #publishEvents(byte[], EventTranslatorFiveArg, Object[], Object[], Object[], Object[], Object[])}
+     */
+    @Deprecated
+    public <A, B, C, D, E> void publishEvent(byte[] key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A[] arg0, B[] arg1, C[] arg2, D[] arg3, E[] arg4) {
+        publishEvents(key, translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Publishes a request event to the worker determined by the hash of the given key and
+     * returns a pooled handle for its reply. The translator stores the handle in a reply slot
+     * of the event, and the handler completes it. See {@link Reply}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator populating the event with the reply handle and the data
+     * @param arg        argument passed to the translator
+     * @param <R>        type of the reply
+     * @param <A>        type of the argument
+     * @return the reply handle, to be awaited and closed or given a callback
+     */
+    public <R, A> Reply<R> call(String key, EventTranslatorTwoArg<T, Reply<R>, A> translator, A arg) {
+        Reply<R> reply = replies.acquire();
+        _publishEvent(hash(key, 1), translator, reply, arg);
+        return reply;
+    }
+
+    /**
+     * Publishes a request event to the worker determined by the hash of the given key and
+     * returns a pooled handle for its reply. The translator stores the handle in a reply slot
+     * of the event, and the handler completes it. See {@link Reply}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator populating the event with the reply handle and the data
+     * @param arg        argument passed to the translator
+     * @param <R>        type of the reply
+     * @param <A>        type of the argument
+     * @return the reply handle, to be awaited and closed or given a callback
+     */
+    public <R, A> Reply<R> call(int key, EventTranslatorTwoArg<T, Reply<R>, A> translator, A arg) {
+        Reply<R> reply = replies.acquire();
+        _publishEvent(hash(key, 1), translator, reply, arg);
+        return reply;
+    }
+
+    /**
+     * Publishes a request event to the worker determined by the hash of the given key and
+     * returns a pooled handle for its reply. The translator stores the handle in a reply slot
+     * of the event, and the handler completes it. See {@link Reply}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator populating the event with the reply handle and the data
+     * @param arg        argument passed to the translator
+     * @param <R>        type of the reply
+     * @param <A>        type of the argument
+     * @return the reply handle, to be awaited and closed or given a callback
+     */
+    public <R, A> Reply<R> call(long key, EventTranslatorTwoArg<T, Reply<R>, A> translator, A arg) {
+        Reply<R> reply = replies.acquire();
+        _publishEvent(hash(key, 1), translator, reply, arg);
+        return reply;
+    }
+
+    /**
+     * Publishes a request event to the worker determined by the hash of the given key and
+     * returns a pooled handle for its reply. The translator stores the handle in a reply slot
+     * of the event, and the handler completes it. See {@link Reply}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator populating the event with the reply handle and the data
+     * @param arg        argument passed to the translator
+     * @param <R>        type of the reply
+     * @param <A>        type of the argument
+     * @return the reply handle, to be awaited and closed or given a callback
+     */
+    public <R, A> Reply<R> call(byte[] key, EventTranslatorTwoArg<T, Reply<R>, A> translator, A arg) {
+        Reply<R> reply = replies.acquire();
+        _publishEvent(hash(key, 1), translator, reply, arg);
+        return reply;
+    }
+
+    /**
+     * Publishes a request event to the worker determined by the hash of the given key and
+     * returns a pooled handle for its reply. The translator stores the handle in a reply slot
+     * of the event, and the handler completes it. See {@link Reply}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator populating the event with the reply handle and the data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <R>        type of the reply
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @return the reply handle, to be awaited and closed or given a callback
+     */
+    public <R, A, B> Reply<R> call(String key, EventTranslatorThreeArg<T, Reply<R>, A, B> translator, A arg0, B arg1) {
+        Reply<R> reply = replies.acquire();
+        _publishEvent(hash(key, 1), translator, reply, arg0, arg1);
+        return reply;
+    }
+
+    /**
+     * Publishes a request event to the worker determined by the hash of the given key and
+     * returns a pooled handle for its reply. The translator stores the handle in a reply slot
+     * of the event, and the handler completes it. See {@link Reply}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator populating the event with the reply handle and the data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <R>        type of the reply
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @return the reply handle, to be awaited and closed or given a callback
+     */
+    public <R, A, B> Reply<R> call(int key, EventTranslatorThreeArg<T, Reply<R>, A, B> translator, A arg0, B arg1) {
+        Reply<R> reply = replies.acquire();
+        _publishEvent(hash(key, 1), translator, reply, arg0, arg1);
+        return reply;
+    }
+
+    /**
+     * Publishes a request event to the worker determined by the hash of the given key and
+     * returns a pooled handle for its reply. The translator stores the handle in a reply slot
+     * of the event, and the handler completes it. See {@link Reply}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator populating the event with the reply handle and the data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <R>        type of the reply
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @return the reply handle, to be awaited and closed or given a callback
+     */
+    public <R, A, B> Reply<R> call(long key, EventTranslatorThreeArg<T, Reply<R>, A, B> translator, A arg0, B arg1) {
+        Reply<R> reply = replies.acquire();
+        _publishEvent(hash(key, 1), translator, reply, arg0, arg1);
+        return reply;
+    }
+
+    /**
+     * Publishes a request event to the worker determined by the hash of the given key and
+     * returns a pooled handle for its reply. The translator stores the handle in a reply slot
+     * of the event, and the handler completes it. See {@link Reply}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator populating the event with the reply handle and the data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <R>        type of the reply
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @return the reply handle, to be awaited and closed or given a callback
+     */
+    public <R, A, B> Reply<R> call(byte[] key, EventTranslatorThreeArg<T, Reply<R>, A, B> translator, A arg0, B arg1) {
+        Reply<R> reply = replies.acquire();
+        _publishEvent(hash(key, 1), translator, reply, arg0, arg1);
+        return reply;
+    }
+
+    /**
+     * Publishes a request event to the worker determined by the hash of the given key and
+     * returns a pooled handle for its reply. The translator stores the handle in a reply slot
+     * of the event, and the handler completes it. See {@link Reply}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator populating the event with the reply handle and the data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <R>        type of the reply
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @return the reply handle, to be awaited and closed or given a callback
+     */
+    public <R, A, B, C> Reply<R> call(String key, EventTranslatorFourArg<T, Reply<R>, A, B, C> translator, A arg0, B arg1, C arg2) {
+        Reply<R> reply = replies.acquire();
+        _publishEvent(hash(key, 1), translator, reply, arg0, arg1, arg2);
+        return reply;
+    }
+
+    /**
+     * Publishes a request event to the worker determined by the hash of the given key and
+     * returns a pooled handle for its reply. The translator stores the handle in a reply slot
+     * of the event, and the handler completes it. See {@link Reply}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator populating the event with the reply handle and the data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <R>        type of the reply
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @return the reply handle, to be awaited and closed or given a callback
+     */
+    public <R, A, B, C> Reply<R> call(int key, EventTranslatorFourArg<T, Reply<R>, A, B, C> translator, A arg0, B arg1, C arg2) {
+        Reply<R> reply = replies.acquire();
+        _publishEvent(hash(key, 1), translator, reply, arg0, arg1, arg2);
+        return reply;
+    }
+
+    /**
+     * Publishes a request event to the worker determined by the hash of the given key and
+     * returns a pooled handle for its reply. The translator stores the handle in a reply slot
+     * of the event, and the handler completes it. See {@link Reply}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator populating the event with the reply handle and the data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <R>        type of the reply
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @return the reply handle, to be awaited and closed or given a callback
+     */
+    public <R, A, B, C> Reply<R> call(long key, EventTranslatorFourArg<T, Reply<R>, A, B, C> translator, A arg0, B arg1, C arg2) {
+        Reply<R> reply = replies.acquire();
+        _publishEvent(hash(key, 1), translator, reply, arg0, arg1, arg2);
+        return reply;
+    }
+
+    /**
+     * Publishes a request event to the worker determined by the hash of the given key and
+     * returns a pooled handle for its reply. The translator stores the handle in a reply slot
+     * of the event, and the handler completes it. See {@link Reply}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator populating the event with the reply handle and the data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <R>        type of the reply
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @return the reply handle, to be awaited and closed or given a callback
+     */
+    public <R, A, B, C> Reply<R> call(byte[] key, EventTranslatorFourArg<T, Reply<R>, A, B, C> translator, A arg0, B arg1, C arg2) {
+        Reply<R> reply = replies.acquire();
+        _publishEvent(hash(key, 1), translator, reply, arg0, arg1, arg2);
+        return reply;
+    }
+
+    /**
+     * Publishes a request event to the worker determined by the hash of the given key and
+     * returns a pooled handle for its reply. The translator stores the handle in a reply slot
+     * of the event, and the handler completes it. See {@link Reply}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator populating the event with the reply handle and the data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <R>        type of the reply
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @return the reply handle, to be awaited and closed or given a callback
+     */
+    public <R, A, B, C, D> Reply<R> call(String key, EventTranslatorFiveArg<T, Reply<R>, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        Reply<R> reply = replies.acquire();
+        _publishEvent(hash(key, 1), translator, reply, arg0, arg1, arg2, arg3);
+        return reply;
+    }
+
+    /**
+     * Publishes a request event to the worker determined by the hash of the given key and
+     * returns a pooled handle for its reply. The translator stores the handle in a reply slot
+     * of the event, and the handler completes it. See {@link Reply}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator populating the event with the reply handle and the data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <R>        type of the reply
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @return the reply handle, to be awaited and closed or given a callback
+     */
+    public <R, A, B, C, D> Reply<R> call(int key, EventTranslatorFiveArg<T, Reply<R>, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        Reply<R> reply = replies.acquire();
+        _publishEvent(hash(key, 1), translator, reply, arg0, arg1, arg2, arg3);
+        return reply;
+    }
+
+    /**
+     * Publishes a request event to the worker determined by the hash of the given key and
+     * returns a pooled handle for its reply. The translator stores the handle in a reply slot
+     * of the event, and the handler completes it. See {@link Reply}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator populating the event with the reply handle and the data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <R>        type of the reply
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @return the reply handle, to be awaited and closed or given a callback
+     */
+    public <R, A, B, C, D> Reply<R> call(long key, EventTranslatorFiveArg<T, Reply<R>, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        Reply<R> reply = replies.acquire();
+        _publishEvent(hash(key, 1), translator, reply, arg0, arg1, arg2, arg3);
+        return reply;
+    }
+
+    /**
+     * Publishes a request event to the worker determined by the hash of the given key and
+     * returns a pooled handle for its reply. The translator stores the handle in a reply slot
+     * of the event, and the handler completes it. See {@link Reply}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator populating the event with the reply handle and the data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <R>        type of the reply
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @return the reply handle, to be awaited and closed or given a callback
+     */
+    public <R, A, B, C, D> Reply<R> call(byte[] key, EventTranslatorFiveArg<T, Reply<R>, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        Reply<R> reply = replies.acquire();
+        _publishEvent(hash(key, 1), translator, reply, arg0, arg1, arg2, arg3);
+        return reply;
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key
+     * if that worker's ring has room for it, without waiting.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg        argument passed to the translator
+     * @param <A>        type of the argument
+     * @return {@code true} if the event was published, {@code false} if the ring was full
+     */
+    public <A> boolean tryPublishEvent(String key, EventTranslatorOneArg<T, A> translator, A arg) {
+        return _tryPublishEvent(hash(key, 1), 0L, translator, arg);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key
+     * if that worker's ring has room for it, without waiting.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @return {@code true} if the event was published, {@code false} if the ring was full
+     */
+    public <A, B> boolean tryPublishEvent(String key, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        return _tryPublishEvent(hash(key, 1), 0L, translator, arg0, arg1);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key
+     * if that worker's ring has room for it, without waiting.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @return {@code true} if the event was published, {@code false} if the ring was full
+     */
+    public <A, B, C> boolean tryPublishEvent(String key, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        return _tryPublishEvent(hash(key, 1), 0L, translator, arg0, arg1, arg2);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key
+     * if that worker's ring has room for it, without waiting.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @return {@code true} if the event was published, {@code false} if the ring was full
+     */
+    public <A, B, C, D> boolean tryPublishEvent(String key, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        return _tryPublishEvent(hash(key, 1), 0L, translator, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key
+     * if that worker's ring has room for it, without waiting.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param arg4       5th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     * @return {@code true} if the event was published, {@code false} if the ring was full
+     */
+    public <A, B, C, D, E> boolean tryPublishEvent(String key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        return _tryPublishEvent(hash(key, 1), 0L, translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * waiting at most the given time for room in that worker's ring.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param timeout    maximum time to wait
+     * @param unit       unit of {@code timeout}
+     * @param translator translator used to populate the event with data
+     * @param arg        argument passed to the translator
+     * @param <A>        type of the argument
+     * @return {@code true} if the event was published, {@code false} if the timeout elapsed
+     */
+    public <A> boolean publishEvent(String key, long timeout, TimeUnit unit, EventTranslatorOneArg<T, A> translator, A arg) {
+        return _tryPublishEvent(hash(key, 1), unit.toNanos(timeout), translator, arg);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * waiting at most the given time for room in that worker's ring.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param timeout    maximum time to wait
+     * @param unit       unit of {@code timeout}
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @return {@code true} if the event was published, {@code false} if the timeout elapsed
+     */
+    public <A, B> boolean publishEvent(String key, long timeout, TimeUnit unit, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        return _tryPublishEvent(hash(key, 1), unit.toNanos(timeout), translator, arg0, arg1);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * waiting at most the given time for room in that worker's ring.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param timeout    maximum time to wait
+     * @param unit       unit of {@code timeout}
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @return {@code true} if the event was published, {@code false} if the timeout elapsed
+     */
+    public <A, B, C> boolean publishEvent(String key, long timeout, TimeUnit unit, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        return _tryPublishEvent(hash(key, 1), unit.toNanos(timeout), translator, arg0, arg1, arg2);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * waiting at most the given time for room in that worker's ring.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param timeout    maximum time to wait
+     * @param unit       unit of {@code timeout}
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @return {@code true} if the event was published, {@code false} if the timeout elapsed
+     */
+    public <A, B, C, D> boolean publishEvent(String key, long timeout, TimeUnit unit, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        return _tryPublishEvent(hash(key, 1), unit.toNanos(timeout), translator, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * waiting at most the given time for room in that worker's ring.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param timeout    maximum time to wait
+     * @param unit       unit of {@code timeout}
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param arg4       5th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     * @return {@code true} if the event was published, {@code false} if the timeout elapsed
+     */
+    public <A, B, C, D, E> boolean publishEvent(String key, long timeout, TimeUnit unit, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        return _tryPublishEvent(hash(key, 1), unit.toNanos(timeout), translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key
+     * if that worker's ring has room for it, without waiting.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg        argument passed to the translator
+     * @param <A>        type of the argument
+     * @return {@code true} if the event was published, {@code false} if the ring was full
+     */
+    public <A> boolean tryPublishEvent(int key, EventTranslatorOneArg<T, A> translator, A arg) {
+        return _tryPublishEvent(hash(key, 1), 0L, translator, arg);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key
+     * if that worker's ring has room for it, without waiting.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @return {@code true} if the event was published, {@code false} if the ring was full
+     */
+    public <A, B> boolean tryPublishEvent(int key, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        return _tryPublishEvent(hash(key, 1), 0L, translator, arg0, arg1);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key
+     * if that worker's ring has room for it, without waiting.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @return {@code true} if the event was published, {@code false} if the ring was full
+     */
+    public <A, B, C> boolean tryPublishEvent(int key, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        return _tryPublishEvent(hash(key, 1), 0L, translator, arg0, arg1, arg2);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key
+     * if that worker's ring has room for it, without waiting.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @return {@code true} if the event was published, {@code false} if the ring was full
+     */
+    public <A, B, C, D> boolean tryPublishEvent(int key, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        return _tryPublishEvent(hash(key, 1), 0L, translator, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key
+     * if that worker's ring has room for it, without waiting.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param arg4       5th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     * @return {@code true} if the event was published, {@code false} if the ring was full
+     */
+    public <A, B, C, D, E> boolean tryPublishEvent(int key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        return _tryPublishEvent(hash(key, 1), 0L, translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * waiting at most the given time for room in that worker's ring.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param timeout    maximum time to wait
+     * @param unit       unit of {@code timeout}
+     * @param translator translator used to populate the event with data
+     * @param arg        argument passed to the translator
+     * @param <A>        type of the argument
+     * @return {@code true} if the event was published, {@code false} if the timeout elapsed
+     */
+    public <A> boolean publishEvent(int key, long timeout, TimeUnit unit, EventTranslatorOneArg<T, A> translator, A arg) {
+        return _tryPublishEvent(hash(key, 1), unit.toNanos(timeout), translator, arg);
     }
 
     /**
-     * Starts all workers.
-     * Workers will begin consuming events from their ring buffers.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * waiting at most the given time for room in that worker's ring.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param timeout    maximum time to wait
+     * @param unit       unit of {@code timeout}
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @return {@code true} if the event was published, {@code false} if the timeout elapsed
      */
-    public void start() {
-        if (isAlive.compareAndSetVolatile(false, true)) {
-            for (Worker<T> worker : workers) worker.start();
-        }
+    public <A, B> boolean publishEvent(int key, long timeout, TimeUnit unit, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        return _tryPublishEvent(hash(key, 1), unit.toNanos(timeout), translator, arg0, arg1);
     }
 
     /**
-     * Shuts down all workers gracefully.
-     * Workers will stop consuming events and release resources.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * waiting at most the given time for room in that worker's ring.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param timeout    maximum time to wait
+     * @param unit       unit of {@code timeout}
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @return {@code true} if the event was published, {@code false} if the timeout elapsed
      */
-    public void shutdown() {
-        if (isAlive.compareAndSetVolatile(true, false)) {
-            for (Worker<T> worker : workers) worker.shutdown();
-        }
+    public <A, B, C> boolean publishEvent(int key, long timeout, TimeUnit unit, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        return _tryPublishEvent(hash(key, 1), unit.toNanos(timeout), translator, arg0, arg1, arg2);
     }
 
-    private void checkLiveness() {
-        if (!isAlive.getAcquire()) throw new WorkerServiceTerminatedException(name);
-    }
-
-    private <A> void _publishEvent(int hashcode, EventTranslatorOneArg<T, A> translator, A arg) {
-        checkLiveness();
-        WorkerNode<T> node = selectNode(hashcode);
-        node.publishEvent(translator, arg);
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * waiting at most the given time for room in that worker's ring.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param timeout    maximum time to wait
+     * @param unit       unit of {@code timeout}
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @return {@code true} if the event was published, {@code false} if the timeout elapsed
+     */
+    public <A, B, C, D> boolean publishEvent(int key, long timeout, TimeUnit unit, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        return _tryPublishEvent(hash(key, 1), unit.toNanos(timeout), translator, arg0, arg1, arg2, arg3);
     }
 
-    private <A> void _publishEvents(int hashcode, EventTranslatorOneArg<T, A> translator, A[] args) {
-        checkLiveness();
-        WorkerNode<T> node = selectNode(hashcode);
-        node.publishEvents(translator, args);
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * waiting at most the given time for room in that worker's ring.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param timeout    maximum time to wait
+     * @param unit       unit of {@code timeout}
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param arg4       5th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     * @return {@code true} if the event was published, {@code false} if the timeout elapsed
+     */
+    public <A, B, C, D, E> boolean publishEvent(int key, long timeout, TimeUnit unit, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        return _tryPublishEvent(hash(key, 1), unit.toNanos(timeout), translator, arg0, arg1, arg2, arg3, arg4);
     }
 
-    private <A, B> void _publishEvent(int hashcode, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
-        checkLiveness();
-        WorkerNode<T> node = selectNode(hashcode);
-        node.publishEvent(translator, arg0, arg1);
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key
+     * if that worker's ring has room for it, without waiting.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg        argument passed to the translator
+     * @param <A>        type of the argument
+     * @return {@code true} if the event was published, {@code false} if the ring was full
+     */
+    public <A> boolean tryPublishEvent(long key, EventTranslatorOneArg<T, A> translator, A arg) {
+        return _tryPublishEvent(hash(key, 1), 0L, translator, arg);
     }
 
-    private <A, B> void _publishEvents(int hashcode, EventTranslatorTwoArg<T, A, B> translator, A[] arg0, B[] arg1) {
-        checkLiveness();
-        WorkerNode<T> node = selectNode(hashcode);
-        node.publishEvents(translator, arg0, arg1);
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key
+     * if that worker's ring has room for it, without waiting.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @return {@code true} if the event was published, {@code false} if the ring was full
+     */
+    public <A, B> boolean tryPublishEvent(long key, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        return _tryPublishEvent(hash(key, 1), 0L, translator, arg0, arg1);
     }
 
-    private <A, B, C> void _publishEvent(int hashcode, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
-        checkLiveness();
-        WorkerNode<T> node = selectNode(hashcode);
-        node.publishEvent(translator, arg0, arg1, arg2);
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key
+     * if that worker's ring has room for it, without waiting.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @return {@code true} if the event was published, {@code false} if the ring was full
+     */
+    public <A, B, C> boolean tryPublishEvent(long key, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        return _tryPublishEvent(hash(key, 1), 0L, translator, arg0, arg1, arg2);
     }
 
-    private <A, B, C> void _publishEvents(int hashcode, EventTranslatorThreeArg<T, A, B, C> translator, A[] arg0, B[] arg1, C[] arg2) {
-        checkLiveness();
-        WorkerNode<T> node = selectNode(hashcode);
-        node.publishEvents(translator, arg0, arg1, arg2);
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key
+     * if that worker's ring has room for it, without waiting.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @return {@code true} if the event was published, {@code false} if the ring was full
+     */
+    public <A, B, C, D> boolean tryPublishEvent(long key, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        return _tryPublishEvent(hash(key, 1), 0L, translator, arg0, arg1, arg2, arg3);
     }
 
-    private <A, B, C, D> void _publishEvent(int hashcode, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
-        checkLiveness();
-        WorkerNode<T> node = selectNode(hashcode);
-        node.publishEvent(translator, arg0, arg1, arg2, arg3);
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key
+     * if that worker's ring has room for it, without waiting.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param arg4       5th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     * @return {@code true} if the event was published, {@code false} if the ring was full
+     */
+    public <A, B, C, D, E> boolean tryPublishEvent(long key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        return _tryPublishEvent(hash(key, 1), 0L, translator, arg0, arg1, arg2, arg3, arg4);
     }
 
-    private <A, B, C, D> void _publishEvents(int hashcode, EventTranslatorFourArg<T, A, B, C, D> translator, A[] arg0, B[] arg1, C[] arg2, D[] arg3) {
-        checkLiveness();
-        WorkerNode<T> node = selectNode(hashcode);
-        node.publishEvents(translator, arg0, arg1, arg2, arg3);
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * waiting at most the given time for room in that worker's ring.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param timeout    maximum time to wait
+     * @param unit       unit of {@code timeout}
+     * @param translator translator used to populate the event with data
+     * @param arg        argument passed to the translator
+     * @param <A>        type of the argument
+     * @return {@code true} if the event was published, {@code false} if the timeout elapsed
+     */
+    public <A> boolean publishEvent(long key, long timeout, TimeUnit unit, EventTranslatorOneArg<T, A> translator, A arg) {
+        return _tryPublishEvent(hash(key, 1), unit.toNanos(timeout), translator, arg);
     }
 
-    private <A, B, C, D, E> void _publishEvent(int hashcode, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
-        checkLiveness();
-        WorkerNode<T> node = selectNode(hashcode);
-        node.publishEvent(translator, arg0, arg1, arg2, arg3, arg4);
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * waiting at most the given time for room in that worker's ring.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param timeout    maximum time to wait
+     * @param unit       unit of {@code timeout}
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @return {@code true} if the event was published, {@code false} if the timeout elapsed
+     */
+    public <A, B> boolean publishEvent(long key, long timeout, TimeUnit unit, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        return _tryPublishEvent(hash(key, 1), unit.toNanos(timeout), translator, arg0, arg1);
     }
 
-    private <A, B, C, D, E> void _publishEvents(int hashcode, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A[] arg0, B[] arg1, C[] arg2, D[] arg3, E[] arg4) {
-        checkLiveness();
-        WorkerNode<T> node = selectNode(hashcode);
-        node.publishEvents(translator, arg0, arg1, arg2, arg3, arg4);
+    /**
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * waiting at most the given time for room in that worker's ring.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param timeout    maximum time to wait
+     * @param unit       unit of {@code timeout}
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @return {@code true} if the event was published, {@code false} if the timeout elapsed
+     */
+    public <A, B, C> boolean publishEvent(long key, long timeout, TimeUnit unit, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        return _tryPublishEvent(hash(key, 1), unit.toNanos(timeout), translator, arg0, arg1, arg2);
     }
 
     /**
-     * Publishes a single event to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * waiting at most the given time for room in that worker's ring.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
      *
      * @param key        routing key used for consistent worker selection
+     * @param timeout    maximum time to wait
+     * @param unit       unit of {@code timeout}
      * @param translator translator used to populate the event with data
-     * @param arg        argument passed to the translator
-     * @param <A>        type of the argument
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @return {@code true} if the event was published, {@code false} if the timeout elapsed
      */
-    public <A> void publishEvent(String key, EventTranslatorOneArg<T, A> translator, A arg) {
-        _publishEvent(hashCodeProvider.provide(key),  translator, arg);
+    public <A, B, C, D> boolean publishEvent(long key, long timeout, TimeUnit unit, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        return _tryPublishEvent(hash(key, 1), unit.toNanos(timeout), translator, arg0, arg1, arg2, arg3);
     }
 
     /**
-     * Publishes a single event to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * waiting at most the given time for room in that worker's ring.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
      *
      * @param key        routing key used for consistent worker selection
+     * @param timeout    maximum time to wait
+     * @param unit       unit of {@code timeout}
      * @param translator translator used to populate the event with data
-     * @param arg        argument passed to the translator
-     * @param <A>        type of the argument
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param arg4       5th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     * @return {@code true} if the event was published, {@code false} if the timeout elapsed
      */
-    public <A> void publishEvent(int key, EventTranslatorOneArg<T, A> translator, A arg) {
-        _publishEvent(hashCodeProvider.provide(key),  translator, arg);
+    public <A, B, C, D, E> boolean publishEvent(long key, long timeout, TimeUnit unit, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        return _tryPublishEvent(hash(key, 1), unit.toNanos(timeout), translator, arg0, arg1, arg2, arg3, arg4);
     }
 
     /**
-     * Publishes a single event to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key
+     * if that worker's ring has room for it, without waiting.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
      * @param arg        argument passed to the translator
      * @param <A>        type of the argument
+     * @return {@code true} if the event was published, {@code false} if the ring was full
      */
-    public <A> void publishEvent(long key, EventTranslatorOneArg<T, A> translator, A arg) {
-        _publishEvent(hashCodeProvider.provide(key),  translator, arg);
+    public <A> boolean tryPublishEvent(byte[] key, EventTranslatorOneArg<T, A> translator, A arg) {
+        return _tryPublishEvent(hash(key, 1), 0L, translator, arg);
     }
 
     /**
-     * Publishes a single event to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key
+     * if that worker's ring has room for it, without waiting.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param arg        argument passed to the translator
-     * @param <A>        type of the argument
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @return {@code true} if the event was published, {@code false} if the ring was full
      */
-    public <A> void publishEvent(byte[] key, EventTranslatorOneArg<T, A> translator, A arg) {
-        _publishEvent(hashCodeProvider.provide(key),  translator, arg);
+    public <A, B> boolean tryPublishEvent(byte[] key, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        return _tryPublishEvent(hash(key, 1), 0L, translator, arg0, arg1);
     }
 
     /**
-     * Publishes an event batch to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key
+     * if that worker's ring has room for it, without waiting.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param args       arguments passed to the translator
-     * @param <A>        type of the argument
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @return {@code true} if the event was published, {@code false} if the ring was full
      */
-    public <A> void publishEvents(String key, EventTranslatorOneArg<T, A> translator, A[] args) {
-        _publishEvents(hashCodeProvider.provide(key),  translator, args);
+    public <A, B, C> boolean tryPublishEvent(byte[] key, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        return _tryPublishEvent(hash(key, 1), 0L, translator, arg0, arg1, arg2);
     }
 
     /**
-     * Publishes an event batch to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key
+     * if that worker's ring has room for it, without waiting.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param args       arguments passed to the translator
-     * @param <A>        type of the argument
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @return {@code true} if the event was published, {@code false} if the ring was full
      */
-    public <A> void publishEvents(int key, EventTranslatorOneArg<T, A> translator, A[] args) {
-        _publishEvents(hashCodeProvider.provide(key),  translator, args);
+    public <A, B, C, D> boolean tryPublishEvent(byte[] key, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        return _tryPublishEvent(hash(key, 1), 0L, translator, arg0, arg1, arg2, arg3);
     }
 
     /**
-     * Publishes an event batch to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key
+     * if that worker's ring has room for it, without waiting.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param args       arguments passed to the translator
-     * @param <A>        type of the argument
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param arg4       5th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     * @return {@code true} if the event was published, {@code false} if the ring was full
      */
-    public <A> void publishEvents(long key, EventTranslatorOneArg<T, A> translator, A[] args) {
-        _publishEvents(hashCodeProvider.provide(key),  translator, args);
+    public <A, B, C, D, E> boolean tryPublishEvent(byte[] key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        return _tryPublishEvent(hash(key, 1), 0L, translator, arg0, arg1, arg2, arg3, arg4);
     }
 
     /**
-     * Publishes an event batch to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * waiting at most the given time for room in that worker's ring.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
      *
      * @param key        routing key used for consistent worker selection
+     * @param timeout    maximum time to wait
+     * @param unit       unit of {@code timeout}
      * @param translator translator used to populate the event with data
-     * @param args       arguments passed to the translator
+     * @param arg        argument passed to the translator
      * @param <A>        type of the argument
+     * @return {@code true} if the event was published, {@code false} if the timeout elapsed
      */
-    public <A> void publishEvents(byte[] key, EventTranslatorOneArg<T, A> translator, A[] args) {
-        _publishEvents(hashCodeProvider.provide(key),  translator, args);
+    public <A> boolean publishEvent(byte[] key, long timeout, TimeUnit unit, EventTranslatorOneArg<T, A> translator, A arg) {
+        return _tryPublishEvent(hash(key, 1), unit.toNanos(timeout), translator, arg);
     }
 
     /**
-     * Publishes a single event to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * waiting at most the given time for room in that worker's ring.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
      *
      * @param key        routing key used for consistent worker selection
+     * @param timeout    maximum time to wait
+     * @param unit       unit of {@code timeout}
      * @param translator translator used to populate the event with data
      * @param arg0       1st argument passed to the translator
      * @param arg1       2nd argument passed to the translator
      * @param <A>        type of the 1st argument
      * @param <B>        type of the 2nd argument
+     * @return {@code true} if the event was published, {@code false} if the timeout elapsed
      */
-    public <A, B> void publishEvent(String key, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
-        _publishEvent(hashCodeProvider.provide(key),  translator, arg0, arg1);
+    public <A, B> boolean publishEvent(byte[] key, long timeout, TimeUnit unit, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        return _tryPublishEvent(hash(key, 1), unit.toNanos(timeout), translator, arg0, arg1);
     }
 
     /**
-     * Publishes a single event to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * waiting at most the given time for room in that worker's ring.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
      *
      * @param key        routing key used for consistent worker selection
+     * @param timeout    maximum time to wait
+     * @param unit       unit of {@code timeout}
      * @param translator translator used to populate the event with data
      * @param arg0       1st argument passed to the translator
      * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
      * @param <A>        type of the 1st argument
      * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @return {@code true} if the event was published, {@code false} if the timeout elapsed
      */
-    public <A, B> void publishEvent(int key, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
-        _publishEvent(hashCodeProvider.provide(key),  translator, arg0, arg1);
+    public <A, B, C> boolean publishEvent(byte[] key, long timeout, TimeUnit unit, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        return _tryPublishEvent(hash(key, 1), unit.toNanos(timeout), translator, arg0, arg1, arg2);
     }
 
     /**
-     * Publishes a single event to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * waiting at most the given time for room in that worker's ring.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
      *
      * @param key        routing key used for consistent worker selection
+     * @param timeout    maximum time to wait
+     * @param unit       unit of {@code timeout}
      * @param translator translator used to populate the event with data
      * @param arg0       1st argument passed to the translator
      * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
      * @param <A>        type of the 1st argument
      * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @return {@code true} if the event was published, {@code false} if the timeout elapsed
      */
-    public <A, B> void publishEvent(long key, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
-        _publishEvent(hashCodeProvider.provide(key),  translator, arg0, arg1);
+    public <A, B, C, D> boolean publishEvent(byte[] key, long timeout, TimeUnit unit, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        return _tryPublishEvent(hash(key, 1), unit.toNanos(timeout), translator, arg0, arg1, arg2, arg3);
     }
 
     /**
-     * Publishes a single event to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * waiting at most the given time for room in that worker's ring.
+     * Requires {@link WorkerServiceConfig.Builder#capacityTracking(boolean)}.
      *
      * @param key        routing key used for consistent worker selection
+     * @param timeout    maximum time to wait
+     * @param unit       unit of {@code timeout}
      * @param translator translator used to populate the event with data
      * @param arg0       1st argument passed to the translator
      * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param arg4       5th argument passed to the translator
      * @param <A>        type of the 1st argument
      * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     * @return {@code true} if the event was published, {@code false} if the timeout elapsed
      */
-    public <A, B> void publishEvent(byte[] key, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
-        _publishEvent(hashCodeProvider.provide(key),  translator, arg0, arg1);
+    public <A, B, C, D, E> boolean publishEvent(byte[] key, long timeout, TimeUnit unit, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        return _tryPublishEvent(hash(key, 1), unit.toNanos(timeout), translator, arg0, arg1, arg2, arg3, arg4);
     }
 
     /**
-     * Publishes an event batch to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * passing an {@code int} to the translator without boxing it.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param arg0       1st arguments passed to the translator
-     * @param arg1       2nd arguments passed to the translator
-     * @param <A>        type of the 1st argument
-     * @param <B>        type of the 2nd argument
+     * @param value      value passed to the translator
      */
-    public <A, B> void publishEvents(String key, EventTranslatorTwoArg<T, A, B> translator, A[] arg0, B[] arg1) {
-        _publishEvents(hashCodeProvider.provide(key),  translator, arg0, arg1);
+    public void publishInt(String key, IntTranslator<T> translator, int value) {
+        _publishEvent(hash(key, 1), PrimitiveCarriers.get().of(value), translator);
     }
 
     /**
-     * Publishes an event batch to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * passing an {@code int} to the translator without boxing it.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param arg0       1st arguments passed to the translator
-     * @param arg1       2nd arguments passed to the translator
-     * @param <A>        type of the 1st argument
-     * @param <B>        type of the 2nd argument
+     * @param value      value passed to the translator
      */
-    public <A, B> void publishEvents(int key, EventTranslatorTwoArg<T, A, B> translator, A[] arg0, B[] arg1) {
-        _publishEvents(hashCodeProvider.provide(key),  translator, arg0, arg1);
+    public void publishInt(int key, IntTranslator<T> translator, int value) {
+        _publishEvent(hash(key, 1), PrimitiveCarriers.get().of(value), translator);
     }
 
     /**
-     * Publishes an event batch to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * passing an {@code int} to the translator without boxing it.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param arg0       1st arguments passed to the translator
-     * @param arg1       2nd arguments passed to the translator
-     * @param <A>        type of the 1st argument
-     * @param <B>        type of the 2nd argument
+     * @param value      value passed to the translator
      */
-    public <A, B> void publishEvents(long key, EventTranslatorTwoArg<T, A, B> translator, A[] arg0, B[] arg1) {
-        _publishEvents(hashCodeProvider.provide(key),  translator, arg0, arg1);
+    public void publishInt(long key, IntTranslator<T> translator, int value) {
+        _publishEvent(hash(key, 1), PrimitiveCarriers.get().of(value), translator);
     }
 
     /**
-     * Publishes an event batch to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * passing an {@code int} to the translator without boxing it.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param arg0       1st arguments passed to the translator
-     * @param arg1       2nd arguments passed to the translator
-     * @param <A>        type of the 1st argument
-     * @param <B>        type of the 2nd argument
+     * @param value      value passed to the translator
      */
-    public <A, B> void publishEvents(byte[] key, EventTranslatorTwoArg<T, A, B> translator, A[] arg0, B[] arg1) {
-        _publishEvents(hashCodeProvider.provide(key),  translator, arg0, arg1);
+    public void publishInt(byte[] key, IntTranslator<T> translator, int value) {
+        _publishEvent(hash(key, 1), PrimitiveCarriers.get().of(value), translator);
     }
 
     /**
-     * Publishes a single event to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * passing a {@code long} to the translator without boxing it.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param arg0       1st argument passed to the translator
-     * @param arg1       2nd argument passed to the translator
-     * @param arg2       3rd argument passed to the translator
-     * @param <A>        type of the 1st argument
-     * @param <B>        type of the 2nd argument
-     * @param <C>        type of the 3rd argument
+     * @param value      value passed to the translator
      */
-    public <A, B, C> void publishEvent(String key, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
-        _publishEvent(hashCodeProvider.provide(key),  translator, arg0, arg1, arg2);
+    public void publishLong(String key, LongTranslator<T> translator, long value) {
+        _publishEvent(hash(key, 1), PrimitiveCarriers.get().of(value), translator);
     }
 
     /**
-     * Publishes a single event to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * passing a {@code long} to the translator without boxing it.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param arg0       1st argument passed to the translator
-     * @param arg1       2nd argument passed to the translator
-     * @param arg2       3rd argument passed to the translator
-     * @param <A>        type of the 1st argument
-     * @param <B>        type of the 2nd argument
-     * @param <C>        type of the 3rd argument
+     * @param value      value passed to the translator
      */
-    public <A, B, C> void publishEvent(int key, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
-        _publishEvent(hashCodeProvider.provide(key),  translator, arg0, arg1, arg2);
+    public void publishLong(int key, LongTranslator<T> translator, long value) {
+        _publishEvent(hash(key, 1), PrimitiveCarriers.get().of(value), translator);
     }
 
     /**
-     * Publishes a single event to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * passing a {@code long} to the translator without boxing it.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param arg0       1st argument passed to the translator
-     * @param arg1       2nd argument passed to the translator
-     * @param arg2       3rd argument passed to the translator
-     * @param <A>        type of the 1st argument
-     * @param <B>        type of the 2nd argument
-     * @param <C>        type of the 3rd argument
+     * @param value      value passed to the translator
      */
-    public <A, B, C> void publishEvent(long key, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
-        _publishEvent(hashCodeProvider.provide(key),  translator, arg0, arg1, arg2);
+    public void publishLong(long key, LongTranslator<T> translator, long value) {
+        _publishEvent(hash(key, 1), PrimitiveCarriers.get().of(value), translator);
     }
 
     /**
-     * Publishes a single event to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * passing a {@code long} to the translator without boxing it.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param arg0       1st argument passed to the translator
-     * @param arg1       2nd argument passed to the translator
-     * @param arg2       3rd argument passed to the translator
-     * @param <A>        type of the 1st argument
-     * @param <B>        type of the 2nd argument
-     * @param <C>        type of the 3rd argument
+     * @param value      value passed to the translator
      */
-    public <A, B, C> void publishEvent(byte[] key, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
-        _publishEvent(hashCodeProvider.provide(key),  translator, arg0, arg1, arg2);
+    public void publishLong(byte[] key, LongTranslator<T> translator, long value) {
+        _publishEvent(hash(key, 1), PrimitiveCarriers.get().of(value), translator);
     }
 
     /**
-     * Publishes an event batch to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * passing a {@code double} to the translator without boxing it.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param arg0       1st arguments passed to the translator
-     * @param arg1       2nd arguments passed to the translator
-     * @param arg2       3rd arguments passed to the translator
-     * @param <A>        type of the 1st argument
-     * @param <B>        type of the 2nd argument
-     * @param <C>        type of the 3rd argument
+     * @param value      value passed to the translator
      */
-    public <A, B, C> void publishEvents(String key, EventTranslatorThreeArg<T, A, B, C> translator, A[] arg0, B[] arg1, C[] arg2) {
-        _publishEvents(hashCodeProvider.provide(key),  translator, arg0, arg1, arg2);
+    public void publishDouble(String key, DoubleTranslator<T> translator, double value) {
+        _publishEvent(hash(key, 1), PrimitiveCarriers.get().of(value), translator);
     }
 
     /**
-     * Publishes an event batch to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * passing a {@code double} to the translator without boxing it.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param arg0       1st arguments passed to the translator
-     * @param arg1       2nd arguments passed to the translator
-     * @param arg2       3rd arguments passed to the translator
-     * @param <A>        type of the 1st argument
-     * @param <B>        type of the 2nd argument
-     * @param <C>        type of the 3rd argument
+     * @param value      value passed to the translator
      */
-    public <A, B, C> void publishEvents(int key, EventTranslatorThreeArg<T, A, B, C> translator, A[] arg0, B[] arg1, C[] arg2) {
-        _publishEvents(hashCodeProvider.provide(key),  translator, arg0, arg1, arg2);
+    public void publishDouble(int key, DoubleTranslator<T> translator, double value) {
+        _publishEvent(hash(key, 1), PrimitiveCarriers.get().of(value), translator);
     }
 
     /**
-     * Publishes an event batch to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * passing a {@code double} to the translator without boxing it.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param arg0       1st arguments passed to the translator
-     * @param arg1       2nd arguments passed to the translator
-     * @param arg2       3rd arguments passed to the translator
-     * @param <A>        type of the 1st argument
-     * @param <B>        type of the 2nd argument
-     * @param <C>        type of the 3rd argument
+     * @param value      value passed to the translator
      */
-    public <A, B, C> void publishEvents(long key, EventTranslatorThreeArg<T, A, B, C> translator, A[] arg0, B[] arg1, C[] arg2) {
-        _publishEvents(hashCodeProvider.provide(key),  translator, arg0, arg1, arg2);
+    public void publishDouble(long key, DoubleTranslator<T> translator, double value) {
+        _publishEvent(hash(key, 1), PrimitiveCarriers.get().of(value), translator);
     }
 
     /**
-     * Publishes an event batch to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * passing a {@code double} to the translator without boxing it.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param arg0       1st arguments passed to the translator
-     * @param arg1       2nd arguments passed to the translator
-     * @param arg2       3rd arguments passed to the translator
-     * @param <A>        type of the 1st argument
-     * @param <B>        type of the 2nd argument
-     * @param <C>        type of the 3rd argument
+     * @param value      value passed to the translator
      */
-    public <A, B, C> void publishEvents(byte[] key, EventTranslatorThreeArg<T, A, B, C> translator, A[] arg0, B[] arg1, C[] arg2) {
-        _publishEvents(hashCodeProvider.provide(key),  translator, arg0, arg1, arg2);
+    public void publishDouble(byte[] key, DoubleTranslator<T> translator, double value) {
+        _publishEvent(hash(key, 1), PrimitiveCarriers.get().of(value), translator);
     }
 
     /**
-     * Publishes a single event to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * passing two {@code long}s to the translator without boxing them.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param arg0       1st argument passed to the translator
-     * @param arg1       2nd argument passed to the translator
-     * @param arg2       3rd argument passed to the translator
-     * @param arg3       4th argument passed to the translator
-     * @param <A>        type of the 1st argument
-     * @param <B>        type of the 2nd argument
-     * @param <C>        type of the 3rd argument
-     * @param <D>        type of the 4th argument
+     * @param value0     1st value passed to the translator
+     * @param value1     2nd value passed to the translator
      */
-    public <A, B, C, D> void publishEvent(String key, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
-        WorkerNode<T> node = selectNode(hashCodeProvider.provide(key));
-        node.publishEvent(translator, arg0, arg1, arg2, arg3);
+    public void publishLongLong(String key, LongLongTranslator<T> translator, long value0, long value1) {
+        _publishEvent(hash(key, 1), PrimitiveCarriers.get().of(value0, value1), translator);
     }
 
     /**
-     * Publishes a single event to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * passing two {@code long}s to the translator without boxing them.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param arg0       1st argument passed to the translator
-     * @param arg1       2nd argument passed to the translator
-     * @param arg2       3rd argument passed to the translator
-     * @param arg3       4th argument passed to the translator
-     * @param <A>        type of the 1st argument
-     * @param <B>        type of the 2nd argument
-     * @param <C>        type of the 3rd argument
-     * @param <D>        type of the 4th argument
+     * @param value0     1st value passed to the translator
+     * @param value1     2nd value passed to the translator
      */
-    public <A, B, C, D> void publishEvent(int key, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
-        _publishEvent(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3);
+    public void publishLongLong(int key, LongLongTranslator<T> translator, long value0, long value1) {
+        _publishEvent(hash(key, 1), PrimitiveCarriers.get().of(value0, value1), translator);
     }
 
     /**
-     * Publishes a single event to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * passing two {@code long}s to the translator without boxing them.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param arg0       1st argument passed to the translator
-     * @param arg1       2nd argument passed to the translator
-     * @param arg2       3rd argument passed to the translator
-     * @param arg3       4th argument passed to the translator
-     * @param <A>        type of the 1st argument
-     * @param <B>        type of the 2nd argument
-     * @param <C>        type of the 3rd argument
-     * @param <D>        type of the 4th argument
+     * @param value0     1st value passed to the translator
+     * @param value1     2nd value passed to the translator
      */
-    public <A, B, C, D> void publishEvent(long key, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
-        _publishEvent(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3);
+    public void publishLongLong(long key, LongLongTranslator<T> translator, long value0, long value1) {
+        _publishEvent(hash(key, 1), PrimitiveCarriers.get().of(value0, value1), translator);
     }
 
     /**
-     * Publishes a single event to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * passing two {@code long}s to the translator without boxing them.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param arg0       1st argument passed to the translator
-     * @param arg1       2nd argument passed to the translator
-     * @param arg2       3rd argument passed to the translator
-     * @param arg3       4th argument passed to the translator
-     * @param <A>        type of the 1st argument
-     * @param <B>        type of the 2nd argument
-     * @param <C>        type of the 3rd argument
-     * @param <D>        type of the 4th argument
+     * @param value0     1st value passed to the translator
+     * @param value1     2nd value passed to the translator
      */
-    public <A, B, C, D> void publishEvent(byte[] key, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
-        _publishEvent(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3);
+    public void publishLongLong(byte[] key, LongLongTranslator<T> translator, long value0, long value1) {
+        _publishEvent(hash(key, 1), PrimitiveCarriers.get().of(value0, value1), translator);
     }
 
     /**
-     * Publishes an event batch to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * passing a {@code long} and a {@code double} to the translator without boxing them.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param arg0       1st arguments passed to the translator
-     * @param arg1       2nd arguments passed to the translator
-     * @param arg2       3rd arguments passed to the translator
-     * @param arg3       4th arguments passed to the translator
-     * @param <A>        type of the 1st argument
-     * @param <B>        type of the 2nd argument
-     * @param <C>        type of the 3rd argument
-     * @param <D>        type of the 4th argument
+     * @param value0     {@code long} value passed to the translator
+     * @param value1     {@code double} value passed to the translator
      */
-    public <A, B, C, D> void publishEvents(String key, EventTranslatorFourArg<T, A, B, C, D> translator, A[] arg0, B[] arg1, C[] arg2, D[] arg3) {
-        _publishEvents(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3);
+    public void publishLongDouble(String key, LongDoubleTranslator<T> translator, long value0, double value1) {
+        _publishEvent(hash(key, 1), PrimitiveCarriers.get().of(value0, value1), translator);
     }
 
     /**
-     * Publishes an event batch to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * passing a {@code long} and a {@code double} to the translator without boxing them.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param arg0       1st arguments passed to the translator
-     * @param arg1       2nd arguments passed to the translator
-     * @param arg2       3rd arguments passed to the translator
-     * @param arg3       4th arguments passed to the translator
-     * @param <A>        type of the 1st argument
-     * @param <B>        type of the 2nd argument
-     * @param <C>        type of the 3rd argument
-     * @param <D>        type of the 4th argument
+     * @param value0     {@code long} value passed to the translator
+     * @param value1     {@code double} value passed to the translator
      */
-    public <A, B, C, D> void publishEvents(int key, EventTranslatorFourArg<T, A, B, C, D> translator, A[] arg0, B[] arg1, C[] arg2, D[] arg3) {
-        _publishEvents(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3);
+    public void publishLongDouble(int key, LongDoubleTranslator<T> translator, long value0, double value1) {
+        _publishEvent(hash(key, 1), PrimitiveCarriers.get().of(value0, value1), translator);
     }
 
     /**
-     * Publishes an event batch to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * passing a {@code long} and a {@code double} to the translator without boxing them.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param arg0       1st arguments passed to the translator
-     * @param arg1       2nd arguments passed to the translator
-     * @param arg2       3rd arguments passed to the translator
-     * @param arg3       4th arguments passed to the translator
-     * @param <A>        type of the 1st argument
-     * @param <B>        type of the 2nd argument
-     * @param <C>        type of the 3rd argument
-     * @param <D>        type of the 4th argument
+     * @param value0     {@code long} value passed to the translator
+     * @param value1     {@code double} value passed to the translator
      */
-    public <A, B, C, D> void publishEvents(long key, EventTranslatorFourArg<T, A, B, C, D> translator, A[] arg0, B[] arg1, C[] arg2, D[] arg3) {
-        _publishEvents(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3);
+    public void publishLongDouble(long key, LongDoubleTranslator<T> translator, long value0, double value1) {
+        _publishEvent(hash(key, 1), PrimitiveCarriers.get().of(value0, value1), translator);
     }
 
     /**
-     * Publishes an event batch to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * passing a {@code long} and a {@code double} to the translator without boxing them.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param arg0       1st arguments passed to the translator
-     * @param arg1       2nd arguments passed to the translator
-     * @param arg2       3rd arguments passed to the translator
-     * @param arg3       4th arguments passed to the translator
-     * @param <A>        type of the 1st argument
-     * @param <B>        type of the 2nd argument
-     * @param <C>        type of the 3rd argument
-     * @param <D>        type of the 4th argument
+     * @param value0     {@code long} value passed to the translator
+     * @param value1     {@code double} value passed to the translator
      */
-    public <A, B, C, D> void publishEvents(byte[] key, EventTranslatorFourArg<T, A, B, C, D> translator, A[] arg0, B[] arg1, C[] arg2, D[] arg3) {
-        _publishEvents(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3);
+    public void publishLongDouble(byte[] key, LongDoubleTranslator<T> translator, long value0, double value1) {
+        _publishEvent(hash(key, 1), PrimitiveCarriers.get().of(value0, value1), translator);
     }
 
     /**
-     * Publishes a single event to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * passing an object and a {@code long} to the translator without boxing the {@code long}.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param arg0       1st argument passed to the translator
-     * @param arg1       2nd argument passed to the translator
-     * @param arg2       3rd argument passed to the translator
-     * @param arg3       4th argument passed to the translator
-     * @param <A>        type of the 1st argument
-     * @param <B>        type of the 2nd argument
-     * @param <C>        type of the 3rd argument
-     * @param <D>        type of the 4th argument
+     * @param arg        argument passed to the translator
+     * @param value      value passed to the translator
+     * @param <A>        type of the argument
      */
-    public <A, B, C, D, E> void publishEvent(String key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
-        _publishEvent(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3, arg4);
+    public <A> void publishObjLong(String key, ObjLongTranslator<T, A> translator, A arg, long value) {
+        _publishEvent(hash(key, 1), PrimitiveCarriers.get().<T, A>ofObj(value), translator, arg);
     }
 
     /**
-     * Publishes a single event to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * passing an object and a {@code long} to the translator without boxing the {@code long}.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param arg0       1st argument passed to the translator
-     * @param arg1       2nd argument passed to the translator
-     * @param arg2       3rd argument passed to the translator
-     * @param arg3       4th argument passed to the translator
-     * @param <A>        type of the 1st argument
-     * @param <B>        type of the 2nd argument
-     * @param <C>        type of the 3rd argument
-     * @param <D>        type of the 4th argument
-     * @param <E>        type of the 5th argument
+     * @param arg        argument passed to the translator
+     * @param value      value passed to the translator
+     * @param <A>        type of the argument
      */
-    public <A, B, C, D, E> void publishEvent(int key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
-        _publishEvent(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3, arg4);
+    public <A> void publishObjLong(int key, ObjLongTranslator<T, A> translator, A arg, long value) {
+        _publishEvent(hash(key, 1), PrimitiveCarriers.get().<T, A>ofObj(value), translator, arg);
     }
 
     /**
-     * Publishes a single event to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * passing an object and a {@code long} to the translator without boxing the {@code long}.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param arg0       1st argument passed to the translator
-     * @param arg1       2nd argument passed to the translator
-     * @param arg2       3rd argument passed to the translator
-     * @param arg3       4th argument passed to the translator
-     * @param <A>        type of the 1st argument
-     * @param <B>        type of the 2nd argument
-     * @param <C>        type of the 3rd argument
-     * @param <D>        type of the 4th argument
-     * @param <E>        type of the 5th argument
+     * @param arg        argument passed to the translator
+     * @param value      value passed to the translator
+     * @param <A>        type of the argument
      */
-    public <A, B, C, D, E> void publishEvent(long key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
-        _publishEvent(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3, arg4);
+    public <A> void publishObjLong(long key, ObjLongTranslator<T, A> translator, A arg, long value) {
+        _publishEvent(hash(key, 1), PrimitiveCarriers.get().<T, A>ofObj(value), translator, arg);
     }
 
     /**
-     * Publishes a single event to the worker determined by the hash of the given key.
+     * Publishes a single event to the worker determined by the hash of the given key,
+     * passing an object and a {@code long} to the translator without boxing the {@code long}.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param arg0       1st argument passed to the translator
-     * @param arg1       2nd argument passed to the translator
-     * @param arg2       3rd argument passed to the translator
-     * @param arg3       4th argument passed to the translator
-     * @param <A>        type of the 1st argument
-     * @param <B>        type of the 2nd argument
-     * @param <C>        type of the 3rd argument
-     * @param <D>        type of the 4th argument
-     * @param <E>        type of the 5th argument
+     * @param arg        argument passed to the translator
+     * @param value      value passed to the translator
+     * @param <A>        type of the argument
      */
-    public <A, B, C, D, E> void publishEvent(byte[] key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
-        _publishEvent(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3, arg4);
+    public <A> void publishObjLong(byte[] key, ObjLongTranslator<T, A> translator, A arg, long value) {
+        _publishEvent(hash(key, 1), PrimitiveCarriers.get().<T, A>ofObj(value), translator, arg);
     }
 
     /**
-     * Publishes an event batch to the worker determined by the hash of the given key.
+     * Publishes one event per value to the worker determined by the hash of the given key,
+     * passing each {@code long} to the translator without boxing it. Values are published in
+     * batches of up to 64 events, in order.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param arg0       1st arguments passed to the translator
-     * @param arg1       2nd arguments passed to the translator
-     * @param arg2       3rd arguments passed to the translator
-     * @param arg3       4th arguments passed to the translator
-     * @param <A>        type of the 1st argument
-     * @param <B>        type of the 2nd argument
-     * @param <C>        type of the 3rd argument
-     * @param <D>        type of the 4th argument
-     * @param <E>        type of the 5th argument
+     * @param values     values passed to the translator, one per event
      */
-    public <A, B, C, D, E> void publishEvent(String key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A[] arg0, B[] arg1, C[] arg2, D[] arg3, E[] arg4) {
-        _publishEvents(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3, arg4);
+    public void publishLongs(String key, LongTranslator<T> translator, long[] values) {
+        _publishLongs(hash(key, values.length), translator, values);
     }
 
     /**
-     * Publishes an event batch to the worker determined by the hash of the given key.
+     * Publishes one event per value to the worker determined by the hash of the given key,
+     * passing each {@code long} to the translator without boxing it. Values are published in
+     * batches of up to 64 events, in order.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param arg0       1st arguments passed to the translator
-     * @param arg1       2nd arguments passed to the translator
-     * @param arg2       3rd arguments passed to the translator
-     * @param arg3       4th arguments passed to the translator
-     * @param <A>        type of the 1st argument
-     * @param <B>        type of the 2nd argument
-     * @param <C>        type of the 3rd argument
-     * @param <D>        type of the 4th argument
-     * @param <E>        type of the 5th argument
+     * @param values     values passed to the translator, one per event
      */
-    public <A, B, C, D, E> void publishEvent(int key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A[] arg0, B[] arg1, C[] arg2, D[] arg3, E[] arg4) {
-        _publishEvents(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3, arg4);
+    public void publishLongs(int key, LongTranslator<T> translator, long[] values) {
+        _publishLongs(hash(key, values.length), translator, values);
     }
 
     /**
-     * Publishes an event batch to the worker determined by the hash of the given key.
+     * Publishes one event per value to the worker determined by the hash of the given key,
+     * passing each {@code long} to the translator without boxing it. Values are published in
+     * batches of up to 64 events, in order.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param arg0       1st arguments passed to the translator
-     * @param arg1       2nd arguments passed to the translator
-     * @param arg2       3rd arguments passed to the translator
-     * @param arg3       4th arguments passed to the translator
-     * @param <A>        type of the 1st argument
-     * @param <B>        type of the 2nd argument
-     * @param <C>        type of the 3rd argument
-     * @param <D>        type of the 4th argument
-     * @param <E>        type of the 5th argument
+     * @param values     values passed to the translator, one per event
      */
-    public <A, B, C, D, E> void publishEvent(long key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A[] arg0, B[] arg1, C[] arg2, D[] arg3, E[] arg4) {
-        _publishEvents(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3, arg4);
+    public void publishLongs(long key, LongTranslator<T> translator, long[] values) {
+        _publishLongs(hash(key, values.length), translator, values);
     }
 
     /**
-     * Publishes an event batch to the worker determined by the hash of the given key.
+     * Publishes one event per value to the worker determined by the hash of the given key,
+     * passing each {@code long} to the translator without boxing it. Values are published in
+     * batches of up to 64 events, in order.
      *
      * @param key        routing key used for consistent worker selection
      * @param translator translator used to populate the event with data
-     * @param arg0       1st arguments passed to the translator
-     * @param arg1       2nd arguments passed to the translator
-     * @param arg2       3rd arguments passed to the translator
-     * @param arg3       4th arguments passed to the translator
-     * @param <A>        type of the 1st argument
-     * @param <B>        type of the 2nd argument
-     * @param <C>        type of the 3rd argument
-     * @param <D>        type of the 4th argument
-     * @param <E>        type of the 5th argument
+     * @param values     values passed to the translator, one per event
      */
-    public <A, B, C, D, E> void publishEvent(byte[] key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A[] arg0, B[] arg1, C[] arg2, D[] arg3, E[] arg4) {
-        _publishEvents(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3, arg4);
+    public void publishLongs(byte[] key, LongTranslator<T> translator, long[] values) {
+        _publishLongs(hash(key, values.length), translator, values);
     }
 
 }
@@ -1,8 +1,12 @@
 package io.github.ryntric;
 
+import io.github.ryntric.placement.PlacementStrategy;
+import io.github.ryntric.routing.RoutingStrategy;
 import io.github.ryntric.util.Util;
 import io.github.ryntric.util.WorkerUtil;
 
+import java.nio.file.Path;
+
 /**
  * Configuration class for {@code WorkerService}.
  * <p>
@@ -22,6 +26,27 @@ public final class WorkerServiceConfig {
     private int bufferSize = 4096;
     private SequencerType sequencerType = SequencerType.MULTI_PRODUCER;
     private BatchSizeLimit limit = BatchSizeLimit._1_2;
+    private RoutingStrategy routingStrategy = RoutingStrategy.MODULO;
+    private boolean elastic = false;
+    private long rebalanceIntervalMillis = 0;
+    private double rebalanceThreshold = 1.25;
+    private int rebalanceMigrationRate = 4;
+    private int hotKeyCapacity = 0;
+    private boolean capacityTracking = false;
+    private int hotKeySampleRate = 64;
+    private boolean metrics = false;
+    private int latencySampleRate = 0;
+    private int keyGroupCount = 1024;
+    private int keyGroupBufferSize = 64;
+    private PlacementStrategy placementStrategy = PlacementStrategy.NONE;
+    private int[] cpuSet = new int[0];
+    private Path journalDirectory = null;
+    private int journalSegmentSize = 64 << 20;
+    private JournalSync journalSync = JournalSync.BATCH;
+    private Path overflowDirectory = null;
+    private int overflowSegmentSize = 64 << 20;
+    private int priorityCount = 2;
+    private int priorityStarvationLimit = 8;
 
     private WorkerServiceConfig() {}
 
@@ -74,6 +99,154 @@ public final class WorkerServiceConfig {
         return limit;
     }
 
+    /**
+     * @return the strategy used to assign routing slots to workers
+     */
+    public RoutingStrategy getRoutingStrategy() {
+        return routingStrategy;
+    }
+
+    /**
+     * @return whether the worker count can be changed at runtime
+     */
+    public boolean isElastic() {
+        return elastic;
+    }
+
+    /**
+     * @return milliseconds between two load rebalancing rounds, {@code 0} if rebalancing is off
+     */
+    public long getRebalanceIntervalMillis() {
+        return rebalanceIntervalMillis;
+    }
+
+    /**
+     * @return load relative to the mean above which a worker gives slots away
+     */
+    public double getRebalanceThreshold() {
+        return rebalanceThreshold;
+    }
+
+    /**
+     * @return maximum number of slots migrated per rebalancing round
+     */
+    public int getRebalanceMigrationRate() {
+        return rebalanceMigrationRate;
+    }
+
+    /**
+     * @return number of hot keys tracked, {@code 0} if hot-key tracking is off
+     */
+    public int getHotKeyCapacity() {
+        return hotKeyCapacity;
+    }
+
+    /**
+     * @return one in how many publishes is recorded by hot-key tracking
+     */
+    public int getHotKeySampleRate() {
+        return hotKeySampleRate;
+    }
+
+    /**
+     * @return whether producers track free ring capacity, enabling non-blocking publishes
+     */
+    public boolean isCapacityTracking() {
+        return capacityTracking;
+    }
+
+    /**
+     * @return whether per-worker metrics are collected and registered with JMX
+     */
+    public boolean isMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return one in how many publishes has its queueing delay recorded, {@code 0} if latency sampling is off
+     */
+    public int getLatencySampleRate() {
+        return latencySampleRate;
+    }
+
+    /**
+     * @return number of key groups of a {@code VirtualWorkerService}
+     */
+    public int getKeyGroupCount() {
+        return keyGroupCount;
+    }
+
+    /**
+     * @return ring size of every key group of a {@code VirtualWorkerService}
+     */
+    public int getKeyGroupBufferSize() {
+        return keyGroupBufferSize;
+    }
+
+    /**
+     * @return the strategy used to pin worker threads to CPUs
+     */
+    public PlacementStrategy getPlacementStrategy() {
+        return placementStrategy;
+    }
+
+    /**
+     * @return the CPUs worker threads are pinned to, empty for all available CPUs
+     */
+    public int[] getCpuSet() {
+        return cpuSet.clone();
+    }
+
+    /**
+     * @return the directory of the worker journals, {@code null} if journaling is off
+     */
+    public Path getJournalDirectory() {
+        return journalDirectory;
+    }
+
+    /**
+     * @return size of a journal segment file in bytes
+     */
+    public int getJournalSegmentSize() {
+        return journalSegmentSize;
+    }
+
+    /**
+     * @return when worker journals are forced to the storage device
+     */
+    public JournalSync getJournalSync() {
+        return journalSync;
+    }
+
+    /**
+     * @return the directory of the worker overflow queues, {@code null} if overflow is off
+     */
+    public Path getOverflowDirectory() {
+        return overflowDirectory;
+    }
+
+    /**
+     * @return size of an overflow segment file in bytes
+     */
+    public int getOverflowSegmentSize() {
+        return overflowSegmentSize;
+    }
+
+    /**
+     * @return number of priority rings per worker of a {@code PriorityWorkerService}
+     */
+    public int getPriorityCount() {
+        return priorityCount;
+    }
+
+    /**
+     * @return consecutive drain cycles a lower priority of a {@code PriorityWorkerService} may be
+     * passed over while it holds events
+     */
+    public int getPriorityStarvationLimit() {
+        return priorityStarvationLimit;
+    }
+
     /**
      * Creates a new builder for customizing {@code WorkerServiceConfig}.
      *
@@ -151,6 +324,308 @@ public final class WorkerServiceConfig {
             return this;
         }
 
+        /**
+         * Sets the routing strategy.
+         *
+         * @param routingStrategy routing strategy
+         * @return this builder
+         */
+        public Builder routingStrategy(RoutingStrategy routingStrategy) {
+            WorkerServiceConfig.this.routingStrategy = routingStrategy;
+            return this;
+        }
+
+        /**
+         * Enables changing the worker count at runtime via {@code WorkerService.resize(int)}.
+         * Every publish then registers itself in a striped in-flight counter,
+         * which costs two uncontended atomic updates per publish. An elastic service requires
+         * {@link SequencerType#MULTI_PRODUCER}, since a resize publishes into the worker rings.
+         *
+         * @param elastic whether the service is elastic
+         * @return this builder
+         */
+        public Builder elastic(boolean elastic) {
+            WorkerServiceConfig.this.elastic = elastic;
+            return this;
+        }
+
+        /**
+         * Enables background load rebalancing: every interval, hot routing slots of overloaded
+         * workers are handed over to underloaded workers. Rebalancing makes the service elastic
+         * and additionally counts published events per slot and per worker. Like an elastic service,
+         * it requires {@link SequencerType#MULTI_PRODUCER}: the rebalancer thread publishes into the
+         * worker rings. A {@code resize} discards the reassignments made so far.
+         *
+         * @param intervalMillis milliseconds between rounds, {@code 0} disables rebalancing
+         * @return this builder
+         */
+        public Builder rebalanceInterval(long intervalMillis) {
+            if (intervalMillis < 0) {
+                throw new IllegalArgumentException("Rebalance interval must not be negative: " + intervalMillis);
+            }
+            WorkerServiceConfig.this.rebalanceIntervalMillis = intervalMillis;
+            return this;
+        }
+
+        /**
+         * Sets the hysteresis of rebalancing: a worker gives slots away only while its load
+         * over the last interval exceeds {@code threshold} times the mean load.
+         *
+         * @param threshold load to mean ratio, greater than 1
+         * @return this builder
+         */
+        public Builder rebalanceThreshold(double threshold) {
+            if (!(threshold > 1.0)) {
+                throw new IllegalArgumentException("Rebalance threshold must be greater than 1: " + threshold);
+            }
+            WorkerServiceConfig.this.rebalanceThreshold = threshold;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of slots migrated per rebalancing round.
+         *
+         * @param migrationRate slots per round
+         * @return this builder
+         */
+        public Builder rebalanceMigrationRate(int migrationRate) {
+            if (migrationRate <= 0) {
+                throw new IllegalArgumentException("Rebalance migration rate must be positive: " + migrationRate);
+            }
+            WorkerServiceConfig.this.rebalanceMigrationRate = migrationRate;
+            return this;
+        }
+
+        /**
+         * Enables hot-key tracking with {@code WorkerService.hotKeys()}, keeping the given
+         * number of most frequently published keys. Sampled publishes update a count-min
+         * sketch; the others only pay for drawing a thread-local random number.
+         *
+         * @param capacity number of tracked keys, {@code 0} disables tracking
+         * @return this builder
+         */
+        public Builder hotKeyCapacity(int capacity) {
+            if (capacity < 0) {
+                throw new IllegalArgumentException("Hot key capacity must not be negative: " + capacity);
+            }
+            WorkerServiceConfig.this.hotKeyCapacity = capacity;
+            return this;
+        }
+
+        /**
+         * Sets one in how many publishes is recorded by hot-key tracking. Must be pow of 2
+         *
+         * @param sampleRate sampling rate
+         * @return this builder
+         */
+        public Builder hotKeySampleRate(int sampleRate) {
+            WorkerServiceConfig.this.hotKeySampleRate = Util.assertThatPowerOfTwo(sampleRate);
+            return this;
+        }
+
+        /**
+         * Enables {@code tryPublishEvent}, timed {@code publishEvent} and per-worker rejection
+         * counts. Every publish then claims its events from a per-worker counter that consumers
+         * release, which costs one atomic update on a counter shared by all producers of a worker.
+         *
+         * @param capacityTracking whether to track free ring capacity
+         * @return this builder
+         */
+        public Builder capacityTracking(boolean capacityTracking) {
+            WorkerServiceConfig.this.capacityTracking = capacityTracking;
+            return this;
+        }
+
+        /**
+         * Enables per-worker metrics with {@code WorkerService.metrics()} and a JMX MBean
+         * registered while the service is running. Counters are kept by the consumer threads;
+         * producers pay nothing beyond what capacity tracking or rebalancing already count.
+         *
+         * @param metrics whether to collect metrics
+         * @return this builder
+         */
+        public Builder metrics(boolean metrics) {
+            WorkerServiceConfig.this.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * Enables per-worker latency histograms with {@code WorkerService.latencies(boolean)}.
+         * One in {@code sampleRate} single-event publishes is stamped with its publish time,
+         * at most one per worker at a time, and one in {@code sampleRate} events is timed
+         * by its handler. Unsampled publishes pay for drawing a thread-local random number.
+         *
+         * @param sampleRate sampling rate, a power of 2, {@code 0} disables latency sampling
+         * @return this builder
+         */
+        public Builder latencySampleRate(int sampleRate) {
+            WorkerServiceConfig.this.latencySampleRate = sampleRate == 0 ? 0 : Util.assertThatPowerOfTwo(sampleRate);
+            return this;
+        }
+
+        /**
+         * Sets the number of key groups of a {@code VirtualWorkerService}, i.e. how many keys
+         * can be blocked in their handlers concurrently. Must be pow of 2
+         *
+         * @param keyGroupCount number of key groups
+         * @return this builder
+         */
+        public Builder keyGroupCount(int keyGroupCount) {
+            WorkerServiceConfig.this.keyGroupCount = Util.assertThatPowerOfTwo(keyGroupCount);
+            return this;
+        }
+
+        /**
+         * Sets the ring size of every key group of a {@code VirtualWorkerService}. Must be pow of 2
+         *
+         * @param bufferSize key group buffer size
+         * @return this builder
+         */
+        public Builder keyGroupBufferSize(int bufferSize) {
+            WorkerServiceConfig.this.keyGroupBufferSize = Util.assertThatPowerOfTwo(bufferSize);
+            return this;
+        }
+
+        /**
+         * Sets the number of priorities of a {@code PriorityWorkerService}, each with a ring of
+         * {@code bufferSize} events per worker.
+         *
+         * @param priorityCount number of priorities
+         * @return this builder
+         */
+        public Builder priorityCount(int priorityCount) {
+            if (priorityCount <= 0) {
+                throw new IllegalArgumentException("Priority count must be positive: " + priorityCount);
+            }
+            WorkerServiceConfig.this.priorityCount = priorityCount;
+            return this;
+        }
+
+        /**
+         * Sets after how many consecutive drain cycles in which a lower priority of a
+         * {@code PriorityWorkerService} held events but was not polled, it is polled first.
+         * Lower limits bound the delay of low priority events tighter, at the expense of
+         * high priority latency.
+         *
+         * @param cycles starvation limit in drain cycles
+         * @return this builder
+         */
+        public Builder priorityStarvationLimit(int cycles) {
+            if (cycles <= 0) {
+                throw new IllegalArgumentException("Priority starvation limit must be positive: " + cycles);
+            }
+            WorkerServiceConfig.this.priorityStarvationLimit = cycles;
+            return this;
+        }
+
+        /**
+         * Sets how worker threads are pinned to CPUs on Linux, see {@link PlacementStrategy}.
+         * Pinning happens once per worker thread at start; where it is not possible a warning
+         * is logged and workers run unpinned.
+         *
+         * @param strategy placement strategy
+         * @return this builder
+         */
+        public Builder placement(PlacementStrategy strategy) {
+            WorkerServiceConfig.this.placementStrategy = strategy;
+            return this;
+        }
+
+        /**
+         * Restricts worker threads to the given CPUs, pinned according to the placement strategy,
+         * or compactly if the strategy is {@link PlacementStrategy#NONE}.
+         *
+         * @param cpus CPU numbers as listed by the kernel, none for all available CPUs
+         * @return this builder
+         */
+        public Builder cpuSet(int... cpus) {
+            for (int cpu : cpus) {
+                if (cpu < 0) {
+                    throw new IllegalArgumentException("CPU must not be negative: " + cpu);
+                }
+            }
+            WorkerServiceConfig.this.cpuSet = cpus.clone();
+            return this;
+        }
+
+        /**
+         * Enables a write-ahead journal per worker in the given directory. Every published event
+         * is appended to a memory-mapped journal of its worker, through the {@link EventSerializer}
+         * passed to the {@code WorkerService}, before it enters the ring; workers acknowledge
+         * handled events once per batch. On its first start a service replays the events of the
+         * directory that were not acknowledged. Publishes to one worker then serialize on its journal:
+         * each appends and enters the ring while holding the journal's monitor, so that the journal
+         * and the ring keep the same order. Ring capacity is claimed before the monitor is taken,
+         * so a producer waiting for a full ring does not hold up the others inside it.
+         * Journaling cannot be combined with capacity tracking or an elastic or rebalancing service.
+         *
+         * @param directory journal directory, {@code null} disables journaling
+         * @return this builder
+         */
+        public Builder journal(Path directory) {
+            WorkerServiceConfig.this.journalDirectory = directory;
+            return this;
+        }
+
+        /**
+         * Sets the size of the journal segment files; a full segment is continued in a new file
+         * and deleted once all of its events are acknowledged.
+         *
+         * @param segmentSize segment size in bytes
+         * @return this builder
+         */
+        public Builder journalSegmentSize(int segmentSize) {
+            if (segmentSize <= 0) {
+                throw new IllegalArgumentException("Journal segment size must be positive: " + segmentSize);
+            }
+            WorkerServiceConfig.this.journalSegmentSize = segmentSize;
+            return this;
+        }
+
+        /**
+         * Sets when worker journals are forced to the storage device, see {@link JournalSync}.
+         *
+         * @param sync journal sync policy
+         * @return this builder
+         */
+        public Builder journalSync(JournalSync sync) {
+            WorkerServiceConfig.this.journalSync = sync;
+            return this;
+        }
+
+        /**
+         * Enables a spill queue per worker in the given directory. A publish that finds its worker's
+         * ring full appends the event to a memory-mapped overflow of the worker, through the
+         * {@link EventSerializer} passed to the {@code WorkerService}, instead of waiting; so do all
+         * publishes to that worker until the overflow is empty again, which keeps per-key order.
+         * The worker drains its overflow whenever it has handled everything in its ring, handing
+         * spilled events to the handler with sequence {@code -1}. Producers never wait for a full ring.
+         * Overflow replaces capacity tracking, and cannot be combined with it, with a journal or
+         * with an elastic or rebalancing service.
+         *
+         * @param directory overflow directory, {@code null} disables overflow
+         * @return this builder
+         */
+        public Builder overflow(Path directory) {
+            WorkerServiceConfig.this.overflowDirectory = directory;
+            return this;
+        }
+
+        /**
+         * Sets the size of the overflow segment files; a full segment is continued in a new file
+         * and deleted once all of its events are handled.
+         *
+         * @param segmentSize segment size in bytes
+         * @return this builder
+         */
+        public Builder overflowSegmentSize(int segmentSize) {
+            if (segmentSize <= 0) {
+                throw new IllegalArgumentException("Overflow segment size must be positive: " + segmentSize);
+            }
+            WorkerServiceConfig.this.overflowSegmentSize = segmentSize;
+            return this;
+        }
+
         /**
          * Sets the ring buffer size. Must be pow of 2
          *
@@ -0,0 +1,30 @@
+package io.github.ryntric;
+
+/**
+ * JMX view of {@link WorkerServiceMetrics}, registered as
+ * {@code io.github.ryntric:type=WorkerService,name=<service name>} while a service with
+ * metrics enabled is running. Arrays are indexed by worker; producer-side counts hold
+ * {@code -1} when they are not tracked, see {@link WorkerMetrics}.
+ */
+public interface WorkerServiceMXBean {
+
+    String getName();
+
+    int getWorkerCount();
+
+    long[] getPublishedCounts();
+
+    long[] getConsumedCounts();
+
+    long[] getOccupancies();
+
+    long[] getProducerWaitCounts();
+
+    long[] getRejectedCounts();
+
+    long[] getHandlerErrorCounts();
+
+    double[] getMeanHandlerNanos();
+
+    long[] getOverflowDepths();
+}
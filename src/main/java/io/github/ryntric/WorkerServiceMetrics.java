@@ -0,0 +1,57 @@
+package io.github.ryntric;
+
+import java.util.List;
+
+/**
+ * Point-in-time snapshot of the per-worker counters of a {@link WorkerService},
+ * returned by {@link WorkerService#metrics()}.
+ * <p>
+ * Counters are cumulative since a worker was created. Workers removed by a resize are
+ * no longer reported, workers added by a resize start from zero.
+ */
+public final class WorkerServiceMetrics {
+    private final String name;
+    private final List<WorkerMetrics> workers;
+
+    WorkerServiceMetrics(String name, List<WorkerMetrics> workers) {
+        this.name = name;
+        this.workers = workers;
+    }
+
+    /**
+     * @return name of the service
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return counters of every current worker, indexed by worker
+     */
+    public List<WorkerMetrics> getWorkers() {
+        return workers;
+    }
+
+    /**
+     * @return events handled by all current workers
+     */
+    public long getConsumedCount() {
+        long total = 0;
+        for (WorkerMetrics worker : workers) total += worker.getConsumedCount();
+        return total;
+    }
+
+    /**
+     * @return events handled with an error by all current workers
+     */
+    public long getHandlerErrorCount() {
+        long total = 0;
+        for (WorkerMetrics worker : workers) total += worker.getHandlerErrorCount();
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("WorkerServiceMetrics{name=%s, workers=%s}", name, workers);
+    }
+}
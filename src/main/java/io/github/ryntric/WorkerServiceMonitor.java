@@ -0,0 +1,132 @@
+package io.github.ryntric;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Exposes {@link WorkerService#metrics()} as a {@link WorkerServiceMXBean}. Every attribute
+ * read takes a fresh snapshot, so the service pays nothing while nobody is looking.
+ */
+final class WorkerServiceMonitor implements WorkerServiceMXBean {
+    private final WorkerService<?> service;
+    private final String name;
+    private final ObjectName objectName;
+
+    WorkerServiceMonitor(WorkerService<?> service, String name) {
+        this.service = service;
+        this.name = name;
+        this.objectName = objectName(name);
+    }
+
+    static ObjectName objectName(String name) {
+        try {
+            return new ObjectName("io.github.ryntric:type=WorkerService,name=" + ObjectName.quote(name));
+        } catch (JMException e) {
+            throw new IllegalArgumentException("Invalid worker service name: " + name, e);
+        }
+    }
+
+    /**
+     * Registers the MBean with the platform MBean server. A service whose name is
+     * already registered by another running service is not registered.
+     */
+    void register() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.registerMBean(new StandardMBean(this, WorkerServiceMXBean.class, true), objectName);
+        } catch (InstanceAlreadyExistsException ignored) {
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to register worker service MBean: " + objectName, e);
+        }
+    }
+
+    void unregister() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(objectName);
+        } catch (InstanceNotFoundException ignored) {
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to unregister worker service MBean: " + objectName, e);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int getWorkerCount() {
+        return service.getWorkerCount();
+    }
+
+    @Override
+    public long[] getPublishedCounts() {
+        List<WorkerMetrics> workers = service.metrics().getWorkers();
+        long[] values = new long[workers.size()];
+        for (int i = 0; i < values.length; i++) values[i] = workers.get(i).getPublishedCount();
+        return values;
+    }
+
+    @Override
+    public long[] getConsumedCounts() {
+        List<WorkerMetrics> workers = service.metrics().getWorkers();
+        long[] values = new long[workers.size()];
+        for (int i = 0; i < values.length; i++) values[i] = workers.get(i).getConsumedCount();
+        return values;
+    }
+
+    @Override
+    public long[] getOccupancies() {
+        List<WorkerMetrics> workers = service.metrics().getWorkers();
+        long[] values = new long[workers.size()];
+        for (int i = 0; i < values.length; i++) values[i] = workers.get(i).getOccupancy();
+        return values;
+    }
+
+    @Override
+    public long[] getProducerWaitCounts() {
+        List<WorkerMetrics> workers = service.metrics().getWorkers();
+        long[] values = new long[workers.size()];
+        for (int i = 0; i < values.length; i++) values[i] = workers.get(i).getProducerWaitCount();
+        return values;
+    }
+
+    @Override
+    public long[] getRejectedCounts() {
+        List<WorkerMetrics> workers = service.metrics().getWorkers();
+        long[] values = new long[workers.size()];
+        for (int i = 0; i < values.length; i++) values[i] = workers.get(i).getRejectedCount();
+        return values;
+    }
+
+    @Override
+    public long[] getHandlerErrorCounts() {
+        List<WorkerMetrics> workers = service.metrics().getWorkers();
+        long[] values = new long[workers.size()];
+        for (int i = 0; i < values.length; i++) values[i] = workers.get(i).getHandlerErrorCount();
+        return values;
+    }
+
+    @Override
+    public double[] getMeanHandlerNanos() {
+        List<WorkerMetrics> workers = service.metrics().getWorkers();
+        double[] values = new double[workers.size()];
+        for (int i = 0; i < values.length; i++) values[i] = workers.get(i).getMeanHandlerNanos();
+        return values;
+    }
+
+    @Override
+    public long[] getOverflowDepths() {
+        List<WorkerMetrics> workers = service.metrics().getWorkers();
+        long[] values = new long[workers.size()];
+        for (int i = 0; i < values.length; i++) values[i] = workers.get(i).getOverflowDepth();
+        return values;
+    }
+}
@@ -0,0 +1,139 @@
+package io.github.ryntric;
+
+import io.github.ryntric.EventTranslator.EventTranslatorOneArg;
+
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+
+/**
+ * A {@link Flow.Subscriber} publishing every received item to a {@link WorkerService},
+ * routed by a key extracted from the item. Created by
+ * {@link WorkerService#subscriber(Function, EventTranslatorOneArg)}.
+ * <p>
+ * Demand follows ring capacity: the subscriber never has more items requested and not yet
+ * received than the fullest worker has free entries, so with no other producers a publish
+ * never waits, whatever the keys of the requested items turn out to be. Demand is topped up
+ * when half of it has arrived. When no worker has room left the subscriber requests nothing
+ * and registers with the fullest worker, whose consumer tops up demand once a quarter of its
+ * ring is free. No thread spins or parks waiting for capacity; the top-up then runs on that
+ * consumer thread, so upstream publishers should deliver asynchronously, as
+ * {@link java.util.concurrent.SubmissionPublisher} does.
+ * <p>
+ * Per-key results of the handler can be streamed back with a {@link KeyedResultPublisher}.
+ * <p>
+ * Keys must be {@link String}, {@link Integer}, {@link Long} or {@code byte[]}, hashed like the
+ * matching {@code publishEvent} overload. A subscriber can be subscribed once.
+ *
+ * @param <T> the event type
+ * @param <I> the item type
+ */
+public final class WorkerServiceSubscriber<T, I> implements Flow.Subscriber<I> {
+    private final WorkerService<T> service;
+    private final Function<? super I, ?> keyExtractor;
+    private final EventTranslatorOneArg<T, I> translator;
+    private final Runnable capacityListener = this::onCapacity;
+    // guarded by this
+    private Flow.Subscription subscription;
+    private long outstanding;
+    private long lastRequest;
+    private boolean starved;
+    private volatile boolean done;
+
+    WorkerServiceSubscriber(WorkerService<T> service, Function<? super I, ?> keyExtractor, EventTranslatorOneArg<T, I> translator) {
+        this.service = service;
+        this.keyExtractor = keyExtractor;
+        this.translator = translator;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        synchronized (this) {
+            if (this.subscription != null || done) {
+                subscription.cancel();
+                return;
+            }
+            this.subscription = subscription;
+        }
+        replenish();
+    }
+
+    @Override
+    public void onNext(I item) {
+        service.publishHashed(service.hash(keyExtractor.apply(item)), translator, item);
+        boolean refill;
+        synchronized (this) {
+            // counted after the publish so that the claim is already visible to the next request
+            outstanding--;
+            refill = outstanding <= lastRequest / 2;
+        }
+        if (refill) {
+            replenish();
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        done = true;
+    }
+
+    @Override
+    public void onComplete() {
+        done = true;
+    }
+
+    /**
+     * @return whether the upstream has completed, failed or the subscription was cancelled
+     */
+    public boolean isDone() {
+        return done;
+    }
+
+    /**
+     * Cancels the upstream subscription.
+     */
+    public void cancel() {
+        Flow.Subscription current;
+        synchronized (this) {
+            done = true;
+            current = subscription;
+        }
+        if (current != null) {
+            current.cancel();
+        }
+    }
+
+    /**
+     * Requests as many items as the fullest worker has free entries beyond the ones already
+     * requested; registers for a capacity notification when that is none and nothing is in flight.
+     */
+    private void replenish() {
+        long request = 0;
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+            long free = service.freeCapacity();
+            if (free <= outstanding && outstanding <= 0 && !starved) {
+                starved = true;
+                service.onCapacity(capacityListener);
+                // the worker may have drained before the listener was registered
+                free = service.freeCapacity();
+            }
+            if (free > outstanding) {
+                request = free - outstanding;
+                outstanding = free;
+                lastRequest = free;
+            }
+        }
+        if (request > 0) {
+            subscription.request(request);
+        }
+    }
+
+    private void onCapacity() {
+        synchronized (this) {
+            starved = false;
+        }
+        replenish();
+    }
+}
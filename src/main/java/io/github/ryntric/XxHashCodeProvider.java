@@ -0,0 +1,251 @@
+package io.github.ryntric;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * {@link HashCodeProvider} based on xxHash64, folded to 32 bits.
+ * <p>
+ * {@code byte[]} and {@link ByteBuffer} keys, heap or direct, are read eight bytes at a time
+ * through little-endian {@link MethodHandles#byteArrayViewVarHandle(Class, ByteOrder) array}
+ * and {@link MethodHandles#byteBufferViewVarHandle(Class, ByteOrder) buffer views}, four
+ * independent lanes per 32-byte stripe, so long binary keys hash several times faster than
+ * with {@link java.util.Arrays#hashCode(byte[])}. Every output bit depends on every input bit,
+ * so keys that differ only in a few bytes, e.g. sequential ids embedded in a larger key, still
+ * spread evenly over the slot mask.
+ * <p>
+ * {@link String} and {@link CharSequence} keys are hashed as their UTF-16LE code units without
+ * copying them, the {@code int} and {@code long} keys as their four and eight little-endian bytes
+ * and two-long keys as their 16 big-endian bytes, like a {@link java.util.UUID}. A seeded
+ * instance from {@link #withSeed(long)} hashes keys independently of other seeds, which keeps
+ * adversarial key sets from being tuned against a known seed.
+ */
+public final class XxHashCodeProvider implements HashCodeProvider {
+    public static final XxHashCodeProvider INSTANCE = new XxHashCodeProvider(0);
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INTS = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle BUFFER_LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle BUFFER_INTS = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long PRIME1 = 0x9E3779B185EBCA87L;
+    private static final long PRIME2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long PRIME3 = 0x165667B19E3779F9L;
+    private static final long PRIME4 = 0x85EBCA77C2B2AE63L;
+    private static final long PRIME5 = 0x27D4EB2F165667C5L;
+
+    private final long seed;
+
+    private XxHashCodeProvider(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * @param seed the seed
+     * @return a provider hashing with the given seed
+     */
+    public static XxHashCodeProvider withSeed(long seed) {
+        return new XxHashCodeProvider(seed);
+    }
+
+    private static long round(long acc, long input) {
+        return Long.rotateLeft(acc + input * PRIME2, 31) * PRIME1;
+    }
+
+    private static long merge(long hash, long acc) {
+        return (hash ^ round(0, acc)) * PRIME1 + PRIME4;
+    }
+
+    private static long mix(long hash, long word) {
+        return Long.rotateLeft(hash ^ round(0, word), 27) * PRIME1 + PRIME4;
+    }
+
+    private static long mix(long hash, int word) {
+        return Long.rotateLeft(hash ^ (word & 0xFFFFFFFFL) * PRIME1, 23) * PRIME2 + PRIME3;
+    }
+
+    private static long mix(long hash, byte value) {
+        return Long.rotateLeft(hash ^ (value & 0xFFL) * PRIME5, 11) * PRIME1;
+    }
+
+    private static long avalanche(long hash) {
+        hash ^= hash >>> 33;
+        hash *= PRIME2;
+        hash ^= hash >>> 29;
+        hash *= PRIME3;
+        return hash ^ hash >>> 32;
+    }
+
+    private static int fold(long hash) {
+        return (int) (hash ^ hash >>> 32);
+    }
+
+    private long converge(long v1, long v2, long v3, long v4) {
+        long hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+        hash = merge(hash, v1);
+        hash = merge(hash, v2);
+        hash = merge(hash, v3);
+        return merge(hash, v4);
+    }
+
+    /**
+     * @return the 64-bit xxHash64 of {@code key[offset, offset + length)}
+     */
+    long hash64(byte[] key, int offset, int length) {
+        int end = offset + length;
+        long hash;
+        if (length >= 32) {
+            long v1 = seed + PRIME1 + PRIME2;
+            long v2 = seed + PRIME2;
+            long v3 = seed;
+            long v4 = seed - PRIME1;
+            for (int limit = end - 32; offset <= limit; offset += 32) {
+                v1 = round(v1, (long) LONGS.get(key, offset));
+                v2 = round(v2, (long) LONGS.get(key, offset + 8));
+                v3 = round(v3, (long) LONGS.get(key, offset + 16));
+                v4 = round(v4, (long) LONGS.get(key, offset + 24));
+            }
+            hash = converge(v1, v2, v3, v4);
+        } else {
+            hash = seed + PRIME5;
+        }
+        hash += length;
+        for (; offset <= end - 8; offset += 8) {
+            hash = mix(hash, (long) LONGS.get(key, offset));
+        }
+        if (offset <= end - 4) {
+            hash = mix(hash, (int) INTS.get(key, offset));
+            offset += 4;
+        }
+        for (; offset < end; offset++) {
+            hash = mix(hash, key[offset]);
+        }
+        return avalanche(hash);
+    }
+
+    /**
+     * @return the 64-bit xxHash64 of {@code length} bytes of {@code key} at the absolute index {@code offset}
+     */
+    long hash64(ByteBuffer key, int offset, int length) {
+        int end = offset + length;
+        long hash;
+        if (length >= 32) {
+            long v1 = seed + PRIME1 + PRIME2;
+            long v2 = seed + PRIME2;
+            long v3 = seed;
+            long v4 = seed - PRIME1;
+            for (int limit = end - 32; offset <= limit; offset += 32) {
+                v1 = round(v1, (long) BUFFER_LONGS.get(key, offset));
+                v2 = round(v2, (long) BUFFER_LONGS.get(key, offset + 8));
+                v3 = round(v3, (long) BUFFER_LONGS.get(key, offset + 16));
+                v4 = round(v4, (long) BUFFER_LONGS.get(key, offset + 24));
+            }
+            hash = converge(v1, v2, v3, v4);
+        } else {
+            hash = seed + PRIME5;
+        }
+        hash += length;
+        for (; offset <= end - 8; offset += 8) {
+            hash = mix(hash, (long) BUFFER_LONGS.get(key, offset));
+        }
+        if (offset <= end - 4) {
+            hash = mix(hash, (int) BUFFER_INTS.get(key, offset));
+            offset += 4;
+        }
+        for (; offset < end; offset++) {
+            hash = mix(hash, key.get(offset));
+        }
+        return avalanche(hash);
+    }
+
+    private static long chars(CharSequence key, int index) {
+        return key.charAt(index) | (long) key.charAt(index + 1) << 16 | (long) key.charAt(index + 2) << 32 | (long) key.charAt(index + 3) << 48;
+    }
+
+    /**
+     * @return the 64-bit xxHash64 of the UTF-16LE encoding of the characters {@code [start, end)} of {@code key}
+     */
+    long hash64(CharSequence key, int start, int end) {
+        int index = start;
+        long hash;
+        if (end - start >= 16) {
+            long v1 = seed + PRIME1 + PRIME2;
+            long v2 = seed + PRIME2;
+            long v3 = seed;
+            long v4 = seed - PRIME1;
+            for (int limit = end - 16; index <= limit; index += 16) {
+                v1 = round(v1, chars(key, index));
+                v2 = round(v2, chars(key, index + 4));
+                v3 = round(v3, chars(key, index + 8));
+                v4 = round(v4, chars(key, index + 12));
+            }
+            hash = converge(v1, v2, v3, v4);
+        } else {
+            hash = seed + PRIME5;
+        }
+        hash += (end - start) * 2L;
+        for (; index <= end - 4; index += 4) {
+            hash = mix(hash, chars(key, index));
+        }
+        if (index <= end - 2) {
+            hash = mix(hash, key.charAt(index) | key.charAt(index + 1) << 16);
+            index += 2;
+        }
+        if (index < end) {
+            char value = key.charAt(index);
+            hash = mix(mix(hash, (byte) value), (byte) (value >>> 8));
+        }
+        return avalanche(hash);
+    }
+
+    @Override
+    public int provide(String key) {
+        return fold(hash64(key, 0, key.length()));
+    }
+
+    @Override
+    public int provide(int key) {
+        return fold(avalanche(mix(seed + PRIME5 + 4, key)));
+    }
+
+    @Override
+    public int provide(long key) {
+        return fold(avalanche(mix(seed + PRIME5 + 8, key)));
+    }
+
+    @Override
+    public int provide(byte[] key) {
+        return fold(hash64(key, 0, key.length));
+    }
+
+    @Override
+    public int provide(byte[] key, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, key.length);
+        return fold(hash64(key, offset, length));
+    }
+
+    @Override
+    public int provide(ByteBuffer key, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, key.limit());
+        return fold(hash64(key, offset, length));
+    }
+
+    @Override
+    public int provide(CharSequence key, int start, int end) {
+        Objects.checkFromToIndex(start, end, key.length());
+        return fold(hash64(key, start, end));
+    }
+
+    /**
+     * Hashes the key like its 16-byte big-endian encoding, the byte order of {@link java.util.UUID}.
+     */
+    @Override
+    public int provide(long mostSignificantBits, long leastSignificantBits) {
+        long hash = seed + PRIME5 + 16;
+        hash = mix(hash, Long.reverseBytes(mostSignificantBits));
+        hash = mix(hash, Long.reverseBytes(leastSignificantBits));
+        return fold(avalanche(hash));
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.ryntric.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A batch of events handled by a worker in one pass over a queue that took longer than the threshold.
+ */
+@Name("io.github.ryntric.ConsumerBatch")
+@Label("Consumer Batch")
+@Category("Workers")
+@Description("Batch of events handled in one pass")
+@Threshold("1 ms")
+@StackTrace(false)
+public final class ConsumerBatchEvent extends Event {
+    @Label("Service")
+    String service;
+
+    @Label("Worker")
+    int worker;
+
+    @Label("Batch Size")
+    int batchSize;
+
+    /**
+     * @return a begun event if a recording enables consumer batches, otherwise {@code null}, so that
+     * nothing is allocated while no recording runs
+     */
+    public static ConsumerBatchEvent beginIfEnabled() {
+        if (!Type.TYPE.isEnabled()) {
+            return null;
+        }
+        ConsumerBatchEvent event = new ConsumerBatchEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it if it is enabled, handled at least one event
+     * and exceeds the threshold.
+     */
+    public void end(String service, int worker, int batchSize) {
+        end();
+        if (batchSize > 0 && shouldCommit()) {
+            this.service = service;
+            this.worker = worker;
+            this.batchSize = batchSize;
+            commit();
+        }
+    }
+
+    // looked up on first use, after the event class has been initialized and registered
+    private static final class Type {
+        private static final EventType TYPE = EventType.getEventType(ConsumerBatchEvent.class);
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.ryntric.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * An exception thrown by {@code EventHandler.onEvent} and passed to {@code onError}.
+ */
+@Name("io.github.ryntric.HandlerError")
+@Label("Event Handler Error")
+@Category("Workers")
+@Description("Exception thrown by an event handler")
+@StackTrace(false)
+public final class HandlerErrorEvent extends Event {
+    @Label("Service")
+    String service;
+
+    @Label("Worker")
+    int worker;
+
+    @Label("Sequence")
+    long sequence;
+
+    @Label("Exception Class")
+    Class<?> exceptionClass;
+
+    @Label("Message")
+    String message;
+
+    public static void emit(String service, int worker, long sequence, Throwable ex) {
+        HandlerErrorEvent event = new HandlerErrorEvent();
+        if (event.isEnabled()) {
+            event.service = service;
+            event.worker = worker;
+            event.sequence = sequence;
+            event.exceptionClass = ex.getClass();
+            event.message = ex.getMessage();
+            event.commit();
+        }
+    }
+}
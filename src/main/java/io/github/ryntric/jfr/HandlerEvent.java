@@ -0,0 +1,61 @@
+package io.github.ryntric.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A single {@code EventHandler.onEvent} call that took longer than the threshold.
+ */
+@Name("io.github.ryntric.Handler")
+@Label("Event Handler")
+@Category("Workers")
+@Description("Event handler invocation exceeding the threshold")
+@Threshold("1 ms")
+@StackTrace(false)
+public final class HandlerEvent extends Event {
+    @Label("Service")
+    String service;
+
+    @Label("Worker")
+    int worker;
+
+    @Label("Sequence")
+    long sequence;
+
+    /**
+     * @return a begun event if a recording enables handler events, otherwise {@code null}, so that
+     * nothing is allocated while no recording runs
+     */
+    public static HandlerEvent beginIfEnabled() {
+        if (!Type.TYPE.isEnabled()) {
+            return null;
+        }
+        HandlerEvent event = new HandlerEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it if it is enabled and exceeds the threshold.
+     */
+    public void end(String service, int worker, long sequence) {
+        end();
+        if (shouldCommit()) {
+            this.service = service;
+            this.worker = worker;
+            this.sequence = sequence;
+            commit();
+        }
+    }
+
+    // looked up on first use, after the event class has been initialized and registered
+    private static final class Type {
+        private static final EventType TYPE = EventType.getEventType(HandlerEvent.class);
+    }
+}
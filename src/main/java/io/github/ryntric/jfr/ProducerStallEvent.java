@@ -0,0 +1,66 @@
+package io.github.ryntric.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A publish that took longer than the threshold, usually because the worker's ring was full
+ * or the key's routing slot was being handed over to another worker.
+ */
+@Name("io.github.ryntric.ProducerStall")
+@Label("Producer Stall")
+@Category("Workers")
+@Description("Publish that waited for ring capacity or a routing handoff")
+@Threshold("1 ms")
+@StackTrace(true)
+public final class ProducerStallEvent extends Event {
+    @Label("Service")
+    String service;
+
+    @Label("Worker")
+    int worker;
+
+    @Label("Key Hash")
+    int keyHash;
+
+    @Label("Event Count")
+    int eventCount;
+
+    /**
+     * @return a begun event if a recording enables producer stalls, otherwise {@code null}, so that
+     * nothing is allocated while no recording runs
+     */
+    public static ProducerStallEvent beginIfEnabled() {
+        if (!Type.TYPE.isEnabled()) {
+            return null;
+        }
+        ProducerStallEvent event = new ProducerStallEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the event and commits it if it is enabled and exceeds the threshold.
+     */
+    public void end(String service, int worker, int keyHash, int eventCount) {
+        end();
+        if (shouldCommit()) {
+            this.service = service;
+            this.worker = worker;
+            this.keyHash = keyHash;
+            this.eventCount = eventCount;
+            commit();
+        }
+    }
+
+    // looked up on first use, after the event class has been initialized and registered
+    private static final class Type {
+        private static final EventType TYPE = EventType.getEventType(ProducerStallEvent.class);
+    }
+}
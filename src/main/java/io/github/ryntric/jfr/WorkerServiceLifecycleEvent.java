@@ -0,0 +1,40 @@
+package io.github.ryntric.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Start or shutdown of a worker service.
+ */
+@Name("io.github.ryntric.WorkerServiceLifecycle")
+@Label("Worker Service Lifecycle")
+@Category("Workers")
+@Description("Worker service started or shut down")
+@StackTrace(false)
+public final class WorkerServiceLifecycleEvent extends Event {
+    public static final String STARTED = "started";
+    public static final String SHUTDOWN = "shutdown";
+
+    @Label("Service")
+    String service;
+
+    @Label("Action")
+    String action;
+
+    @Label("Worker Count")
+    int workerCount;
+
+    public static void emit(String service, String action, int workerCount) {
+        WorkerServiceLifecycleEvent event = new WorkerServiceLifecycleEvent();
+        if (event.isEnabled()) {
+            event.service = service;
+            event.action = action;
+            event.workerCount = workerCount;
+            event.commit();
+        }
+    }
+}
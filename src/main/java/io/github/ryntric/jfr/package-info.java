@@ -0,0 +1,9 @@
+/**
+ * JDK Flight Recorder events emitted by worker services, all in the {@code Workers} category.
+ * <p>
+ * Duration events carry a default threshold, so only outliers are recorded; it can be changed
+ * per event in a {@code .jfc} settings file. Events emitted per publish or per handled batch are
+ * only created through {@code beginIfEnabled()}, so while no recording enables them, emitting
+ * them costs a check of their enabled flag and allocates nothing.
+ */
+package io.github.ryntric.jfr;
@@ -0,0 +1,471 @@
+package io.github.ryntric.lane;
+
+import io.github.ryntric.EventTranslator.EventTranslatorFiveArg;
+import io.github.ryntric.EventTranslator.EventTranslatorFourArg;
+import io.github.ryntric.EventTranslator.EventTranslatorOneArg;
+import io.github.ryntric.EventTranslator.EventTranslatorThreeArg;
+import io.github.ryntric.EventTranslator.EventTranslatorTwoArg;
+import io.github.ryntric.HashCodeProvider;
+import io.github.ryntric.WorkerServiceTerminatedException;
+import io.github.ryntric.routing.RoutingTable;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A producer registered with a {@link LaneWorkerService}, owning one single-producer lane
+ * into every worker. Events of the same key from this producer keep their order.
+ * <p>
+ * A producer is bound to the thread that registered it and must only publish from that thread.
+ * {@link #close()} deregisters it; workers drop its lanes once they are drained.
+ *
+ * @param <T> the event type
+ */
+public final class LaneProducer<T> implements AutoCloseable {
+    private final LaneWorkerService<T> service;
+    private final HashCodeProvider hashCodeProvider;
+    private final RoutingTable table;
+    private final LaneWorker<T>[] workers;
+    private final SpscLane<T>[] lanes;
+    private final boolean spinning;
+    private final Thread owner = Thread.currentThread();
+    private boolean closed;
+
+    LaneProducer(LaneWorkerService<T> service, HashCodeProvider hashCodeProvider, RoutingTable table, LaneWorker<T>[] workers, SpscLane<T>[] lanes, boolean spinning) {
+        this.service = service;
+        this.hashCodeProvider = hashCodeProvider;
+        this.table = table;
+        this.workers = workers;
+        this.lanes = lanes;
+        this.spinning = spinning;
+    }
+
+    /**
+     * Checks the calling thread and waits until the target lane has room.
+     *
+     * @return index of the target worker
+     */
+    private int acquire(int hashcode) {
+        if (Thread.currentThread() != owner || closed) {
+            throw new IllegalStateException("Lane producer is closed or used outside of its thread " + owner.getName());
+        }
+        int worker = table.route(hashcode);
+        SpscLane<T> lane = lanes[worker];
+        while (!lane.hasCapacity()) {
+            if (!workers[worker].isRunning()) {
+                throw new WorkerServiceTerminatedException(service.getName());
+            }
+            if (spinning) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(1L);
+            }
+        }
+        return worker;
+    }
+
+    private <A> void publish(int hashcode, EventTranslatorOneArg<T, A> translator, A arg) {
+        int worker = acquire(hashcode);
+        SpscLane<T> lane = lanes[worker];
+        try {
+            translator.translateTo(lane.next(), arg);
+        } finally {
+            lane.commit();
+            workers[worker].wake();
+        }
+    }
+
+    private <A, B> void publish(int hashcode, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        int worker = acquire(hashcode);
+        SpscLane<T> lane = lanes[worker];
+        try {
+            translator.translateTo(lane.next(), arg0, arg1);
+        } finally {
+            lane.commit();
+            workers[worker].wake();
+        }
+    }
+
+    private <A, B, C> void publish(int hashcode, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        int worker = acquire(hashcode);
+        SpscLane<T> lane = lanes[worker];
+        try {
+            translator.translateTo(lane.next(), arg0, arg1, arg2);
+        } finally {
+            lane.commit();
+            workers[worker].wake();
+        }
+    }
+
+    private <A, B, C, D> void publish(int hashcode, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        int worker = acquire(hashcode);
+        SpscLane<T> lane = lanes[worker];
+        try {
+            translator.translateTo(lane.next(), arg0, arg1, arg2, arg3);
+        } finally {
+            lane.commit();
+            workers[worker].wake();
+        }
+    }
+
+    private <A, B, C, D, E> void publish(int hashcode, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        int worker = acquire(hashcode);
+        SpscLane<T> lane = lanes[worker];
+        try {
+            translator.translateTo(lane.next(), arg0, arg1, arg2, arg3, arg4);
+        } finally {
+            lane.commit();
+            workers[worker].wake();
+        }
+    }
+
+    /**
+     * Publishes a single event through this producer's lane to the worker determined by the hash
+     * of the given key, waiting while that lane is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg        argument passed to the translator
+     * @param <A>        type of the argument
+     */
+    public <A> void publishEvent(String key, EventTranslatorOneArg<T, A> translator, A arg) {
+        publish(hashCodeProvider.provide(key), translator, arg);
+    }
+
+    /**
+     * Publishes a single event through this producer's lane to the worker determined by the hash
+     * of the given key, waiting while that lane is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     */
+    public <A, B> void publishEvent(String key, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1);
+    }
+
+    /**
+     * Publishes a single event through this producer's lane to the worker determined by the hash
+     * of the given key, waiting while that lane is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     */
+    public <A, B, C> void publishEvent(String key, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2);
+    }
+
+    /**
+     * Publishes a single event through this producer's lane to the worker determined by the hash
+     * of the given key, waiting while that lane is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     */
+    public <A, B, C, D> void publishEvent(String key, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Publishes a single event through this producer's lane to the worker determined by the hash
+     * of the given key, waiting while that lane is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param arg4       5th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     */
+    public <A, B, C, D, E> void publishEvent(String key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Publishes a single event through this producer's lane to the worker determined by the hash
+     * of the given key, waiting while that lane is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg        argument passed to the translator
+     * @param <A>        type of the argument
+     */
+    public <A> void publishEvent(int key, EventTranslatorOneArg<T, A> translator, A arg) {
+        publish(hashCodeProvider.provide(key), translator, arg);
+    }
+
+    /**
+     * Publishes a single event through this producer's lane to the worker determined by the hash
+     * of the given key, waiting while that lane is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     */
+    public <A, B> void publishEvent(int key, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1);
+    }
+
+    /**
+     * Publishes a single event through this producer's lane to the worker determined by the hash
+     * of the given key, waiting while that lane is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     */
+    public <A, B, C> void publishEvent(int key, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2);
+    }
+
+    /**
+     * Publishes a single event through this producer's lane to the worker determined by the hash
+     * of the given key, waiting while that lane is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     */
+    public <A, B, C, D> void publishEvent(int key, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Publishes a single event through this producer's lane to the worker determined by the hash
+     * of the given key, waiting while that lane is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param arg4       5th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     */
+    public <A, B, C, D, E> void publishEvent(int key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Publishes a single event through this producer's lane to the worker determined by the hash
+     * of the given key, waiting while that lane is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg        argument passed to the translator
+     * @param <A>        type of the argument
+     */
+    public <A> void publishEvent(long key, EventTranslatorOneArg<T, A> translator, A arg) {
+        publish(hashCodeProvider.provide(key), translator, arg);
+    }
+
+    /**
+     * Publishes a single event through this producer's lane to the worker determined by the hash
+     * of the given key, waiting while that lane is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     */
+    public <A, B> void publishEvent(long key, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1);
+    }
+
+    /**
+     * Publishes a single event through this producer's lane to the worker determined by the hash
+     * of the given key, waiting while that lane is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     */
+    public <A, B, C> void publishEvent(long key, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2);
+    }
+
+    /**
+     * Publishes a single event through this producer's lane to the worker determined by the hash
+     * of the given key, waiting while that lane is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     */
+    public <A, B, C, D> void publishEvent(long key, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Publishes a single event through this producer's lane to the worker determined by the hash
+     * of the given key, waiting while that lane is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param arg4       5th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     */
+    public <A, B, C, D, E> void publishEvent(long key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Publishes a single event through this producer's lane to the worker determined by the hash
+     * of the given key, waiting while that lane is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg        argument passed to the translator
+     * @param <A>        type of the argument
+     */
+    public <A> void publishEvent(byte[] key, EventTranslatorOneArg<T, A> translator, A arg) {
+        publish(hashCodeProvider.provide(key), translator, arg);
+    }
+
+    /**
+     * Publishes a single event through this producer's lane to the worker determined by the hash
+     * of the given key, waiting while that lane is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     */
+    public <A, B> void publishEvent(byte[] key, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1);
+    }
+
+    /**
+     * Publishes a single event through this producer's lane to the worker determined by the hash
+     * of the given key, waiting while that lane is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     */
+    public <A, B, C> void publishEvent(byte[] key, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2);
+    }
+
+    /**
+     * Publishes a single event through this producer's lane to the worker determined by the hash
+     * of the given key, waiting while that lane is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     */
+    public <A, B, C, D> void publishEvent(byte[] key, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Publishes a single event through this producer's lane to the worker determined by the hash
+     * of the given key, waiting while that lane is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param arg4       5th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     */
+    public <A, B, C, D, E> void publishEvent(byte[] key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Deregisters this producer. Events published so far are still handled.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            for (SpscLane<T> lane : lanes) lane.close();
+        }
+    }
+}
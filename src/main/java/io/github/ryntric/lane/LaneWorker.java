@@ -0,0 +1,124 @@
+package io.github.ryntric.lane;
+
+import io.github.ryntric.EventHandler;
+import io.github.ryntric.jfr.ConsumerBatchEvent;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Consumer thread polling the lanes of all registered producers round-robin, handling at most
+ * {@code batchSize} events per lane and pass so that a busy producer cannot starve the others.
+ * <p>
+ * When a whole pass finds nothing, a parking worker announces itself as parked, checks the lanes
+ * once more and parks; producers unpark it after committing. Idle lanes therefore cost nothing.
+ * <p>
+ * Every lane poll is a batch reported as a {@link ConsumerBatchEvent} when it exceeds the threshold.
+ */
+final class LaneWorker<T> implements Runnable {
+    private static final SpscLane<?>[] NO_LANES = new SpscLane<?>[0];
+
+    private final String name;
+    private final int index;
+    private final EventHandler<T> handler;
+    private final int batchSize;
+    private final boolean spinning;
+    private volatile SpscLane<T>[] lanes = noLanes();
+    private volatile boolean parked;
+    private volatile boolean running;
+    private volatile Thread thread;
+
+    LaneWorker(String name, int index, EventHandler<T> handler, int batchSize, boolean spinning) {
+        this.name = name;
+        this.index = index;
+        this.handler = handler;
+        this.batchSize = batchSize;
+        this.spinning = spinning;
+    }
+
+    // the shared empty array holds no lane, so it is one of any event type
+    @SuppressWarnings("unchecked")
+    private static <T> SpscLane<T>[] noLanes() {
+        return (SpscLane<T>[]) NO_LANES;
+    }
+
+    synchronized void add(SpscLane<T> lane) {
+        SpscLane<T>[] current = lanes;
+        SpscLane<T>[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = lane;
+        lanes = updated;
+    }
+
+    private synchronized void remove(SpscLane<T> lane) {
+        SpscLane<T>[] current = lanes;
+        SpscLane<T>[] updated = Arrays.copyOf(current, current.length - 1);
+        for (int i = 0, j = 0; i < current.length; i++) {
+            if (current[i] != lane) updated[j++] = current[i];
+        }
+        lanes = updated;
+    }
+
+    /**
+     * Unparks the worker if it is parked; called by producers after every commit.
+     */
+    void wake() {
+        if (parked) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    void start(String threadName) {
+        running = true;
+        Thread worker = new Thread(this, threadName);
+        thread = worker;
+        worker.start();
+    }
+
+    void shutdown() {
+        running = false;
+        LockSupport.unpark(thread);
+    }
+
+    boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void run() {
+        handler.onStart(name);
+        try {
+            while (running) {
+                int handled = 0;
+                for (SpscLane<T> lane : lanes) {
+                    ConsumerBatchEvent batch = ConsumerBatchEvent.beginIfEnabled();
+                    int polled = lane.poll(name, handler, batchSize);
+                    if (batch != null) batch.end(name, index, polled);
+                    handled += polled;
+                    if (lane.isDrained()) remove(lane);
+                }
+                if (handled == 0) idle();
+            }
+        } finally {
+            handler.onShutdown(name);
+        }
+    }
+
+    private void idle() {
+        if (spinning) {
+            Thread.onSpinWait();
+            return;
+        }
+        parked = true;
+        if (!hasPending()) {
+            LockSupport.park(this);
+        }
+        parked = false;
+    }
+
+    private boolean hasPending() {
+        for (SpscLane<T> lane : lanes) {
+            if (lane.hasPending()) return true;
+        }
+        return !running;
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.ryntric.lane;
+
+import io.github.ryntric.EventFactory;
+import io.github.ryntric.EventHandler;
+import io.github.ryntric.HashCodeProvider;
+import io.github.ryntric.WaitPolicy;
+import io.github.ryntric.WorkerServiceConfig;
+import io.github.ryntric.WorkerServiceTerminatedException;
+import io.github.ryntric.jfr.WorkerServiceLifecycleEvent;
+import io.github.ryntric.routing.RoutingTable;
+import io.github.ryntric.routing.RoutingTables;
+import io.github.ryntric.util.WorkerUtil;
+
+/**
+ * A keyed worker service in which every registered producer owns a single-producer lane into
+ * every worker, so publishing never contends on a shared sequencer.
+ * <p>
+ * It is meant for a fixed, known set of producer threads, such as I/O event loops. Each producer
+ * thread calls {@link #registerProducer()} once and publishes through the returned
+ * {@link LaneProducer}. Workers poll their lanes round-robin and handle at most
+ * {@link WorkerServiceConfig#getBatchSizeLimit()} of the buffer size per lane and pass.
+ * <p>
+ * Routing, buffer size, wait policies and batch limit come from {@link WorkerServiceConfig};
+ * the sequencer type does not apply. Each lane preallocates {@code bufferSize} events, so
+ * memory grows with {@code producers * workers * bufferSize}. The worker count is fixed.
+ *
+ * @param <T> the event type handled by this service
+ */
+@SuppressWarnings("unchecked")
+public final class LaneWorkerService<T> {
+    private final String name;
+    private final HashCodeProvider hashCodeProvider;
+    private final EventFactory<T> factory;
+    private final RoutingTable table;
+    private final LaneWorker<T>[] workers;
+    private final int bufferSize;
+    private final boolean producerSpinning;
+    private boolean started;
+
+    /**
+     * Creates a new {@code LaneWorkerService} instance with the given configuration.
+     *
+     * @param name              name prefix for worker threads
+     * @param handler           the event handler that processes events
+     * @param factory           the factory for creating new event instances
+     * @param hashCodeProvider  the provider used to hash routing keys
+     * @param config            worker service configuration
+     */
+    public LaneWorkerService(
+            String name,
+            EventHandler<T> handler,
+            EventFactory<T> factory,
+            HashCodeProvider hashCodeProvider,
+            WorkerServiceConfig config) {
+        this.name = name;
+        this.hashCodeProvider = hashCodeProvider;
+        this.factory = factory;
+        this.bufferSize = config.getBufferSize();
+        this.producerSpinning = config.getProducerWaitPolicy() == WaitPolicy.SPINNING;
+        this.table = RoutingTables.of(config.getRoutingStrategy(), config.getWorkerCount(), config.getReplicaCount());
+        this.workers = new LaneWorker[config.getWorkerCount()];
+        int batchSize = WorkerUtil.batchSize(config.getBatchSizeLimit(), bufferSize);
+        boolean consumerSpinning = config.getConsumerWaitPolicy() == WaitPolicy.SPINNING;
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new LaneWorker<>(name, i, handler, batchSize, consumerSpinning);
+        }
+    }
+
+    /**
+     * @return the service name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Starts all workers.
+     */
+    public synchronized void start() {
+        if (!started) {
+            started = true;
+            for (int i = 0; i < workers.length; i++) workers[i].start(name + "-" + i);
+            WorkerServiceLifecycleEvent.emit(name, WorkerServiceLifecycleEvent.STARTED, workers.length);
+        }
+    }
+
+    /**
+     * Stops all workers. Events still queued in lanes are not handled.
+     */
+    public synchronized void shutdown() {
+        if (started) {
+            started = false;
+            for (LaneWorker<T> worker : workers) worker.shutdown();
+            WorkerServiceLifecycleEvent.emit(name, WorkerServiceLifecycleEvent.SHUTDOWN, workers.length);
+        }
+    }
+
+    /**
+     * Registers the calling thread as a producer, creating its lanes into every worker.
+     *
+     * @return the producer handle, bound to the calling thread
+     * @throws WorkerServiceTerminatedException if the service is not running
+     */
+    public synchronized LaneProducer<T> registerProducer() {
+        if (!started) {
+            throw new WorkerServiceTerminatedException(name);
+        }
+        SpscLane<T>[] lanes = new SpscLane[workers.length];
+        for (int i = 0; i < workers.length; i++) {
+            lanes[i] = new SpscLane<>(bufferSize, factory);
+            workers[i].add(lanes[i]);
+        }
+        return new LaneProducer<>(this, hashCodeProvider, table, workers, lanes, producerSpinning);
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.ryntric.lane;
+
+import io.github.ryntric.EventFactory;
+import io.github.ryntric.EventHandler;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Single-producer single-consumer ring of preallocated events, one per producer and worker.
+ * <p>
+ * The producer cursor and the producer's cached view of the consumer cursor share one padded
+ * cache line; the consumer cursor sits on another, so producer and consumer never write to
+ * the same line. No CAS is involved on either side.
+ */
+final class SpscLane<T> {
+    private static final VarHandle CURSORS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final int PAD = 16;
+    private static final int PUBLISHED = PAD;
+    private static final int CACHED_CONSUMED = PAD + 1;
+    private static final int CONSUMED = PAD * 2;
+
+    private final Object[] events;
+    private final int mask;
+    private final long[] cursors = new long[PAD * 3];
+    private volatile boolean closed;
+
+    SpscLane(int capacity, EventFactory<T> factory) {
+        this.events = new Object[capacity];
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            events[i] = factory.newInstance();
+        }
+    }
+
+    /**
+     * @return {@code true} if the entry of the next sequence is free; producer thread only
+     */
+    boolean hasCapacity() {
+        long next = cursors[PUBLISHED];
+        if (next - cursors[CACHED_CONSUMED] < events.length) {
+            return true;
+        }
+        cursors[CACHED_CONSUMED] = (long) CURSORS.getAcquire(cursors, CONSUMED);
+        return next - cursors[CACHED_CONSUMED] < events.length;
+    }
+
+    /**
+     * @return the event of the next sequence; producer thread only, after {@link #hasCapacity()}
+     */
+    @SuppressWarnings("unchecked")
+    T next() {
+        return (T) events[(int) cursors[PUBLISHED] & mask];
+    }
+
+    /**
+     * Makes the event returned by {@link #next()} visible to the consumer. The store is
+     * sequentially consistent so that a following read of the worker's parked flag cannot
+     * be reordered before it.
+     */
+    void commit() {
+        CURSORS.setVolatile(cursors, PUBLISHED, cursors[PUBLISHED] + 1);
+    }
+
+    boolean hasPending() {
+        return (long) CURSORS.getVolatile(cursors, PUBLISHED) != cursors[CONSUMED];
+    }
+
+    /**
+     * Handles at most {@code limit} published events; consumer thread only.
+     *
+     * @return number of events handled
+     */
+    @SuppressWarnings("unchecked")
+    int poll(String name, EventHandler<T> handler, int limit) {
+        long consumed = cursors[CONSUMED];
+        long available = (long) CURSORS.getAcquire(cursors, PUBLISHED);
+        long end = Math.min(available, consumed + limit);
+        for (long sequence = consumed; sequence < end; sequence++) {
+            T event = (T) events[(int) sequence & mask];
+            try {
+                handler.onEvent(name, event, sequence);
+            } catch (Throwable ex) {
+                handler.onError(name, event, sequence, ex);
+            }
+        }
+        if (end != consumed) {
+            CURSORS.setRelease(cursors, CONSUMED, end);
+        }
+        return (int) (end - consumed);
+    }
+
+    void close() {
+        closed = true;
+    }
+
+    /**
+     * @return {@code true} once the producer closed the lane and everything it published was handled
+     */
+    boolean isDrained() {
+        return closed && !hasPending();
+    }
+}
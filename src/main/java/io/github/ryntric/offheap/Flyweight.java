@@ -0,0 +1,106 @@
+package io.github.ryntric.offheap;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * A view of one fixed-size record of an {@link OffHeapWorkerService} ring.
+ * <p>
+ * Subclasses declare the record layout as typed accessors over byte offsets relative to the
+ * record start, for example {@code long price() { return getLong(0); }}. The service moves a
+ * view from record to record, so a view must not be kept beyond the translator or handler call
+ * it was passed to. Fields must lie within the record size given to the service, an access
+ * beyond it throws {@link IndexOutOfBoundsException} instead of reaching into the next record;
+ * values are stored in native byte order.
+ */
+public abstract class Flyweight {
+    private ByteBuffer buffer;
+    private int offset;
+    private int size;
+
+    final void wrap(ByteBuffer buffer, int offset, int size) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    private int at(int field, int width) {
+        return offset + Objects.checkFromIndexSize(field, width, size);
+    }
+
+    protected final byte getByte(int field) {
+        return buffer.get(at(field, 1));
+    }
+
+    protected final void putByte(int field, byte value) {
+        buffer.put(at(field, 1), value);
+    }
+
+    protected final short getShort(int field) {
+        return buffer.getShort(at(field, 2));
+    }
+
+    protected final void putShort(int field, short value) {
+        buffer.putShort(at(field, 2), value);
+    }
+
+    protected final char getChar(int field) {
+        return buffer.getChar(at(field, 2));
+    }
+
+    protected final void putChar(int field, char value) {
+        buffer.putChar(at(field, 2), value);
+    }
+
+    protected final int getInt(int field) {
+        return buffer.getInt(at(field, 4));
+    }
+
+    protected final void putInt(int field, int value) {
+        buffer.putInt(at(field, 4), value);
+    }
+
+    protected final long getLong(int field) {
+        return buffer.getLong(at(field, 8));
+    }
+
+    protected final void putLong(int field, long value) {
+        buffer.putLong(at(field, 8), value);
+    }
+
+    protected final float getFloat(int field) {
+        return buffer.getFloat(at(field, 4));
+    }
+
+    protected final void putFloat(int field, float value) {
+        buffer.putFloat(at(field, 4), value);
+    }
+
+    protected final double getDouble(int field) {
+        return buffer.getDouble(at(field, 8));
+    }
+
+    protected final void putDouble(int field, double value) {
+        buffer.putDouble(at(field, 8), value);
+    }
+
+    /**
+     * Copies {@code length} bytes of the record, starting at {@code field}, into {@code target}.
+     */
+    protected final void getBytes(int field, byte[] target, int targetOffset, int length) {
+        int start = at(field, length);
+        for (int i = 0; i < length; i++) {
+            target[targetOffset + i] = buffer.get(start + i);
+        }
+    }
+
+    /**
+     * Copies {@code length} bytes of {@code source} into the record, starting at {@code field}.
+     */
+    protected final void putBytes(int field, byte[] source, int sourceOffset, int length) {
+        int start = at(field, length);
+        for (int i = 0; i < length; i++) {
+            buffer.put(start + i, source[sourceOffset + i]);
+        }
+    }
+}
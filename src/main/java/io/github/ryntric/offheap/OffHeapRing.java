@@ -0,0 +1,114 @@
+package io.github.ryntric.offheap;
+
+import io.github.ryntric.EventHandler;
+import io.github.ryntric.util.MarkedSequencer;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A multi-producer ring of fixed-size records in one direct buffer, sequenced by a
+ * {@link MarkedSequencer} and drained in sequence order by a worker thread of its own.
+ * <p>
+ * Producers acquire a sequence, write its record through their view and commit it. The consumer
+ * handles records in order as they are committed. The ring holds no object per entry. When the
+ * ring is empty a parking consumer announces itself as parked, checks once more and parks; a
+ * producer unparks it after committing a record.
+ */
+final class OffHeapRing<F extends Flyweight> implements Runnable {
+    private final String name;
+    private final EventHandler<F> handler;
+    private final F view;
+    private final ByteBuffer records;
+    private final int recordSize;
+    private final int stride;
+    private final MarkedSequencer sequencer;
+    private final boolean spinning;
+    private volatile boolean parked;
+    private volatile Thread thread;
+
+    OffHeapRing(String name, EventHandler<F> handler, F view, int capacity, int recordSize, int stride, boolean spinning) {
+        this.name = name;
+        this.handler = handler;
+        this.view = view;
+        this.records = ByteBuffer.allocateDirect(capacity * stride).order(ByteOrder.nativeOrder());
+        this.recordSize = recordSize;
+        this.stride = stride;
+        this.sequencer = new MarkedSequencer(capacity);
+        this.spinning = spinning;
+    }
+
+    void start(String threadName) {
+        sequencer.open();
+        Thread worker = new Thread(this, threadName);
+        thread = worker;
+        worker.start();
+    }
+
+    void shutdown() {
+        sequencer.close();
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * @return a sequence whose record is free, see {@link MarkedSequencer#acquire(String, boolean)}
+     */
+    long acquire(String service, boolean spinning) {
+        return sequencer.acquire(service, spinning);
+    }
+
+    /**
+     * Points the view at the record of the sequence.
+     */
+    F wrap(F view, long sequence) {
+        view.wrap(records, sequencer.index(sequence) * stride, recordSize);
+        return view;
+    }
+
+    /**
+     * Hands the record of the sequence to the consumer, unparking it if it waits.
+     */
+    void commit(long sequence) {
+        sequencer.commit(sequence);
+        if (parked) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    @Override
+    public void run() {
+        handler.onStart(name);
+        try {
+            long sequence = sequencer.next();
+            while (sequencer.isOpen()) {
+                if (!sequencer.isCommitted(sequence)) {
+                    idle(sequence);
+                    continue;
+                }
+                F event = wrap(view, sequence);
+                try {
+                    handler.onEvent(name, event, sequence);
+                } catch (Throwable ex) {
+                    handler.onError(name, event, sequence, ex);
+                }
+                sequence++;
+                sequencer.release(sequence);
+            }
+        } finally {
+            handler.onShutdown(name);
+        }
+    }
+
+    private void idle(long sequence) {
+        if (spinning) {
+            Thread.onSpinWait();
+            return;
+        }
+        parked = true;
+        if (sequencer.isOpen() && !sequencer.isCommittedVolatile(sequence)) {
+            LockSupport.park(this);
+        }
+        parked = false;
+    }
+}
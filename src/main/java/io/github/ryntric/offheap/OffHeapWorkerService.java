@@ -0,0 +1,522 @@
+package io.github.ryntric.offheap;
+
+import io.github.ryntric.EventFactory;
+import io.github.ryntric.EventHandler;
+import io.github.ryntric.EventTranslator.EventTranslatorFiveArg;
+import io.github.ryntric.EventTranslator.EventTranslatorFourArg;
+import io.github.ryntric.EventTranslator.EventTranslatorOneArg;
+import io.github.ryntric.EventTranslator.EventTranslatorThreeArg;
+import io.github.ryntric.EventTranslator.EventTranslatorTwoArg;
+import io.github.ryntric.HashCodeProvider;
+import io.github.ryntric.WaitPolicy;
+import io.github.ryntric.WorkerServiceConfig;
+import io.github.ryntric.WorkerServiceTerminatedException;
+import io.github.ryntric.jfr.WorkerServiceLifecycleEvent;
+import io.github.ryntric.routing.RoutingTable;
+import io.github.ryntric.routing.RoutingTables;
+
+/**
+ * A keyed worker service whose events are fixed-size records in off-heap memory rather than
+ * preallocated event objects.
+ * <p>
+ * Every worker owns a ring of {@code bufferSize} records in a direct buffer. Translators and the
+ * handler see the records through {@link Flyweight} views created by the {@link EventFactory}:
+ * one per worker and one per publishing thread, moved from record to record. The rings hold no
+ * object per entry, so a large buffer adds nothing to the old generation and writing an event
+ * stores primitives without GC barriers. The price is that events can only carry what fits the
+ * fixed layout; references have to be encoded, e.g. as ids.
+ * <p>
+ * Routing, worker count, buffer size and wait policies come from {@link WorkerServiceConfig};
+ * the sequencer type does not apply. Events of the same key keep their publish order.
+ * The worker count is fixed.
+ *
+ * @param <F> the flyweight type through which records are accessed
+ */
+@SuppressWarnings("unchecked")
+public final class OffHeapWorkerService<F extends Flyweight> {
+    private final String name;
+    private final HashCodeProvider hashCodeProvider;
+    private final RoutingTable table;
+    private final OffHeapRing<F>[] rings;
+    private final ThreadLocal<F> views;
+    private final int recordSize;
+    private final int stride;
+    private final int bufferSize;
+    private final boolean producerSpinning;
+    private boolean started;
+
+    /**
+     * Creates a new {@code OffHeapWorkerService} instance with the given configuration and
+     * allocates the off-heap memory of all rings.
+     *
+     * @param name              name prefix for worker threads
+     * @param handler           the event handler that processes records
+     * @param factory           the factory for creating new flyweight views
+     * @param recordSize        size of one record in bytes
+     * @param hashCodeProvider  the provider used to hash routing keys
+     * @param config            worker service configuration
+     * @throws IllegalArgumentException if the record size is not positive or a ring would exceed 2 GiB
+     */
+    public OffHeapWorkerService(
+            String name,
+            EventHandler<F> handler,
+            EventFactory<F> factory,
+            int recordSize,
+            HashCodeProvider hashCodeProvider,
+            WorkerServiceConfig config) {
+        if (recordSize <= 0) {
+            throw new IllegalArgumentException("recordSize must be positive: " + recordSize);
+        }
+        int bufferSize = config.getBufferSize();
+        long stride = (recordSize + 7L) & ~7L;
+        if (stride * bufferSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("recordSize * bufferSize exceeds 2 GiB: " + recordSize + " * " + bufferSize);
+        }
+        this.name = name;
+        this.hashCodeProvider = hashCodeProvider;
+        this.recordSize = recordSize;
+        this.stride = (int) stride;
+        this.bufferSize = bufferSize;
+        this.producerSpinning = config.getProducerWaitPolicy() == WaitPolicy.SPINNING;
+        this.views = ThreadLocal.withInitial(factory::newInstance);
+        this.table = RoutingTables.of(config.getRoutingStrategy(), config.getWorkerCount(), config.getReplicaCount());
+        this.rings = new OffHeapRing[config.getWorkerCount()];
+        boolean consumerSpinning = config.getConsumerWaitPolicy() == WaitPolicy.SPINNING;
+        for (int i = 0; i < rings.length; i++) {
+            rings[i] = new OffHeapRing<>(name, handler, factory.newInstance(), bufferSize, recordSize, this.stride, consumerSpinning);
+        }
+    }
+
+    /**
+     * @return the service name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return size of one record in bytes
+     */
+    public int getRecordSize() {
+        return recordSize;
+    }
+
+    /**
+     * @return off-heap bytes held by the rings of all workers, records padded to 8 bytes
+     */
+    public long getMemorySize() {
+        return (long) stride * bufferSize * rings.length;
+    }
+
+    /**
+     * Starts all workers.
+     */
+    public synchronized void start() {
+        if (!started) {
+            started = true;
+            for (int i = 0; i < rings.length; i++) rings[i].start(name + "-" + i);
+            WorkerServiceLifecycleEvent.emit(name, WorkerServiceLifecycleEvent.STARTED, rings.length);
+        }
+    }
+
+    /**
+     * Stops all workers. Records still queued in rings are not handled.
+     */
+    public synchronized void shutdown() {
+        if (started) {
+            started = false;
+            for (OffHeapRing<F> ring : rings) ring.shutdown();
+            WorkerServiceLifecycleEvent.emit(name, WorkerServiceLifecycleEvent.SHUTDOWN, rings.length);
+        }
+    }
+
+    private <A> void publish(int hashcode, EventTranslatorOneArg<F, A> translator, A arg) {
+        OffHeapRing<F> ring = rings[table.route(hashcode)];
+        long sequence = ring.acquire(name, producerSpinning);
+        try {
+            translator.translateTo(ring.wrap(views.get(), sequence), arg);
+        } finally {
+            ring.commit(sequence);
+        }
+    }
+
+    private <A, B> void publish(int hashcode, EventTranslatorTwoArg<F, A, B> translator, A arg0, B arg1) {
+        OffHeapRing<F> ring = rings[table.route(hashcode)];
+        long sequence = ring.acquire(name, producerSpinning);
+        try {
+            translator.translateTo(ring.wrap(views.get(), sequence), arg0, arg1);
+        } finally {
+            ring.commit(sequence);
+        }
+    }
+
+    private <A, B, C> void publish(int hashcode, EventTranslatorThreeArg<F, A, B, C> translator, A arg0, B arg1, C arg2) {
+        OffHeapRing<F> ring = rings[table.route(hashcode)];
+        long sequence = ring.acquire(name, producerSpinning);
+        try {
+            translator.translateTo(ring.wrap(views.get(), sequence), arg0, arg1, arg2);
+        } finally {
+            ring.commit(sequence);
+        }
+    }
+
+    private <A, B, C, D> void publish(int hashcode, EventTranslatorFourArg<F, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        OffHeapRing<F> ring = rings[table.route(hashcode)];
+        long sequence = ring.acquire(name, producerSpinning);
+        try {
+            translator.translateTo(ring.wrap(views.get(), sequence), arg0, arg1, arg2, arg3);
+        } finally {
+            ring.commit(sequence);
+        }
+    }
+
+    private <A, B, C, D, E> void publish(int hashcode, EventTranslatorFiveArg<F, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        OffHeapRing<F> ring = rings[table.route(hashcode)];
+        long sequence = ring.acquire(name, producerSpinning);
+        try {
+            translator.translateTo(ring.wrap(views.get(), sequence), arg0, arg1, arg2, arg3, arg4);
+        } finally {
+            ring.commit(sequence);
+        }
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash
+     * of the given key, waiting while its ring is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the record through a view
+     * @param arg        argument passed to the translator
+     * @param <A>        type of the argument
+     */
+    public <A> void publishEvent(String key, EventTranslatorOneArg<F, A> translator, A arg) {
+        publish(hashCodeProvider.provide(key), translator, arg);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash
+     * of the given key, waiting while its ring is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the record through a view
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     */
+    public <A, B> void publishEvent(String key, EventTranslatorTwoArg<F, A, B> translator, A arg0, B arg1) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash
+     * of the given key, waiting while its ring is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the record through a view
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     */
+    public <A, B, C> void publishEvent(String key, EventTranslatorThreeArg<F, A, B, C> translator, A arg0, B arg1, C arg2) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash
+     * of the given key, waiting while its ring is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the record through a view
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     */
+    public <A, B, C, D> void publishEvent(String key, EventTranslatorFourArg<F, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash
+     * of the given key, waiting while its ring is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the record through a view
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param arg4       5th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     */
+    public <A, B, C, D, E> void publishEvent(String key, EventTranslatorFiveArg<F, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash
+     * of the given key, waiting while its ring is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the record through a view
+     * @param arg        argument passed to the translator
+     * @param <A>        type of the argument
+     */
+    public <A> void publishEvent(int key, EventTranslatorOneArg<F, A> translator, A arg) {
+        publish(hashCodeProvider.provide(key), translator, arg);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash
+     * of the given key, waiting while its ring is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the record through a view
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     */
+    public <A, B> void publishEvent(int key, EventTranslatorTwoArg<F, A, B> translator, A arg0, B arg1) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash
+     * of the given key, waiting while its ring is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the record through a view
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     */
+    public <A, B, C> void publishEvent(int key, EventTranslatorThreeArg<F, A, B, C> translator, A arg0, B arg1, C arg2) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash
+     * of the given key, waiting while its ring is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the record through a view
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     */
+    public <A, B, C, D> void publishEvent(int key, EventTranslatorFourArg<F, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash
+     * of the given key, waiting while its ring is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the record through a view
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param arg4       5th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     */
+    public <A, B, C, D, E> void publishEvent(int key, EventTranslatorFiveArg<F, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash
+     * of the given key, waiting while its ring is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the record through a view
+     * @param arg        argument passed to the translator
+     * @param <A>        type of the argument
+     */
+    public <A> void publishEvent(long key, EventTranslatorOneArg<F, A> translator, A arg) {
+        publish(hashCodeProvider.provide(key), translator, arg);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash
+     * of the given key, waiting while its ring is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the record through a view
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     */
+    public <A, B> void publishEvent(long key, EventTranslatorTwoArg<F, A, B> translator, A arg0, B arg1) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash
+     * of the given key, waiting while its ring is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the record through a view
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     */
+    public <A, B, C> void publishEvent(long key, EventTranslatorThreeArg<F, A, B, C> translator, A arg0, B arg1, C arg2) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash
+     * of the given key, waiting while its ring is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the record through a view
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     */
+    public <A, B, C, D> void publishEvent(long key, EventTranslatorFourArg<F, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash
+     * of the given key, waiting while its ring is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the record through a view
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param arg4       5th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     */
+    public <A, B, C, D, E> void publishEvent(long key, EventTranslatorFiveArg<F, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash
+     * of the given key, waiting while its ring is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the record through a view
+     * @param arg        argument passed to the translator
+     * @param <A>        type of the argument
+     */
+    public <A> void publishEvent(byte[] key, EventTranslatorOneArg<F, A> translator, A arg) {
+        publish(hashCodeProvider.provide(key), translator, arg);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash
+     * of the given key, waiting while its ring is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the record through a view
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     */
+    public <A, B> void publishEvent(byte[] key, EventTranslatorTwoArg<F, A, B> translator, A arg0, B arg1) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash
+     * of the given key, waiting while its ring is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the record through a view
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     */
+    public <A, B, C> void publishEvent(byte[] key, EventTranslatorThreeArg<F, A, B, C> translator, A arg0, B arg1, C arg2) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash
+     * of the given key, waiting while its ring is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the record through a view
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     */
+    public <A, B, C, D> void publishEvent(byte[] key, EventTranslatorFourArg<F, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Publishes a single event to the worker determined by the hash
+     * of the given key, waiting while its ring is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param translator translator used to populate the record through a view
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param arg4       5th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     */
+    public <A, B, C, D, E> void publishEvent(byte[] key, EventTranslatorFiveArg<F, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3, arg4);
+    }
+}
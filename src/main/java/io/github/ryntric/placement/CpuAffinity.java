@@ -0,0 +1,64 @@
+package io.github.ryntric.placement;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pins the calling thread to a CPU on Linux without native code: the kernel thread id is
+ * taken from the {@code /proc/thread-self} link and its affinity mask is set with
+ * {@code taskset}. Pinning costs a process launch, so it is done once, when a worker thread starts.
+ */
+public final class CpuAffinity {
+    private static final Path THREAD_SELF = Paths.get("/proc/thread-self");
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private CpuAffinity() {}
+
+    /**
+     * Restricts the calling thread to {@code cpu}.
+     *
+     * @param cpu the CPU
+     * @return whether the thread is pinned; {@code false} when not on Linux, without
+     * {@code /proc/thread-self} or {@code taskset}, or if the CPU is not allowed
+     */
+    public static boolean pin(int cpu) {
+        try {
+            String tid = Files.readSymbolicLink(THREAD_SELF).getFileName().toString();
+            Process taskset = new ProcessBuilder("taskset", "-p", "-c", Integer.toString(cpu), tid)
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            if (!taskset.waitFor(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                taskset.destroyForcibly();
+                return false;
+            }
+            return taskset.exitValue() == 0;
+        } catch (IOException | UnsupportedOperationException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * @return the CPUs the calling thread may run on, empty if unknown
+     */
+    public static BitSet current() {
+        try {
+            for (String line : Files.readAllLines(THREAD_SELF.resolve("status"), StandardCharsets.US_ASCII)) {
+                if (line.startsWith("Cpus_allowed_list:")) {
+                    return CpuTopology.parseList(line.substring("Cpus_allowed_list:".length()).trim());
+                }
+            }
+        } catch (IOException e) {
+            // not Linux
+        }
+        return new BitSet();
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.ryntric.placement;
+
+import java.lang.System.Logger.Level;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Assignment of worker indexes to CPUs, computed once from a {@link CpuTopology},
+ * a {@link PlacementStrategy} and an optional CPU set. Workers pin themselves with
+ * {@link #pin(int, String)} when their thread starts; if pinning is not possible a single
+ * warning is logged per placement and the workers keep running unpinned.
+ */
+public final class CpuPlacement {
+    private static final System.Logger LOGGER = System.getLogger(CpuPlacement.class.getName());
+    private static final CpuPlacement DISABLED = new CpuPlacement(new int[0]);
+
+    private final int[] order;
+    private final AtomicBoolean warned = new AtomicBoolean();
+
+    private CpuPlacement(int[] order) {
+        this.order = order;
+    }
+
+    /**
+     * Computes the CPU order of a strategy. An explicit CPU set restricts the order to its CPUs;
+     * with {@link PlacementStrategy#NONE} it pins workers compactly to the set.
+     *
+     * @param topology the topology to place on
+     * @param strategy the placement strategy
+     * @param cpuSet   the CPUs to use, empty for all available CPUs
+     * @return the placement, disabled if nothing is to be pinned or no CPU of the set is available
+     */
+    public static CpuPlacement of(CpuTopology topology, PlacementStrategy strategy, int[] cpuSet) {
+        if (strategy == PlacementStrategy.NONE && cpuSet.length == 0) {
+            return DISABLED;
+        }
+        int[] cpus = topology.getCpus();
+        if (cpuSet.length > 0) {
+            Set<Integer> allowed = new HashSet<>();
+            for (int cpu : cpuSet) allowed.add(cpu);
+            cpus = Arrays.stream(cpus).filter(allowed::contains).toArray();
+            if (cpus.length == 0) {
+                LOGGER.log(Level.WARNING, "None of the CPUs {0} is available, workers are not pinned: {1}", Arrays.toString(cpuSet), topology);
+                return DISABLED;
+            }
+        }
+        switch (strategy) {
+            case PHYSICAL_CORES:
+                return new CpuPlacement(physicalCores(topology, cpus));
+            case NUMA_SPREAD:
+                return new CpuPlacement(numaSpread(topology, cpus));
+            default:
+                return new CpuPlacement(cpus);
+        }
+    }
+
+    /**
+     * @return the lowest CPU of every physical core
+     */
+    private static int[] physicalCores(CpuTopology topology, int[] cpus) {
+        Set<Integer> cores = new HashSet<>();
+        return Arrays.stream(cpus).filter(cpu -> cores.add(topology.getCore(cpu))).toArray();
+    }
+
+    /**
+     * @return CPUs taken round-robin from the nodes, each node listing its physical cores first
+     */
+    private static int[] numaSpread(CpuTopology topology, int[] cpus) {
+        int[] first = physicalCores(topology, cpus);
+        Set<Integer> firsts = new HashSet<>();
+        for (int cpu : first) firsts.add(cpu);
+        TreeMap<Integer, List<Integer>> nodes = new TreeMap<>();
+        for (int cpu : first) {
+            nodes.computeIfAbsent(topology.getNode(cpu), node -> new ArrayList<>()).add(cpu);
+        }
+        for (int cpu : cpus) {
+            if (!firsts.contains(cpu)) nodes.computeIfAbsent(topology.getNode(cpu), node -> new ArrayList<>()).add(cpu);
+        }
+        int[] order = new int[cpus.length];
+        int count = 0;
+        for (int round = 0; count < order.length; round++) {
+            for (List<Integer> node : nodes.values()) {
+                if (round < node.size()) order[count++] = node.get(round);
+            }
+        }
+        return order;
+    }
+
+    /**
+     * @return whether workers are pinned
+     */
+    public boolean isEnabled() {
+        return order.length > 0;
+    }
+
+    /**
+     * @param worker the worker index
+     * @return the CPU of the worker, {@code -1} if placement is disabled
+     */
+    public int cpuOf(int worker) {
+        return order.length == 0 ? -1 : order[worker % order.length];
+    }
+
+    /**
+     * Pins the calling worker thread to its CPU, logging a warning on the first failure.
+     *
+     * @param worker  the worker index
+     * @param service the service name, for the warning
+     * @return whether the thread is pinned
+     */
+    public boolean pin(int worker, String service) {
+        int cpu = cpuOf(worker);
+        if (cpu < 0) {
+            return false;
+        }
+        if (CpuAffinity.pin(cpu)) {
+            return true;
+        }
+        if (warned.compareAndSet(false, true)) {
+            LOGGER.log(Level.WARNING, "Cannot pin workers of {0} to CPUs, they run unpinned", service);
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "CpuPlacement" + Arrays.toString(order);
+    }
+}
@@ -0,0 +1,236 @@
+package io.github.ryntric.placement;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The CPUs this process may run on, with the physical core and NUMA node of each and the
+ * CPU quota of its cgroup.
+ * <p>
+ * On Linux the topology is read from {@code /sys/devices/system/cpu}, the allowed CPUs from
+ * {@code Cpus_allowed_list} of {@code /proc/self/status}, which reflects cpusets and inherited
+ * affinity masks, and the quota from {@code cpu.max} (cgroup v2) or {@code cpu.cfs_quota_us}
+ * (cgroup v1). Elsewhere, or when these files are unreadable, every available processor is
+ * reported as its own core on a single node without a quota.
+ */
+public final class CpuTopology {
+    private final int[] cpus;
+    private final int[] cores;
+    private final int[] nodes;
+    private final double quota;
+
+    private CpuTopology(int[] cpus, int[] cores, int[] nodes, double quota) {
+        this.cpus = cpus;
+        this.cores = cores;
+        this.nodes = nodes;
+        this.quota = quota;
+    }
+
+    private static final class Holder {
+        private static final CpuTopology SYSTEM = read(Paths.get("/"));
+    }
+
+    /**
+     * @return the topology of the running system, read once
+     */
+    public static CpuTopology system() {
+        return Holder.SYSTEM;
+    }
+
+    /**
+     * Reads the topology from the {@code sys} and {@code proc} trees below {@code root}.
+     *
+     * @param root the file system root, {@code /} for the running system
+     * @return the topology, or a flat one if it cannot be read
+     */
+    public static CpuTopology read(Path root) {
+        Path cpuDir = root.resolve("sys/devices/system/cpu");
+        try {
+            BitSet online = parseList(readLine(cpuDir.resolve("online")));
+            String allowed = statusValue(root.resolve("proc/self/status"), "Cpus_allowed_list");
+            if (allowed != null) {
+                online.and(parseList(allowed));
+            }
+            if (online.isEmpty()) {
+                return flat();
+            }
+            int[] cpus = online.stream().toArray();
+            int[] cores = new int[cpus.length];
+            int[] nodes = new int[cpus.length];
+            Map<Long, Integer> coreIds = new HashMap<>();
+            for (int i = 0; i < cpus.length; i++) {
+                Path topology = cpuDir.resolve("cpu" + cpus[i]).resolve("topology");
+                long pkg = readInt(topology.resolve("physical_package_id"), 0);
+                long core = readInt(topology.resolve("core_id"), cpus[i]);
+                cores[i] = coreIds.computeIfAbsent(pkg << 32 | core, key -> coreIds.size());
+                nodes[i] = node(cpuDir.resolve("cpu" + cpus[i]));
+            }
+            return new CpuTopology(cpus, cores, nodes, quota(root.resolve("sys/fs/cgroup")));
+        } catch (IOException | RuntimeException e) {
+            return flat();
+        }
+    }
+
+    private static CpuTopology flat() {
+        int count = Runtime.getRuntime().availableProcessors();
+        int[] cpus = new int[count];
+        for (int i = 0; i < count; i++) cpus[i] = i;
+        return new CpuTopology(cpus, cpus.clone(), new int[count], -1);
+    }
+
+    private static String readLine(Path path) throws IOException {
+        List<String> lines = Files.readAllLines(path, StandardCharsets.US_ASCII);
+        if (lines.isEmpty()) throw new IOException("Empty file: " + path);
+        return lines.get(0).trim();
+    }
+
+    private static int readInt(Path path, int fallback) {
+        try {
+            return Integer.parseInt(readLine(path));
+        } catch (IOException | NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    private static String statusValue(Path status, String key) {
+        try {
+            for (String line : Files.readAllLines(status, StandardCharsets.US_ASCII)) {
+                if (line.startsWith(key + ":")) {
+                    return line.substring(key.length() + 1).trim();
+                }
+            }
+        } catch (IOException e) {
+            // not Linux, or no procfs
+        }
+        return null;
+    }
+
+    private static int node(Path cpu) {
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(cpu, "node*")) {
+            for (Path entry : entries) {
+                String name = entry.getFileName().toString();
+                if (name.length() > 4 && name.substring(4).chars().allMatch(Character::isDigit)) {
+                    return Integer.parseInt(name.substring(4));
+                }
+            }
+        } catch (IOException e) {
+            // kernel without NUMA support
+        }
+        return 0;
+    }
+
+    /**
+     * @return the CPU quota in CPUs of the cgroup mounted at {@code cgroup}, {@code -1} if unlimited
+     */
+    private static double quota(Path cgroup) {
+        try {
+            String[] max = readLine(cgroup.resolve("cpu.max")).split(" ");
+            return max[0].equals("max") ? -1 : Double.parseDouble(max[0]) / Double.parseDouble(max[1]);
+        } catch (IOException | RuntimeException e) {
+            // not cgroup v2
+        }
+        int quota = readInt(cgroup.resolve("cpu/cpu.cfs_quota_us"), -1);
+        int period = readInt(cgroup.resolve("cpu/cpu.cfs_period_us"), -1);
+        return quota > 0 && period > 0 ? (double) quota / period : -1;
+    }
+
+    /**
+     * Parses a kernel CPU list such as {@code 0-3,8,10-11}.
+     */
+    static BitSet parseList(String list) {
+        BitSet cpus = new BitSet();
+        for (String range : list.split(",")) {
+            range = range.trim();
+            if (range.isEmpty()) continue;
+            int dash = range.indexOf('-');
+            if (dash < 0) {
+                cpus.set(Integer.parseInt(range));
+            } else {
+                cpus.set(Integer.parseInt(range.substring(0, dash)), Integer.parseInt(range.substring(dash + 1)) + 1);
+            }
+        }
+        return cpus;
+    }
+
+    private int indexOf(int cpu) {
+        int index = Arrays.binarySearch(cpus, cpu);
+        if (index < 0) {
+            throw new IllegalArgumentException("CPU not available to this process: " + cpu);
+        }
+        return index;
+    }
+
+    /**
+     * @return the CPUs this process may run on, in ascending order
+     */
+    public int[] getCpus() {
+        return cpus.clone();
+    }
+
+    /**
+     * @param cpu an available CPU
+     * @return a process-wide identifier of its physical core, shared by its SMT siblings
+     */
+    public int getCore(int cpu) {
+        return cores[indexOf(cpu)];
+    }
+
+    /**
+     * @param cpu an available CPU
+     * @return its NUMA node
+     */
+    public int getNode(int cpu) {
+        return nodes[indexOf(cpu)];
+    }
+
+    /**
+     * @return number of physical cores with at least one available CPU
+     */
+    public int getPhysicalCoreCount() {
+        return (int) Arrays.stream(cores).distinct().count();
+    }
+
+    /**
+     * @return number of NUMA nodes with at least one available CPU
+     */
+    public int getNodeCount() {
+        return (int) Arrays.stream(nodes).distinct().count();
+    }
+
+    /**
+     * @return the cgroup CPU quota in CPUs, e.g. {@code 1.5}, or {@code -1} if unlimited
+     */
+    public double getCpuQuota() {
+        return quota;
+    }
+
+    /**
+     * @return the available CPUs capped by the rounded up CPU quota, at least 1
+     */
+    public int getUsableCpuCount() {
+        int count = cpus.length;
+        if (quota > 0) {
+            count = Math.min(count, (int) Math.ceil(quota));
+        }
+        return Math.max(count, 1);
+    }
+
+    @Override
+    public String toString() {
+        return "CpuTopology{" +
+                "cpus=" + Arrays.toString(cpus) +
+                ", cores=" + Arrays.toString(cores) +
+                ", nodes=" + Arrays.toString(nodes) +
+                ", quota=" + quota +
+                '}';
+    }
+}
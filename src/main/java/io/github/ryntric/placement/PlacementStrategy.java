@@ -0,0 +1,32 @@
+package io.github.ryntric.placement;
+
+/**
+ * Strategy used to pin worker threads to CPUs. Worker {@code i} is pinned to the
+ * {@code i}-th CPU of the order defined by the strategy, wrapping around when there are
+ * more workers than CPUs in that order.
+ */
+public enum PlacementStrategy {
+
+    /**
+     * Worker threads are not pinned and float across all CPUs the scheduler allows.
+     */
+    NONE,
+
+    /**
+     * CPUs in ascending order, so consecutive workers share physical cores and caches
+     * before the next package is used.
+     */
+    COMPACT,
+
+    /**
+     * One CPU per physical core, the lowest hardware thread of each, so no two workers
+     * share a core with simultaneous multithreading.
+     */
+    PHYSICAL_CORES,
+
+    /**
+     * CPUs taken round-robin from the NUMA nodes, physical cores before their SMT siblings,
+     * so workers and the memory they allocate spread evenly across nodes.
+     */
+    NUMA_SPREAD
+}
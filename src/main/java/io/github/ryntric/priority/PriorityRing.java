@@ -0,0 +1,83 @@
+package io.github.ryntric.priority;
+
+import io.github.ryntric.EventFactory;
+import io.github.ryntric.EventHandler;
+import io.github.ryntric.util.MarkedSequencer;
+
+/**
+ * Multi-producer ring of preallocated events for one priority of a {@link PriorityWorker},
+ * sequenced by a {@link MarkedSequencer}.
+ * <p>
+ * Producers acquire a sequence, translate into its entry and commit it. The worker polls entries
+ * in sequence order as they are committed, so the events a thread publishes at one priority keep
+ * their order. The ring is open to producers while its worker runs.
+ */
+@SuppressWarnings("unchecked")
+final class PriorityRing<T> {
+    private final Object[] events;
+    private final MarkedSequencer sequencer;
+
+    PriorityRing(int capacity, EventFactory<T> factory) {
+        this.events = new Object[capacity];
+        this.sequencer = new MarkedSequencer(capacity);
+        for (int i = 0; i < capacity; i++) {
+            events[i] = factory.newInstance();
+        }
+    }
+
+    /**
+     * @return a sequence whose entry is free, see {@link MarkedSequencer#acquire(String, boolean)}
+     */
+    long acquire(String service, boolean spinning) {
+        return sequencer.acquire(service, spinning);
+    }
+
+    T event(long sequence) {
+        return (T) events[sequencer.index(sequence)];
+    }
+
+    /**
+     * Hands the entry of the sequence to the worker.
+     */
+    void commit(long sequence) {
+        sequencer.commit(sequence);
+    }
+
+    void open() {
+        sequencer.open();
+    }
+
+    void close() {
+        sequencer.close();
+    }
+
+    /**
+     * @return whether the next entry to poll is ready; worker thread only
+     */
+    boolean hasPending() {
+        return sequencer.isCommittedVolatile(sequencer.next());
+    }
+
+    /**
+     * Handles up to {@code limit} ready entries in sequence order, releasing each to producers
+     * once handled; worker thread only.
+     *
+     * @return number of handled events
+     */
+    int poll(String name, EventHandler<T> handler, int limit) {
+        long sequence = sequencer.next();
+        int polled = 0;
+        while (polled < limit && sequencer.isCommitted(sequence)) {
+            T event = event(sequence);
+            try {
+                handler.onEvent(name, event, sequence);
+            } catch (Throwable ex) {
+                handler.onError(name, event, sequence, ex);
+            }
+            sequence++;
+            polled++;
+            sequencer.release(sequence);
+        }
+        return polled;
+    }
+}
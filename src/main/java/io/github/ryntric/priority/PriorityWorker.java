@@ -0,0 +1,140 @@
+package io.github.ryntric.priority;
+
+import io.github.ryntric.EventHandler;
+import io.github.ryntric.jfr.ConsumerBatchEvent;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Consumer thread of one worker, draining its rings in cycles of at most {@code batchSize} events.
+ * <p>
+ * A cycle polls the rings from the highest priority down, each for what is left of the cycle's
+ * budget, so an event waits for at most one cycle of lower priority events once it is ready.
+ * A lower ring that still held events when the budget ran out counts as passed over; after
+ * {@code starvationLimit} such cycles in a row it is polled first in the next cycle, for up to
+ * a whole batch, so a flood of higher priority events cannot starve it.
+ * <p>
+ * When a cycle finds nothing, a parking worker announces itself as parked, checks the rings once
+ * more and parks; producers unpark it after committing. Every ring poll is a batch reported as a
+ * {@link ConsumerBatchEvent} when it exceeds the threshold.
+ */
+final class PriorityWorker<T> implements Runnable {
+    private final String name;
+    private final int index;
+    private final EventHandler<T> handler;
+    private final PriorityRing<T>[] rings;
+    private final int batchSize;
+    private final int starvationLimit;
+    private final boolean spinning;
+    // cycles each ring was passed over with events ready, worker thread only
+    private final int[] passedOver;
+    private volatile boolean parked;
+    private volatile boolean running;
+    private volatile Thread thread;
+
+    PriorityWorker(String name, int index, EventHandler<T> handler, PriorityRing<T>[] rings, int batchSize, int starvationLimit, boolean spinning) {
+        this.name = name;
+        this.index = index;
+        this.handler = handler;
+        this.rings = rings;
+        this.batchSize = batchSize;
+        this.starvationLimit = starvationLimit;
+        this.spinning = spinning;
+        this.passedOver = new int[rings.length];
+    }
+
+    PriorityRing<T> ring(int priority) {
+        return rings[priority];
+    }
+
+    /**
+     * Unparks the worker if it is parked; called by producers after every commit.
+     */
+    void wake() {
+        if (parked) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    void start(String threadName) {
+        running = true;
+        for (PriorityRing<T> ring : rings) ring.open();
+        Thread worker = new Thread(this, threadName);
+        thread = worker;
+        worker.start();
+    }
+
+    void shutdown() {
+        running = false;
+        for (PriorityRing<T> ring : rings) ring.close();
+        LockSupport.unpark(thread);
+    }
+
+    boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void run() {
+        handler.onStart(name);
+        try {
+            while (running) {
+                if (cycle() == 0) idle();
+            }
+        } finally {
+            handler.onShutdown(name);
+        }
+    }
+
+    /**
+     * @return number of events handled in the cycle
+     */
+    private int cycle() {
+        int budget = batchSize;
+        for (int priority = rings.length - 1; priority > 0; priority--) {
+            if (passedOver[priority] >= starvationLimit) {
+                passedOver[priority] = 0;
+                budget -= poll(priority, batchSize);
+                break;
+            }
+        }
+        int handled = batchSize - budget;
+        for (int priority = 0; priority < rings.length; priority++) {
+            if (budget <= 0) {
+                if (rings[priority].hasPending()) passedOver[priority]++;
+                continue;
+            }
+            int polled = poll(priority, budget);
+            passedOver[priority] = 0;
+            budget -= polled;
+            handled += polled;
+        }
+        return handled;
+    }
+
+    private int poll(int priority, int limit) {
+        ConsumerBatchEvent batch = ConsumerBatchEvent.beginIfEnabled();
+        int polled = rings[priority].poll(name, handler, limit);
+        if (batch != null) batch.end(name, index, polled);
+        return polled;
+    }
+
+    private void idle() {
+        if (spinning) {
+            Thread.onSpinWait();
+            return;
+        }
+        parked = true;
+        if (!hasPending()) {
+            LockSupport.park(this);
+        }
+        parked = false;
+    }
+
+    private boolean hasPending() {
+        for (PriorityRing<T> ring : rings) {
+            if (ring.hasPending()) return true;
+        }
+        return !running;
+    }
+}
@@ -0,0 +1,560 @@
+package io.github.ryntric.priority;
+
+import io.github.ryntric.EventFactory;
+import io.github.ryntric.EventHandler;
+import io.github.ryntric.EventTranslator.EventTranslatorFiveArg;
+import io.github.ryntric.EventTranslator.EventTranslatorFourArg;
+import io.github.ryntric.EventTranslator.EventTranslatorOneArg;
+import io.github.ryntric.EventTranslator.EventTranslatorThreeArg;
+import io.github.ryntric.EventTranslator.EventTranslatorTwoArg;
+import io.github.ryntric.HashCodeProvider;
+import io.github.ryntric.WaitPolicy;
+import io.github.ryntric.WorkerServiceConfig;
+import io.github.ryntric.WorkerServiceTerminatedException;
+import io.github.ryntric.jfr.WorkerServiceLifecycleEvent;
+import io.github.ryntric.routing.RoutingTable;
+import io.github.ryntric.routing.RoutingTables;
+import io.github.ryntric.util.WorkerUtil;
+
+/**
+ * A keyed worker service whose workers each own one ring per priority, so that control events
+ * such as cancellations do not queue behind the data events of their key.
+ * <p>
+ * Every publish names a priority, {@code 0} being the highest. A worker drains its rings in cycles
+ * of at most {@link WorkerServiceConfig#getBatchSizeLimit()} of the buffer size, from the highest
+ * priority down, so a ready event waits for at most one cycle of lower priority events. A lower
+ * priority passed over for {@link WorkerServiceConfig#getPriorityStarvationLimit()} cycles in a row
+ * is served first in the next cycle. Events of one key and priority keep their publish order;
+ * events of one key at different priorities do not.
+ * <p>
+ * Routing, worker count, buffer size, wait policies and batch limit come from
+ * {@link WorkerServiceConfig}; the sequencer type does not apply. Each ring preallocates
+ * {@code bufferSize} events, so memory grows with {@code workers * priorities * bufferSize}.
+ * The worker count is fixed.
+ *
+ * @param <T> the event type handled by this service
+ */
+@SuppressWarnings("unchecked")
+public final class PriorityWorkerService<T> {
+    private final String name;
+    private final HashCodeProvider hashCodeProvider;
+    private final RoutingTable table;
+    private final PriorityWorker<T>[] workers;
+    private final int priorityCount;
+    private final boolean producerSpinning;
+    private boolean started;
+
+    /**
+     * Creates a new {@code PriorityWorkerService} instance with the given configuration.
+     *
+     * @param name              name prefix for worker threads
+     * @param handler           the event handler that processes events
+     * @param factory           the factory for creating new event instances
+     * @param hashCodeProvider  the provider used to hash routing keys
+     * @param config            worker service configuration
+     */
+    public PriorityWorkerService(
+            String name,
+            EventHandler<T> handler,
+            EventFactory<T> factory,
+            HashCodeProvider hashCodeProvider,
+            WorkerServiceConfig config) {
+        this.name = name;
+        this.hashCodeProvider = hashCodeProvider;
+        this.priorityCount = config.getPriorityCount();
+        this.producerSpinning = config.getProducerWaitPolicy() == WaitPolicy.SPINNING;
+        this.table = RoutingTables.of(config.getRoutingStrategy(), config.getWorkerCount(), config.getReplicaCount());
+        this.workers = new PriorityWorker[config.getWorkerCount()];
+        int batchSize = WorkerUtil.batchSize(config.getBatchSizeLimit(), config.getBufferSize());
+        boolean consumerSpinning = config.getConsumerWaitPolicy() == WaitPolicy.SPINNING;
+        for (int i = 0; i < workers.length; i++) {
+            PriorityRing<T>[] rings = new PriorityRing[priorityCount];
+            for (int priority = 0; priority < priorityCount; priority++) {
+                rings[priority] = new PriorityRing<>(config.getBufferSize(), factory);
+            }
+            workers[i] = new PriorityWorker<>(name, i, handler, rings, batchSize, config.getPriorityStarvationLimit(), consumerSpinning);
+        }
+    }
+
+    /**
+     * @return the service name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return number of priorities, publishes take priorities from {@code 0} (highest) to this minus one
+     */
+    public int getPriorityCount() {
+        return priorityCount;
+    }
+
+    /**
+     * Starts all workers.
+     */
+    public synchronized void start() {
+        if (!started) {
+            started = true;
+            for (int i = 0; i < workers.length; i++) workers[i].start(name + "-" + i);
+            WorkerServiceLifecycleEvent.emit(name, WorkerServiceLifecycleEvent.STARTED, workers.length);
+        }
+    }
+
+    /**
+     * Stops all workers. Events still queued in rings are not handled.
+     */
+    public synchronized void shutdown() {
+        if (started) {
+            started = false;
+            for (PriorityWorker<T> worker : workers) worker.shutdown();
+            WorkerServiceLifecycleEvent.emit(name, WorkerServiceLifecycleEvent.SHUTDOWN, workers.length);
+        }
+    }
+
+    private PriorityRing<T> ring(PriorityWorker<T> worker, int priority) {
+        if (priority < 0 || priority >= priorityCount) {
+            throw new IllegalArgumentException("Priority must be between 0 and " + (priorityCount - 1) + ": " + priority);
+        }
+        return worker.ring(priority);
+    }
+
+    private <A> void publish(int hashcode, int priority, EventTranslatorOneArg<T, A> translator, A arg) {
+        PriorityWorker<T> worker = workers[table.route(hashcode)];
+        PriorityRing<T> ring = ring(worker, priority);
+        long sequence = ring.acquire(name, producerSpinning);
+        try {
+            translator.translateTo(ring.event(sequence), arg);
+        } finally {
+            ring.commit(sequence);
+            worker.wake();
+        }
+    }
+
+    private <A, B> void publish(int hashcode, int priority, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        PriorityWorker<T> worker = workers[table.route(hashcode)];
+        PriorityRing<T> ring = ring(worker, priority);
+        long sequence = ring.acquire(name, producerSpinning);
+        try {
+            translator.translateTo(ring.event(sequence), arg0, arg1);
+        } finally {
+            ring.commit(sequence);
+            worker.wake();
+        }
+    }
+
+    private <A, B, C> void publish(int hashcode, int priority, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        PriorityWorker<T> worker = workers[table.route(hashcode)];
+        PriorityRing<T> ring = ring(worker, priority);
+        long sequence = ring.acquire(name, producerSpinning);
+        try {
+            translator.translateTo(ring.event(sequence), arg0, arg1, arg2);
+        } finally {
+            ring.commit(sequence);
+            worker.wake();
+        }
+    }
+
+    private <A, B, C, D> void publish(int hashcode, int priority, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        PriorityWorker<T> worker = workers[table.route(hashcode)];
+        PriorityRing<T> ring = ring(worker, priority);
+        long sequence = ring.acquire(name, producerSpinning);
+        try {
+            translator.translateTo(ring.event(sequence), arg0, arg1, arg2, arg3);
+        } finally {
+            ring.commit(sequence);
+            worker.wake();
+        }
+    }
+
+    private <A, B, C, D, E> void publish(int hashcode, int priority, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        PriorityWorker<T> worker = workers[table.route(hashcode)];
+        PriorityRing<T> ring = ring(worker, priority);
+        long sequence = ring.acquire(name, producerSpinning);
+        try {
+            translator.translateTo(ring.event(sequence), arg0, arg1, arg2, arg3, arg4);
+        } finally {
+            ring.commit(sequence);
+            worker.wake();
+        }
+    }
+    /**
+     * Publishes a single event at the given priority to the worker determined by the hash
+     * of the given key, waiting while the worker's ring of that priority is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param priority   priority of the event, {@code 0} being the highest
+     * @param translator translator used to populate the event
+     * @param arg        argument passed to the translator
+     * @param <A>        type of the argument
+     * @throws IllegalArgumentException if the priority is out of range
+     */
+    public <A> void publishEvent(String key, int priority, EventTranslatorOneArg<T, A> translator, A arg) {
+        publish(hashCodeProvider.provide(key), priority, translator, arg);
+    }
+
+    /**
+     * Publishes a single event at the given priority to the worker determined by the hash
+     * of the given key, waiting while the worker's ring of that priority is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param priority   priority of the event, {@code 0} being the highest
+     * @param translator translator used to populate the event
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @throws IllegalArgumentException if the priority is out of range
+     */
+    public <A, B> void publishEvent(String key, int priority, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        publish(hashCodeProvider.provide(key), priority, translator, arg0, arg1);
+    }
+
+    /**
+     * Publishes a single event at the given priority to the worker determined by the hash
+     * of the given key, waiting while the worker's ring of that priority is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param priority   priority of the event, {@code 0} being the highest
+     * @param translator translator used to populate the event
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @throws IllegalArgumentException if the priority is out of range
+     */
+    public <A, B, C> void publishEvent(String key, int priority, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        publish(hashCodeProvider.provide(key), priority, translator, arg0, arg1, arg2);
+    }
+
+    /**
+     * Publishes a single event at the given priority to the worker determined by the hash
+     * of the given key, waiting while the worker's ring of that priority is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param priority   priority of the event, {@code 0} being the highest
+     * @param translator translator used to populate the event
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @throws IllegalArgumentException if the priority is out of range
+     */
+    public <A, B, C, D> void publishEvent(String key, int priority, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        publish(hashCodeProvider.provide(key), priority, translator, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Publishes a single event at the given priority to the worker determined by the hash
+     * of the given key, waiting while the worker's ring of that priority is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param priority   priority of the event, {@code 0} being the highest
+     * @param translator translator used to populate the event
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param arg4       5th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     * @throws IllegalArgumentException if the priority is out of range
+     */
+    public <A, B, C, D, E> void publishEvent(String key, int priority, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        publish(hashCodeProvider.provide(key), priority, translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Publishes a single event at the given priority to the worker determined by the hash
+     * of the given key, waiting while the worker's ring of that priority is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param priority   priority of the event, {@code 0} being the highest
+     * @param translator translator used to populate the event
+     * @param arg        argument passed to the translator
+     * @param <A>        type of the argument
+     * @throws IllegalArgumentException if the priority is out of range
+     */
+    public <A> void publishEvent(int key, int priority, EventTranslatorOneArg<T, A> translator, A arg) {
+        publish(hashCodeProvider.provide(key), priority, translator, arg);
+    }
+
+    /**
+     * Publishes a single event at the given priority to the worker determined by the hash
+     * of the given key, waiting while the worker's ring of that priority is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param priority   priority of the event, {@code 0} being the highest
+     * @param translator translator used to populate the event
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @throws IllegalArgumentException if the priority is out of range
+     */
+    public <A, B> void publishEvent(int key, int priority, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        publish(hashCodeProvider.provide(key), priority, translator, arg0, arg1);
+    }
+
+    /**
+     * Publishes a single event at the given priority to the worker determined by the hash
+     * of the given key, waiting while the worker's ring of that priority is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param priority   priority of the event, {@code 0} being the highest
+     * @param translator translator used to populate the event
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @throws IllegalArgumentException if the priority is out of range
+     */
+    public <A, B, C> void publishEvent(int key, int priority, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        publish(hashCodeProvider.provide(key), priority, translator, arg0, arg1, arg2);
+    }
+
+    /**
+     * Publishes a single event at the given priority to the worker determined by the hash
+     * of the given key, waiting while the worker's ring of that priority is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param priority   priority of the event, {@code 0} being the highest
+     * @param translator translator used to populate the event
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @throws IllegalArgumentException if the priority is out of range
+     */
+    public <A, B, C, D> void publishEvent(int key, int priority, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        publish(hashCodeProvider.provide(key), priority, translator, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Publishes a single event at the given priority to the worker determined by the hash
+     * of the given key, waiting while the worker's ring of that priority is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param priority   priority of the event, {@code 0} being the highest
+     * @param translator translator used to populate the event
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param arg4       5th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     * @throws IllegalArgumentException if the priority is out of range
+     */
+    public <A, B, C, D, E> void publishEvent(int key, int priority, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        publish(hashCodeProvider.provide(key), priority, translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Publishes a single event at the given priority to the worker determined by the hash
+     * of the given key, waiting while the worker's ring of that priority is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param priority   priority of the event, {@code 0} being the highest
+     * @param translator translator used to populate the event
+     * @param arg        argument passed to the translator
+     * @param <A>        type of the argument
+     * @throws IllegalArgumentException if the priority is out of range
+     */
+    public <A> void publishEvent(long key, int priority, EventTranslatorOneArg<T, A> translator, A arg) {
+        publish(hashCodeProvider.provide(key), priority, translator, arg);
+    }
+
+    /**
+     * Publishes a single event at the given priority to the worker determined by the hash
+     * of the given key, waiting while the worker's ring of that priority is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param priority   priority of the event, {@code 0} being the highest
+     * @param translator translator used to populate the event
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @throws IllegalArgumentException if the priority is out of range
+     */
+    public <A, B> void publishEvent(long key, int priority, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        publish(hashCodeProvider.provide(key), priority, translator, arg0, arg1);
+    }
+
+    /**
+     * Publishes a single event at the given priority to the worker determined by the hash
+     * of the given key, waiting while the worker's ring of that priority is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param priority   priority of the event, {@code 0} being the highest
+     * @param translator translator used to populate the event
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @throws IllegalArgumentException if the priority is out of range
+     */
+    public <A, B, C> void publishEvent(long key, int priority, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        publish(hashCodeProvider.provide(key), priority, translator, arg0, arg1, arg2);
+    }
+
+    /**
+     * Publishes a single event at the given priority to the worker determined by the hash
+     * of the given key, waiting while the worker's ring of that priority is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param priority   priority of the event, {@code 0} being the highest
+     * @param translator translator used to populate the event
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @throws IllegalArgumentException if the priority is out of range
+     */
+    public <A, B, C, D> void publishEvent(long key, int priority, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        publish(hashCodeProvider.provide(key), priority, translator, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Publishes a single event at the given priority to the worker determined by the hash
+     * of the given key, waiting while the worker's ring of that priority is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param priority   priority of the event, {@code 0} being the highest
+     * @param translator translator used to populate the event
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param arg4       5th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     * @throws IllegalArgumentException if the priority is out of range
+     */
+    public <A, B, C, D, E> void publishEvent(long key, int priority, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        publish(hashCodeProvider.provide(key), priority, translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Publishes a single event at the given priority to the worker determined by the hash
+     * of the given key, waiting while the worker's ring of that priority is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param priority   priority of the event, {@code 0} being the highest
+     * @param translator translator used to populate the event
+     * @param arg        argument passed to the translator
+     * @param <A>        type of the argument
+     * @throws IllegalArgumentException if the priority is out of range
+     */
+    public <A> void publishEvent(byte[] key, int priority, EventTranslatorOneArg<T, A> translator, A arg) {
+        publish(hashCodeProvider.provide(key), priority, translator, arg);
+    }
+
+    /**
+     * Publishes a single event at the given priority to the worker determined by the hash
+     * of the given key, waiting while the worker's ring of that priority is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param priority   priority of the event, {@code 0} being the highest
+     * @param translator translator used to populate the event
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @throws IllegalArgumentException if the priority is out of range
+     */
+    public <A, B> void publishEvent(byte[] key, int priority, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        publish(hashCodeProvider.provide(key), priority, translator, arg0, arg1);
+    }
+
+    /**
+     * Publishes a single event at the given priority to the worker determined by the hash
+     * of the given key, waiting while the worker's ring of that priority is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param priority   priority of the event, {@code 0} being the highest
+     * @param translator translator used to populate the event
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @throws IllegalArgumentException if the priority is out of range
+     */
+    public <A, B, C> void publishEvent(byte[] key, int priority, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        publish(hashCodeProvider.provide(key), priority, translator, arg0, arg1, arg2);
+    }
+
+    /**
+     * Publishes a single event at the given priority to the worker determined by the hash
+     * of the given key, waiting while the worker's ring of that priority is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param priority   priority of the event, {@code 0} being the highest
+     * @param translator translator used to populate the event
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @throws IllegalArgumentException if the priority is out of range
+     */
+    public <A, B, C, D> void publishEvent(byte[] key, int priority, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        publish(hashCodeProvider.provide(key), priority, translator, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Publishes a single event at the given priority to the worker determined by the hash
+     * of the given key, waiting while the worker's ring of that priority is full.
+     *
+     * @param key        routing key used for consistent worker selection
+     * @param priority   priority of the event, {@code 0} being the highest
+     * @param translator translator used to populate the event
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param arg4       5th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     * @throws IllegalArgumentException if the priority is out of range
+     */
+    public <A, B, C, D, E> void publishEvent(byte[] key, int priority, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        publish(hashCodeProvider.provide(key), priority, translator, arg0, arg1, arg2, arg3, arg4);
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.ryntric.routing;
+
+abstract class AbstractRoutingTable implements RoutingTable {
+    private static final int OBJECT_HEADER = 16;
+    private static final int ARRAY_HEADER = 16;
+
+    protected final int workerCount;
+    protected final int slotCount;
+    protected final int mask;
+
+    AbstractRoutingTable(int workerCount, int slotCount) {
+        this.workerCount = workerCount;
+        this.slotCount = slotCount;
+        this.mask = slotCount - 1;
+    }
+
+    static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    static long arrayFootprint(int length, int elementSize) {
+        return align(ARRAY_HEADER + (long) length * elementSize);
+    }
+
+    static long objectFootprint(int fieldBytes) {
+        return align(OBJECT_HEADER + fieldBytes);
+    }
+
+    @Override
+    public int slot(int hashcode) {
+        return hashcode & mask;
+    }
+
+    @Override
+    public int slotCount() {
+        return slotCount;
+    }
+
+    @Override
+    public int workerCount() {
+        return workerCount;
+    }
+
+    void checkOwner(int slot, int worker) {
+        if (slot < 0 || slot >= slotCount) {
+            throw new IndexOutOfBoundsException("Slot " + slot + " out of [0, " + slotCount + ")");
+        }
+        if (worker < 0 || worker >= workerCount) {
+            throw new IllegalArgumentException("Worker " + worker + " out of [0, " + workerCount + ")");
+        }
+    }
+
+    /**
+     * Round-robin reassignment that keeps the slot count, used by the slot-mask tables.
+     */
+    RoutingTable roundRobin(int workerCount) {
+        int[] owners = new int[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            owners[i] = i % workerCount;
+        }
+        return RoutingTables.of(workerCount, owners);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s{workers=%d, slots=%d, footprint=%d bytes}", getClass().getSimpleName(), workerCount, slotCount, footprint());
+    }
+}
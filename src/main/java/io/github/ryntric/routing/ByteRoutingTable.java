@@ -0,0 +1,51 @@
+package io.github.ryntric.routing;
+
+/**
+ * Routing table for up to 256 workers, one byte per slot.
+ */
+final class ByteRoutingTable extends AbstractRoutingTable {
+    static final int MAX_WORKERS = 1 << Byte.SIZE;
+
+    private final byte[] owners;
+
+    ByteRoutingTable(int workerCount, int[] owners) {
+        super(workerCount, owners.length);
+        this.owners = new byte[owners.length];
+        for (int i = 0; i < owners.length; i++) {
+            this.owners[i] = (byte) owners[i];
+        }
+    }
+
+    private ByteRoutingTable(int workerCount, byte[] owners) {
+        super(workerCount, owners.length);
+        this.owners = owners;
+    }
+
+    @Override
+    public int owner(int slot) {
+        return owners[slot] & 0xFF;
+    }
+
+    @Override
+    public int route(int hashcode) {
+        return owners[hashcode & mask] & 0xFF;
+    }
+
+    @Override
+    public long footprint() {
+        return objectFootprint(16) + arrayFootprint(slotCount, Byte.BYTES);
+    }
+
+    @Override
+    public RoutingTable withWorkerCount(int workerCount) {
+        return roundRobin(workerCount);
+    }
+
+    @Override
+    public RoutingTable withOwner(int slot, int worker) {
+        checkOwner(slot, worker);
+        byte[] owners = this.owners.clone();
+        owners[slot] = (byte) worker;
+        return new ByteRoutingTable(workerCount, owners);
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.ryntric.routing;
+
+import java.util.Arrays;
+
+/**
+ * Consistent hash ring. Every worker owns {@code replicaCount} virtual nodes whose positions
+ * are derived from the worker index and the replica number only. A key belongs to the first
+ * virtual node at or after its own position, wrapping around the ring; that virtual node
+ * is the key's slot.
+ */
+final class ConsistentHashRoutingTable extends AbstractRoutingTable {
+    private final int replicaCount;
+    private final int[] points;
+    private final short[] owners;
+
+    ConsistentHashRoutingTable(int workerCount, int replicaCount) {
+        super(workerCount, workerCount * replicaCount);
+        this.replicaCount = replicaCount;
+        long[] nodes = new long[slotCount];
+        for (int worker = 0, i = 0; worker < workerCount; worker++) {
+            for (int replica = 0; replica < replicaCount; replica++, i++) {
+                nodes[i] = ((long) position(worker, replica) << 32) | worker;
+            }
+        }
+        Arrays.sort(nodes);
+
+        this.points = new int[slotCount];
+        this.owners = new short[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            points[i] = (int) (nodes[i] >> 32);
+            owners[i] = (short) nodes[i];
+        }
+    }
+
+    private ConsistentHashRoutingTable(ConsistentHashRoutingTable table, short[] owners) {
+        super(table.workerCount, table.slotCount);
+        this.replicaCount = table.replicaCount;
+        this.points = table.points;
+        this.owners = owners;
+    }
+
+    static int position(int worker, int replica) {
+        return (int) (mix64((long) worker << 32 | replica) >>> 32);
+    }
+
+    static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    @Override
+    public int slot(int hashcode) {
+        return slotOfPoint(mix(hashcode));
+    }
+
+    /**
+     * @return index of the first virtual node at or after the point, wrapping around the ring
+     */
+    int slotOfPoint(int point) {
+        int low = 0;
+        int high = slotCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (points[middle] < point) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low == slotCount ? 0 : low;
+    }
+
+    @Override
+    public int owner(int slot) {
+        return owners[slot] & 0xFFFF;
+    }
+
+    /**
+     * @return ring position of the virtual node that is the given slot
+     */
+    int point(int slot) {
+        return points[slot];
+    }
+
+    @Override
+    public long footprint() {
+        return objectFootprint(28) + arrayFootprint(slotCount, Integer.BYTES) + arrayFootprint(slotCount, Short.BYTES);
+    }
+
+    @Override
+    public RoutingTable withWorkerCount(int workerCount) {
+        return RoutingTables.consistentHash(workerCount, replicaCount);
+    }
+
+    @Override
+    public RoutingTable withOwner(int slot, int worker) {
+        checkOwner(slot, worker);
+        short[] owners = this.owners.clone();
+        owners[slot] = (short) worker;
+        return new ConsistentHashRoutingTable(this, owners);
+    }
+}
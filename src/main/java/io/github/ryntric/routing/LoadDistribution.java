@@ -0,0 +1,80 @@
+package io.github.ryntric.routing;
+
+import java.util.Arrays;
+
+/**
+ * Distribution quality of a {@link RoutingTable} for a given key set:
+ * how many keys every worker receives, and how far the busiest worker is above the mean.
+ */
+public final class LoadDistribution {
+    private final int[] loads;
+    private final int keyCount;
+
+    private LoadDistribution(int[] loads, int keyCount) {
+        this.loads = loads;
+        this.keyCount = keyCount;
+    }
+
+    /**
+     * Routes every hash through the table and counts the keys per worker.
+     *
+     * @param table      routing table under test
+     * @param hashcodes  normalized hashes of the key set, as produced by a {@code HashCodeProvider}
+     * @return the distribution
+     */
+    public static LoadDistribution measure(RoutingTable table, int[] hashcodes) {
+        int[] loads = new int[table.workerCount()];
+        for (int hashcode : hashcodes) {
+            loads[table.route(hashcode)]++;
+        }
+        return new LoadDistribution(loads, hashcodes.length);
+    }
+
+    /**
+     * @param worker worker index
+     * @return number of keys routed to the worker
+     */
+    public int getLoad(int worker) {
+        return loads[worker];
+    }
+
+    public int getMax() {
+        return Arrays.stream(loads).max().orElse(0);
+    }
+
+    public int getMin() {
+        return Arrays.stream(loads).min().orElse(0);
+    }
+
+    public double getMean() {
+        return (double) keyCount / loads.length;
+    }
+
+    /**
+     * @return busiest worker load divided by the mean load, {@code 1.0} is a perfect spread
+     */
+    public double getMaxToMean() {
+        return keyCount == 0 ? 1.0 : getMax() / getMean();
+    }
+
+    /**
+     * @return standard deviation of the per-worker load divided by the mean load
+     */
+    public double getCoefficientOfVariation() {
+        double mean = getMean();
+        if (mean == 0) {
+            return 0;
+        }
+        double sum = 0;
+        for (int load : loads) {
+            sum += (load - mean) * (load - mean);
+        }
+        return Math.sqrt(sum / loads.length) / mean;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LoadDistribution{workers=%d, keys=%d, min=%d, max=%d, mean=%.1f, max/mean=%.3f, cv=%.3f}",
+                loads.length, keyCount, getMin(), getMax(), getMean(), getMaxToMean(), getCoefficientOfVariation());
+    }
+}
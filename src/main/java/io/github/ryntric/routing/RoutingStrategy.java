@@ -0,0 +1,21 @@
+package io.github.ryntric.routing;
+
+/**
+ * Strategy used to spread routing slots across workers.
+ */
+public enum RoutingStrategy {
+
+    /**
+     * {@code ceilPowerOfTwo(workerCount * replicaCount)} slots assigned round-robin,
+     * looked up with a single mask. Fastest lookup, but changing the worker count
+     * reassigns almost every key.
+     */
+    MODULO,
+
+    /**
+     * Hash ring with {@code replicaCount} virtual nodes per worker at hashed positions,
+     * looked up with a binary search. Virtual node positions depend only on the worker index,
+     * so adding or removing a worker remaps only about {@code 1/workerCount} of the keys.
+     */
+    CONSISTENT_HASH
+}
@@ -0,0 +1,67 @@
+package io.github.ryntric.routing;
+
+/**
+ * Maps a routing hash onto a worker index.
+ * <p>
+ * The hash space is split into slots, and every slot is owned by exactly one worker.
+ * Implementations are immutable and keep the slot owners in flat primitive arrays,
+ * so a lookup costs a single small array load on the publish path.
+ */
+public interface RoutingTable {
+
+    /**
+     * @param hashcode normalized routing hash
+     * @return the slot the hash falls into
+     */
+    int slot(int hashcode);
+
+    /**
+     * @param slot slot index in {@code [0, slotCount())}
+     * @return index of the worker owning the slot
+     */
+    int owner(int slot);
+
+    /**
+     * @param hashcode normalized routing hash
+     * @return index of the worker that must process events for the hash
+     */
+    default int route(int hashcode) {
+        return owner(slot(hashcode));
+    }
+
+    /**
+     * @return number of slots
+     */
+    int slotCount();
+
+    /**
+     * @return number of workers slots are spread across
+     */
+    int workerCount();
+
+    /**
+     * @return approximate number of bytes retained by this table
+     */
+    long footprint();
+
+    /**
+     * Creates a table spreading the same hash space across a different number of workers
+     * using the same strategy. Slot-mask tables keep their slot count, so slot indices of
+     * both tables cover the same keys.
+     *
+     * @param workerCount new number of workers
+     * @return a new routing table
+     */
+    RoutingTable withWorkerCount(int workerCount);
+
+    /**
+     * Creates a copy of this table in which a single slot is owned by another worker.
+     * The hash ranges of all slots stay the same. A later {@link #withWorkerCount(int)}
+     * starts again from the strategy's own assignment.
+     *
+     * @param slot   slot to reassign
+     * @param worker index of the new owner
+     * @return a new routing table
+     */
+    RoutingTable withOwner(int slot, int worker);
+}
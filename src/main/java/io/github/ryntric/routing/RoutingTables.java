@@ -0,0 +1,151 @@
+package io.github.ryntric.routing;
+
+import io.github.ryntric.util.WorkerUtil;
+
+import java.util.Arrays;
+
+/**
+ * Factory methods for {@link RoutingTable} implementations.
+ * <p>
+ * The narrowest primitive owner array able to address all workers is chosen,
+ * so with the usual worker counts a table of 8192 slots fits in 8 KiB.
+ */
+public final class RoutingTables {
+
+    private RoutingTables() {}
+
+    /**
+     * Creates a table for the given strategy.
+     *
+     * @param strategy     slot assignment strategy
+     * @param workerCount  number of workers
+     * @param replicaCount number of slots per worker
+     * @return a new routing table
+     */
+    public static RoutingTable of(RoutingStrategy strategy, int workerCount, int replicaCount) {
+        switch (strategy) {
+            case MODULO: return modulo(workerCount, replicaCount);
+            case CONSISTENT_HASH: return consistentHash(workerCount, replicaCount);
+            default: throw new IllegalArgumentException("Unknown routing strategy: " + strategy);
+        }
+    }
+
+    /**
+     * Creates a table with {@code ceilPowerOfTwo(workerCount * replicaCount)} slots
+     * assigned to workers round-robin.
+     *
+     * @param workerCount  number of workers
+     * @param replicaCount number of slots per worker
+     * @return a new routing table
+     */
+    public static RoutingTable modulo(int workerCount, int replicaCount) {
+        int slotCount = WorkerUtil.ceilPowerOfTwo(workerCount * replicaCount);
+        int[] owners = new int[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            owners[i] = i % workerCount;
+        }
+        return of(workerCount, owners);
+    }
+
+    /**
+     * Creates a consistent hash ring with {@code replicaCount} virtual nodes per worker.
+     *
+     * @param workerCount  number of workers
+     * @param replicaCount number of virtual nodes per worker
+     * @return a new routing table
+     */
+    public static RoutingTable consistentHash(int workerCount, int replicaCount) {
+        if (workerCount <= 0 || workerCount > ShortRoutingTable.MAX_WORKERS) {
+            throw new IllegalArgumentException("Worker count must be in [1, " + ShortRoutingTable.MAX_WORKERS + "]: " + workerCount);
+        }
+        if (replicaCount <= 0) {
+            throw new IllegalArgumentException("Replica count must be positive: " + replicaCount);
+        }
+        return new ConsistentHashRoutingTable(workerCount, replicaCount);
+    }
+
+    /**
+     * Creates a table from an explicit slot assignment.
+     *
+     * @param workerCount number of workers
+     * @param owners      worker index for every slot, length must be a power of two
+     * @return a new routing table
+     */
+    public static RoutingTable of(int workerCount, int[] owners) {
+        if (workerCount <= 0) {
+            throw new IllegalArgumentException("Worker count must be positive: " + workerCount);
+        }
+        if (Integer.bitCount(owners.length) != 1) {
+            throw new IllegalArgumentException("Slot count must be a power of two: " + owners.length);
+        }
+        if (workerCount <= ByteRoutingTable.MAX_WORKERS) {
+            return new ByteRoutingTable(workerCount, owners);
+        }
+        if (workerCount <= ShortRoutingTable.MAX_WORKERS) {
+            return new ShortRoutingTable(workerCount, owners);
+        }
+        throw new IllegalArgumentException("Worker count exceeds " + ShortRoutingTable.MAX_WORKERS + ": " + workerCount);
+    }
+
+    /**
+     * Finds, for every slot of {@code next}, the workers of {@code previous} that owned any
+     * part of the slot's hash range and are not the slot's new owner. Events already queued
+     * on those workers must drain before the slot can be served by its new owner.
+     *
+     * @param previous table being replaced
+     * @param next     replacement created with {@link RoutingTable#withWorkerCount(int)} or {@link RoutingTable#withOwner(int, int)}
+     * @return previous owners per slot of {@code next}, {@code null} for slots that did not move
+     */
+    public static int[][] previousOwners(RoutingTable previous, RoutingTable next) {
+        if (previous instanceof ConsistentHashRoutingTable && next instanceof ConsistentHashRoutingTable) {
+            return previousOwners((ConsistentHashRoutingTable) previous, (ConsistentHashRoutingTable) next);
+        }
+        if (previous.slotCount() != next.slotCount() || previous instanceof ConsistentHashRoutingTable || next instanceof ConsistentHashRoutingTable) {
+            throw new IllegalArgumentException("Incompatible routing tables: " + previous + ", " + next);
+        }
+        int[][] moved = new int[next.slotCount()][];
+        for (int slot = 0; slot < moved.length; slot++) {
+            if (previous.owner(slot) != next.owner(slot)) {
+                moved[slot] = new int[]{previous.owner(slot)};
+            }
+        }
+        return moved;
+    }
+
+    private static int[][] previousOwners(ConsistentHashRoutingTable previous, ConsistentHashRoutingTable next) {
+        int[][] moved = new int[next.slotCount()][];
+        int previousCount = previous.slotCount();
+        for (int slot = 0; slot < moved.length; slot++) {
+            int owner = next.owner(slot);
+            int end = next.point(slot);
+            int start = next.point(slot == 0 ? moved.length - 1 : slot - 1);
+
+            // previous virtual nodes inside (start, end) end previous arcs overlapping this slot,
+            // and the previous arc covering end overlaps it too
+            int first = previous.slotOfPoint(start == Integer.MAX_VALUE ? Integer.MIN_VALUE : start + 1);
+            int last = previous.slotOfPoint(end);
+            int[] owners = new int[0];
+            for (int i = first; ; i = i + 1 == previousCount ? 0 : i + 1) {
+                int candidate = previous.owner(i);
+                if (candidate != owner && !contains(owners, candidate)) {
+                    owners = Arrays.copyOf(owners, owners.length + 1);
+                    owners[owners.length - 1] = candidate;
+                }
+                if (i == last) {
+                    break;
+                }
+            }
+            if (owners.length != 0) {
+                moved[slot] = owners;
+            }
+        }
+        return moved;
+    }
+
+    private static boolean contains(int[] values, int value) {
+        for (int v : values) {
+            if (v == value) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.ryntric.routing;
+
+/**
+ * Routing table for up to 65536 workers, two bytes per slot.
+ */
+final class ShortRoutingTable extends AbstractRoutingTable {
+    static final int MAX_WORKERS = 1 << Short.SIZE;
+
+    private final short[] owners;
+
+    ShortRoutingTable(int workerCount, int[] owners) {
+        super(workerCount, owners.length);
+        this.owners = new short[owners.length];
+        for (int i = 0; i < owners.length; i++) {
+            this.owners[i] = (short) owners[i];
+        }
+    }
+
+    private ShortRoutingTable(int workerCount, short[] owners) {
+        super(workerCount, owners.length);
+        this.owners = owners;
+    }
+
+    @Override
+    public int owner(int slot) {
+        return owners[slot] & 0xFFFF;
+    }
+
+    @Override
+    public int route(int hashcode) {
+        return owners[hashcode & mask] & 0xFFFF;
+    }
+
+    @Override
+    public long footprint() {
+        return objectFootprint(16) + arrayFootprint(slotCount, Short.BYTES);
+    }
+
+    @Override
+    public RoutingTable withWorkerCount(int workerCount) {
+        return roundRobin(workerCount);
+    }
+
+    @Override
+    public RoutingTable withOwner(int slot, int worker) {
+        checkOwner(slot, worker);
+        short[] owners = this.owners.clone();
+        owners[slot] = (short) worker;
+        return new ShortRoutingTable(workerCount, owners);
+    }
+}
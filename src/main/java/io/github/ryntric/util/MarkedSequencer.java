@@ -0,0 +1,145 @@
+package io.github.ryntric.util;
+
+import io.github.ryntric.WorkerServiceTerminatedException;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sequencing of a multi-producer ring with a single consumer, shared by the rings of the key
+ * group, priority and off-heap services; not part of the public API. The entries themselves
+ * are kept by the owning ring at {@link #index(long)}.
+ * <p>
+ * Producers claim a sequence with one atomic add, wait until its entry is free, write the entry
+ * and mark it with its sequence. The consumer handles entries in sequence order as their marks
+ * appear and releases each to producers once handled. Marks live in a primitive array, and the
+ * claim and consume cursors sit on separate padded cache lines. Producers can acquire entries
+ * while the sequencer is open, which its owner ties to the life of its consumer.
+ */
+public final class MarkedSequencer {
+    private static final VarHandle CURSORS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final VarHandle MARKS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final int PAD = 16;
+    private static final int CLAIMED = PAD;
+    private static final int CONSUMED = PAD * 2;
+
+    private final long[] marks;
+    private final int mask;
+    private final long[] cursors = new long[PAD * 3];
+    private volatile boolean open;
+
+    /**
+     * @param capacity number of entries, a power of two
+     */
+    public MarkedSequencer(int capacity) {
+        this.marks = new long[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(marks, -1L);
+    }
+
+    public int capacity() {
+        return marks.length;
+    }
+
+    /**
+     * @return index of the entry of the sequence
+     */
+    public int index(long sequence) {
+        return (int) sequence & mask;
+    }
+
+    /**
+     * @return the claimed sequence, whose entry may still be in use by the consumer
+     */
+    public long claim() {
+        return (long) CURSORS.getAndAdd(cursors, CLAIMED, 1L);
+    }
+
+    /**
+     * @return {@code true} once the consumer has released the entry of the claimed sequence
+     */
+    public boolean isFree(long sequence) {
+        return sequence - (long) CURSORS.getAcquire(cursors, CONSUMED) < marks.length;
+    }
+
+    /**
+     * Claims the next sequence and waits until its entry is free, spinning or parking for the
+     * shortest time in between.
+     *
+     * @param service  name of the service, for the exception
+     * @param spinning whether to spin instead of park while the ring is full
+     * @return the claimed sequence, which must be {@link #commit(long) committed}
+     * @throws WorkerServiceTerminatedException if the sequencer is closed, before or while waiting
+     */
+    public long acquire(String service, boolean spinning) {
+        if (!open) {
+            throw new WorkerServiceTerminatedException(service);
+        }
+        long sequence = claim();
+        while (!isFree(sequence)) {
+            if (!open) {
+                throw new WorkerServiceTerminatedException(service);
+            }
+            if (spinning) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(1L);
+            }
+        }
+        return sequence;
+    }
+
+    /**
+     * Hands the entry of the sequence to the consumer. The mark is stored sequentially
+     * consistent so that the producer's following read of a parked flag cannot move before it.
+     */
+    public void commit(long sequence) {
+        MARKS.setVolatile(marks, index(sequence), sequence);
+    }
+
+    /**
+     * @return the next sequence to handle; consumer thread only
+     */
+    public long next() {
+        return cursors[CONSUMED];
+    }
+
+    /**
+     * @return whether the entry of the sequence is committed, read with acquire semantics
+     */
+    public boolean isCommitted(long sequence) {
+        return (long) MARKS.getAcquire(marks, index(sequence)) == sequence;
+    }
+
+    /**
+     * Like {@link #isCommitted(long)}, but sequentially consistent, for the check a consumer
+     * makes after announcing that it parks.
+     */
+    public boolean isCommittedVolatile(long sequence) {
+        return (long) MARKS.getVolatile(marks, index(sequence)) == sequence;
+    }
+
+    /**
+     * Releases every entry before {@code next} to producers; consumer thread only.
+     */
+    public void release(long next) {
+        CURSORS.setRelease(cursors, CONSUMED, next);
+    }
+
+    public void open() {
+        open = true;
+    }
+
+    /**
+     * Makes current and later {@link #acquire} calls fail until the sequencer is opened again.
+     */
+    public void close() {
+        open = false;
+    }
+
+    public boolean isOpen() {
+        return open;
+    }
+}
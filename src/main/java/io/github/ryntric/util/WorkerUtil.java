@@ -1,21 +1,46 @@
 package io.github.ryntric.util;
 
+import io.github.ryntric.BatchSizeLimit;
+import io.github.ryntric.placement.CpuTopology;
+
 public final class WorkerUtil {
     private static final Runtime RUNTIME = Runtime.getRuntime();
     private static final Integer AVAILABLE_PROCESSORS = RUNTIME.availableProcessors();
 
     private WorkerUtil() {}
 
+    /**
+     * @return one less than the CPUs usable under the process cpuset and cgroup CPU quota, at least 1
+     */
     public static int getWorkerCount() {
-        return AVAILABLE_PROCESSORS > 1 ? AVAILABLE_PROCESSORS - 1 : AVAILABLE_PROCESSORS;
+        int usable = Math.min(AVAILABLE_PROCESSORS, CpuTopology.system().getUsableCpuCount());
+        return usable > 1 ? usable - 1 : usable;
     }
 
     public static int getAvailableProcessors() {
         return AVAILABLE_PROCESSORS;
     }
 
+    /**
+     * Translates a batch size limit into its fraction of the buffer size, at least 1.
+     *
+     * @throws IllegalArgumentException if the limit is not one this version knows
+     */
+    public static int batchSize(BatchSizeLimit limit, int bufferSize) {
+        switch (limit) {
+            case _1_2:
+                return Math.max(1, bufferSize / 2);
+            case _1_4:
+                return Math.max(1, bufferSize / 4);
+            case _1_8:
+                return Math.max(1, bufferSize / 8);
+            default:
+                throw new IllegalArgumentException("Unsupported batch size limit: " + limit);
+        }
+    }
+
     public static int ceilPowerOfTwo(int n) {
-        if (n <= 0) return 1;
+        if (n <= 1) return 1;
         return Integer.highestOneBit(n - 1) << 1;
     }
 
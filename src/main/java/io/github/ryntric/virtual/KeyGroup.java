@@ -0,0 +1,100 @@
+package io.github.ryntric.virtual;
+
+import io.github.ryntric.EventFactory;
+import io.github.ryntric.EventHandler;
+import io.github.ryntric.util.MarkedSequencer;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A serial lane for the keys of one key group: a multi-producer ring of preallocated events,
+ * sequenced by a {@link MarkedSequencer}, drained in sequence order by a thread of its own.
+ * <p>
+ * Producers acquire a sequence, translate its event and commit it. The consumer handles entries
+ * in order as they are committed. When the ring is empty the consumer announces itself as
+ * parked, checks once more and parks; a producer unparks it after committing an entry.
+ */
+final class KeyGroup<T> implements Runnable {
+    private final String name;
+    private final EventHandler<T> handler;
+    private final Object[] events;
+    private final MarkedSequencer sequencer;
+    private final Thread thread;
+    private volatile boolean parked;
+
+    KeyGroup(String name, EventHandler<T> handler, EventFactory<T> factory, int capacity, ThreadFactory threads) {
+        this.name = name;
+        this.handler = handler;
+        this.events = new Object[capacity];
+        this.sequencer = new MarkedSequencer(capacity);
+        for (int i = 0; i < capacity; i++) {
+            events[i] = factory.newInstance();
+        }
+        sequencer.open();
+        this.thread = threads.newThread(this);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    void shutdown() {
+        sequencer.close();
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * @return a sequence whose entry is free, see {@link MarkedSequencer#acquire(String, boolean)}
+     */
+    long acquire(String service, boolean spinning) {
+        return sequencer.acquire(service, spinning);
+    }
+
+    @SuppressWarnings("unchecked")
+    T event(long sequence) {
+        return (T) events[sequencer.index(sequence)];
+    }
+
+    /**
+     * Hands the event of the sequence to the consumer, unparking it if it waits.
+     */
+    void commit(long sequence) {
+        sequencer.commit(sequence);
+        if (parked) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    @Override
+    public void run() {
+        handler.onStart(name);
+        try {
+            long sequence = sequencer.next();
+            while (sequencer.isOpen()) {
+                if (!sequencer.isCommitted(sequence)) {
+                    idle(sequence);
+                    continue;
+                }
+                T event = event(sequence);
+                try {
+                    handler.onEvent(name, event, sequence);
+                } catch (Throwable ex) {
+                    handler.onError(name, event, sequence, ex);
+                }
+                sequence++;
+                sequencer.release(sequence);
+            }
+        } finally {
+            handler.onShutdown(name);
+        }
+    }
+
+    private void idle(long sequence) {
+        parked = true;
+        if (sequencer.isOpen() && !sequencer.isCommittedVolatile(sequence)) {
+            LockSupport.park(this);
+        }
+        parked = false;
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.ryntric.virtual;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates the threads draining key groups. This is the Java 11 version, used when virtual
+ * threads are not available; the multi-release jar replaces it on Java 21 and later.
+ */
+final class VirtualThreads {
+
+    private VirtualThreads() {}
+
+    static boolean isSupported() {
+        return false;
+    }
+
+    static ThreadFactory factory(String name) {
+        throw new UnsupportedOperationException("Virtual threads require Java 21 or later: " + name);
+    }
+}
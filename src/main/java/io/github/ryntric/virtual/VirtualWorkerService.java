@@ -0,0 +1,565 @@
+package io.github.ryntric.virtual;
+
+import io.github.ryntric.EventFactory;
+import io.github.ryntric.EventHandler;
+import io.github.ryntric.EventTranslator.EventTranslatorFiveArg;
+import io.github.ryntric.EventTranslator.EventTranslatorFourArg;
+import io.github.ryntric.EventTranslator.EventTranslatorOneArg;
+import io.github.ryntric.EventTranslator.EventTranslatorThreeArg;
+import io.github.ryntric.EventTranslator.EventTranslatorTwoArg;
+import io.github.ryntric.HashCodeProvider;
+import io.github.ryntric.WaitPolicy;
+import io.github.ryntric.WorkerServiceConfig;
+import io.github.ryntric.WorkerServiceTerminatedException;
+import io.github.ryntric.jfr.WorkerServiceLifecycleEvent;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * A keyed worker service for blocking handlers, in which every key group is a serial lane
+ * drained by a virtual thread of its own.
+ * <p>
+ * Keys are hashed into {@link WorkerServiceConfig#getKeyGroupCount()} groups. Events of one
+ * group are handled one at a time in publish order, so per-key ordering holds as with
+ * {@code WorkerService}; a handler blocked on I/O only holds up the keys of its own group,
+ * while the virtual threads of all other groups keep running on the carrier threads.
+ * <p>
+ * Groups are created on their first publish, each preallocating
+ * {@link WorkerServiceConfig#getKeyGroupBufferSize()} events from the {@link EventFactory}.
+ * The handler is shared by all groups and must be safe for concurrent calls; it receives
+ * {@code onStart} and {@code onShutdown} once per group, and per-group sequences.
+ * Producer wait policy comes from {@link WorkerServiceConfig}; worker count, buffer size,
+ * routing and sequencer settings do not apply.
+ * <p>
+ * Virtual threads require Java 21. The library is packaged as a multi-release jar; on older
+ * runtimes the constructor throws {@link UnsupportedOperationException}.
+ *
+ * @param <T> the event type handled by this service
+ */
+@SuppressWarnings("unchecked")
+public final class VirtualWorkerService<T> {
+    private static final VarHandle GROUPS = MethodHandles.arrayElementVarHandle(KeyGroup[].class);
+
+    private final String name;
+    private final EventHandler<T> handler;
+    private final EventFactory<T> factory;
+    private final HashCodeProvider hashCodeProvider;
+    private final ThreadFactory threads;
+    private final KeyGroup<T>[] groups;
+    private final int groupMask;
+    private final int groupCapacity;
+    private final boolean producerSpinning;
+    private volatile boolean running;
+    private boolean terminated;
+
+    /**
+     * Creates a new {@code VirtualWorkerService} instance with the given configuration.
+     *
+     * @param name              name prefix for key group threads
+     * @param handler           the event handler that processes events
+     * @param factory           the factory for creating new event instances
+     * @param hashCodeProvider  the provider used to hash routing keys
+     * @param config            worker service configuration
+     * @throws UnsupportedOperationException if the runtime does not support virtual threads
+     */
+    public VirtualWorkerService(
+            String name,
+            EventHandler<T> handler,
+            EventFactory<T> factory,
+            HashCodeProvider hashCodeProvider,
+            WorkerServiceConfig config) {
+        this(name, handler, factory, hashCodeProvider, config, VirtualThreads.factory(name));
+    }
+
+    VirtualWorkerService(
+            String name,
+            EventHandler<T> handler,
+            EventFactory<T> factory,
+            HashCodeProvider hashCodeProvider,
+            WorkerServiceConfig config,
+            ThreadFactory threads) {
+        this.name = name;
+        this.handler = handler;
+        this.factory = factory;
+        this.hashCodeProvider = hashCodeProvider;
+        this.threads = threads;
+        this.groups = new KeyGroup[config.getKeyGroupCount()];
+        this.groupMask = config.getKeyGroupCount() - 1;
+        this.groupCapacity = config.getKeyGroupBufferSize();
+        this.producerSpinning = config.getProducerWaitPolicy() == WaitPolicy.SPINNING;
+    }
+
+    /**
+     * @return whether this runtime supports virtual threads, and so this service
+     */
+    public static boolean isSupported() {
+        return VirtualThreads.isSupported();
+    }
+
+    /**
+     * @return the service name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return number of key groups that have received events
+     */
+    public int getActiveKeyGroupCount() {
+        int count = 0;
+        for (int i = 0; i < groups.length; i++) {
+            if (GROUPS.getAcquire(groups, i) != null) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Starts the service. Key group threads are started as their groups are created.
+     */
+    public synchronized void start() {
+        if (!running && !terminated) {
+            running = true;
+            WorkerServiceLifecycleEvent.emit(name, WorkerServiceLifecycleEvent.STARTED, groups.length);
+        }
+    }
+
+    /**
+     * Stops all key group threads. Events still queued in groups are not handled,
+     * and a started service cannot be restarted.
+     */
+    public synchronized void shutdown() {
+        if (running) {
+            running = false;
+            terminated = true;
+            for (KeyGroup<T> group : groups) {
+                if (group != null) group.shutdown();
+            }
+            WorkerServiceLifecycleEvent.emit(name, WorkerServiceLifecycleEvent.SHUTDOWN, groups.length);
+        }
+    }
+
+    private KeyGroup<T> group(int hashcode) {
+        int index = hashcode & groupMask;
+        KeyGroup<T> group = (KeyGroup<T>) GROUPS.getAcquire(groups, index);
+        if (group == null) {
+            group = createGroup(index);
+        }
+        return group;
+    }
+
+    private synchronized KeyGroup<T> createGroup(int index) {
+        KeyGroup<T> group = groups[index];
+        if (group == null) {
+            if (!running) {
+                throw new WorkerServiceTerminatedException(name);
+            }
+            group = new KeyGroup<>(name, handler, factory, groupCapacity, threads);
+            group.start();
+            GROUPS.setRelease(groups, index, group);
+        }
+        return group;
+    }
+
+    /**
+     * Claims the next sequence of the group and waits until its entry is free.
+     */
+    private long acquire(KeyGroup<T> group) {
+        if (!running) {
+            throw new WorkerServiceTerminatedException(name);
+        }
+        return group.acquire(name, producerSpinning);
+    }
+
+    private <A> void publish(int hashcode, EventTranslatorOneArg<T, A> translator, A arg) {
+        KeyGroup<T> group = group(hashcode);
+        long sequence = acquire(group);
+        try {
+            translator.translateTo(group.event(sequence), arg);
+        } finally {
+            group.commit(sequence);
+        }
+    }
+
+    private <A, B> void publish(int hashcode, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        KeyGroup<T> group = group(hashcode);
+        long sequence = acquire(group);
+        try {
+            translator.translateTo(group.event(sequence), arg0, arg1);
+        } finally {
+            group.commit(sequence);
+        }
+    }
+
+    private <A, B, C> void publish(int hashcode, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        KeyGroup<T> group = group(hashcode);
+        long sequence = acquire(group);
+        try {
+            translator.translateTo(group.event(sequence), arg0, arg1, arg2);
+        } finally {
+            group.commit(sequence);
+        }
+    }
+
+    private <A, B, C, D> void publish(int hashcode, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        KeyGroup<T> group = group(hashcode);
+        long sequence = acquire(group);
+        try {
+            translator.translateTo(group.event(sequence), arg0, arg1, arg2, arg3);
+        } finally {
+            group.commit(sequence);
+        }
+    }
+
+    private <A, B, C, D, E> void publish(int hashcode, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        KeyGroup<T> group = group(hashcode);
+        long sequence = acquire(group);
+        try {
+            translator.translateTo(group.event(sequence), arg0, arg1, arg2, arg3, arg4);
+        } finally {
+            group.commit(sequence);
+        }
+    }
+
+    /**
+     * Publishes a single event to the key group determined by the hash of the given key,
+     * waiting while that group's ring is full.
+     *
+     * @param key        routing key used for key group selection
+     * @param translator translator used to populate the event with data
+     * @param arg        argument passed to the translator
+     * @param <A>        type of the argument
+     */
+    public <A> void publishEvent(String key, EventTranslatorOneArg<T, A> translator, A arg) {
+        publish(hashCodeProvider.provide(key), translator, arg);
+    }
+
+    /**
+     * Publishes a single event to the key group determined by the hash of the given key,
+     * waiting while that group's ring is full.
+     *
+     * @param key        routing key used for key group selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     */
+    public <A, B> void publishEvent(String key, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1);
+    }
+
+    /**
+     * Publishes a single event to the key group determined by the hash of the given key,
+     * waiting while that group's ring is full.
+     *
+     * @param key        routing key used for key group selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     */
+    public <A, B, C> void publishEvent(String key, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2);
+    }
+
+    /**
+     * Publishes a single event to the key group determined by the hash of the given key,
+     * waiting while that group's ring is full.
+     *
+     * @param key        routing key used for key group selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     */
+    public <A, B, C, D> void publishEvent(String key, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Publishes a single event to the key group determined by the hash of the given key,
+     * waiting while that group's ring is full.
+     *
+     * @param key        routing key used for key group selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param arg4       5th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     */
+    public <A, B, C, D, E> void publishEvent(String key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Publishes a single event to the key group determined by the hash of the given key,
+     * waiting while that group's ring is full.
+     *
+     * @param key        routing key used for key group selection
+     * @param translator translator used to populate the event with data
+     * @param arg        argument passed to the translator
+     * @param <A>        type of the argument
+     */
+    public <A> void publishEvent(int key, EventTranslatorOneArg<T, A> translator, A arg) {
+        publish(hashCodeProvider.provide(key), translator, arg);
+    }
+
+    /**
+     * Publishes a single event to the key group determined by the hash of the given key,
+     * waiting while that group's ring is full.
+     *
+     * @param key        routing key used for key group selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     */
+    public <A, B> void publishEvent(int key, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1);
+    }
+
+    /**
+     * Publishes a single event to the key group determined by the hash of the given key,
+     * waiting while that group's ring is full.
+     *
+     * @param key        routing key used for key group selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     */
+    public <A, B, C> void publishEvent(int key, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2);
+    }
+
+    /**
+     * Publishes a single event to the key group determined by the hash of the given key,
+     * waiting while that group's ring is full.
+     *
+     * @param key        routing key used for key group selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     */
+    public <A, B, C, D> void publishEvent(int key, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Publishes a single event to the key group determined by the hash of the given key,
+     * waiting while that group's ring is full.
+     *
+     * @param key        routing key used for key group selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param arg4       5th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     */
+    public <A, B, C, D, E> void publishEvent(int key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Publishes a single event to the key group determined by the hash of the given key,
+     * waiting while that group's ring is full.
+     *
+     * @param key        routing key used for key group selection
+     * @param translator translator used to populate the event with data
+     * @param arg        argument passed to the translator
+     * @param <A>        type of the argument
+     */
+    public <A> void publishEvent(long key, EventTranslatorOneArg<T, A> translator, A arg) {
+        publish(hashCodeProvider.provide(key), translator, arg);
+    }
+
+    /**
+     * Publishes a single event to the key group determined by the hash of the given key,
+     * waiting while that group's ring is full.
+     *
+     * @param key        routing key used for key group selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     */
+    public <A, B> void publishEvent(long key, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1);
+    }
+
+    /**
+     * Publishes a single event to the key group determined by the hash of the given key,
+     * waiting while that group's ring is full.
+     *
+     * @param key        routing key used for key group selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     */
+    public <A, B, C> void publishEvent(long key, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2);
+    }
+
+    /**
+     * Publishes a single event to the key group determined by the hash of the given key,
+     * waiting while that group's ring is full.
+     *
+     * @param key        routing key used for key group selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     */
+    public <A, B, C, D> void publishEvent(long key, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Publishes a single event to the key group determined by the hash of the given key,
+     * waiting while that group's ring is full.
+     *
+     * @param key        routing key used for key group selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param arg4       5th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     */
+    public <A, B, C, D, E> void publishEvent(long key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3, arg4);
+    }
+
+    /**
+     * Publishes a single event to the key group determined by the hash of the given key,
+     * waiting while that group's ring is full.
+     *
+     * @param key        routing key used for key group selection
+     * @param translator translator used to populate the event with data
+     * @param arg        argument passed to the translator
+     * @param <A>        type of the argument
+     */
+    public <A> void publishEvent(byte[] key, EventTranslatorOneArg<T, A> translator, A arg) {
+        publish(hashCodeProvider.provide(key), translator, arg);
+    }
+
+    /**
+     * Publishes a single event to the key group determined by the hash of the given key,
+     * waiting while that group's ring is full.
+     *
+     * @param key        routing key used for key group selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     */
+    public <A, B> void publishEvent(byte[] key, EventTranslatorTwoArg<T, A, B> translator, A arg0, B arg1) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1);
+    }
+
+    /**
+     * Publishes a single event to the key group determined by the hash of the given key,
+     * waiting while that group's ring is full.
+     *
+     * @param key        routing key used for key group selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     */
+    public <A, B, C> void publishEvent(byte[] key, EventTranslatorThreeArg<T, A, B, C> translator, A arg0, B arg1, C arg2) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2);
+    }
+
+    /**
+     * Publishes a single event to the key group determined by the hash of the given key,
+     * waiting while that group's ring is full.
+     *
+     * @param key        routing key used for key group selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     */
+    public <A, B, C, D> void publishEvent(byte[] key, EventTranslatorFourArg<T, A, B, C, D> translator, A arg0, B arg1, C arg2, D arg3) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3);
+    }
+
+    /**
+     * Publishes a single event to the key group determined by the hash of the given key,
+     * waiting while that group's ring is full.
+     *
+     * @param key        routing key used for key group selection
+     * @param translator translator used to populate the event with data
+     * @param arg0       1st argument passed to the translator
+     * @param arg1       2nd argument passed to the translator
+     * @param arg2       3rd argument passed to the translator
+     * @param arg3       4th argument passed to the translator
+     * @param arg4       5th argument passed to the translator
+     * @param <A>        type of the 1st argument
+     * @param <B>        type of the 2nd argument
+     * @param <C>        type of the 3rd argument
+     * @param <D>        type of the 4th argument
+     * @param <E>        type of the 5th argument
+     */
+    public <A, B, C, D, E> void publishEvent(byte[] key, EventTranslatorFiveArg<T, A, B, C, D, E> translator, A arg0, B arg1, C arg2, D arg3, E arg4) {
+        publish(hashCodeProvider.provide(key), translator, arg0, arg1, arg2, arg3, arg4);
+    }
+}
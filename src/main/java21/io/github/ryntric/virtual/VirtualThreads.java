@@ -0,0 +1,19 @@
+package io.github.ryntric.virtual;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates the threads draining key groups as virtual threads.
+ */
+final class VirtualThreads {
+
+    private VirtualThreads() {}
+
+    static boolean isSupported() {
+        return true;
+    }
+
+    static ThreadFactory factory(String name) {
+        return Thread.ofVirtual().name(name + "-", 0).factory();
+    }
+}
@@ -0,0 +1,152 @@
+package io.github.ryntric;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HashCodeProviderSliceTest {
+    private static final HashCodeProvider[] PROVIDERS = {DefaultHashCodeProvider.INSTANCE, XxHashCodeProvider.withSeed(3)};
+    private static final HashCodeProvider COPYING = new HashCodeProvider() {
+        @Override
+        public int provide(String key) {
+            return key.hashCode();
+        }
+
+        @Override
+        public int provide(int key) {
+            return key;
+        }
+
+        @Override
+        public int provide(long key) {
+            return Long.hashCode(key);
+        }
+
+        @Override
+        public int provide(byte[] key) {
+            return Arrays.hashCode(key);
+        }
+    };
+
+    @Test
+    public void testSlicesHashLikeTheirCopies() {
+        byte[] frame = new byte[300];
+        for (int i = 0; i < frame.length; i++) frame[i] = (byte) (i * 31 + 7);
+        ByteBuffer direct = ByteBuffer.allocateDirect(frame.length).put(frame);
+        ByteBuffer readOnly = ByteBuffer.wrap(frame).asReadOnlyBuffer();
+        String text = new String(frame, StandardCharsets.ISO_8859_1) + "\u0416\u20AC";
+        StringBuilder builder = new StringBuilder(text);
+
+        for (HashCodeProvider provider : new HashCodeProvider[]{PROVIDERS[0], PROVIDERS[1], COPYING}) {
+            for (int offset : new int[]{0, 1, 5, 13}) {
+                for (int length : new int[]{0, 1, 3, 7, 8, 15, 31, 32, 33, 64, 257}) {
+                    int copy = provider.provide(Arrays.copyOfRange(frame, offset, offset + length));
+                    assertEquals(copy, provider.provide(frame, offset, length));
+                    assertEquals(copy, provider.provide(direct, offset, length));
+                    assertEquals(copy, provider.provide(readOnly, offset, length));
+
+                    int end = text.length() - offset;
+                    int start = end - Math.min(length, end);
+                    String string = text.substring(start, end);
+                    assertEquals(provider.provide(string), provider.provide(builder, start, end));
+                    assertEquals(provider.provide(string), provider.provide(text, start, end));
+                }
+            }
+            assertEquals(frame.length, direct.position());
+        }
+    }
+
+    @Test
+    public void testTwoLongKeysHashLikeUuids() {
+        UUID uuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        long msb = uuid.getMostSignificantBits();
+        long lsb = uuid.getLeastSignificantBits();
+        int hashcode = uuid.hashCode();
+        assertEquals(hashcode ^ (hashcode >>> 16), DefaultHashCodeProvider.INSTANCE.provide(msb, lsb));
+        byte[] bytes = ByteBuffer.allocate(16).putLong(msb).putLong(lsb).array();
+        assertEquals(PROVIDERS[1].provide(bytes), PROVIDERS[1].provide(msb, lsb));
+    }
+
+    @Test
+    public void testSliceBoundsAreChecked() {
+        for (HashCodeProvider provider : PROVIDERS) {
+            assertThrows(IndexOutOfBoundsException.class, () -> provider.provide(new byte[4], 2, 3));
+            assertThrows(IndexOutOfBoundsException.class, () -> provider.provide(ByteBuffer.allocate(4), -1, 2));
+            assertThrows(IndexOutOfBoundsException.class, () -> provider.provide("abc", 2, 1));
+        }
+    }
+
+    @Test
+    public void testSliceKeysRouteLikeCopies() throws InterruptedException {
+        WorkerWritingHandler handler = new WorkerWritingHandler();
+        WorkerServiceConfig config = WorkerServiceConfig.builder().workerCount(8).build();
+        WorkerService<Event> service = new WorkerService<>("slices", handler, Event::new, XxHashCodeProvider.INSTANCE, config);
+        service.start();
+        try {
+            ByteBuffer frame = ByteBuffer.allocateDirect(64);
+            for (int key = 0; key < 100; key++) {
+                byte[] bytes = ("order-" + key).getBytes(StandardCharsets.US_ASCII);
+                frame.clear();
+                frame.position(10);
+                frame.put(bytes);
+                String text = "key=order-" + key;
+                service.publishEvent(bytes, (event, id) -> event.id = id, "array-" + key);
+                service.publishEvent(frame, 10, bytes.length, (event, id) -> event.id = id, "buffer-" + key);
+                service.publishEvent(new StringBuilder(text), 4, text.length(), (event, id) -> event.id = id, "chars-" + key);
+                service.publishEvent("order-" + key, (event, id) -> event.id = id, "string-" + key);
+                UUID uuid = new UUID(key, -key);
+                service.publishEvent(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), (event, id, suffix) -> event.id = id + suffix, "uuid-", key);
+                service.publishEvent(ByteBuffer.allocate(16).putLong(key).putLong(-key).array(), (event, id) -> event.id = id, "uuidBytes-" + key);
+            }
+            while (handler.handled.get() < 600) {
+                Thread.sleep(1);
+            }
+            for (int key = 0; key < 100; key++) {
+                Long worker = handler.workers.get("array-" + key);
+                assertEquals(worker, handler.workers.get("buffer-" + key));
+                assertEquals(handler.workers.get("string-" + key), handler.workers.get("chars-" + key));
+                assertEquals(handler.workers.get("uuidBytes-" + key), handler.workers.get("uuid-" + key));
+            }
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    private static final class WorkerWritingHandler implements EventHandler<Event> {
+        private final ConcurrentHashMap<String, Long> workers = new ConcurrentHashMap<>();
+        private final AtomicInteger handled = new AtomicInteger();
+
+        @Override
+        public void onEvent(String name, Event event, long sequence) {
+            workers.put(event.id, Thread.currentThread().getId());
+            handled.incrementAndGet();
+        }
+
+        @Override
+        public void onError(String name, Event event, long sequence, Throwable ex) {
+
+        }
+
+        @Override
+        public void onStart(String name) {
+
+        }
+
+        @Override
+        public void onShutdown(String name) {
+
+        }
+    }
+
+    private static final class Event {
+        private String id;
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.ryntric;
+
+import io.github.ryntric.routing.RoutingTable;
+import io.github.ryntric.routing.RoutingTables;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HotKeyTrackerTest {
+    private static final RoutingTable TABLE = RoutingTables.modulo(4, 16);
+
+    @Test
+    public void testDominantKeysAreReportedFirst() {
+        HotKeyTracker tracker = new HotKeyTracker(4, 1);
+        for (int i = 0; i < 100_000; i++) {
+            int key = i % 10 < 5 ? 7 : i % 10 < 8 ? 42 : 1000 + i % 5000;
+            tracker.sample(key, DefaultHashCodeProvider.INSTANCE.provide(key), 1);
+        }
+
+        List<HotKey> keys = tracker.snapshot(TABLE);
+        assertEquals(4, keys.size());
+        assertEquals(7, keys.get(0).getKey());
+        assertEquals(42, keys.get(1).getKey());
+        assertTrue(keys.get(1).getEstimatedCount() > 100 * keys.get(2).getEstimatedCount(), keys.toString());
+        assertEquals(TABLE.route(DefaultHashCodeProvider.INSTANCE.provide(7)), keys.get(0).getWorker());
+    }
+
+    @Test
+    public void testAllKeyTypesAreTracked() {
+        HotKeyTracker tracker = new HotKeyTracker(4, 1);
+        byte[] bytes = {1, 2, 3};
+        for (int i = 0; i < 1000; i++) {
+            tracker.sample("user", DefaultHashCodeProvider.INSTANCE.provide("user"), 4);
+            tracker.sample(5L, DefaultHashCodeProvider.INSTANCE.provide(5L), 3);
+            tracker.sample(bytes, DefaultHashCodeProvider.INSTANCE.provide(bytes), 2);
+            tracker.sample(9, DefaultHashCodeProvider.INSTANCE.provide(9), 1);
+        }
+        bytes[0] = 0;
+
+        List<HotKey> keys = tracker.snapshot(TABLE);
+        assertEquals("user", keys.get(0).getKey());
+        assertEquals(5L, keys.get(1).getKey());
+        assertArrayEquals(new byte[]{1, 2, 3}, (byte[]) keys.get(2).getKey());
+        assertEquals(9, keys.get(3).getKey());
+    }
+
+    @Test
+    public void testSliceKeysAreTrackedLikeTheirCopies() {
+        HashCodeProvider provider = DefaultHashCodeProvider.INSTANCE;
+        HotKeyTracker tracker = new HotKeyTracker(4, 1);
+        byte[] frame = {9, 9, 1, 2, 3, 9};
+        ByteBuffer buffer = ByteBuffer.allocateDirect(8).put(new byte[]{0, 4, 5});
+        StringBuilder text = new StringBuilder("id=user;");
+        for (int i = 0; i < 1000; i++) {
+            tracker.sample(frame, 2, 3, provider.provide(frame, 2, 3), 5);
+            tracker.sample(text, 3, 7, provider.provide(text, 3, 7), 3);
+            tracker.sample(buffer, 1, 2, provider.provide(buffer, 1, 2), 2);
+            tracker.sample(1L, 2L, provider.provide(1L, 2L), 1);
+            tracker.sample("user", provider.provide("user"), 1);
+        }
+
+        List<HotKey> keys = tracker.snapshot(TABLE);
+        assertArrayEquals(new byte[]{1, 2, 3}, (byte[]) keys.get(0).getKey());
+        assertEquals("user", keys.get(1).getKey());
+        assertTrue(keys.get(1).getEstimatedCount() >= 4000, keys.toString());
+        assertArrayEquals(new byte[]{4, 5}, (byte[]) keys.get(2).getKey());
+        assertEquals(new UUID(1L, 2L), keys.get(3).getKey());
+    }
+
+    @Test
+    public void testSliceAndWholeKeysAreTrackedAsOne() {
+        HashCodeProvider provider = DefaultHashCodeProvider.INSTANCE;
+        HotKeyTracker tracker = new HotKeyTracker(4, 1);
+        byte[] frame = {9, 1, 2, 3, 9};
+        ByteBuffer buffer = ByteBuffer.allocateDirect(4).put(new byte[]{0, 1, 2, 3});
+        StringBuilder text = new StringBuilder("id=user;");
+        for (int i = 0; i < 1000; i++) {
+            tracker.sample(frame, 1, 3, provider.provide(frame, 1, 3), 1);
+            tracker.sample(buffer, 1, 3, provider.provide(buffer, 1, 3), 1);
+            tracker.sample(new byte[]{1, 2, 3}, provider.provide(new byte[]{1, 2, 3}), 1);
+            tracker.sample(text, 3, 7, provider.provide(text, 3, 7), 1);
+            tracker.sample("user", provider.provide("user"), 1);
+        }
+
+        List<HotKey> keys = tracker.snapshot(TABLE);
+        assertEquals(2, keys.size(), keys.toString());
+        assertArrayEquals(new byte[]{1, 2, 3}, (byte[]) keys.get(0).getKey());
+        assertEquals("user", keys.get(1).getKey());
+    }
+
+    @Test
+    public void testAgingLetsNewHotKeyTakeOver() {
+        HotKeyTracker tracker = new HotKeyTracker(1, 1);
+        for (int i = 0; i < HotKeyTracker.AGING_INTERVAL * 2; i++) {
+            tracker.sample(1, DefaultHashCodeProvider.INSTANCE.provide(1), 1);
+        }
+        for (int i = 0; i < HotKeyTracker.AGING_INTERVAL * 4; i++) {
+            tracker.sample(2, DefaultHashCodeProvider.INSTANCE.provide(2), 1);
+        }
+        assertEquals(2, tracker.snapshot(TABLE).get(0).getKey());
+    }
+}
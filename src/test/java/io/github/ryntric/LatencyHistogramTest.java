@@ -0,0 +1,59 @@
+package io.github.ryntric;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    public void testBucketsBoundRelativeError() {
+        int previous = -1;
+        for (long value = 0; value < 1L << 30; value = value * 17 / 16 + 1) {
+            int index = LatencyHistogram.index(value);
+            assertTrue(index >= previous, () -> "index decreased at " + index);
+            assertTrue(index < LatencyHistogram.BUCKETS);
+            long highest = LatencyHistogram.highestValue(index);
+            assertTrue(highest >= value);
+            assertTrue(highest - value <= value / LatencyHistogram.SUB_BUCKETS, () -> "bucket too wide at " + highest);
+            assertEquals(index, LatencyHistogram.index(highest));
+            previous = index;
+        }
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.index(Long.MAX_VALUE));
+        assertEquals(0, LatencyHistogram.index(-5));
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int value = 1; value <= 1000; value++) {
+            histogram.record(value * 1000L);
+        }
+        LatencySnapshot snapshot = histogram.snapshot(false);
+        assertEquals(1000, snapshot.getCount());
+        assertNear(500_000, snapshot.getP50());
+        assertNear(990_000, snapshot.getP99());
+        assertNear(999_000, snapshot.getP999());
+        assertNear(1_000_000, snapshot.getMax());
+    }
+
+    @Test
+    public void testResetStartsNewInterval() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(10);
+        histogram.record(20);
+        assertEquals(2, histogram.snapshot(true).getCount());
+        assertEquals(0, histogram.snapshot(false).getCount());
+        assertEquals(0, histogram.snapshot(false).getP99());
+
+        histogram.record(5000);
+        LatencySnapshot snapshot = histogram.snapshot(false);
+        assertEquals(1, snapshot.getCount());
+        assertNear(5000, snapshot.getP50());
+    }
+
+    private static void assertNear(long expected, long actual) {
+        assertTrue(actual >= expected && actual - expected <= expected / LatencyHistogram.SUB_BUCKETS, () -> "expected about " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.ryntric;
+
+import io.github.ryntric.EventTranslator.EventTranslatorOneArg;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class LatencyRecorderTest {
+    private static final EventTranslatorOneArg<long[], Long> TRANSLATOR = (event, value) -> event[0] = value;
+
+    @Test
+    public void testFailedPublishGivesTheStampBack() {
+        LatencyRecorder<long[]> recorder = new LatencyRecorder<>();
+        EventTranslatorOneArg<long[], Long> stamping = recorder.stamping(TRANSLATOR);
+        assertNotSame(TRANSLATOR, stamping);
+        assertSame(TRANSLATOR, recorder.stamping(TRANSLATOR));
+
+        // the publish failed before the translator ran
+        recorder.abandoned();
+        assertNotSame(TRANSLATOR, recorder.stamping(TRANSLATOR));
+    }
+
+    @Test
+    public void testStampedPublishIsNotAbandoned() {
+        LatencyRecorder<long[]> recorder = new LatencyRecorder<>();
+        long[] event = new long[1];
+        recorder.stamping(TRANSLATOR).translateTo(event, 7L);
+        assertEquals(7L, event[0]);
+
+        // the event entered the ring, so its arrival is still recorded
+        recorder.abandoned();
+        assertSame(TRANSLATOR, recorder.stamping(TRANSLATOR));
+        recorder.arrived(event);
+        assertEquals(1, recorder.snapshot(0, false).getQueueingDelay().getCount());
+        assertNotSame(TRANSLATOR, recorder.stamping(TRANSLATOR));
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.ryntric;
+
+import io.github.ryntric.routing.RoutingTable;
+import io.github.ryntric.routing.RoutingTables;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SlotRebalancerTest {
+
+    @Test
+    public void testMovesHotSlotToLeastLoadedWorker() {
+        RoutingTable table = RoutingTables.modulo(4, 2);
+        int[] hits = {100, 10, 10, 10, 40, 10, 10, 10};
+        long[] backlog = {500, 0, 0, 0};
+
+        RoutingTable planned = new SlotRebalancer(1.25, 1).plan(table, hits, backlog);
+
+        // worker 0 owns slots 0 and 4 (140 of 200); slot 4 halves the gap best
+        assertEquals(1, planned.owner(4));
+        assertEquals(0, planned.owner(0));
+        assertEquals(0, table.owner(4));
+    }
+
+    @Test
+    public void testBalancedLoadStaysPut() {
+        RoutingTable table = RoutingTables.modulo(4, 2);
+        int[] hits = {12, 10, 10, 10, 10, 10, 10, 10};
+        long[] backlog = {500, 0, 0, 0};
+
+        assertSame(table, new SlotRebalancer(1.25, 4).plan(table, hits, backlog));
+    }
+
+    @Test
+    public void testWorkerKeepingUpKeepsItsSlots() {
+        RoutingTable table = RoutingTables.modulo(4, 2);
+        int[] hits = {100, 10, 10, 10, 40, 10, 10, 10};
+        long[] backlog = {0, 0, 0, 0};
+
+        assertSame(table, new SlotRebalancer(1.25, 4).plan(table, hits, backlog));
+    }
+
+    @Test
+    public void testSingleDominantSlotIsNotMoved() {
+        RoutingTable table = RoutingTables.modulo(2, 1);
+        int[] hits = {1000, 10};
+        long[] backlog = {500, 0};
+
+        assertSame(table, new SlotRebalancer(1.25, 4).plan(table, hits, backlog));
+    }
+}
@@ -0,0 +1,165 @@
+package io.github.ryntric;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StagedEventProducerTest {
+    private static final EventCopier<Event> COPIER = (source, target) -> {
+        target.key = source.key;
+        target.sequence = source.sequence;
+        target.price = source.price;
+        target.quantity = source.quantity;
+    };
+
+    private final OrderCheckingHandler handler = new OrderCheckingHandler();
+    private WorkerService<Event> service;
+
+    @BeforeEach
+    public void setUp() {
+        WorkerServiceConfig config = WorkerServiceConfig.builder().workerCount(4).bufferSize(256).build();
+        service = new WorkerService<>("staged", handler, Event::new, DefaultHashCodeProvider.INSTANCE, config);
+        service.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    public void testCommittedEventsKeepPerKeyOrder() throws InterruptedException {
+        StagedEventProducer<Event> producer = service.newStagedEventProducer(COPIER, 8);
+        long[] sequences = new long[16];
+        long published = 0;
+        for (int round = 0; round < 1000; round++) {
+            int key = round % 16;
+            int count = round % 8 + 1;
+            producer.stage(key, count);
+            for (int i = 0; i < count; i++) {
+                Event event = producer.event(i);
+                event.key = key;
+                event.sequence = sequences[key]++;
+                event.price = 1.5;
+                event.quantity = 2;
+            }
+            producer.commit();
+            published += count;
+        }
+        producer.stage("key").event().key = 16;
+        producer.event().sequence = 0;
+        producer.commit();
+        published++;
+
+        awaitHandled(published);
+        assertTrue(handler.violations.isEmpty(), () -> "out of order: " + handler.violations);
+        assertEquals(published * 3, (long) handler.total.get());
+    }
+
+    @Test
+    public void testStagingStateIsChecked() {
+        StagedEventProducer<Event> producer = service.newStagedEventProducer(COPIER, 4);
+        assertThrows(IllegalStateException.class, producer::commit);
+        assertThrows(IllegalArgumentException.class, () -> producer.stage(1, 5));
+        assertThrows(IllegalArgumentException.class, () -> service.newStagedEventProducer(COPIER, 0));
+
+        producer.stage(1L, 2);
+        assertEquals(2, producer.getStagedCount());
+        assertThrows(IndexOutOfBoundsException.class, () -> producer.event(2));
+        assertThrows(IllegalStateException.class, () -> producer.stage(new byte[]{1}));
+        producer.abort();
+        assertEquals(0, producer.getStagedCount());
+        producer.stage(new byte[]{1});
+    }
+
+    @Test
+    public void testSteadyStateStagingDoesNotAllocate() throws InterruptedException {
+        StagedEventProducer<Event> producer = service.newStagedEventProducer(COPIER, 4);
+        long[] sequences = new long[64];
+        publish(producer, sequences, 50_000);
+        awaitHandled(50_000 * 3L);
+
+        // covers the whole publish path, flight recorder events included, in any test order
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        publish(producer, sequences, 50_000);
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+        awaitHandled(100_000 * 3L);
+        assertTrue(allocated < 64 * 1024, () -> "allocated " + allocated + " bytes");
+        assertTrue(handler.violations.isEmpty(), () -> "out of order: " + handler.violations);
+    }
+
+    private static void publish(StagedEventProducer<Event> producer, long[] sequences, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            int key = round & 63;
+            producer.stage(key);
+            Event event = producer.event();
+            event.key = key;
+            event.sequence = sequences[key]++;
+            producer.commit();
+
+            producer.stage(key, 2);
+            for (int i = 0; i < 2; i++) {
+                producer.event(i).key = key;
+                producer.event(i).sequence = sequences[key]++;
+            }
+            producer.commit();
+        }
+    }
+
+    private void awaitHandled(long count) throws InterruptedException {
+        while (handler.handled.get() < count) {
+            Thread.sleep(1);
+        }
+        assertEquals(count, handler.handled.get());
+    }
+
+    private static final class OrderCheckingHandler implements EventHandler<Event> {
+        private final long[] expected = new long[65];
+        private final AtomicLong handled = new AtomicLong();
+        private final AtomicLong total = new AtomicLong();
+        private final ConcurrentHashMap<Integer, Long> violations = new ConcurrentHashMap<>();
+
+        @Override
+        public void onEvent(String name, Event event, long sequence) {
+            // a key is handled by one worker, so its counter is never updated concurrently
+            if (event.sequence != expected[event.key]) {
+                violations.putIfAbsent(event.key, event.sequence);
+            }
+            expected[event.key] = event.sequence + 1;
+            total.addAndGet((long) (event.price * event.quantity));
+            handled.incrementAndGet();
+        }
+
+        @Override
+        public void onError(String name, Event event, long sequence, Throwable ex) {
+            throw new RuntimeException(ex);
+        }
+
+        @Override
+        public void onStart(String name) {
+
+        }
+
+        @Override
+        public void onShutdown(String name) {
+
+        }
+    }
+
+    private static final class Event {
+        private int key;
+        private long sequence;
+        private double price;
+        private int quantity;
+    }
+}
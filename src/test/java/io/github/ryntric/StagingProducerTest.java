@@ -0,0 +1,129 @@
+package io.github.ryntric;
+
+import io.github.ryntric.EventTranslator.EventTranslatorOneArg;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StagingProducerTest {
+    private static final int KEYS = 64;
+    private static final EventTranslatorOneArg<Event, int[]> TRANSLATOR = (event, arg) -> {
+        event.key = arg[0];
+        event.sequence = arg[1];
+    };
+
+    @Test
+    public void testStagedEventsKeepPerKeyOrder() throws InterruptedException {
+        OrderCheckingHandler handler = new OrderCheckingHandler();
+        WorkerServiceConfig config = WorkerServiceConfig.builder().workerCount(4).build();
+        WorkerService<Event> service = new WorkerService<>("staging", handler, Event::new, DefaultHashCodeProvider.INSTANCE, config);
+        service.start();
+
+        int total = 10_000;
+        try (StagingProducer<Event, int[]> producer = service.newProducer(TRANSLATOR, 100, 0)) {
+            int[] sequences = new int[KEYS];
+            for (int i = 0; i < total; i++) {
+                int key = i * 7 % KEYS;
+                producer.publishEvent(key, new int[]{key, sequences[key]++});
+            }
+            assertTrue(producer.getStagedCount() < 100);
+        }
+
+        while (handler.handled.get() < total) {
+            Thread.sleep(1);
+        }
+        service.shutdown();
+        assertTrue(handler.violations.isEmpty(), () -> "out of order: " + handler.violations);
+    }
+
+    @Test
+    public void testLargeBatchesKeepPerKeyOrder() throws InterruptedException {
+        OrderCheckingHandler handler = new OrderCheckingHandler();
+        WorkerServiceConfig config = WorkerServiceConfig.builder().workerCount(4).build();
+        WorkerService<Event> service = new WorkerService<>("staging", handler, Event::new, DefaultHashCodeProvider.INSTANCE, config);
+        service.start();
+
+        // every worker's slice of a flush spans several chunks
+        int total = 10_000;
+        try (StagingProducer<Event, int[]> producer = service.newProducer(TRANSLATOR, 1000, 0)) {
+            int[] sequences = new int[KEYS];
+            for (int i = 0; i < total; i++) {
+                int key = i * 7 % KEYS;
+                producer.publishEvent(key, new int[]{key, sequences[key]++});
+            }
+        }
+
+        while (handler.handled.get() < total) {
+            Thread.sleep(1);
+        }
+        service.shutdown();
+        assertTrue(handler.violations.isEmpty(), () -> "out of order: " + handler.violations);
+    }
+
+    @Test
+    public void testBatchSizeAndLingerTriggerFlush() throws InterruptedException {
+        OrderCheckingHandler handler = new OrderCheckingHandler();
+        WorkerService<Event> service = new WorkerService<>("staging", handler, Event::new, DefaultHashCodeProvider.INSTANCE, WorkerServiceConfig.INSTANCE);
+        service.start();
+        try {
+            StagingProducer<Event, int[]> producer = service.newProducer(TRANSLATOR, 3, 1_000_000L);
+            producer.publishEvent("a", new int[]{0, 0});
+            producer.publishEvent(1L, new int[]{1, 0});
+            assertEquals(2, producer.getStagedCount());
+            producer.publishEvent(new byte[]{2}, new int[]{2, 0});
+            assertEquals(0, producer.getStagedCount());
+
+            producer.publishEvent(0, new int[]{0, 1});
+            Thread.sleep(5);
+            producer.publishEvent(0, new int[]{0, 2});
+            assertEquals(0, producer.getStagedCount());
+
+            while (handler.handled.get() < 5) {
+                Thread.sleep(1);
+            }
+            assertEquals(5, handler.handled.get());
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    private static final class OrderCheckingHandler implements EventHandler<Event> {
+        private final ConcurrentHashMap<Integer, Integer> expected = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Integer, Integer> violations = new ConcurrentHashMap<>();
+        private final AtomicInteger handled = new AtomicInteger();
+
+        @Override
+        public void onEvent(String name, Event event, long sequence) {
+            int next = expected.getOrDefault(event.key, 0);
+            if (event.sequence != next) {
+                violations.putIfAbsent(event.key, event.sequence);
+            }
+            expected.put(event.key, event.sequence + 1);
+            handled.incrementAndGet();
+        }
+
+        @Override
+        public void onError(String name, Event event, long sequence, Throwable ex) {
+            throw new RuntimeException(ex);
+        }
+
+        @Override
+        public void onStart(String name) {
+
+        }
+
+        @Override
+        public void onShutdown(String name) {
+
+        }
+    }
+
+    private static final class Event {
+        private int key;
+        private int sequence;
+    }
+}
@@ -0,0 +1,150 @@
+package io.github.ryntric;
+
+import io.github.ryntric.EventTranslator.EventTranslatorThreeArg;
+import io.github.ryntric.EventTranslator.EventTranslatorTwoArg;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WorkerServiceCallTest {
+    private static final EventTranslatorTwoArg<Event, Reply<Integer>, Integer> SQUARE = (event, reply, value) -> {
+        event.reply = reply;
+        event.value = value;
+    };
+    private static final EventTranslatorThreeArg<Event, Reply<Integer>, Integer, Integer> MULTIPLY = (event, reply, a, b) -> {
+        event.reply = reply;
+        event.value = a * b;
+    };
+
+    private final SquaringHandler handler = new SquaringHandler();
+    private WorkerService<Event> service;
+
+    @BeforeEach
+    public void setUp() {
+        WorkerServiceConfig config = WorkerServiceConfig.builder().workerCount(2).build();
+        service = new WorkerService<>("call", handler, Event::new, DefaultHashCodeProvider.INSTANCE, config);
+        service.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        handler.release.countDown();
+        service.shutdown();
+    }
+
+    @Test
+    public void testCallAwaitsReplyAndRecyclesHandle() throws InterruptedException {
+        handler.release.countDown();
+        Reply<Integer> first = service.call(1, SQUARE, 7);
+        assertEquals(49, (int) first.await());
+        first.close();
+
+        try (Reply<Integer> second = service.call("key", MULTIPLY, 3, 4)) {
+            assertSame(first, second);
+            assertEquals(144, (int) second.await());
+        }
+    }
+
+    @Test
+    public void testFailedCallRethrowsError() throws InterruptedException {
+        handler.release.countDown();
+        try (Reply<Integer> reply = service.call(2L, SQUARE, -1)) {
+            CompletionException error = assertThrows(CompletionException.class, reply::await);
+            assertTrue(error.getCause() instanceof IllegalArgumentException);
+        }
+    }
+
+    @Test
+    public void testTimedOutHandleIsNotReused() throws InterruptedException {
+        Reply<Integer> late = service.call(new byte[]{1}, SQUARE, 5);
+        assertThrows(TimeoutException.class, () -> late.await(10, TimeUnit.MILLISECONDS));
+        late.close();
+
+        handler.release.countDown();
+        // same key, so the late call is handled before this one
+        try (Reply<Integer> next = service.call(new byte[]{1}, SQUARE, 6)) {
+            assertNotSame(late, next);
+            assertEquals(36, (int) next.await());
+        }
+        assertTrue(late.isDone());
+        assertFalse(late.complete(0));
+    }
+
+    @Test
+    public void testCallbackRunsOnceAndClosesHandle() throws InterruptedException {
+        handler.release.countDown();
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<Integer> result = new AtomicReference<>();
+        AtomicInteger calls = new AtomicInteger();
+        Reply<Integer> reply = service.call(3, SQUARE, 9);
+        reply.whenComplete((value, error) -> {
+            result.set(value);
+            calls.incrementAndGet();
+            done.countDown();
+        });
+        assertTrue(done.await(1, TimeUnit.SECONDS));
+        assertEquals(81, (int) result.get());
+        assertEquals(1, calls.get());
+
+        // the callback closed the handle, so it goes back to this thread's pool block
+        while (reply.isDone()) {
+            Thread.sleep(1);
+        }
+        try (Reply<Integer> next = service.call(3, SQUARE, 2)) {
+            assertSame(reply, next);
+            assertEquals(4, (int) next.await());
+        }
+    }
+
+    private static final class SquaringHandler implements EventHandler<Event> {
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void onEvent(String name, Event event, long sequence) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (event.value < 0) {
+                event.reply.completeExceptionally(new IllegalArgumentException("negative: " + event.value));
+            } else {
+                event.reply.complete(event.value * event.value);
+            }
+        }
+
+        @Override
+        public void onError(String name, Event event, long sequence, Throwable ex) {
+
+        }
+
+        @Override
+        public void onStart(String name) {
+
+        }
+
+        @Override
+        public void onShutdown(String name) {
+
+        }
+    }
+
+    private static final class Event {
+        private Reply<Integer> reply;
+        private int value;
+    }
+}
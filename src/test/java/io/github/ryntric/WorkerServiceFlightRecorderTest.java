@@ -0,0 +1,106 @@
+package io.github.ryntric;
+
+import io.github.ryntric.EventTranslator.EventTranslatorOneArg;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WorkerServiceFlightRecorderTest {
+    private static final EventTranslatorOneArg<Event, Integer> TRANSLATOR = (event, value) -> event.value = value;
+
+    @Test
+    public void testServiceEmitsLifecycleHandlerAndErrorEvents() throws Exception {
+        FailingHandler handler = new FailingHandler();
+        WorkerServiceConfig config = WorkerServiceConfig.builder().workerCount(1).build();
+        WorkerService<Event> service = new WorkerService<>("jfr", handler, Event::new, DefaultHashCodeProvider.INSTANCE, config);
+
+        Path file = Files.createTempFile("workers", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("io.github.ryntric.WorkerServiceLifecycle");
+            recording.enable("io.github.ryntric.HandlerError");
+            recording.enable("io.github.ryntric.Handler").withThreshold(Duration.ofMillis(5));
+            recording.start();
+
+            service.start();
+            for (int i = 0; i < 10; i++) {
+                service.publishEvent(i, TRANSLATOR, i);
+            }
+            // user onError runs after the error event is committed
+            while (handler.handled.get() < 10 || handler.errors.get() < 5) {
+                Thread.sleep(1);
+            }
+            service.shutdown();
+
+            recording.stop();
+            recording.dump(file);
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+            assertEquals(2, count(events, "io.github.ryntric.WorkerServiceLifecycle"));
+            assertEquals(5, count(events, "io.github.ryntric.HandlerError"));
+            assertEquals(1, count(events, "io.github.ryntric.Handler"));
+            for (RecordedEvent event : events) {
+                if (event.getEventType().getName().equals("io.github.ryntric.HandlerError")) {
+                    assertEquals("jfr", event.getString("service"));
+                    assertEquals(0, event.getInt("worker"));
+                    assertTrue(event.getString("message").startsWith("odd"));
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static long count(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).count();
+    }
+
+    private static final class FailingHandler implements EventHandler<Event> {
+        private final AtomicInteger handled = new AtomicInteger();
+        private final AtomicInteger errors = new AtomicInteger();
+
+        @Override
+        public void onEvent(String name, Event event, long sequence) {
+            try {
+                if (event.value == 4) {
+                    Thread.sleep(20);
+                }
+                if (event.value % 2 == 1) {
+                    throw new IllegalStateException("odd " + event.value);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                handled.incrementAndGet();
+            }
+        }
+
+        @Override
+        public void onError(String name, Event event, long sequence, Throwable ex) {
+            errors.incrementAndGet();
+        }
+
+        @Override
+        public void onStart(String name) {
+
+        }
+
+        @Override
+        public void onShutdown(String name) {
+
+        }
+    }
+
+    private static final class Event {
+        private int value;
+    }
+}
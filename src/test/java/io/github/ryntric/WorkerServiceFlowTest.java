@@ -0,0 +1,148 @@
+package io.github.ryntric;
+
+import io.github.ryntric.EventTranslator.EventTranslatorOneArg;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WorkerServiceFlowTest {
+    private static final int ITEMS = 20_000;
+    private static final int KEYS = 32;
+    private static final EventTranslatorOneArg<Event, Integer> TRANSLATOR = (event, value) -> event.value = value;
+
+    @Test
+    public void testSubscriberKeepsDemandWithinRingCapacity() throws InterruptedException {
+        KeyedResultPublisher<Integer> results = new KeyedResultPublisher<>();
+        SlowHandler handler = new SlowHandler(results);
+        WorkerServiceConfig config = WorkerServiceConfig.builder()
+                .workerCount(4)
+                .bufferSize(16)
+                .capacityTracking(true)
+                .metrics(true)
+                .build();
+        WorkerService<Event> service = new WorkerService<>("flow", handler, Event::new, DefaultHashCodeProvider.INSTANCE, config);
+        service.start();
+
+        ResultCollector collector = new ResultCollector(ITEMS / KEYS);
+        results.forKey(7).subscribe(collector);
+        WorkerServiceSubscriber<Event, Integer> subscriber = service.subscriber(value -> value % KEYS, TRANSLATOR);
+        try (SubmissionPublisher<Integer> upstream = new SubmissionPublisher<>()) {
+            upstream.subscribe(subscriber);
+            for (int i = 0; i < ITEMS; i++) {
+                upstream.submit(i);
+            }
+        }
+        try {
+            assertTrue(collector.done.await(30, TimeUnit.SECONDS));
+            while (handler.handled.get() < ITEMS) {
+                Thread.sleep(1);
+            }
+            assertEquals(ITEMS, handler.handled.get());
+            for (WorkerMetrics metrics : service.metrics().getWorkers()) {
+                assertEquals(0, metrics.getProducerWaitCount());
+            }
+            for (int i = 0; i < collector.values.size(); i++) {
+                assertEquals(7 + i * KEYS, (int) collector.values.get(i));
+            }
+            assertTrue(subscriber.isDone());
+        } finally {
+            results.close();
+            service.shutdown();
+        }
+    }
+
+    @Test
+    public void testSubscriberRequiresCapacityTracking() {
+        WorkerService<Event> service = new WorkerService<>("flow", new SlowHandler(new KeyedResultPublisher<>()), Event::new, DefaultHashCodeProvider.INSTANCE, WorkerServiceConfig.INSTANCE);
+        assertThrows(IllegalStateException.class, () -> service.subscriber(value -> value, TRANSLATOR));
+    }
+
+    @Test
+    public void testUnsupportedKeyTypeIsRejected() {
+        WorkerServiceConfig config = WorkerServiceConfig.builder().capacityTracking(true).build();
+        WorkerService<Event> service = new WorkerService<>("flow", new SlowHandler(new KeyedResultPublisher<>()), Event::new, DefaultHashCodeProvider.INSTANCE, config);
+        assertThrows(IllegalArgumentException.class, () -> service.hash(new Object()));
+        assertEquals(service.hash("key", 1), service.hash((Object) "key"));
+        assertEquals(service.hash(new byte[]{1, 2}, 1), service.hash((Object) new byte[]{1, 2}));
+    }
+
+    private static final class ResultCollector implements Flow.Subscriber<Integer> {
+        private final List<Integer> values = new CopyOnWriteArrayList<>();
+        private final CountDownLatch done = new CountDownLatch(1);
+        private final int expected;
+
+        private ResultCollector(int expected) {
+            this.expected = expected;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            values.add(item);
+            if (values.size() == expected) {
+                done.countDown();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+    }
+
+    private static final class SlowHandler implements EventHandler<Event> {
+        private final KeyedResultPublisher<Integer> results;
+        private final AtomicInteger handled = new AtomicInteger();
+
+        private SlowHandler(KeyedResultPublisher<Integer> results) {
+            this.results = results;
+        }
+
+        @Override
+        public void onEvent(String name, Event event, long sequence) {
+            if ((event.value & 255) == 0) {
+                Thread.onSpinWait();
+            }
+            results.emit(event.value % KEYS, event.value);
+            handled.incrementAndGet();
+        }
+
+        @Override
+        public void onError(String name, Event event, long sequence, Throwable ex) {
+
+        }
+
+        @Override
+        public void onStart(String name) {
+
+        }
+
+        @Override
+        public void onShutdown(String name) {
+
+        }
+    }
+
+    private static final class Event {
+        private int value;
+    }
+}
@@ -0,0 +1,377 @@
+package io.github.ryntric;
+
+import io.github.ryntric.EventTranslator.EventTranslatorOneArg;
+import io.github.ryntric.EventTranslator.EventTranslatorTwoArg;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WorkerServiceJournalTest {
+    private static final int KEYS = 16;
+    private static final int EVENTS_PER_KEY = 40;
+    private static final EventTranslatorTwoArg<Event, Integer, Long> TRANSLATOR = (event, key, sequence) -> {
+        event.key = key;
+        event.sequence = sequence;
+    };
+    private static final EventSerializer<Event> SERIALIZER = new EventSerializer<>() {
+        @Override
+        public void write(Event event, ByteBuffer target) {
+            target.putInt(event.key).putLong(event.sequence);
+        }
+
+        @Override
+        public void read(ByteBuffer source, Event event) {
+            event.key = source.getInt();
+            event.sequence = source.getLong();
+        }
+    };
+
+    private Path directory;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("journal");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    private WorkerServiceConfig config(int workerCount) {
+        return WorkerServiceConfig.builder()
+                .workerCount(workerCount)
+                .bufferSize(1024)
+                .journal(directory)
+                .journalSegmentSize(512)
+                .journalSync(JournalSync.BATCH)
+                .build();
+    }
+
+    private static void publishAll(WorkerService<Event> service) {
+        for (long sequence = 0; sequence < EVENTS_PER_KEY; sequence++) {
+            for (int key = 0; key < KEYS; key++) {
+                service.publishEvent(key, TRANSLATOR, key, sequence);
+            }
+        }
+    }
+
+    @Test
+    public void testUnhandledEventsAreReplayedInPerKeyOrder() throws InterruptedException, IOException {
+        int half = EVENTS_PER_KEY / 2;
+        RecordingHandler crashing = new RecordingHandler(half);
+        WorkerService<Event> first = new WorkerService<>("journal", crashing, Event::new, DefaultHashCodeProvider.INSTANCE, config(4), SERIALIZER);
+        first.start();
+        publishAll(first);
+        // the workers never get past the first half, as if the process had died there
+        crashing.await(KEYS * half);
+
+        RecordingHandler recovering = new RecordingHandler(Long.MAX_VALUE);
+        WorkerService<Event> second = new WorkerService<>("journal", recovering, Event::new, DefaultHashCodeProvider.INSTANCE, config(2), SERIALIZER);
+        try {
+            second.start();
+            for (int key = 0; key < KEYS; key++) {
+                recovering.awaitLast(key, EVENTS_PER_KEY - 1);
+            }
+            for (int key = 0; key < KEYS; key++) {
+                List<Long> sequences = recovering.sequences(key);
+                long start = sequences.get(0);
+                assertTrue(start <= half, () -> "events lost: " + sequences);
+                for (int i = 0; i < sequences.size(); i++) {
+                    assertEquals(start + i, (long) sequences.get(i));
+                }
+            }
+            try (Stream<Path> journals = Files.list(directory)) {
+                assertEquals(2L, journals.count());
+            }
+        } finally {
+            second.shutdown();
+            crashing.release.countDown();
+            first.shutdown();
+        }
+    }
+
+    @Test
+    public void testGroupedBatchesAreReplayedInPerKeyOrder() throws InterruptedException {
+        EventTranslatorOneArg<Event, long[]> translator = (event, pair) -> {
+            event.key = (int) pair[0];
+            event.sequence = pair[1];
+        };
+        int half = EVENTS_PER_KEY / 2;
+        RecordingHandler crashing = new RecordingHandler(half);
+        WorkerService<Event> first = new WorkerService<>("journal", crashing, Event::new, DefaultHashCodeProvider.INSTANCE, config(4), SERIALIZER);
+        first.start();
+        // one batch over all keys, so every worker publishes its slice in several chunks
+        int[] keys = new int[KEYS * EVENTS_PER_KEY];
+        long[][] pairs = new long[keys.length][];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i % KEYS;
+            pairs[i] = new long[]{keys[i], i / KEYS};
+        }
+        first.publishEvents(keys, translator, pairs);
+        crashing.await(KEYS * half);
+
+        RecordingHandler recovering = new RecordingHandler(Long.MAX_VALUE);
+        WorkerService<Event> second = new WorkerService<>("journal", recovering, Event::new, DefaultHashCodeProvider.INSTANCE, config(2), SERIALIZER);
+        try {
+            second.start();
+            // live publishes go where the journaled keys route, so a replayed event journaled
+            // with another key's hash would be handled by a different worker than its key
+            for (int key = 0; key < KEYS; key++) {
+                second.publishEvent(key, TRANSLATOR, key, (long) EVENTS_PER_KEY);
+            }
+            for (int key = 0; key < KEYS; key++) {
+                recovering.awaitLast(key, EVENTS_PER_KEY);
+            }
+            for (int key = 0; key < KEYS; key++) {
+                List<Long> sequences = recovering.sequences(key);
+                long start = sequences.get(0);
+                assertTrue(start <= half, () -> "events lost: " + sequences);
+                for (int i = 0; i < sequences.size(); i++) {
+                    assertEquals(start + i, (long) sequences.get(i));
+                }
+            }
+            assertTrue(recovering.moved.isEmpty(), () -> "keys moved between workers: " + recovering.moved);
+        } finally {
+            second.shutdown();
+            crashing.release.countDown();
+            first.shutdown();
+        }
+    }
+
+    @Test
+    public void testPublishesRacingWithReplayDoNotGetAhead() throws InterruptedException {
+        int half = EVENTS_PER_KEY / 2;
+        RecordingHandler crashing = new RecordingHandler(half);
+        WorkerService<Event> first = new WorkerService<>("journal", crashing, Event::new, DefaultHashCodeProvider.INSTANCE, config(4), SERIALIZER);
+        first.start();
+        publishAll(first);
+        crashing.await(KEYS * half);
+
+        RecordingHandler recovering = new RecordingHandler(Long.MAX_VALUE);
+        WorkerService<Event> second = new WorkerService<>("journal", recovering, Event::new, DefaultHashCodeProvider.INSTANCE, config(4), SERIALIZER);
+        CountDownLatch rejected = new CountDownLatch(1);
+        // publishes the next event of every key as soon as the service takes it
+        Thread producer = new Thread(() -> {
+            for (int key = 0; key < KEYS; key++) {
+                for (;;) {
+                    try {
+                        second.publishEvent(key, TRANSLATOR, key, (long) EVENTS_PER_KEY);
+                        break;
+                    } catch (WorkerServiceTerminatedException e) {
+                        rejected.countDown();
+                        Thread.onSpinWait();
+                    }
+                }
+            }
+        });
+        producer.start();
+        try {
+            rejected.await();
+            second.start();
+            producer.join();
+            for (int key = 0; key < KEYS; key++) {
+                // waits for both the last replayed and the raced event, in whichever order they came
+                while (!recovering.sequences(key).containsAll(List.of((long) EVENTS_PER_KEY - 1, (long) EVENTS_PER_KEY))) {
+                    Thread.sleep(1);
+                }
+            }
+            for (int key = 0; key < KEYS; key++) {
+                List<Long> sequences = recovering.sequences(key);
+                long start = sequences.get(0);
+                assertTrue(start <= half, () -> "events lost: " + sequences);
+                for (int i = 0; i < sequences.size(); i++) {
+                    assertEquals(start + i, (long) sequences.get(i));
+                }
+            }
+        } finally {
+            second.shutdown();
+            crashing.release.countDown();
+            first.shutdown();
+        }
+    }
+
+    @Test
+    public void testAcknowledgedEventsAreNotReplayed() throws InterruptedException, IOException {
+        RecordingHandler handler = new RecordingHandler(Long.MAX_VALUE);
+        WorkerService<Event> service = new WorkerService<>("journal", handler, Event::new, DefaultHashCodeProvider.INSTANCE, config(4), SERIALIZER);
+        service.start();
+        publishAll(service);
+        handler.await(KEYS * EVENTS_PER_KEY);
+        service.shutdown();
+
+        // 13 byte records in 512 byte segments roll many times, acknowledged segments are deleted
+        for (int worker = 0; worker < 4; worker++) {
+            try (Stream<Path> segments = Files.list(directory.resolve("journal-" + worker))) {
+                assertTrue(segments.filter(file -> file.toString().endsWith(".journal")).count() <= 2);
+            }
+        }
+
+        RecordingHandler restarted = new RecordingHandler(Long.MAX_VALUE);
+        WorkerService<Event> again = new WorkerService<>("journal", restarted, Event::new, DefaultHashCodeProvider.INSTANCE, config(4), SERIALIZER);
+        again.start();
+        again.publishEvent(1, TRANSLATOR, 1, 0L);
+        restarted.await(1);
+        Thread.sleep(20);
+        again.shutdown();
+        assertEquals(1L, restarted.handled.get());
+    }
+
+    @Test
+    public void testProducersWaitForFullRingOutsideTheJournal() throws InterruptedException {
+        WorkerServiceConfig config = WorkerServiceConfig.builder()
+                .workerCount(2)
+                .bufferSize(16)
+                .journal(directory)
+                .journalSegmentSize(512)
+                .build();
+        RecordingHandler handler = new RecordingHandler(Long.MAX_VALUE);
+        WorkerService<Event> service = new WorkerService<>("journal", handler, Event::new, DefaultHashCodeProvider.INSTANCE, config, SERIALIZER);
+        service.start();
+        try {
+            // every producer owns half of the keys, so each key keeps its publish order
+            Thread[] producers = new Thread[2];
+            for (int p = 0; p < producers.length; p++) {
+                int first = p;
+                producers[p] = new Thread(() -> {
+                    for (long sequence = 0; sequence < EVENTS_PER_KEY; sequence++) {
+                        for (int key = first; key < KEYS; key += 2) {
+                            service.publishEvent(key, TRANSLATOR, key, sequence);
+                        }
+                    }
+                });
+                producers[p].start();
+            }
+            for (Thread producer : producers) producer.join();
+            // a batch of a whole ring waits until the worker has caught up
+            Integer[] keys = new Integer[16];
+            Long[] sequences = new Long[16];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = 0;
+                sequences[i] = (long) EVENTS_PER_KEY + i;
+            }
+            service.publishEvents(0, TRANSLATOR, keys, sequences);
+
+            handler.await(KEYS * EVENTS_PER_KEY + keys.length);
+            for (int key = 0; key < KEYS; key++) {
+                List<Long> handled = handler.sequences(key);
+                assertEquals(key == 0 ? EVENTS_PER_KEY + keys.length : EVENTS_PER_KEY, handled.size());
+                for (int i = 0; i < handled.size(); i++) {
+                    assertEquals(i, (long) handled.get(i));
+                }
+            }
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    public void testJournalConfiguration() {
+        WorkerServiceConfig noDirectory = WorkerServiceConfig.builder().workerCount(1).build();
+        assertThrows(IllegalArgumentException.class, () -> new WorkerService<>("journal", new RecordingHandler(0), Event::new, DefaultHashCodeProvider.INSTANCE, noDirectory, SERIALIZER));
+        assertThrows(IllegalArgumentException.class, () -> new WorkerService<>("journal", new RecordingHandler(0), Event::new, DefaultHashCodeProvider.INSTANCE, config(1)));
+        WorkerServiceConfig elastic = WorkerServiceConfig.builder().workerCount(1).elastic(true).journal(directory).build();
+        assertThrows(IllegalArgumentException.class, () -> new WorkerService<>("journal", new RecordingHandler(0), Event::new, DefaultHashCodeProvider.INSTANCE, elastic, SERIALIZER));
+        WorkerServiceConfig tracking = WorkerServiceConfig.builder().workerCount(1).capacityTracking(true).journal(directory).build();
+        assertThrows(IllegalArgumentException.class, () -> new WorkerService<>("journal", new RecordingHandler(0), Event::new, DefaultHashCodeProvider.INSTANCE, tracking, SERIALIZER));
+        assertThrows(IllegalArgumentException.class, () -> WorkerServiceConfig.builder().journalSegmentSize(0));
+    }
+
+    private static final class RecordingHandler implements EventHandler<Event> {
+        private final long blockFrom;
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<List<Long>> sequences = new ArrayList<>();
+        private final AtomicLong handled = new AtomicLong();
+        private final Map<Integer, Thread> workers = new ConcurrentHashMap<>();
+        private final Set<Integer> moved = ConcurrentHashMap.newKeySet();
+
+        RecordingHandler(long blockFrom) {
+            this.blockFrom = blockFrom;
+            for (int key = 0; key < KEYS; key++) sequences.add(new ArrayList<>());
+        }
+
+        @Override
+        public void onEvent(String name, Event event, long sequence) {
+            if (event.sequence >= blockFrom) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return;
+            }
+            Thread worker = workers.putIfAbsent(event.key, Thread.currentThread());
+            if (worker != null && worker != Thread.currentThread()) {
+                moved.add(event.key);
+            }
+            List<Long> keySequences = sequences.get(event.key);
+            synchronized (keySequences) {
+                keySequences.add(event.sequence);
+            }
+            handled.incrementAndGet();
+        }
+
+        List<Long> sequences(int key) {
+            List<Long> keySequences = sequences.get(key);
+            synchronized (keySequences) {
+                return new ArrayList<>(keySequences);
+            }
+        }
+
+        void await(long count) throws InterruptedException {
+            while (handled.get() < count) {
+                Thread.sleep(1);
+            }
+        }
+
+        void awaitLast(int key, long sequence) throws InterruptedException {
+            for (;;) {
+                List<Long> keySequences = sequences(key);
+                if (!keySequences.isEmpty() && keySequences.get(keySequences.size() - 1) == sequence) {
+                    return;
+                }
+                Thread.sleep(1);
+            }
+        }
+
+        @Override
+        public void onError(String name, Event event, long sequence, Throwable ex) {
+            throw new RuntimeException(ex);
+        }
+
+        @Override
+        public void onStart(String name) {
+
+        }
+
+        @Override
+        public void onShutdown(String name) {
+
+        }
+    }
+
+    private static final class Event {
+        private int key;
+        private long sequence;
+    }
+}
@@ -0,0 +1,156 @@
+package io.github.ryntric;
+
+import io.github.ryntric.EventTranslator.EventTranslatorOneArg;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WorkerServiceMetricsTest {
+    private static final int EVENTS = 1000;
+    private static final EventTranslatorOneArg<Event, Integer> TRANSLATOR = (event, value) -> event.value = value;
+
+    @Test
+    public void testMetricsCountPublishedConsumedAndFailedEvents() throws Exception {
+        CountingHandler handler = new CountingHandler();
+        WorkerServiceConfig config = WorkerServiceConfig.builder()
+                .workerCount(2)
+                .capacityTracking(true)
+                .metrics(true)
+                .build();
+        WorkerService<Event> service = new WorkerService<>("metrics-test", handler, Event::new, DefaultHashCodeProvider.INSTANCE, config);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = WorkerServiceMonitor.objectName("metrics-test");
+        service.start();
+        try {
+            assertTrue(server.isRegistered(objectName));
+            for (int i = 0; i < EVENTS; i++) {
+                service.publishEvent(i, TRANSLATOR, i);
+            }
+            while (handler.handled.get() < EVENTS) {
+                Thread.sleep(1);
+            }
+            while (service.metrics().getConsumedCount() < EVENTS) {
+                Thread.sleep(1);
+            }
+
+            WorkerServiceMetrics metrics = service.metrics();
+            assertEquals("metrics-test", metrics.getName());
+            assertEquals(2, metrics.getWorkers().size());
+            long published = 0;
+            for (WorkerMetrics worker : metrics.getWorkers()) {
+                published += worker.getPublishedCount();
+                assertEquals(worker.getPublishedCount(), worker.getConsumedCount());
+                assertEquals(0, worker.getOccupancy());
+                assertEquals(0, worker.getRejectedCount());
+                assertFalse(Double.isNaN(worker.getMeanHandlerNanos()));
+            }
+            assertEquals(EVENTS, published);
+            assertEquals(EVENTS / 10, metrics.getHandlerErrorCount());
+
+            long[] consumed = (long[]) server.getAttribute(objectName, "ConsumedCounts");
+            assertEquals(EVENTS, consumed[0] + consumed[1]);
+            assertEquals(2, server.getAttribute(objectName, "WorkerCount"));
+        } finally {
+            service.shutdown();
+        }
+        assertFalse(server.isRegistered(objectName));
+    }
+
+    @Test
+    public void testProducerCountsAreUntrackedWithoutCapacityTracking() throws InterruptedException {
+        CountingHandler handler = new CountingHandler();
+        WorkerServiceConfig config = WorkerServiceConfig.builder().workerCount(1).metrics(true).build();
+        WorkerService<Event> service = new WorkerService<>("metrics-untracked", handler, Event::new, DefaultHashCodeProvider.INSTANCE, config);
+        service.start();
+        try {
+            service.publishEvent(1, TRANSLATOR, 1);
+            while (service.metrics().getConsumedCount() < 1) {
+                Thread.sleep(1);
+            }
+            WorkerMetrics worker = service.metrics().getWorkers().get(0);
+            assertEquals(-1, worker.getPublishedCount());
+            assertEquals(-1, worker.getOccupancy());
+            assertEquals(-1, worker.getProducerWaitCount());
+            assertEquals(1, worker.getConsumedCount());
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    public void testLatenciesAreSampledPerWorker() throws InterruptedException {
+        CountingHandler handler = new CountingHandler();
+        WorkerServiceConfig config = WorkerServiceConfig.builder().workerCount(2).latencySampleRate(1).build();
+        WorkerService<Event> service = new WorkerService<>("latency", handler, Event::new, DefaultHashCodeProvider.INSTANCE, config);
+        service.start();
+        try {
+            for (int i = 0; i < EVENTS; i++) {
+                service.publishEvent(i, TRANSLATOR, i);
+            }
+            while (handler.handled.get() < EVENTS) {
+                Thread.sleep(1);
+            }
+            Thread.sleep(10);
+
+            List<WorkerLatencies> latencies = service.latencies(true);
+            assertEquals(2, latencies.size());
+            long handled = 0;
+            for (WorkerLatencies worker : latencies) {
+                assertTrue(worker.getQueueingDelay().getCount() > 0);
+                assertTrue(worker.getQueueingDelay().getP50() <= worker.getQueueingDelay().getP999());
+                handled += worker.getHandlerTime().getCount();
+            }
+            assertEquals(EVENTS, handled);
+            assertEquals(0, service.latencies(false).get(0).getHandlerTime().getCount());
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    public void testMetricsRequireConfiguration() {
+        WorkerService<Event> service = new WorkerService<>("metrics-off", new CountingHandler(), Event::new, DefaultHashCodeProvider.INSTANCE, WorkerServiceConfig.INSTANCE);
+        assertThrows(IllegalStateException.class, service::metrics);
+        assertThrows(IllegalStateException.class, () -> service.latencies(false));
+    }
+
+    private static final class CountingHandler implements EventHandler<Event> {
+        private final AtomicInteger handled = new AtomicInteger();
+
+        @Override
+        public void onEvent(String name, Event event, long sequence) {
+            handled.incrementAndGet();
+            if (event.value % 10 == 0) {
+                throw new IllegalArgumentException("failed: " + event.value);
+            }
+        }
+
+        @Override
+        public void onError(String name, Event event, long sequence, Throwable ex) {
+
+        }
+
+        @Override
+        public void onStart(String name) {
+
+        }
+
+        @Override
+        public void onShutdown(String name) {
+
+        }
+    }
+
+    private static final class Event {
+        private int value;
+    }
+}
@@ -0,0 +1,208 @@
+package io.github.ryntric;
+
+import io.github.ryntric.EventTranslator.EventTranslatorTwoArg;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WorkerServiceOverflowTest {
+    private static final int KEYS = 16;
+    private static final int EVENTS_PER_KEY = 100;
+    private static final EventTranslatorTwoArg<Event, Integer, Long> TRANSLATOR = (event, key, sequence) -> {
+        event.key = key;
+        event.sequence = sequence;
+    };
+    private static final EventSerializer<Event> SERIALIZER = new EventSerializer<>() {
+        @Override
+        public void write(Event event, ByteBuffer target) {
+            target.putInt(event.key).putLong(event.sequence);
+        }
+
+        @Override
+        public void read(ByteBuffer source, Event event) {
+            event.key = source.getInt();
+            event.sequence = source.getLong();
+        }
+    };
+
+    private Path directory;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("overflow");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testBurstIsSpilledAndHandledInPerKeyOrder() throws InterruptedException {
+        WorkerServiceConfig config = WorkerServiceConfig.builder()
+                .workerCount(2)
+                .bufferSize(16)
+                .metrics(true)
+                .overflow(directory)
+                .overflowSegmentSize(256)
+                .build();
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler handler = new RecordingHandler(release);
+        WorkerService<Event> service = new WorkerService<>("overflow", handler, Event::new, DefaultHashCodeProvider.INSTANCE, config, SERIALIZER);
+        service.start();
+        try {
+            // the handlers are blocked, so all but a ring's worth of events per worker must spill
+            for (long sequence = 0; sequence < EVENTS_PER_KEY; sequence++) {
+                for (int key = 0; key < KEYS; key++) {
+                    service.publishEvent(key, TRANSLATOR, key, sequence);
+                }
+            }
+            long spilled = 0;
+            for (long depth : service.getOverflowDepths()) spilled += depth;
+            assertTrue(spilled >= KEYS * EVENTS_PER_KEY - 2 * 16, "spilled " + spilled);
+            assertEquals(service.getOverflowDepths()[0], service.metrics().getWorkers().get(0).getOverflowDepth());
+
+            release.countDown();
+            handler.await(KEYS * EVENTS_PER_KEY);
+            for (long depth : service.getOverflowDepths()) assertEquals(0, depth);
+
+            // with the overflow empty again, publishes go to the ring
+            for (int key = 0; key < KEYS; key++) {
+                service.publishEvent(key, TRANSLATOR, key, (long) EVENTS_PER_KEY);
+            }
+            handler.await(KEYS * (EVENTS_PER_KEY + 1));
+            for (int key = 0; key < KEYS; key++) {
+                List<Long> sequences = handler.sequences.get(key);
+                assertEquals(EVENTS_PER_KEY + 1, sequences.size());
+                for (int i = 0; i < sequences.size(); i++) {
+                    assertEquals(i, (long) sequences.get(i));
+                }
+            }
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    public void testDrainedSegmentsAreReused() throws InterruptedException, IOException {
+        WorkerServiceConfig config = WorkerServiceConfig.builder()
+                .workerCount(1)
+                .bufferSize(16)
+                .overflow(directory)
+                .overflowSegmentSize(128)
+                .build();
+        RecordingHandler handler = new RecordingHandler(null);
+        WorkerService<Event> service = new WorkerService<>("overflow", handler, Event::new, DefaultHashCodeProvider.INSTANCE, config, SERIALIZER);
+        service.start();
+        try {
+            for (int round = 0; round < 5; round++) {
+                CountDownLatch release = new CountDownLatch(1);
+                handler.release = release;
+                for (long sequence = round * 20L; sequence < (round + 1) * 20L; sequence++) {
+                    for (int key = 0; key < KEYS; key++) {
+                        service.publishEvent(key, TRANSLATOR, key, sequence);
+                    }
+                }
+                release.countDown();
+                handler.await(KEYS * 20L * (round + 1));
+                // the segment being written plus the pooled ones, however many a burst needed
+                try (Stream<Path> files = Files.list(directory.resolve("overflow-0"))) {
+                    long count = files.count();
+                    assertTrue(count <= 3, "files " + count);
+                }
+            }
+            for (int key = 0; key < KEYS; key++) {
+                List<Long> sequences = handler.sequences.get(key);
+                for (int i = 0; i < sequences.size(); i++) {
+                    assertEquals(i, (long) sequences.get(i));
+                }
+            }
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    public void testOverflowConfiguration() {
+        WorkerServiceConfig tracking = WorkerServiceConfig.builder().workerCount(1).capacityTracking(true).overflow(directory).build();
+        assertThrows(IllegalArgumentException.class, () -> new WorkerService<>("overflow", new RecordingHandler(null), Event::new, DefaultHashCodeProvider.INSTANCE, tracking, SERIALIZER));
+        WorkerServiceConfig journal = WorkerServiceConfig.builder().workerCount(1).journal(directory).overflow(directory).build();
+        assertThrows(IllegalArgumentException.class, () -> new WorkerService<>("overflow", new RecordingHandler(null), Event::new, DefaultHashCodeProvider.INSTANCE, journal, SERIALIZER));
+        WorkerServiceConfig overflow = WorkerServiceConfig.builder().workerCount(1).overflow(directory).build();
+        assertThrows(IllegalArgumentException.class, () -> new WorkerService<>("overflow", new RecordingHandler(null), Event::new, DefaultHashCodeProvider.INSTANCE, overflow));
+        assertThrows(IllegalArgumentException.class, () -> WorkerServiceConfig.builder().overflowSegmentSize(0));
+
+        WorkerService<Event> service = new WorkerService<>("overflow", new RecordingHandler(null), Event::new, DefaultHashCodeProvider.INSTANCE, overflow, SERIALIZER);
+        assertThrows(IllegalStateException.class, service::getRejectedCounts);
+        WorkerService<Event> plain = new WorkerService<>("overflow", new RecordingHandler(null), Event::new, DefaultHashCodeProvider.INSTANCE, WorkerServiceConfig.builder().workerCount(1).build());
+        assertThrows(IllegalStateException.class, plain::getOverflowDepths);
+    }
+
+    private static final class RecordingHandler implements EventHandler<Event> {
+        private volatile CountDownLatch release;
+        private final List<List<Long>> sequences = new ArrayList<>();
+        private final AtomicLong handled = new AtomicLong();
+
+        RecordingHandler(CountDownLatch release) {
+            this.release = release;
+            for (int key = 0; key < KEYS; key++) sequences.add(new ArrayList<>());
+        }
+
+        void await(long count) throws InterruptedException {
+            long deadline = System.nanoTime() + 10_000_000_000L;
+            while (handled.get() < count) {
+                assertTrue(System.nanoTime() < deadline, "handled " + handled.get() + " of " + count);
+                Thread.sleep(1);
+            }
+        }
+
+        @Override
+        public void onEvent(String name, Event event, long sequence) {
+            try {
+                CountDownLatch latch = release;
+                if (latch != null) latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sequences.get(event.key).add(event.sequence);
+            handled.incrementAndGet();
+        }
+
+        @Override
+        public void onError(String name, Event event, long sequence, Throwable ex) {
+
+        }
+
+        @Override
+        public void onStart(String name) {
+
+        }
+
+        @Override
+        public void onShutdown(String name) {
+
+        }
+    }
+
+    private static final class Event {
+        private int key;
+        private long sequence;
+    }
+}
@@ -0,0 +1,120 @@
+package io.github.ryntric;
+
+import io.github.ryntric.PrimitiveTranslator.DoubleTranslator;
+import io.github.ryntric.PrimitiveTranslator.IntTranslator;
+import io.github.ryntric.PrimitiveTranslator.LongDoubleTranslator;
+import io.github.ryntric.PrimitiveTranslator.LongLongTranslator;
+import io.github.ryntric.PrimitiveTranslator.LongTranslator;
+import io.github.ryntric.PrimitiveTranslator.ObjLongTranslator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WorkerServicePrimitivePublishTest {
+    private static final IntTranslator<Event> INT = (event, value) -> event.value = value;
+    private static final LongTranslator<Event> LONG = (event, value) -> event.value = value;
+    private static final DoubleTranslator<Event> DOUBLE = (event, value) -> event.value = (long) value;
+    private static final LongLongTranslator<Event> LONG_LONG = (event, value0, value1) -> event.value = value0 + value1;
+    private static final LongDoubleTranslator<Event> LONG_DOUBLE = (event, value0, value1) -> event.value = value0 + (long) value1;
+    private static final ObjLongTranslator<Event, String> OBJ_LONG = (event, arg, value) -> event.value = arg.length() + value;
+
+    private final SummingHandler handler = new SummingHandler();
+    private WorkerService<Event> service;
+
+    @BeforeEach
+    public void setUp() {
+        WorkerServiceConfig config = WorkerServiceConfig.builder().workerCount(2).bufferSize(1024).build();
+        service = new WorkerService<>("primitive", handler, Event::new, DefaultHashCodeProvider.INSTANCE, config);
+        service.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    public void testPrimitiveValuesReachTheHandler() throws InterruptedException {
+        service.publishInt("a", INT, 1);
+        service.publishLong(2, LONG, 1L << 40);
+        service.publishDouble(3L, DOUBLE, 2.5);
+        service.publishLongLong(new byte[]{4}, LONG_LONG, 3, 4);
+        service.publishLongDouble("b", LONG_DOUBLE, 5, 6.0);
+        service.publishObjLong(5, OBJ_LONG, "xyz", 7);
+        long[] values = new long[150];
+        for (int i = 0; i < values.length; i++) values[i] = i;
+        service.publishLongs(6L, LONG, values);
+        service.publishLongs("c", LONG, new long[0]);
+
+        long expected = 1 + (1L << 40) + 2 + 7 + 11 + 10 + 149 * 150 / 2;
+        awaitHandled(6 + values.length);
+        assertEquals(expected, handler.sum.get());
+    }
+
+    @Test
+    public void testSteadyStatePublishDoesNotAllocate() throws InterruptedException {
+        long[] batch = new long[100];
+        publishRound(batch, 20_000);
+        awaitHandled(20_000 * 102L);
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        publishRound(batch, 10_000);
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+        awaitHandled(30_000 * 102L);
+        // 10k rounds publish over a million events; a byte per event would be a leak
+        assertTrue(allocated < 64 * 1024, () -> "allocated " + allocated + " bytes");
+    }
+
+    private void publishRound(long[] batch, int rounds) {
+        for (int i = 0; i < rounds; i++) {
+            service.publishLong(i, LONG, i);
+            service.publishLongDouble(i, LONG_DOUBLE, i, 0.5);
+            service.publishLongs(i, LONG, batch);
+        }
+    }
+
+    private void awaitHandled(long count) throws InterruptedException {
+        while (handler.handled.get() < count) {
+            Thread.sleep(1);
+        }
+        assertEquals(count, handler.handled.get());
+    }
+
+    private static final class SummingHandler implements EventHandler<Event> {
+        private final AtomicLong sum = new AtomicLong();
+        private final AtomicLong handled = new AtomicLong();
+
+        @Override
+        public void onEvent(String name, Event event, long sequence) {
+            sum.addAndGet(event.value);
+            handled.incrementAndGet();
+        }
+
+        @Override
+        public void onError(String name, Event event, long sequence, Throwable ex) {
+
+        }
+
+        @Override
+        public void onStart(String name) {
+
+        }
+
+        @Override
+        public void onShutdown(String name) {
+
+        }
+    }
+
+    private static final class Event {
+        private long value;
+    }
+}
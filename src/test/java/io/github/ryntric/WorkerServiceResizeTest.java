@@ -0,0 +1,165 @@
+package io.github.ryntric;
+
+import io.github.ryntric.EventTranslator.EventTranslatorThreeArg;
+import io.github.ryntric.routing.RoutingStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongToIntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WorkerServiceResizeTest {
+    private static final int PRODUCERS = 4;
+    private static final int KEYS = 256;
+    private static final EventTranslatorThreeArg<Event, Integer, Integer, Long> TRANSLATOR = (event, producer, key, sequence) -> {
+        event.producer = producer;
+        event.key = key;
+        event.sequence = sequence;
+    };
+
+    @Test
+    public void testResizePreservesPerKeyOrder() throws InterruptedException {
+        WorkerServiceConfig config = WorkerServiceConfig.builder()
+                .workerCount(4)
+                .routingStrategy(RoutingStrategy.CONSISTENT_HASH)
+                .elastic(true)
+                .build();
+        publishWhile(config, count -> (int) (count % KEYS), service -> {
+            int[] sizes = {7, 2, 9, 4, 1, 5};
+            for (int size : sizes) {
+                Thread.sleep(20);
+                service.resize(size);
+                assertEquals(size, service.getWorkerCount());
+            }
+        });
+    }
+
+    @Test
+    public void testRebalancingPreservesPerKeyOrder() throws InterruptedException {
+        WorkerServiceConfig config = WorkerServiceConfig.builder()
+                .workerCount(4)
+                .rebalanceInterval(5)
+                .rebalanceThreshold(1.1)
+                .build();
+        // three of four events go to a handful of hot keys
+        publishWhile(config, count -> count % 4 != 0 ? (int) (count % 5) : (int) (count % KEYS), service -> Thread.sleep(200));
+    }
+
+    private static void publishWhile(WorkerServiceConfig config, LongToIntFunction keys, Action action) throws InterruptedException {
+        OrderCheckingHandler handler = new OrderCheckingHandler();
+        WorkerService<Event> service = new WorkerService<>("resize", handler, Event::new, DefaultHashCodeProvider.INSTANCE, config);
+        service.start();
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch done = new CountDownLatch(PRODUCERS);
+        long[] published = new long[PRODUCERS];
+        for (int p = 0; p < PRODUCERS; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                long[] sequences = new long[KEYS];
+                long count = 0;
+                while (running.get()) {
+                    int key = keys.applyAsInt(count);
+                    service.publishEvent(key, TRANSLATOR, producer, key, sequences[key]++);
+                    count++;
+                }
+                published[producer] = count;
+                done.countDown();
+            });
+            thread.start();
+        }
+
+        try {
+            action.run(service);
+        } finally {
+            running.set(false);
+            done.await();
+        }
+
+        long total = 0;
+        for (long count : published) total += count;
+        while (handler.handled.get() < total) {
+            Thread.sleep(1);
+        }
+        service.shutdown();
+
+        assertEquals(total, handler.handled.get());
+        assertTrue(handler.violations.isEmpty(), () -> "out of order: " + handler.violations);
+    }
+
+    @Test
+    public void testResizeBeforeStart() {
+        WorkerServiceConfig config = WorkerServiceConfig.builder().workerCount(2).elastic(true).build();
+        WorkerService<Event> service = new WorkerService<>("resize", new OrderCheckingHandler(), Event::new, DefaultHashCodeProvider.INSTANCE, config);
+        service.resize(3);
+        assertEquals(3, service.getWorkerCount());
+    }
+
+    @Test
+    public void testResizeRequiresElasticService() {
+        WorkerService<Event> service = new WorkerService<>("resize", new OrderCheckingHandler(), Event::new, DefaultHashCodeProvider.INSTANCE, WorkerServiceConfig.INSTANCE);
+        assertThrows(IllegalStateException.class, () -> service.resize(2));
+    }
+
+    @Test
+    public void testElasticServiceRequiresMultiProducerSequencer() {
+        WorkerServiceConfig config = WorkerServiceConfig.builder().workerCount(2).elastic(true).sequencerType(SequencerType.SINGLE_PRODUCER).build();
+        assertThrows(IllegalArgumentException.class, () -> new WorkerService<>("resize", new OrderCheckingHandler(), Event::new, DefaultHashCodeProvider.INSTANCE, config));
+    }
+
+    @Test
+    public void testRebalancingServiceRequiresMultiProducerSequencer() {
+        WorkerServiceConfig config = WorkerServiceConfig.builder().workerCount(2).rebalanceInterval(5).sequencerType(SequencerType.SINGLE_PRODUCER).build();
+        assertThrows(IllegalArgumentException.class, () -> new WorkerService<>("rebalance", new OrderCheckingHandler(), Event::new, DefaultHashCodeProvider.INSTANCE, config));
+    }
+
+    private interface Action {
+        void run(WorkerService<Event> service) throws InterruptedException;
+    }
+
+    private static final class OrderCheckingHandler implements EventHandler<Event> {
+        private final long[][] expected = new long[PRODUCERS][KEYS];
+        private final AtomicLong handled = new AtomicLong();
+        private final ConcurrentHashMap<String, Long> violations = new ConcurrentHashMap<>();
+
+        @Override
+        public void onEvent(String name, Event event, long sequence) {
+            // a key is handled by one worker at a time, so its counters are never updated concurrently
+            synchronized (expected[event.producer]) {
+                long next = expected[event.producer][event.key];
+                if (event.sequence != next) {
+                    violations.putIfAbsent(event.producer + "/" + event.key, event.sequence);
+                }
+                expected[event.producer][event.key] = event.sequence + 1;
+            }
+            handled.incrementAndGet();
+        }
+
+        @Override
+        public void onError(String name, Event event, long sequence, Throwable ex) {
+            throw new RuntimeException(ex);
+        }
+
+        @Override
+        public void onStart(String name) {
+
+        }
+
+        @Override
+        public void onShutdown(String name) {
+
+        }
+    }
+
+    private static final class Event {
+        private int producer;
+        private int key;
+        private long sequence;
+    }
+}
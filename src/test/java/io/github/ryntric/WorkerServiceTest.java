@@ -350,7 +350,7 @@ class WorkerServiceTest {
     @Execution(ExecutionMode.CONCURRENT)
     public void testPublishEventBatchWith5ArgsForStrKey() {
         CompletableFuture<?>[] futures = {new CompletableFuture<>(), new CompletableFuture<>(), new CompletableFuture<>(), new CompletableFuture<>()};
-        workerService.publishEvent(STR_KEY, TRANSLATOR_FIVE_ARG, futures, futures, futures, futures, futures);
+        workerService.publishEvents(STR_KEY, TRANSLATOR_FIVE_ARG, futures, futures, futures, futures, futures);
         CompletableFuture.allOf(futures).join();
     }
 
@@ -358,7 +358,7 @@ class WorkerServiceTest {
     @Execution(ExecutionMode.CONCURRENT)
     public void testPublishEventBatchWith5ArgsForIntKey() {
         CompletableFuture<?>[] futures = {new CompletableFuture<>(), new CompletableFuture<>(), new CompletableFuture<>(), new CompletableFuture<>()};
-        workerService.publishEvent(INT_KEY, TRANSLATOR_FIVE_ARG, futures, futures, futures, futures, futures);
+        workerService.publishEvents(INT_KEY, TRANSLATOR_FIVE_ARG, futures, futures, futures, futures, futures);
         CompletableFuture.allOf(futures).join();
     }
 
@@ -366,7 +366,7 @@ class WorkerServiceTest {
     @Execution(ExecutionMode.CONCURRENT)
     public void testPublishEventBatchWith5ArgsForLongKey() {
         CompletableFuture<?>[] futures = {new CompletableFuture<>(), new CompletableFuture<>(), new CompletableFuture<>(), new CompletableFuture<>()};
-        workerService.publishEvent(LONG_KEY, TRANSLATOR_FIVE_ARG, futures, futures, futures, futures, futures);
+        workerService.publishEvents(LONG_KEY, TRANSLATOR_FIVE_ARG, futures, futures, futures, futures, futures);
         CompletableFuture.allOf(futures).join();
     }
 
@@ -374,7 +374,39 @@ class WorkerServiceTest {
     @Execution(ExecutionMode.CONCURRENT)
     public void testPublishEventBatchWith5ArgsForByteKey() {
         CompletableFuture<?>[] futures = {new CompletableFuture<>(), new CompletableFuture<>(), new CompletableFuture<>(), new CompletableFuture<>()};
-        workerService.publishEvent(BYTE_KEY, TRANSLATOR_FIVE_ARG, futures, futures, futures, futures, futures);
+        workerService.publishEvents(BYTE_KEY, TRANSLATOR_FIVE_ARG, futures, futures, futures, futures, futures);
+        CompletableFuture.allOf(futures).join();
+    }
+
+    @Test
+    @Execution(ExecutionMode.CONCURRENT)
+    public void testPublishEventsForMultipleStrKeys() {
+        CompletableFuture<?>[] futures = {new CompletableFuture<>(), new CompletableFuture<>(), new CompletableFuture<>(), new CompletableFuture<>()};
+        workerService.publishEvents(new String[]{"a", "b", "c", "d"}, TRANSLATOR_ONE_ARG, futures);
+        CompletableFuture.allOf(futures).join();
+    }
+
+    @Test
+    @Execution(ExecutionMode.CONCURRENT)
+    public void testPublishEventsForMultipleIntKeys() {
+        CompletableFuture<?>[] futures = {new CompletableFuture<>(), new CompletableFuture<>(), new CompletableFuture<>(), new CompletableFuture<>()};
+        workerService.publishEvents(new int[]{0, 1, 2, 3}, TRANSLATOR_ONE_ARG, futures);
+        CompletableFuture.allOf(futures).join();
+    }
+
+    @Test
+    @Execution(ExecutionMode.CONCURRENT)
+    public void testPublishEventsForMultipleLongKeys() {
+        CompletableFuture<?>[] futures = {new CompletableFuture<>(), new CompletableFuture<>(), new CompletableFuture<>(), new CompletableFuture<>()};
+        workerService.publishEvents(new long[]{0, 1, 2, 3}, TRANSLATOR_ONE_ARG, futures);
+        CompletableFuture.allOf(futures).join();
+    }
+
+    @Test
+    @Execution(ExecutionMode.CONCURRENT)
+    public void testPublishEventsForMultipleByteKeys() {
+        CompletableFuture<?>[] futures = {new CompletableFuture<>(), new CompletableFuture<>(), new CompletableFuture<>(), new CompletableFuture<>()};
+        workerService.publishEvents(new byte[][]{{0}, {1}, {2}, {3}}, TRANSLATOR_ONE_ARG, futures);
         CompletableFuture.allOf(futures).join();
     }
 
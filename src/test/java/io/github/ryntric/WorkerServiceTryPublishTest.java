@@ -0,0 +1,98 @@
+package io.github.ryntric;
+
+import io.github.ryntric.EventTranslator.EventTranslatorOneArg;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WorkerServiceTryPublishTest {
+    private static final int BUFFER_SIZE = 8;
+    private static final EventTranslatorOneArg<Event, Integer> TRANSLATOR = (event, value) -> event.value = value;
+
+    @Test
+    public void testTryPublishRefusesWhenRingIsFull() throws InterruptedException {
+        BlockingHandler handler = new BlockingHandler();
+        WorkerServiceConfig config = WorkerServiceConfig.builder()
+                .workerCount(1)
+                .bufferSize(BUFFER_SIZE)
+                .capacityTracking(true)
+                .build();
+        WorkerService<Event> service = new WorkerService<>("try", handler, Event::new, DefaultHashCodeProvider.INSTANCE, config);
+        service.start();
+        try {
+            for (int i = 0; i < BUFFER_SIZE; i++) {
+                assertTrue(service.tryPublishEvent(i, TRANSLATOR, i));
+            }
+            assertFalse(service.tryPublishEvent("key", TRANSLATOR, -1));
+
+            long start = System.nanoTime();
+            assertFalse(service.publishEvent(1L, 20, TimeUnit.MILLISECONDS, TRANSLATOR, -1));
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+            assertArrayEquals(new long[]{2}, service.getRejectedCounts());
+
+            handler.release.countDown();
+            assertTrue(service.publishEvent(new byte[]{1}, 1, TimeUnit.SECONDS, TRANSLATOR, BUFFER_SIZE));
+            while (handler.handled.get() < BUFFER_SIZE + 1) {
+                Thread.sleep(1);
+            }
+            assertEquals(BUFFER_SIZE + 1, handler.handled.get());
+        } finally {
+            handler.release.countDown();
+            service.shutdown();
+        }
+    }
+
+    @Test
+    public void testTryPublishRequiresCapacityTracking() {
+        WorkerService<Event> service = new WorkerService<>("try", new BlockingHandler(), Event::new, DefaultHashCodeProvider.INSTANCE, WorkerServiceConfig.INSTANCE);
+        service.start();
+        try {
+            assertThrows(IllegalStateException.class, () -> service.tryPublishEvent(1, TRANSLATOR, 1));
+            assertThrows(IllegalStateException.class, service::getRejectedCounts);
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    private static final class BlockingHandler implements EventHandler<Event> {
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger handled = new AtomicInteger();
+
+        @Override
+        public void onEvent(String name, Event event, long sequence) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            handled.incrementAndGet();
+        }
+
+        @Override
+        public void onError(String name, Event event, long sequence, Throwable ex) {
+            throw new RuntimeException(ex);
+        }
+
+        @Override
+        public void onStart(String name) {
+
+        }
+
+        @Override
+        public void onShutdown(String name) {
+
+        }
+    }
+
+    private static final class Event {
+        private int value;
+    }
+}
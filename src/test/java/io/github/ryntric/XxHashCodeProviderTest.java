@@ -0,0 +1,100 @@
+package io.github.ryntric;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class XxHashCodeProviderTest {
+    private static final int SLOTS = 1024;
+    private static final int KEYS = SLOTS * 128;
+    // a uniform hash puts Binomial(KEYS, 1 / SLOTS) keys into every slot, a coefficient of variation of about 0.088
+    private static final double MAX_VARIATION = 0.11;
+
+    @Test
+    public void testMatchesXxHash64ReferenceValues() {
+        XxHashCodeProvider provider = XxHashCodeProvider.INSTANCE;
+        assertEquals(0xEF46DB3751D8E999L, provider.hash64(new byte[0], 0, 0));
+        assertEquals(0xD24EC4F1A98C6E5BL, hash64(provider, "a"));
+        assertEquals(0x44BC2CF5AD770999L, hash64(provider, "abc"));
+        assertEquals(0xFBCEA83C8A378BF1L, hash64(provider, "Nobody inspects the spammish repetition"));
+    }
+
+    @Test
+    public void testKeyTypesHashTheirLittleEndianBytes() {
+        XxHashCodeProvider provider = XxHashCodeProvider.withSeed(0x5EED);
+        StringBuilder key = new StringBuilder();
+        for (int length = 0; length < 70; length++) {
+            String string = key.toString();
+            assertEquals(provider.provide(string.getBytes(StandardCharsets.UTF_16LE)), provider.provide(string), string);
+            key.append((char) ('a' + length % 26 + (length % 7 == 0 ? 0x400 : 0)));
+        }
+        for (int value : new int[]{0, 1, -1, 42, Integer.MIN_VALUE}) {
+            assertEquals(provider.provide(ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(value).array()), provider.provide(value));
+            assertEquals(provider.provide(ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(value).array()), provider.provide((long) value));
+        }
+    }
+
+    @Test
+    public void testSeedsHashIndependently() {
+        int same = 0;
+        for (int i = 0; i < 1000; i++) {
+            byte[] key = ascii("key-" + i);
+            if (XxHashCodeProvider.INSTANCE.provide(key) == XxHashCodeProvider.withSeed(1).provide(key)) same++;
+        }
+        assertEquals(0, same);
+    }
+
+    @Test
+    public void testSlotLoadIsUniformForRealisticKeys() {
+        for (HashCodeProvider provider : new HashCodeProvider[]{XxHashCodeProvider.INSTANCE, XxHashCodeProvider.withSeed(7)}) {
+            // 64-byte binary keys sharing a prefix, differing only in an embedded sequence number
+            double binary = variation(i -> {
+                ByteBuffer key = ByteBuffer.allocate(64);
+                key.put(ascii("tenant-0042/region-eu-west-1/orders/")).position(48);
+                return key.putLong(i).putLong(0x1234L).array();
+            }, provider::provide);
+            // 256-byte binary keys with a random 16-byte identifier
+            double uuids = variation(i -> {
+                UUID uuid = UUID.nameUUIDFromBytes(ByteBuffer.allocate(4).putInt(i).array());
+                return ByteBuffer.allocate(256).putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits()).array();
+            }, provider::provide);
+            double strings = variation(i -> "user:" + i + ":session", provider::provide);
+            double longs = variation(i -> (long) i << 20, key -> provider.provide((long) key));
+            assertTrue(binary < MAX_VARIATION, () -> "binary keys: " + binary);
+            assertTrue(uuids < MAX_VARIATION, () -> "uuid keys: " + uuids);
+            assertTrue(strings < MAX_VARIATION, () -> "string keys: " + strings);
+            assertTrue(longs < MAX_VARIATION, () -> "long keys: " + longs);
+        }
+    }
+
+    /**
+     * @return the coefficient of variation of the key count per slot
+     */
+    private static <K> double variation(IntFunction<K> keys, ToIntFunction<K> hash) {
+        int[] loads = new int[SLOTS];
+        for (int i = 0; i < KEYS; i++) {
+            loads[hash.applyAsInt(keys.apply(i)) & (SLOTS - 1)]++;
+        }
+        double mean = (double) KEYS / SLOTS;
+        double variance = 0;
+        for (int load : loads) variance += (load - mean) * (load - mean);
+        return Math.sqrt(variance / SLOTS) / mean;
+    }
+
+    private static long hash64(XxHashCodeProvider provider, String value) {
+        byte[] bytes = ascii(value);
+        return provider.hash64(bytes, 0, bytes.length);
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
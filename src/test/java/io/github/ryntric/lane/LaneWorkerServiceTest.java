@@ -0,0 +1,119 @@
+package io.github.ryntric.lane;
+
+import io.github.ryntric.BatchSizeLimit;
+import io.github.ryntric.DefaultHashCodeProvider;
+import io.github.ryntric.EventHandler;
+import io.github.ryntric.EventTranslator.EventTranslatorThreeArg;
+import io.github.ryntric.WorkerServiceConfig;
+import io.github.ryntric.util.WorkerUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LaneWorkerServiceTest {
+    private static final int PRODUCERS = 4;
+    private static final int KEYS = 128;
+    private static final int EVENTS = 50_000;
+    private static final EventTranslatorThreeArg<Event, Integer, Integer, Long> TRANSLATOR = (event, producer, key, sequence) -> {
+        event.producer = producer;
+        event.key = key;
+        event.sequence = sequence;
+    };
+
+    @Test
+    public void testLanesPreservePerProducerKeyOrder() throws InterruptedException {
+        OrderCheckingHandler handler = new OrderCheckingHandler();
+        WorkerServiceConfig config = WorkerServiceConfig.builder().workerCount(3).bufferSize(64).build();
+        LaneWorkerService<Event> service = new LaneWorkerService<>("lanes", handler, Event::new, DefaultHashCodeProvider.INSTANCE, config);
+        service.start();
+
+        Thread[] producers = new Thread[PRODUCERS];
+        for (int p = 0; p < PRODUCERS; p++) {
+            int producer = p;
+            producers[p] = new Thread(() -> {
+                try (LaneProducer<Event> lane = service.registerProducer()) {
+                    long[] sequences = new long[KEYS];
+                    for (int i = 0; i < EVENTS; i++) {
+                        int key = i % KEYS;
+                        lane.publishEvent(key, TRANSLATOR, producer, key, sequences[key]++);
+                    }
+                }
+            });
+            producers[p].start();
+        }
+        for (Thread producer : producers) producer.join();
+
+        while (handler.handled.get() < PRODUCERS * EVENTS) {
+            Thread.sleep(1);
+        }
+        service.shutdown();
+
+        assertEquals(PRODUCERS * EVENTS, handler.handled.get());
+        assertTrue(handler.violations.isEmpty(), () -> "out of order: " + handler.violations);
+    }
+
+    @Test
+    public void testProducerIsBoundToItsThread() throws InterruptedException {
+        LaneWorkerService<Event> service = new LaneWorkerService<>("lanes", new OrderCheckingHandler(), Event::new, DefaultHashCodeProvider.INSTANCE, WorkerServiceConfig.INSTANCE);
+        service.start();
+        try {
+            LaneProducer<Event>[] holder = new LaneProducer[1];
+            Thread thread = new Thread(() -> holder[0] = service.registerProducer());
+            thread.start();
+            thread.join();
+            assertThrows(IllegalStateException.class, () -> holder[0].publishEvent(1, TRANSLATOR, 0, 1, 0L));
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    public void testBatchSizeFollowsLimit() {
+        assertEquals(2048, WorkerUtil.batchSize(BatchSizeLimit._1_2, 4096));
+        assertEquals(512, WorkerUtil.batchSize(BatchSizeLimit._1_8, 4096));
+        assertEquals(1, WorkerUtil.batchSize(BatchSizeLimit._1_8, 4));
+    }
+
+    private static final class OrderCheckingHandler implements EventHandler<Event> {
+        private final long[][] expected = new long[PRODUCERS][KEYS];
+        private final AtomicLong handled = new AtomicLong();
+        private final ConcurrentHashMap<String, Long> violations = new ConcurrentHashMap<>();
+
+        @Override
+        public void onEvent(String name, Event event, long sequence) {
+            synchronized (expected[event.producer]) {
+                if (event.sequence != expected[event.producer][event.key]) {
+                    violations.putIfAbsent(event.producer + "/" + event.key, event.sequence);
+                }
+                expected[event.producer][event.key] = event.sequence + 1;
+            }
+            handled.incrementAndGet();
+        }
+
+        @Override
+        public void onError(String name, Event event, long sequence, Throwable ex) {
+            throw new RuntimeException(ex);
+        }
+
+        @Override
+        public void onStart(String name) {
+
+        }
+
+        @Override
+        public void onShutdown(String name) {
+
+        }
+    }
+
+    private static final class Event {
+        private int producer;
+        private int key;
+        private long sequence;
+    }
+}
@@ -0,0 +1,155 @@
+package io.github.ryntric.offheap;
+
+import io.github.ryntric.DefaultHashCodeProvider;
+import io.github.ryntric.EventHandler;
+import io.github.ryntric.EventTranslator.EventTranslatorOneArg;
+import io.github.ryntric.EventTranslator.EventTranslatorThreeArg;
+import io.github.ryntric.WorkerServiceConfig;
+import io.github.ryntric.WorkerServiceTerminatedException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OffHeapWorkerServiceTest {
+    private static final int PRODUCERS = 4;
+    private static final int KEYS = 64;
+    private static final int EVENTS = 50_000;
+    private static final EventTranslatorThreeArg<OrderView, Integer, Integer, Long> TRANSLATOR = (view, producer, key, sequence) -> {
+        view.producer(producer);
+        view.key(key);
+        view.sequence(sequence);
+        view.price(sequence * 0.5);
+    };
+
+    @Test
+    public void testRecordsKeepPerKeyOrder() throws InterruptedException {
+        OrderCheckingHandler handler = new OrderCheckingHandler();
+        WorkerServiceConfig config = WorkerServiceConfig.builder().workerCount(4).bufferSize(256).build();
+        OffHeapWorkerService<OrderView> service = new OffHeapWorkerService<>("offheap", handler, OrderView::new, OrderView.SIZE, DefaultHashCodeProvider.INSTANCE, config);
+        assertEquals(24L * 256 * 4, service.getMemorySize());
+        service.start();
+
+        Thread[] producers = new Thread[PRODUCERS];
+        for (int p = 0; p < PRODUCERS; p++) {
+            int producer = p;
+            producers[p] = new Thread(() -> {
+                long[] sequences = new long[KEYS];
+                for (int i = 0; i < EVENTS; i++) {
+                    int key = i % KEYS;
+                    service.publishEvent(key, TRANSLATOR, producer, key, sequences[key]++);
+                }
+            });
+            producers[p].start();
+        }
+        for (Thread producer : producers) producer.join();
+
+        while (handler.handled.get() < PRODUCERS * EVENTS) {
+            Thread.sleep(1);
+        }
+        service.shutdown();
+
+        assertEquals(PRODUCERS * EVENTS, handler.handled.get());
+        assertTrue(handler.violations.isEmpty(), () -> "out of order: " + handler.violations);
+        assertThrows(WorkerServiceTerminatedException.class, () -> service.publishEvent(1, TRANSLATOR, 0, 1, 0L));
+    }
+
+    @Test
+    public void testFieldsBeyondTheRecordAreRejected() {
+        WorkerServiceConfig config = WorkerServiceConfig.builder().workerCount(1).bufferSize(16).build();
+        OffHeapWorkerService<OrderView> service = new OffHeapWorkerService<>("offheap", new OrderCheckingHandler(), OrderView::new, OrderView.SIZE, DefaultHashCodeProvider.INSTANCE, config);
+        service.start();
+        try {
+            // the record is padded to 24 bytes, but the last 3 belong to no field
+            EventTranslatorOneArg<OrderView, Long> overrunning = (view, value) -> view.putLong(OrderView.SIZE - 4, value);
+            assertThrows(IndexOutOfBoundsException.class, () -> service.publishEvent(1, overrunning, 1L));
+            EventTranslatorOneArg<OrderView, byte[]> copying = (view, bytes) -> view.putBytes(0, bytes, 0, bytes.length);
+            assertThrows(IndexOutOfBoundsException.class, () -> service.publishEvent(1, copying, new byte[OrderView.SIZE + 1]));
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    public void testInvalidRecordSize() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapWorkerService<>("offheap", new OrderCheckingHandler(), OrderView::new, 0, DefaultHashCodeProvider.INSTANCE, WorkerServiceConfig.INSTANCE));
+        WorkerServiceConfig config = WorkerServiceConfig.builder().bufferSize(1 << 24).build();
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapWorkerService<>("offheap", new OrderCheckingHandler(), OrderView::new, 256, DefaultHashCodeProvider.INSTANCE, config));
+    }
+
+    private static final class OrderView extends Flyweight {
+        private static final int SIZE = 21;
+
+        int producer() {
+            return getByte(0);
+        }
+
+        void producer(int producer) {
+            putByte(0, (byte) producer);
+        }
+
+        int key() {
+            return getInt(1);
+        }
+
+        void key(int key) {
+            putInt(1, key);
+        }
+
+        long sequence() {
+            return getLong(5);
+        }
+
+        void sequence(long sequence) {
+            putLong(5, sequence);
+        }
+
+        double price() {
+            return getDouble(13);
+        }
+
+        void price(double price) {
+            putDouble(13, price);
+        }
+    }
+
+    private static final class OrderCheckingHandler implements EventHandler<OrderView> {
+        private final long[][] expected = new long[PRODUCERS][KEYS];
+        private final AtomicLong handled = new AtomicLong();
+        private final ConcurrentHashMap<String, Long> violations = new ConcurrentHashMap<>();
+
+        @Override
+        public void onEvent(String name, OrderView view, long sequence) {
+            int producer = view.producer();
+            int key = view.key();
+            // a key is handled by one worker, so its counters are never updated concurrently
+            synchronized (expected[producer]) {
+                long next = expected[producer][key];
+                if (view.sequence() != next || view.price() != next * 0.5) {
+                    violations.putIfAbsent(producer + "/" + key, view.sequence());
+                }
+                expected[producer][key] = view.sequence() + 1;
+            }
+            handled.incrementAndGet();
+        }
+
+        @Override
+        public void onError(String name, OrderView view, long sequence, Throwable ex) {
+            throw new RuntimeException(ex);
+        }
+
+        @Override
+        public void onStart(String name) {
+
+        }
+
+        @Override
+        public void onShutdown(String name) {
+
+        }
+    }
+}
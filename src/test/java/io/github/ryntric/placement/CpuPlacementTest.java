@@ -0,0 +1,114 @@
+package io.github.ryntric.placement;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CpuPlacementTest {
+    private Path root;
+
+    /**
+     * Two packages on two NUMA nodes, two cores per package, two hardware threads per core,
+     * numbered like Linux does: first threads 0-3, their siblings 4-7. CPU 7 is outside the
+     * cpuset and the cgroup allows one and a half CPUs.
+     */
+    @BeforeEach
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("topology");
+        Path cpuDir = root.resolve("sys/devices/system/cpu");
+        Files.createDirectories(cpuDir);
+        Files.writeString(cpuDir.resolve("online"), "0-7\n");
+        for (int cpu = 0; cpu < 8; cpu++) {
+            int pkg = (cpu & 3) >> 1;
+            Path topology = Files.createDirectories(cpuDir.resolve("cpu" + cpu).resolve("topology"));
+            Files.writeString(topology.resolve("physical_package_id"), pkg + "\n");
+            Files.writeString(topology.resolve("core_id"), (cpu & 1) + "\n");
+            Files.createDirectories(cpuDir.resolve("cpu" + cpu).resolve("node" + pkg));
+        }
+        Files.createDirectories(root.resolve("proc/self"));
+        Files.writeString(root.resolve("proc/self/status"), "Name:\tjava\nCpus_allowed_list:\t0-6\n");
+        Files.createDirectories(root.resolve("sys/fs/cgroup"));
+        Files.writeString(root.resolve("sys/fs/cgroup/cpu.max"), "150000 100000\n");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testTopologyHonoursCpusetAndQuota() {
+        CpuTopology topology = CpuTopology.read(root);
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5, 6}, topology.getCpus());
+        assertEquals(topology.getCore(1), topology.getCore(5));
+        assertTrue(topology.getCore(0) != topology.getCore(2));
+        assertEquals(1, topology.getNode(6));
+        assertEquals(4, topology.getPhysicalCoreCount());
+        assertEquals(2, topology.getNodeCount());
+        assertEquals(1.5, topology.getCpuQuota());
+        assertEquals(2, topology.getUsableCpuCount());
+    }
+
+    @Test
+    public void testStrategies() {
+        CpuTopology topology = CpuTopology.read(root);
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5, 6}, order(CpuPlacement.of(topology, PlacementStrategy.COMPACT, new int[0]), 7));
+        assertArrayEquals(new int[]{0, 1, 2, 3, 0}, order(CpuPlacement.of(topology, PlacementStrategy.PHYSICAL_CORES, new int[0]), 5));
+        assertArrayEquals(new int[]{0, 2, 1, 3, 4, 6, 5}, order(CpuPlacement.of(topology, PlacementStrategy.NUMA_SPREAD, new int[0]), 7));
+        assertFalse(CpuPlacement.of(topology, PlacementStrategy.NONE, new int[0]).isEnabled());
+    }
+
+    @Test
+    public void testCpuSetRestrictsPlacement() {
+        CpuTopology topology = CpuTopology.read(root);
+        assertArrayEquals(new int[]{5, 6, 5}, order(CpuPlacement.of(topology, PlacementStrategy.NONE, new int[]{5, 6, 7}), 3));
+        assertArrayEquals(new int[]{1, 6}, order(CpuPlacement.of(topology, PlacementStrategy.PHYSICAL_CORES, new int[]{1, 5, 6}), 2));
+        assertFalse(CpuPlacement.of(topology, PlacementStrategy.COMPACT, new int[]{7, 9}).isEnabled());
+        assertEquals(-1, CpuPlacement.of(topology, PlacementStrategy.COMPACT, new int[]{9}).cpuOf(0));
+    }
+
+    @Test
+    public void testUnreadableTopologyFallsBackToAvailableProcessors() {
+        CpuTopology topology = CpuTopology.read(root.resolve("missing"));
+        assertEquals(Runtime.getRuntime().availableProcessors(), topology.getCpus().length);
+        assertEquals(-1.0, topology.getCpuQuota());
+    }
+
+    @Test
+    public void testPinnedThreadRunsOnItsCpu() throws InterruptedException {
+        int cpu = CpuTopology.system().getCpus()[0];
+        AtomicReference<BitSet> affinity = new AtomicReference<>();
+        Thread thread = new Thread(() -> {
+            if (CpuAffinity.pin(cpu)) affinity.set(CpuAffinity.current());
+        });
+        thread.start();
+        thread.join();
+        // pinning is best effort; where it succeeds the mask must hold exactly the CPU
+        if (affinity.get() != null) {
+            BitSet expected = new BitSet();
+            expected.set(cpu);
+            assertEquals(expected, affinity.get());
+        }
+    }
+
+    private static int[] order(CpuPlacement placement, int workers) {
+        int[] order = new int[workers];
+        for (int i = 0; i < workers; i++) order[i] = placement.cpuOf(i);
+        return order;
+    }
+}
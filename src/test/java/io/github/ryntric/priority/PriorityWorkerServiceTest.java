@@ -0,0 +1,217 @@
+package io.github.ryntric.priority;
+
+import io.github.ryntric.BatchSizeLimit;
+import io.github.ryntric.DefaultHashCodeProvider;
+import io.github.ryntric.EventHandler;
+import io.github.ryntric.EventTranslator.EventTranslatorFourArg;
+import io.github.ryntric.WorkerServiceConfig;
+import io.github.ryntric.WorkerServiceTerminatedException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PriorityWorkerServiceTest {
+    private static final int PRODUCERS = 4;
+    private static final int KEYS = 32;
+    private static final int PRIORITIES = 3;
+    private static final int EVENTS = 20_000;
+    private static final EventTranslatorFourArg<Event, Integer, Integer, Integer, Long> TRANSLATOR = (event, producer, key, priority, sequence) -> {
+        event.producer = producer;
+        event.key = key;
+        event.priority = priority;
+        event.sequence = sequence;
+    };
+
+    private static WorkerServiceConfig.Builder singleWorker() {
+        return WorkerServiceConfig.builder()
+                .workerCount(1)
+                .bufferSize(64)
+                .batchSizeLimit(BatchSizeLimit._1_8);
+    }
+
+    @Test
+    public void testHigherPriorityOvertakesQueuedEvents() throws InterruptedException {
+        BlockingHandler handler = new BlockingHandler();
+        PriorityWorkerService<Event> service = new PriorityWorkerService<>("priority", handler, Event::new, DefaultHashCodeProvider.INSTANCE, singleWorker().build());
+        service.start();
+        try {
+            service.publishEvent(1, 1, TRANSLATOR, 0, 1, 1, 0L);
+            handler.entered.await();
+            for (long sequence = 1; sequence < 60; sequence++) {
+                service.publishEvent(1, 1, TRANSLATOR, 0, 1, 1, sequence);
+            }
+            service.publishEvent(1, 0, TRANSLATOR, 0, 1, 0, 0L);
+            handler.release.countDown();
+            handler.await(61);
+
+            // the cycle in progress handles a batch of 8 low priority events, the next one starts high
+            assertEquals(0, handler.handled.get(8).priority);
+            long expected = 0;
+            for (Event event : handler.handled) {
+                if (event.priority == 1) assertEquals(expected++, event.sequence);
+            }
+            assertEquals(60, expected);
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    public void testStarvationGuardServesLowPriority() throws InterruptedException {
+        BlockingHandler handler = new BlockingHandler();
+        WorkerServiceConfig config = singleWorker().priorityStarvationLimit(2).build();
+        PriorityWorkerService<Event> service = new PriorityWorkerService<>("priority", handler, Event::new, DefaultHashCodeProvider.INSTANCE, config);
+        service.start();
+        try {
+            service.publishEvent(1, 0, TRANSLATOR, 0, 1, 0, 0L);
+            handler.entered.await();
+            service.publishEvent(1, 1, TRANSLATOR, 0, 1, 1, 0L);
+            for (long sequence = 1; sequence < 60; sequence++) {
+                service.publishEvent(1, 0, TRANSLATOR, 0, 1, 0, sequence);
+            }
+            handler.release.countDown();
+            handler.await(61);
+
+            // passed over in two cycles of 8 high priority events, then polled first
+            assertEquals(1, handler.handled.get(16).priority);
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    public void testEventsKeepOrderPerKeyAndPriority() throws InterruptedException {
+        OrderCheckingHandler handler = new OrderCheckingHandler();
+        WorkerServiceConfig config = WorkerServiceConfig.builder().workerCount(4).bufferSize(256).priorityCount(PRIORITIES).build();
+        PriorityWorkerService<Event> service = new PriorityWorkerService<>("priority", handler, Event::new, DefaultHashCodeProvider.INSTANCE, config);
+        assertEquals(PRIORITIES, service.getPriorityCount());
+        service.start();
+
+        Thread[] producers = new Thread[PRODUCERS];
+        for (int p = 0; p < PRODUCERS; p++) {
+            int producer = p;
+            producers[p] = new Thread(() -> {
+                long[][] sequences = new long[KEYS][PRIORITIES];
+                for (int i = 0; i < EVENTS; i++) {
+                    int key = i % KEYS;
+                    int priority = (i / KEYS) % PRIORITIES;
+                    service.publishEvent(key, priority, TRANSLATOR, producer, key, priority, sequences[key][priority]++);
+                }
+            });
+            producers[p].start();
+        }
+        for (Thread producer : producers) producer.join();
+
+        while (handler.count.get() < PRODUCERS * EVENTS) {
+            Thread.sleep(1);
+        }
+        service.shutdown();
+
+        assertEquals(PRODUCERS * EVENTS, handler.count.get());
+        assertTrue(handler.violations.isEmpty(), () -> "out of order: " + handler.violations);
+        assertThrows(WorkerServiceTerminatedException.class, () -> service.publishEvent(1, 0, TRANSLATOR, 0, 1, 0, 0L));
+    }
+
+    @Test
+    public void testPriorityConfiguration() {
+        PriorityWorkerService<Event> service = new PriorityWorkerService<>("priority", new OrderCheckingHandler(), Event::new, DefaultHashCodeProvider.INSTANCE, singleWorker().build());
+        service.start();
+        try {
+            assertThrows(IllegalArgumentException.class, () -> service.publishEvent(1, 2, TRANSLATOR, 0, 1, 2, 0L));
+            assertThrows(IllegalArgumentException.class, () -> service.publishEvent(1, -1, TRANSLATOR, 0, 1, -1, 0L));
+        } finally {
+            service.shutdown();
+        }
+        assertThrows(IllegalArgumentException.class, () -> WorkerServiceConfig.builder().priorityCount(0));
+        assertThrows(IllegalArgumentException.class, () -> WorkerServiceConfig.builder().priorityStarvationLimit(0));
+    }
+
+    private static final class BlockingHandler implements EventHandler<Event> {
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<Event> handled = new ArrayList<>();
+        private final AtomicLong count = new AtomicLong();
+
+        void await(long events) throws InterruptedException {
+            while (count.get() < events) {
+                Thread.sleep(1);
+            }
+        }
+
+        @Override
+        public void onEvent(String name, Event event, long sequence) {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            Event copy = new Event();
+            copy.priority = event.priority;
+            copy.sequence = event.sequence;
+            handled.add(copy);
+            count.incrementAndGet();
+        }
+
+        @Override
+        public void onError(String name, Event event, long sequence, Throwable ex) {
+
+        }
+
+        @Override
+        public void onStart(String name) {
+
+        }
+
+        @Override
+        public void onShutdown(String name) {
+
+        }
+    }
+
+    private static final class OrderCheckingHandler implements EventHandler<Event> {
+        private final long[][][] expected = new long[PRODUCERS][KEYS][PRIORITIES];
+        private final ConcurrentHashMap<String, Long> violations = new ConcurrentHashMap<>();
+        private final AtomicLong count = new AtomicLong();
+
+        @Override
+        public void onEvent(String name, Event event, long sequence) {
+            // a key and thereby its counters are owned by a single worker thread
+            long next = expected[event.producer][event.key][event.priority]++;
+            if (event.sequence != next) {
+                violations.put(event.producer + "/" + event.key + "/" + event.priority, event.sequence);
+            }
+            count.incrementAndGet();
+        }
+
+        @Override
+        public void onError(String name, Event event, long sequence, Throwable ex) {
+
+        }
+
+        @Override
+        public void onStart(String name) {
+
+        }
+
+        @Override
+        public void onShutdown(String name) {
+
+        }
+    }
+
+    private static final class Event {
+        private int producer;
+        private int key;
+        private int priority;
+        private long sequence;
+    }
+}
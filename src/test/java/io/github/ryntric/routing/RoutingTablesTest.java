@@ -0,0 +1,90 @@
+package io.github.ryntric.routing;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoutingTablesTest {
+
+    @Test
+    public void testModuloAssignsSlotsRoundRobin() {
+        RoutingTable table = RoutingTables.modulo(3, 4);
+        assertEquals(16, table.slotCount());
+        for (int slot = 0; slot < table.slotCount(); slot++) {
+            assertEquals(slot % 3, table.owner(slot));
+            assertEquals(slot % 3, table.route(slot));
+        }
+    }
+
+    @Test
+    public void testSingleWorkerSingleReplica() {
+        RoutingTable table = RoutingTables.modulo(1, 1);
+        assertEquals(1, table.slotCount());
+        assertEquals(0, table.route(Integer.MIN_VALUE));
+    }
+
+    @Test
+    public void testNarrowestOwnerArrayIsChosen() {
+        assertInstanceOf(ByteRoutingTable.class, RoutingTables.modulo(256, 1));
+        assertInstanceOf(ShortRoutingTable.class, RoutingTables.modulo(257, 1));
+        assertEquals(255, RoutingTables.modulo(256, 1).owner(255));
+        assertEquals(300, RoutingTables.modulo(301, 1).owner(300));
+    }
+
+    @Test
+    public void testSlotCountMustBePowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> RoutingTables.of(2, new int[3]));
+    }
+
+    @Test
+    public void testConsistentHashRemapsOnlyKeysOfAddedWorker() {
+        RoutingTable before = RoutingTables.consistentHash(10, 400);
+        RoutingTable after = RoutingTables.consistentHash(11, 400);
+        int moved = 0;
+        for (int key = 0; key < 100_000; key++) {
+            int from = before.route(key);
+            int to = after.route(key);
+            if (from != to) {
+                assertEquals(10, to);
+                moved++;
+            }
+        }
+        assertTrue(moved < 100_000 * 0.12, "moved " + moved);
+    }
+
+    @Test
+    public void testConsistentHashSpreadsKeysEvenly() {
+        int[] hashcodes = new int[100_000];
+        for (int i = 0; i < hashcodes.length; i++) {
+            hashcodes[i] = i;
+        }
+        LoadDistribution distribution = LoadDistribution.measure(RoutingTables.consistentHash(16, 400), hashcodes);
+        assertTrue(distribution.getMaxToMean() < 1.25, distribution.toString());
+    }
+
+    @Test
+    public void testWithOwnerReassignsSingleSlot() {
+        RoutingTable modulo = RoutingTables.modulo(3, 4);
+        RoutingTable moved = modulo.withOwner(5, 0);
+        assertEquals(2, modulo.owner(5));
+        assertEquals(0, moved.owner(5));
+        assertEquals(modulo.owner(6), moved.owner(6));
+
+        RoutingTable ring = RoutingTables.consistentHash(4, 16);
+        RoutingTable reassigned = ring.withOwner(7, (ring.owner(7) + 1) % 4);
+        int[][] previousOwners = RoutingTables.previousOwners(ring, reassigned);
+        for (int slot = 0; slot < ring.slotCount(); slot++) {
+            assertEquals(ring.slot(slot), reassigned.slot(slot));
+            if (slot == 7) {
+                assertEquals(ring.owner(7), previousOwners[slot][0]);
+            } else {
+                assertNull(previousOwners[slot], "slot " + slot);
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> ring.withOwner(0, 4));
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.ryntric.virtual;
+
+import io.github.ryntric.DefaultHashCodeProvider;
+import io.github.ryntric.EventHandler;
+import io.github.ryntric.EventTranslator.EventTranslatorOneArg;
+import io.github.ryntric.WorkerServiceConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs against the packaged multi-release jar on Java 21 and later, see the {@code java21}
+ * profile, so that the versioned classes are the ones under test.
+ */
+class VirtualWorkerServiceIT {
+    private static final EventTranslatorOneArg<long[], Long> TRANSLATOR = (event, value) -> event[0] = value;
+
+    @Test
+    public void testKeyGroupsAreDrainedByVirtualThreads() throws Exception {
+        assertTrue(VirtualWorkerService.isSupported());
+        CountDownLatch handled = new CountDownLatch(1);
+        AtomicBoolean virtual = new AtomicBoolean();
+        EventHandler<long[]> handler = new EventHandler<>() {
+            @Override
+            public void onEvent(String name, long[] event, long sequence) {
+                try {
+                    // compiled for Java 11, so Thread.isVirtual() is looked up reflectively
+                    virtual.set((Boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread()));
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException(e);
+                }
+                handled.countDown();
+            }
+
+            @Override
+            public void onError(String name, long[] event, long sequence, Throwable ex) {
+
+            }
+
+            @Override
+            public void onStart(String name) {
+
+            }
+
+            @Override
+            public void onShutdown(String name) {
+
+            }
+        };
+        WorkerServiceConfig config = WorkerServiceConfig.builder().keyGroupCount(4).build();
+        VirtualWorkerService<long[]> service = new VirtualWorkerService<>("virtual", handler, () -> new long[1], DefaultHashCodeProvider.INSTANCE, config);
+        service.start();
+        try {
+            service.publishEvent(1, TRANSLATOR, 1L);
+            assertTrue(handled.await(10, TimeUnit.SECONDS));
+            assertTrue(virtual.get());
+        } finally {
+            service.shutdown();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package io.github.ryntric.virtual;
+
+import io.github.ryntric.DefaultHashCodeProvider;
+import io.github.ryntric.EventHandler;
+import io.github.ryntric.EventTranslator.EventTranslatorThreeArg;
+import io.github.ryntric.WorkerServiceConfig;
+import io.github.ryntric.WorkerServiceTerminatedException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualWorkerServiceTest {
+    private static final int PRODUCERS = 4;
+    private static final int KEYS = 64;
+    private static final int EVENTS = 20_000;
+    private static final int BLOCKED_KEY = 0;
+    private static final EventTranslatorThreeArg<Event, Integer, Integer, Long> TRANSLATOR = (event, producer, key, sequence) -> {
+        event.producer = producer;
+        event.key = key;
+        event.sequence = sequence;
+    };
+
+    @Test
+    public void testBlockedKeyDoesNotStallOtherKeys() throws InterruptedException {
+        BlockingHandler handler = new BlockingHandler();
+        WorkerServiceConfig config = WorkerServiceConfig.builder().keyGroupCount(KEYS).keyGroupBufferSize(16).build();
+        // platform threads stand in for virtual threads, the draining logic is the same
+        VirtualWorkerService<Event> service = new VirtualWorkerService<>("groups", handler, Event::new, DefaultHashCodeProvider.INSTANCE, config, Thread::new);
+        service.start();
+
+        Thread[] producers = new Thread[PRODUCERS];
+        for (int p = 0; p < PRODUCERS; p++) {
+            int producer = p;
+            producers[p] = new Thread(() -> {
+                long[] sequences = new long[KEYS];
+                for (int i = 0; i < EVENTS; i++) {
+                    int key = 1 + i % (KEYS - 1);
+                    service.publishEvent(key, TRANSLATOR, producer, key, sequences[key]++);
+                }
+                service.publishEvent(BLOCKED_KEY, TRANSLATOR, producer, BLOCKED_KEY, 0L);
+            });
+            producers[p].start();
+        }
+        for (Thread producer : producers) producer.join();
+
+        // every other key is handled while the handler of the blocked key waits
+        while (handler.handled.get() < PRODUCERS * EVENTS) {
+            Thread.sleep(1);
+        }
+        assertEquals(1, handler.blocked.get());
+        handler.release.countDown();
+        while (handler.handled.get() < PRODUCERS * (EVENTS + 1)) {
+            Thread.sleep(1);
+        }
+        service.shutdown();
+
+        assertEquals(KEYS, service.getActiveKeyGroupCount());
+        assertTrue(handler.violations.isEmpty(), () -> "out of order: " + handler.violations);
+    }
+
+    @Test
+    public void testPublishRequiresRunningService() {
+        WorkerServiceConfig config = WorkerServiceConfig.builder().keyGroupCount(4).build();
+        VirtualWorkerService<Event> service = new VirtualWorkerService<>("groups", new BlockingHandler(), Event::new, DefaultHashCodeProvider.INSTANCE, config, Thread::new);
+        assertThrows(WorkerServiceTerminatedException.class, () -> service.publishEvent(1, TRANSLATOR, 0, 1, 0L));
+        service.start();
+        service.shutdown();
+        assertThrows(WorkerServiceTerminatedException.class, () -> service.publishEvent(1, TRANSLATOR, 0, 1, 0L));
+    }
+
+    @Test
+    public void testRequiresVirtualThreads() {
+        if (!VirtualWorkerService.isSupported()) {
+            assertThrows(UnsupportedOperationException.class, () -> new VirtualWorkerService<>("groups", new BlockingHandler(), Event::new, DefaultHashCodeProvider.INSTANCE, WorkerServiceConfig.INSTANCE));
+        }
+    }
+
+    private static final class BlockingHandler implements EventHandler<Event> {
+        private final long[][] expected = new long[PRODUCERS][KEYS];
+        private final AtomicLong handled = new AtomicLong();
+        private final AtomicLong blocked = new AtomicLong();
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final ConcurrentHashMap<String, Long> violations = new ConcurrentHashMap<>();
+
+        @Override
+        public void onEvent(String name, Event event, long sequence) {
+            if (event.key == BLOCKED_KEY && blocked.incrementAndGet() == 1) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            // a key group is drained by one thread, so a key's counters are never updated concurrently
+            synchronized (expected[event.producer]) {
+                if (event.sequence != expected[event.producer][event.key]) {
+                    violations.putIfAbsent(event.producer + "/" + event.key, event.sequence);
+                }
+                expected[event.producer][event.key] = event.sequence + 1;
+            }
+            handled.incrementAndGet();
+        }
+
+        @Override
+        public void onError(String name, Event event, long sequence, Throwable ex) {
+            throw new RuntimeException(ex);
+        }
+
+        @Override
+        public void onStart(String name) {
+
+        }
+
+        @Override
+        public void onShutdown(String name) {
+
+        }
+    }
+
+    private static final class Event {
+        private int producer;
+        private int key;
+        private long sequence;
+    }
+}
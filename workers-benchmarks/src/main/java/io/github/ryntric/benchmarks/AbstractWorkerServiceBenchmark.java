@@ -0,0 +1,93 @@
+package io.github.ryntric.benchmarks;
+
+import io.github.ryntric.BatchSizeLimit;
+import io.github.ryntric.DefaultHashCodeProvider;
+import io.github.ryntric.SequencerType;
+import io.github.ryntric.WaitPolicy;
+import io.github.ryntric.WorkerService;
+import io.github.ryntric.WorkerServiceConfig;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Shared {@link WorkerService} lifecycle and configuration parameters.
+ * <p>
+ * Parameter defaults mirror {@link WorkerServiceConfig#INSTANCE} so that a plain run
+ * stays short; sweep any dimension from the command line, e.g.
+ * {@code -p sequencerType=SINGLE_PRODUCER,MULTI_PRODUCER -p workerCount=1,4,16}.
+ */
+@State(Scope.Benchmark)
+public abstract class AbstractWorkerServiceBenchmark {
+    protected static final int KEY_COUNT = 1024;
+    protected static final int KEY_MASK = KEY_COUNT - 1;
+
+    @Param({"STRING", "INT", "LONG", "BYTES"})
+    public KeyType keyType;
+
+    @Param({"1", "2", "3", "4", "5"})
+    public int arity;
+
+    @Param({"MULTI_PRODUCER"})
+    public SequencerType sequencerType;
+
+    @Param({"SPINNING"})
+    public WaitPolicy producerWaitPolicy;
+
+    @Param({"PARKING"})
+    public WaitPolicy consumerWaitPolicy;
+
+    @Param({"_1_2"})
+    public BatchSizeLimit batchSizeLimit;
+
+    @Param({"4"})
+    public int workerCount;
+
+    @Param({"400"})
+    public int replicaCount;
+
+    @Param({"4096"})
+    public int bufferSize;
+
+    protected WorkerService<BenchmarkEvent> service;
+
+    @Setup
+    public void setupService() {
+        WorkerServiceConfig.Builder builder = WorkerServiceConfig.builder()
+                .workerCount(workerCount)
+                .replicaCount(replicaCount)
+                .bufferSize(bufferSize)
+                .sequencerType(sequencerType)
+                .producerWaitPolicy(producerWaitPolicy)
+                .consumerWaitPolicy(consumerWaitPolicy)
+                .batchSizeLimit(batchSizeLimit);
+        configure(builder);
+        service = new WorkerService<>("benchmark", BenchmarkEventHandler.INSTANCE, BenchmarkEvent::new, DefaultHashCodeProvider.INSTANCE, builder.build());
+        service.start();
+    }
+
+    /**
+     * Hook for subclasses to enable optional features on top of the shared parameters.
+     */
+    protected void configure(WorkerServiceConfig.Builder builder) {
+
+    }
+
+    protected Publisher forArity(Publisher one, Publisher two, Publisher three, Publisher four, Publisher five) {
+        switch (arity) {
+            case 1: return one;
+            case 2: return two;
+            case 3: return three;
+            case 4: return four;
+            case 5: return five;
+            default: throw new IllegalStateException("Unsupported arity: " + arity);
+        }
+    }
+
+    @TearDown
+    public void teardownService() {
+        service.shutdown();
+    }
+}
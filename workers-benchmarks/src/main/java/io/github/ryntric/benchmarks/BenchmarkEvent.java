@@ -0,0 +1,17 @@
+package io.github.ryntric.benchmarks;
+
+/**
+ * Mutable event used by all benchmarks. Translators only store their first
+ * argument, so the measured cost is routing and sequencing, not event population.
+ */
+public final class BenchmarkEvent {
+    private Object value;
+
+    public Object getValue() {
+        return value;
+    }
+
+    public void setValue(Object value) {
+        this.value = value;
+    }
+}
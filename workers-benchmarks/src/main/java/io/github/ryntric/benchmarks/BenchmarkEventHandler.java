@@ -0,0 +1,32 @@
+package io.github.ryntric.benchmarks;
+
+import io.github.ryntric.EventHandler;
+
+/**
+ * Handler that only touches the event, so consumers drain the rings as fast as possible.
+ */
+public final class BenchmarkEventHandler implements EventHandler<BenchmarkEvent> {
+    public static final BenchmarkEventHandler INSTANCE = new BenchmarkEventHandler();
+
+    private BenchmarkEventHandler() {}
+
+    @Override
+    public void onEvent(String name, BenchmarkEvent event, long sequence) {
+        event.setValue(null);
+    }
+
+    @Override
+    public void onError(String name, BenchmarkEvent event, long sequence, Throwable ex) {
+
+    }
+
+    @Override
+    public void onStart(String name) {
+
+    }
+
+    @Override
+    public void onShutdown(String name) {
+
+    }
+}
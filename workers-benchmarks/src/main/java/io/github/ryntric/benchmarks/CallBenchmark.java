@@ -0,0 +1,120 @@
+package io.github.ryntric.benchmarks;
+
+import io.github.ryntric.DefaultHashCodeProvider;
+import io.github.ryntric.EventHandler;
+import io.github.ryntric.EventTranslator.EventTranslatorOneArg;
+import io.github.ryntric.EventTranslator.EventTranslatorTwoArg;
+import io.github.ryntric.Reply;
+import io.github.ryntric.WorkerService;
+import io.github.ryntric.WorkerServiceConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares request/reply round trips through a {@link CompletableFuture} stored in the event
+ * ({@code future}) with the pooled {@link Reply} handle of {@code WorkerService.call} ({@code call}).
+ * <p>
+ * Run with {@code -prof gc} to compare the allocation rate per round trip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class CallBenchmark {
+    private static final EventTranslatorOneArg<BenchmarkEvent, CompletableFuture<Object>> FUTURE = BenchmarkEvent::setValue;
+    private static final EventTranslatorTwoArg<BenchmarkEvent, Reply<Object>, Object> CALL = (event, reply, arg) -> event.setValue(reply);
+    private static final Object ARG = new Object();
+
+    @Param({"4"})
+    public int workerCount;
+
+    @Param({"4096"})
+    public int bufferSize;
+
+    private WorkerService<BenchmarkEvent> service;
+
+    @State(Scope.Thread)
+    public static class ThreadKeys {
+        private int next;
+
+        int next() {
+            return next++ & 1023;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        WorkerServiceConfig config = WorkerServiceConfig.builder()
+                .workerCount(workerCount)
+                .bufferSize(bufferSize)
+                .build();
+        service = new WorkerService<>("call", new ReplyingHandler(), BenchmarkEvent::new, DefaultHashCodeProvider.INSTANCE, config);
+        service.start();
+    }
+
+    @TearDown
+    public void teardown() {
+        service.shutdown();
+    }
+
+    @Benchmark
+    public Object future(ThreadKeys keys) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        service.publishEvent(keys.next(), FUTURE, future);
+        return future.join();
+    }
+
+    @Benchmark
+    public Object call(ThreadKeys keys) throws InterruptedException {
+        try (Reply<Object> reply = service.call(keys.next(), CALL, ARG)) {
+            return reply.await();
+        }
+    }
+
+    private static final class ReplyingHandler implements EventHandler<BenchmarkEvent> {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onEvent(String name, BenchmarkEvent event, long sequence) {
+            Object slot = event.getValue();
+            event.setValue(null);
+            if (slot instanceof Reply) {
+                ((Reply<Object>) slot).complete(ARG);
+            } else {
+                ((CompletableFuture<Object>) slot).complete(ARG);
+            }
+        }
+
+        @Override
+        public void onError(String name, BenchmarkEvent event, long sequence, Throwable ex) {
+
+        }
+
+        @Override
+        public void onStart(String name) {
+
+        }
+
+        @Override
+        public void onShutdown(String name) {
+
+        }
+    }
+}
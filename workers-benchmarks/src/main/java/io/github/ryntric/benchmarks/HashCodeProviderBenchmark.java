@@ -0,0 +1,95 @@
+package io.github.ryntric.benchmarks;
+
+import io.github.ryntric.DefaultHashCodeProvider;
+import io.github.ryntric.HashCodeProvider;
+import io.github.ryntric.XxHashCodeProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the hashing cost of the {@link HashCodeProvider} implementations for
+ * {@code byte[]} and {@link String} keys of different lengths.
+ * <p>
+ * The slot-load variance of the providers for realistic key sets is checked by
+ * {@code XxHashCodeProviderTest} in the core module.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@OperationsPerInvocation(HashCodeProviderBenchmark.KEY_COUNT)
+public class HashCodeProviderBenchmark {
+    static final int KEY_COUNT = 1024;
+
+    public enum Provider {
+        DEFAULT(DefaultHashCodeProvider.INSTANCE),
+        XXHASH(XxHashCodeProvider.INSTANCE),
+        XXHASH_SEEDED(XxHashCodeProvider.withSeed(0x9E3779B97F4A7C15L));
+
+        private final HashCodeProvider provider;
+
+        Provider(HashCodeProvider provider) {
+            this.provider = provider;
+        }
+    }
+
+    @Param({"DEFAULT", "XXHASH", "XXHASH_SEEDED"})
+    public Provider provider;
+
+    @Param({"16", "64", "256"})
+    public int keyLength;
+
+    private final byte[][] byteKeys = new byte[KEY_COUNT][];
+    private final String[] stringKeys = new String[KEY_COUNT];
+    private HashCodeProvider hashCodeProvider;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < KEY_COUNT; i++) {
+            byte[] key = new byte[keyLength];
+            char[] chars = new char[keyLength];
+            for (int j = 0; j < keyLength; j++) {
+                key[j] = (byte) random.nextInt();
+                chars[j] = (char) ('a' + random.nextInt(26));
+            }
+            byteKeys[i] = key;
+            stringKeys[i] = new String(chars);
+        }
+        hashCodeProvider = provider.provider;
+    }
+
+    @Benchmark
+    public int byteArray() {
+        int sum = 0;
+        for (byte[] key : byteKeys) {
+            sum += hashCodeProvider.provide(key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int string() {
+        int sum = 0;
+        for (String key : stringKeys) {
+            // a fresh String does not cache its hash code, so DEFAULT is measured fairly
+            sum += hashCodeProvider.provide(new String(key));
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.ryntric.benchmarks;
+
+import io.github.ryntric.WorkerServiceConfig;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Measures the publish overhead of hot-key tracking by running {@link PublishEventBenchmark}
+ * with tracking off ({@code hotKeyCapacity=0}) and on, e.g.
+ * {@code HotKeyOverheadBenchmark -p arity=1 -p hotKeySampleRate=1,64}.
+ */
+public class HotKeyOverheadBenchmark extends PublishEventBenchmark {
+
+    @Param({"0", "16"})
+    public int hotKeyCapacity;
+
+    @Param({"64"})
+    public int hotKeySampleRate;
+
+    @Override
+    protected void configure(WorkerServiceConfig.Builder builder) {
+        builder.hotKeyCapacity(hotKeyCapacity).hotKeySampleRate(hotKeySampleRate);
+    }
+}
@@ -0,0 +1,151 @@
+package io.github.ryntric.benchmarks;
+
+import io.github.ryntric.BatchSizeLimit;
+import io.github.ryntric.DefaultHashCodeProvider;
+import io.github.ryntric.EventHandler;
+import io.github.ryntric.EventSerializer;
+import io.github.ryntric.EventTranslator.EventTranslatorTwoArg;
+import io.github.ryntric.JournalSync;
+import io.github.ryntric.WorkerService;
+import io.github.ryntric.WorkerServiceConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Compares publishing without a journal ({@code journal=OFF}) with journaled publishing under
+ * every {@link JournalSync} policy. {@code BATCH} forces once per consumer batch, so its cost
+ * falls with the batch size limit ({@code -p batchSizeLimit=_1_2,_1_8}).
+ * <p>
+ * Journaled publishes to one worker serialize on its journal. {@code publish} spreads the four
+ * producer threads over all workers, while {@code publishOneKey} sends them all to one worker,
+ * so that they contend on its journal; with a small ring ({@code -p bufferSize=64}) they also
+ * wait for the worker, which they do before taking the journal's monitor. Vary the producer
+ * count with {@code -t}.
+ * <p>
+ * Journals are written to a temporary directory below {@code -Djava.io.tmpdir}; point it at the
+ * device to measure.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class JournalBenchmark {
+    private static final EventTranslatorTwoArg<JournaledEvent, Long, Long> TRANSLATOR = (event, id, amount) -> {
+        event.id = id;
+        event.amount = amount;
+    };
+    private static final EventSerializer<JournaledEvent> SERIALIZER = new EventSerializer<>() {
+        @Override
+        public void write(JournaledEvent event, ByteBuffer target) {
+            target.putLong(event.id).putLong(event.amount);
+        }
+
+        @Override
+        public void read(ByteBuffer source, JournaledEvent event) {
+            event.id = source.getLong();
+            event.amount = source.getLong();
+        }
+    };
+    private static final Long ID = 42L;
+    private static final Long AMOUNT = 1_000L;
+
+    @Param({"OFF", "NONE", "BATCH", "EVENT"})
+    public String journal;
+
+    @Param({"_1_2"})
+    public String batchSizeLimit;
+
+    @Param({"4"})
+    public int workerCount;
+
+    @Param({"4096"})
+    public int bufferSize;
+
+    private Path directory;
+    private WorkerService<JournaledEvent> service;
+
+    @Setup
+    public void setup() throws IOException {
+        WorkerServiceConfig.Builder builder = WorkerServiceConfig.builder()
+                .workerCount(workerCount)
+                .bufferSize(bufferSize)
+                .batchSizeLimit(BatchSizeLimit.valueOf(batchSizeLimit));
+        if (!"OFF".equals(journal)) {
+            directory = Files.createTempDirectory("workers-journal");
+            builder.journal(directory).journalSync(JournalSync.valueOf(journal));
+        }
+        EventSerializer<JournaledEvent> serializer = directory != null ? SERIALIZER : null;
+        service = new WorkerService<>("journal", new JournaledEventHandler(), JournaledEvent::new, DefaultHashCodeProvider.INSTANCE, builder.build(), serializer);
+        service.start();
+    }
+
+    @TearDown
+    public void teardown() throws IOException {
+        service.shutdown();
+        if (directory != null) {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+            }
+        }
+    }
+
+    @Benchmark
+    public void publish(KeyCursor cursor) {
+        service.publishEvent(cursor.next(), TRANSLATOR, ID, AMOUNT);
+    }
+
+    @Benchmark
+    public void publishOneKey() {
+        service.publishEvent(ID, TRANSLATOR, ID, AMOUNT);
+    }
+
+    public static final class JournaledEvent {
+        private long id;
+        private long amount;
+    }
+
+    private static final class JournaledEventHandler implements EventHandler<JournaledEvent> {
+
+        @Override
+        public void onEvent(String name, JournaledEvent event, long sequence) {
+            event.amount = 0;
+        }
+
+        @Override
+        public void onError(String name, JournaledEvent event, long sequence, Throwable ex) {
+
+        }
+
+        @Override
+        public void onStart(String name) {
+
+        }
+
+        @Override
+        public void onShutdown(String name) {
+
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package io.github.ryntric.benchmarks;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Per-producer cursor over the benchmark key set, so concurrent producers
+ * walk the keys independently.
+ */
+@State(Scope.Thread)
+public class KeyCursor {
+    private int index;
+
+    int next() {
+        return index++ & AbstractWorkerServiceBenchmark.KEY_MASK;
+    }
+}
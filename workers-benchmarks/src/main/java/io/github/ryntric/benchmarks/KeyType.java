@@ -0,0 +1,67 @@
+package io.github.ryntric.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Routing key flavours supported by {@link io.github.ryntric.WorkerService}.
+ */
+public enum KeyType {
+    STRING,
+    INT,
+    LONG,
+    BYTES;
+
+    static String[] strings(int count) {
+        String[] keys = new String[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = "key-" + i;
+        }
+        return keys;
+    }
+
+    static int[] ints(int count) {
+        int[] keys = new int[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = i;
+        }
+        return keys;
+    }
+
+    static long[] longs(int count) {
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = (long) i << 32 | i;
+        }
+        return keys;
+    }
+
+    static byte[][] bytes(int count) {
+        byte[][] keys = new byte[count][];
+        for (int i = 0; i < count; i++) {
+            keys[i] = ("key-" + i).getBytes(StandardCharsets.UTF_8);
+        }
+        return keys;
+    }
+
+    /**
+     * Draws {@code count} int keys out of {@code distinct} keys with Zipf-distributed
+     * frequencies: key {@code k} is drawn with a probability proportional to {@code 1 / (k + 1)^exponent}.
+     */
+    static int[] zipf(int count, int distinct, double exponent, long seed) {
+        double[] cumulative = new double[distinct];
+        double sum = 0;
+        for (int k = 0; k < distinct; k++) {
+            sum += 1 / Math.pow(k + 1, exponent);
+            cumulative[k] = sum;
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] keys = new int[count];
+        for (int i = 0; i < count; i++) {
+            int k = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+            keys[i] = k < 0 ? Math.min(-k - 1, distinct - 1) : k;
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.ryntric.benchmarks;
+
+import io.github.ryntric.DefaultHashCodeProvider;
+import io.github.ryntric.WorkerService;
+import io.github.ryntric.WorkerServiceConfig;
+import io.github.ryntric.lane.LaneProducer;
+import io.github.ryntric.lane.LaneWorkerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.github.ryntric.benchmarks.Translators.ONE_ARG;
+
+/**
+ * Compares a {@code MULTI_PRODUCER} {@link WorkerService} ({@code sharedRing}) with a
+ * {@link LaneWorkerService} in which every producer thread owns its own lanes ({@code lanes}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class LaneBenchmark {
+    private static final Object ARG = new Object();
+
+    @Param({"4"})
+    public int workerCount;
+
+    @Param({"4096"})
+    public int bufferSize;
+
+    private WorkerService<BenchmarkEvent> service;
+    private LaneWorkerService<BenchmarkEvent> laneService;
+
+    @Setup
+    public void setup() {
+        WorkerServiceConfig config = WorkerServiceConfig.builder()
+                .workerCount(workerCount)
+                .bufferSize(bufferSize)
+                .build();
+        service = new WorkerService<>("shared", BenchmarkEventHandler.INSTANCE, BenchmarkEvent::new, DefaultHashCodeProvider.INSTANCE, config);
+        laneService = new LaneWorkerService<>("lanes", BenchmarkEventHandler.INSTANCE, BenchmarkEvent::new, DefaultHashCodeProvider.INSTANCE, config);
+        service.start();
+        laneService.start();
+    }
+
+    @TearDown
+    public void teardown() {
+        service.shutdown();
+        laneService.shutdown();
+    }
+
+    @Benchmark
+    public void sharedRing(KeyCursor cursor) {
+        service.publishEvent(cursor.next(), ONE_ARG, ARG);
+    }
+
+    @Benchmark
+    public void lanes(ProducerState state, KeyCursor cursor) {
+        state.producer.publishEvent(cursor.next(), ONE_ARG, ARG);
+    }
+
+    @State(Scope.Thread)
+    public static class ProducerState {
+        private LaneProducer<BenchmarkEvent> producer;
+
+        @Setup
+        public void setup(LaneBenchmark benchmark) {
+            producer = benchmark.laneService.registerProducer();
+        }
+
+        @TearDown
+        public void teardown() {
+            producer.close();
+        }
+    }
+}
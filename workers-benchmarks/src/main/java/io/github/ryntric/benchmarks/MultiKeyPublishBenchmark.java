@@ -0,0 +1,88 @@
+package io.github.ryntric.benchmarks;
+
+import io.github.ryntric.DefaultHashCodeProvider;
+import io.github.ryntric.SequencerType;
+import io.github.ryntric.WorkerService;
+import io.github.ryntric.WorkerServiceConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static io.github.ryntric.benchmarks.Translators.ONE_ARG;
+
+/**
+ * Compares ingesting a batch of events with distinct int keys through one
+ * {@code publishEvent} call per event ({@code perKey}) against a single multi-key
+ * {@code publishEvents} call that claims one sequence range per worker ({@code multiKey}).
+ * <p>
+ * Throughput is reported per event. Run with {@code -t N} to vary the producer count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+@OperationsPerInvocation(MultiKeyPublishBenchmark.BATCH_SIZE)
+public class MultiKeyPublishBenchmark {
+    static final int BATCH_SIZE = 1024;
+
+    @Param({"MULTI_PRODUCER"})
+    public SequencerType sequencerType;
+
+    @Param({"4"})
+    public int workerCount;
+
+    @Param({"4096"})
+    public int bufferSize;
+
+    private int[] keys;
+    private Object[] args;
+    private WorkerService<BenchmarkEvent> service;
+
+    @Setup
+    public void setup() {
+        keys = KeyType.ints(BATCH_SIZE);
+        args = new Object[BATCH_SIZE];
+        Arrays.fill(args, new Object());
+        WorkerServiceConfig config = WorkerServiceConfig.builder()
+                .workerCount(workerCount)
+                .bufferSize(bufferSize)
+                .sequencerType(sequencerType)
+                .build();
+        service = new WorkerService<>("multi-key", BenchmarkEventHandler.INSTANCE, BenchmarkEvent::new, DefaultHashCodeProvider.INSTANCE, config);
+        service.start();
+    }
+
+    @TearDown
+    public void teardown() {
+        service.shutdown();
+    }
+
+    @Benchmark
+    public void perKey() {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            service.publishEvent(keys[i], ONE_ARG, args[i]);
+        }
+    }
+
+    @Benchmark
+    public void multiKey() {
+        service.publishEvents(keys, ONE_ARG, args);
+    }
+}
@@ -0,0 +1,175 @@
+package io.github.ryntric.benchmarks;
+
+import io.github.ryntric.DefaultHashCodeProvider;
+import io.github.ryntric.EventHandler;
+import io.github.ryntric.EventTranslator.EventTranslatorTwoArg;
+import io.github.ryntric.WorkerService;
+import io.github.ryntric.WorkerServiceConfig;
+import io.github.ryntric.offheap.Flyweight;
+import io.github.ryntric.offheap.OffHeapWorkerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a {@link WorkerService} over preallocated event objects ({@code objectRing}) with an
+ * {@link OffHeapWorkerService} over off-heap records of the same layout ({@code offHeapRing}).
+ * <p>
+ * Every operation also allocates {@code garbageBytes} of short-lived garbage, so young
+ * collections keep running while the rings are full of old event objects. Run with
+ * {@code -prof gc} and compare {@code gc.time} and {@code gc.count} of both rings next to
+ * their throughput; raise {@code bufferSize} and {@code workerCount} to grow the object rings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class OffHeapRingBenchmark {
+    private static final EventTranslatorTwoArg<OrderEvent, Long, Long> OBJECT_TRANSLATOR = (event, id, price) -> {
+        event.id = id;
+        event.price = price;
+        event.quantity = 1;
+    };
+    private static final EventTranslatorTwoArg<OrderView, Long, Long> VIEW_TRANSLATOR = (view, id, price) -> {
+        view.id(id);
+        view.price(price);
+        view.quantity(1);
+    };
+    private static final Long ID = 42L;
+    private static final Long PRICE = 1_000L;
+
+    @Param({"8"})
+    public int workerCount;
+
+    @Param({"65536"})
+    public int bufferSize;
+
+    @Param({"64"})
+    public int garbageBytes;
+
+    private WorkerService<OrderEvent> objectService;
+    private OffHeapWorkerService<OrderView> offHeapService;
+
+    @Setup
+    public void setup() {
+        WorkerServiceConfig config = WorkerServiceConfig.builder()
+                .workerCount(workerCount)
+                .bufferSize(bufferSize)
+                .build();
+        objectService = new WorkerService<>("objects", new ObjectHandler(), OrderEvent::new, DefaultHashCodeProvider.INSTANCE, config);
+        offHeapService = new OffHeapWorkerService<>("records", new ViewHandler(), OrderView::new, OrderView.SIZE, DefaultHashCodeProvider.INSTANCE, config);
+        objectService.start();
+        offHeapService.start();
+    }
+
+    @TearDown
+    public void teardown() {
+        objectService.shutdown();
+        offHeapService.shutdown();
+    }
+
+    @Benchmark
+    public byte[] objectRing(KeyCursor cursor) {
+        objectService.publishEvent(cursor.next(), OBJECT_TRANSLATOR, ID, PRICE);
+        return new byte[garbageBytes];
+    }
+
+    @Benchmark
+    public byte[] offHeapRing(KeyCursor cursor) {
+        offHeapService.publishEvent(cursor.next(), VIEW_TRANSLATOR, ID, PRICE);
+        return new byte[garbageBytes];
+    }
+
+    public static final class OrderEvent {
+        private long id;
+        private long price;
+        private int quantity;
+    }
+
+    public static final class OrderView extends Flyweight {
+        static final int SIZE = 20;
+
+        long id() {
+            return getLong(0);
+        }
+
+        void id(long id) {
+            putLong(0, id);
+        }
+
+        long price() {
+            return getLong(8);
+        }
+
+        void price(long price) {
+            putLong(8, price);
+        }
+
+        int quantity() {
+            return getInt(16);
+        }
+
+        void quantity(int quantity) {
+            putInt(16, quantity);
+        }
+    }
+
+    private static final class ObjectHandler implements EventHandler<OrderEvent> {
+        @Override
+        public void onEvent(String name, OrderEvent event, long sequence) {
+            event.quantity = 0;
+        }
+
+        @Override
+        public void onError(String name, OrderEvent event, long sequence, Throwable ex) {
+
+        }
+
+        @Override
+        public void onStart(String name) {
+
+        }
+
+        @Override
+        public void onShutdown(String name) {
+
+        }
+    }
+
+    private static final class ViewHandler implements EventHandler<OrderView> {
+        @Override
+        public void onEvent(String name, OrderView view, long sequence) {
+            view.quantity(0);
+        }
+
+        @Override
+        public void onError(String name, OrderView view, long sequence, Throwable ex) {
+
+        }
+
+        @Override
+        public void onStart(String name) {
+
+        }
+
+        @Override
+        public void onShutdown(String name) {
+
+        }
+    }
+}
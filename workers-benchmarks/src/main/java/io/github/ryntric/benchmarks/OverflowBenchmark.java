@@ -0,0 +1,154 @@
+package io.github.ryntric.benchmarks;
+
+import io.github.ryntric.DefaultHashCodeProvider;
+import io.github.ryntric.EventHandler;
+import io.github.ryntric.EventSerializer;
+import io.github.ryntric.EventTranslator.EventTranslatorOneArg;
+import io.github.ryntric.WorkerService;
+import io.github.ryntric.WorkerServiceConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Publishes bursts of {@code burstFactor} times the ring size to one hot key of a service whose
+ * handler burns a fixed amount of CPU per event, with overflow off ({@code overflow=false}) and on.
+ * <p>
+ * Without overflow the producer waits for the handler once the ring is full; with overflow the
+ * rest of the burst is spilled to disk and the burst returns at serialization speed. The service
+ * is drained before every burst, so the overflow stays bounded by one burst.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(1)
+@Fork(1)
+public class OverflowBenchmark {
+    private static final EventTranslatorOneArg<OverflowEvent, Long> TRANSLATOR = (event, value) -> event.value = value;
+    private static final EventSerializer<OverflowEvent> SERIALIZER = new EventSerializer<>() {
+        @Override
+        public void write(OverflowEvent event, ByteBuffer target) {
+            target.putLong(event.value);
+        }
+
+        @Override
+        public void read(ByteBuffer source, OverflowEvent event) {
+            event.value = source.getLong();
+        }
+    };
+    private static final Long VALUE = 42L;
+
+    @Param({"false", "true"})
+    public boolean overflow;
+
+    @Param({"10"})
+    public int burstFactor;
+
+    @Param({"1024"})
+    public int bufferSize;
+
+    @Param({"50"})
+    public long handlerTokens;
+
+    private Path directory;
+    private BusyHandler handler;
+    private WorkerService<OverflowEvent> service;
+    private long published;
+
+    @Setup
+    public void setup() throws IOException {
+        WorkerServiceConfig.Builder builder = WorkerServiceConfig.builder()
+                .workerCount(1)
+                .bufferSize(bufferSize);
+        if (overflow) {
+            directory = Files.createTempDirectory("workers-overflow");
+            builder.overflow(directory);
+        }
+        handler = new BusyHandler(handlerTokens);
+        service = new WorkerService<>("overflow", handler, OverflowEvent::new, DefaultHashCodeProvider.INSTANCE, builder.build(), overflow ? SERIALIZER : null);
+        service.start();
+    }
+
+    @Setup(Level.Invocation)
+    public void drain() {
+        while (handler.handled.get() < published) {
+            Thread.onSpinWait();
+        }
+    }
+
+    @TearDown
+    public void teardown() throws IOException {
+        service.shutdown();
+        if (directory != null) {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+            }
+        }
+    }
+
+    @Benchmark
+    public void publishBurst() {
+        int burst = bufferSize * burstFactor;
+        for (int i = 0; i < burst; i++) {
+            service.publishEvent(0, TRANSLATOR, VALUE);
+        }
+        published += burst;
+    }
+
+    public static final class OverflowEvent {
+        private long value;
+    }
+
+    private static final class BusyHandler implements EventHandler<OverflowEvent> {
+        private final long tokens;
+        private final AtomicLong handled = new AtomicLong();
+
+        private BusyHandler(long tokens) {
+            this.tokens = tokens;
+        }
+
+        @Override
+        public void onEvent(String name, OverflowEvent event, long sequence) {
+            Blackhole.consumeCPU(tokens);
+            handled.lazySet(handled.get() + 1);
+        }
+
+        @Override
+        public void onError(String name, OverflowEvent event, long sequence, Throwable ex) {
+
+        }
+
+        @Override
+        public void onStart(String name) {
+
+        }
+
+        @Override
+        public void onShutdown(String name) {
+
+        }
+    }
+}
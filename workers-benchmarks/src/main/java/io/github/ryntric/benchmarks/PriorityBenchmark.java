@@ -0,0 +1,130 @@
+package io.github.ryntric.benchmarks;
+
+import io.github.ryntric.DefaultHashCodeProvider;
+import io.github.ryntric.EventHandler;
+import io.github.ryntric.EventTranslator.EventTranslatorOneArg;
+import io.github.ryntric.WorkerServiceConfig;
+import io.github.ryntric.priority.PriorityWorkerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the round trip of a control event to a worker whose data ring is kept full by three
+ * flooding producers, with the control event published at the data priority
+ * ({@code controlPriority=1}) and above it ({@code controlPriority=0}).
+ * <p>
+ * Compare the sampled {@code control} latencies of both runs; at the data priority a control
+ * event queues behind a full ring of data events.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriorityBenchmark {
+    private static final int KEY = 0;
+    private static final int DATA_PRIORITY = 1;
+    private static final EventTranslatorOneArg<PriorityEvent, Long> TRANSLATOR = (event, id) -> event.id = id;
+    private static final Long DATA = 0L;
+
+    @Param({"0", "1"})
+    public int controlPriority;
+
+    @Param({"4096"})
+    public int bufferSize;
+
+    @Param({"50"})
+    public long handlerTokens;
+
+    private BusyHandler handler;
+    private PriorityWorkerService<PriorityEvent> service;
+    private long sent;
+
+    @Setup
+    public void setup() {
+        WorkerServiceConfig config = WorkerServiceConfig.builder()
+                .workerCount(1)
+                .bufferSize(bufferSize)
+                .priorityCount(2)
+                .build();
+        handler = new BusyHandler(handlerTokens);
+        service = new PriorityWorkerService<>("priority", handler, PriorityEvent::new, DefaultHashCodeProvider.INSTANCE, config);
+        service.start();
+    }
+
+    @TearDown
+    public void teardown() {
+        service.shutdown();
+    }
+
+    @Benchmark
+    @Group("control")
+    @GroupThreads(1)
+    public void control() {
+        long id = ++sent;
+        service.publishEvent(KEY, controlPriority, TRANSLATOR, id);
+        while (handler.acknowledged < id) {
+            Thread.onSpinWait();
+        }
+    }
+
+    @Benchmark
+    @Group("control")
+    @GroupThreads(3)
+    public void data() {
+        service.publishEvent(KEY, DATA_PRIORITY, TRANSLATOR, DATA);
+    }
+
+    public static final class PriorityEvent {
+        private long id;
+    }
+
+    private static final class BusyHandler implements EventHandler<PriorityEvent> {
+        private final long tokens;
+        private volatile long acknowledged;
+
+        private BusyHandler(long tokens) {
+            this.tokens = tokens;
+        }
+
+        @Override
+        public void onEvent(String name, PriorityEvent event, long sequence) {
+            if (event.id != 0) {
+                acknowledged = event.id;
+                return;
+            }
+            Blackhole.consumeCPU(tokens);
+        }
+
+        @Override
+        public void onError(String name, PriorityEvent event, long sequence, Throwable ex) {
+
+        }
+
+        @Override
+        public void onStart(String name) {
+
+        }
+
+        @Override
+        public void onShutdown(String name) {
+
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.ryntric.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.github.ryntric.benchmarks.Translators.FIVE_ARG;
+import static io.github.ryntric.benchmarks.Translators.FOUR_ARG;
+import static io.github.ryntric.benchmarks.Translators.ONE_ARG;
+import static io.github.ryntric.benchmarks.Translators.THREE_ARG;
+import static io.github.ryntric.benchmarks.Translators.TWO_ARG;
+
+/**
+ * Measures {@code WorkerService.publishEvent} for every key type and translator arity.
+ * <p>
+ * Reports throughput and sampled latency. Run with {@code -t N} to measure N concurrent
+ * producers; {@code SINGLE_PRODUCER} sequencers are only valid with {@code -t 1}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PublishEventBenchmark extends AbstractWorkerServiceBenchmark {
+    private static final Object ARG = new Object();
+
+    private Publisher publisher;
+
+    @Setup
+    public void setupPublisher() {
+        switch (keyType) {
+            case STRING: {
+                String[] keys = KeyType.strings(KEY_COUNT);
+                publisher = forArity(i -> service.publishEvent(keys[i], ONE_ARG, ARG),
+                        i -> service.publishEvent(keys[i], TWO_ARG, ARG, ARG),
+                        i -> service.publishEvent(keys[i], THREE_ARG, ARG, ARG, ARG),
+                        i -> service.publishEvent(keys[i], FOUR_ARG, ARG, ARG, ARG, ARG),
+                        i -> service.publishEvent(keys[i], FIVE_ARG, ARG, ARG, ARG, ARG, ARG));
+                break;
+            }
+            case INT: {
+                int[] keys = KeyType.ints(KEY_COUNT);
+                publisher = forArity(i -> service.publishEvent(keys[i], ONE_ARG, ARG),
+                        i -> service.publishEvent(keys[i], TWO_ARG, ARG, ARG),
+                        i -> service.publishEvent(keys[i], THREE_ARG, ARG, ARG, ARG),
+                        i -> service.publishEvent(keys[i], FOUR_ARG, ARG, ARG, ARG, ARG),
+                        i -> service.publishEvent(keys[i], FIVE_ARG, ARG, ARG, ARG, ARG, ARG));
+                break;
+            }
+            case LONG: {
+                long[] keys = KeyType.longs(KEY_COUNT);
+                publisher = forArity(i -> service.publishEvent(keys[i], ONE_ARG, ARG),
+                        i -> service.publishEvent(keys[i], TWO_ARG, ARG, ARG),
+                        i -> service.publishEvent(keys[i], THREE_ARG, ARG, ARG, ARG),
+                        i -> service.publishEvent(keys[i], FOUR_ARG, ARG, ARG, ARG, ARG),
+                        i -> service.publishEvent(keys[i], FIVE_ARG, ARG, ARG, ARG, ARG, ARG));
+                break;
+            }
+            case BYTES: {
+                byte[][] keys = KeyType.bytes(KEY_COUNT);
+                publisher = forArity(i -> service.publishEvent(keys[i], ONE_ARG, ARG),
+                        i -> service.publishEvent(keys[i], TWO_ARG, ARG, ARG),
+                        i -> service.publishEvent(keys[i], THREE_ARG, ARG, ARG, ARG),
+                        i -> service.publishEvent(keys[i], FOUR_ARG, ARG, ARG, ARG, ARG),
+                        i -> service.publishEvent(keys[i], FIVE_ARG, ARG, ARG, ARG, ARG, ARG));
+                break;
+            }
+            default:
+                throw new IllegalStateException("Unknown key type: " + keyType);
+        }
+    }
+
+    @Benchmark
+    public void publishEvent(KeyCursor cursor) {
+        publisher.publish(cursor.next());
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.ryntric.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static io.github.ryntric.benchmarks.Translators.FIVE_ARG;
+import static io.github.ryntric.benchmarks.Translators.FOUR_ARG;
+import static io.github.ryntric.benchmarks.Translators.ONE_ARG;
+import static io.github.ryntric.benchmarks.Translators.THREE_ARG;
+import static io.github.ryntric.benchmarks.Translators.TWO_ARG;
+
+/**
+ * Measures {@code WorkerService.publishEvents} for every key type and translator arity.
+ * <p>
+ * Throughput is reported per event ({@link OperationsPerInvocation} equals the batch size),
+ * so results are directly comparable with {@link PublishEventBenchmark}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@OperationsPerInvocation(PublishEventsBenchmark.BATCH_SIZE)
+public class PublishEventsBenchmark extends AbstractWorkerServiceBenchmark {
+    static final int BATCH_SIZE = 64;
+
+    private Publisher publisher;
+
+    @Setup
+    public void setupPublisher() {
+        Object[] args = new Object[BATCH_SIZE];
+        Arrays.fill(args, new Object());
+
+        switch (keyType) {
+            case STRING: {
+                String[] keys = KeyType.strings(KEY_COUNT);
+                publisher = forArity(i -> service.publishEvents(keys[i], ONE_ARG, args),
+                        i -> service.publishEvents(keys[i], TWO_ARG, args, args),
+                        i -> service.publishEvents(keys[i], THREE_ARG, args, args, args),
+                        i -> service.publishEvents(keys[i], FOUR_ARG, args, args, args, args),
+                        i -> service.publishEvents(keys[i], FIVE_ARG, args, args, args, args, args));
+                break;
+            }
+            case INT: {
+                int[] keys = KeyType.ints(KEY_COUNT);
+                publisher = forArity(i -> service.publishEvents(keys[i], ONE_ARG, args),
+                        i -> service.publishEvents(keys[i], TWO_ARG, args, args),
+                        i -> service.publishEvents(keys[i], THREE_ARG, args, args, args),
+                        i -> service.publishEvents(keys[i], FOUR_ARG, args, args, args, args),
+                        i -> service.publishEvents(keys[i], FIVE_ARG, args, args, args, args, args));
+                break;
+            }
+            case LONG: {
+                long[] keys = KeyType.longs(KEY_COUNT);
+                publisher = forArity(i -> service.publishEvents(keys[i], ONE_ARG, args),
+                        i -> service.publishEvents(keys[i], TWO_ARG, args, args),
+                        i -> service.publishEvents(keys[i], THREE_ARG, args, args, args),
+                        i -> service.publishEvents(keys[i], FOUR_ARG, args, args, args, args),
+                        i -> service.publishEvents(keys[i], FIVE_ARG, args, args, args, args, args));
+                break;
+            }
+            case BYTES: {
+                byte[][] keys = KeyType.bytes(KEY_COUNT);
+                publisher = forArity(i -> service.publishEvents(keys[i], ONE_ARG, args),
+                        i -> service.publishEvents(keys[i], TWO_ARG, args, args),
+                        i -> service.publishEvents(keys[i], THREE_ARG, args, args, args),
+                        i -> service.publishEvents(keys[i], FOUR_ARG, args, args, args, args),
+                        i -> service.publishEvents(keys[i], FIVE_ARG, args, args, args, args, args));
+                break;
+            }
+            default:
+                throw new IllegalStateException("Unknown key type: " + keyType);
+        }
+    }
+
+    @Benchmark
+    public void publishEvents(KeyCursor cursor) {
+        publisher.publish(cursor.next());
+    }
+}
@@ -0,0 +1,10 @@
+package io.github.ryntric.benchmarks;
+
+/**
+ * A single publish call bound to one key type and translator arity.
+ * Selected once per trial so that the benchmark loop stays monomorphic.
+ */
+@FunctionalInterface
+interface Publisher {
+    void publish(int keyIndex);
+}
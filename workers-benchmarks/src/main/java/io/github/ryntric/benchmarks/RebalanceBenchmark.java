@@ -0,0 +1,127 @@
+package io.github.ryntric.benchmarks;
+
+import io.github.ryntric.DefaultHashCodeProvider;
+import io.github.ryntric.EventHandler;
+import io.github.ryntric.WorkerService;
+import io.github.ryntric.WorkerServiceConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.github.ryntric.benchmarks.Translators.ONE_ARG;
+
+/**
+ * Publishes Zipf-distributed int keys to a service whose handler burns a fixed amount of CPU
+ * per event, with load rebalancing off ({@code rebalanceInterval=0}) and on.
+ * <p>
+ * Under skew the worker owning the hottest slots saturates and its ring fills up, so producers
+ * stall on it; the sampled publish latency percentiles show how much rebalancing relieves it.
+ * Compare the {@code p0.99} rows of both {@code rebalanceInterval} values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class RebalanceBenchmark {
+    private static final int SAMPLE_COUNT = 1 << 16;
+    private static final int SAMPLE_MASK = SAMPLE_COUNT - 1;
+    private static final Object ARG = new Object();
+
+    @Param({"0", "10"})
+    public long rebalanceInterval;
+
+    @Param({"1.1"})
+    public double zipfExponent;
+
+    @Param({"4096"})
+    public int distinctKeys;
+
+    @Param({"100"})
+    public long handlerTokens;
+
+    @Param({"4"})
+    public int workerCount;
+
+    private int[] keys;
+    private WorkerService<BenchmarkEvent> service;
+
+    @Setup
+    public void setup() {
+        keys = KeyType.zipf(SAMPLE_COUNT, distinctKeys, zipfExponent, 42);
+        WorkerServiceConfig config = WorkerServiceConfig.builder()
+                .workerCount(workerCount)
+                .rebalanceInterval(rebalanceInterval)
+                .build();
+        service = new WorkerService<>("rebalance", new BusyHandler(handlerTokens), BenchmarkEvent::new, DefaultHashCodeProvider.INSTANCE, config);
+        service.start();
+    }
+
+    @TearDown
+    public void teardown() {
+        service.shutdown();
+    }
+
+    @Benchmark
+    public void publishZipf(ZipfCursor cursor) {
+        service.publishEvent(keys[cursor.next()], ONE_ARG, ARG);
+    }
+
+    @State(Scope.Thread)
+    public static class ZipfCursor {
+        private int index;
+
+        @Setup
+        public void setup() {
+            index = (int) Thread.currentThread().getId() * 7919;
+        }
+
+        int next() {
+            return index++ & SAMPLE_MASK;
+        }
+    }
+
+    private static final class BusyHandler implements EventHandler<BenchmarkEvent> {
+        private final long tokens;
+
+        private BusyHandler(long tokens) {
+            this.tokens = tokens;
+        }
+
+        @Override
+        public void onEvent(String name, BenchmarkEvent event, long sequence) {
+            Blackhole.consumeCPU(tokens);
+            event.setValue(null);
+        }
+
+        @Override
+        public void onError(String name, BenchmarkEvent event, long sequence, Throwable ex) {
+
+        }
+
+        @Override
+        public void onStart(String name) {
+
+        }
+
+        @Override
+        public void onShutdown(String name) {
+
+        }
+    }
+}
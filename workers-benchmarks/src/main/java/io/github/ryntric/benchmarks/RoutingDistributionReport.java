@@ -0,0 +1,47 @@
+package io.github.ryntric.benchmarks;
+
+import io.github.ryntric.DefaultHashCodeProvider;
+import io.github.ryntric.routing.LoadDistribution;
+import io.github.ryntric.routing.RoutingStrategy;
+import io.github.ryntric.routing.RoutingTable;
+import io.github.ryntric.routing.RoutingTables;
+
+/**
+ * Prints the distribution quality of every {@link RoutingStrategy} for sequential
+ * int keys and string keys, and the share of keys remapped when one worker is added.
+ * <p>
+ * Run with {@code java -cp target/benchmarks.jar io.github.ryntric.benchmarks.RoutingDistributionReport [keys] [replicas]}.
+ */
+public final class RoutingDistributionReport {
+    private static final int[] WORKER_COUNTS = {4, 7, 16, 31, 64};
+
+    private RoutingDistributionReport() {}
+
+    public static void main(String[] args) {
+        int keyCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int replicaCount = args.length > 1 ? Integer.parseInt(args[1]) : 400;
+
+        int[] intHashes = new int[keyCount];
+        int[] stringHashes = new int[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            intHashes[i] = DefaultHashCodeProvider.INSTANCE.provide(i);
+            stringHashes[i] = DefaultHashCodeProvider.INSTANCE.provide("user-" + i);
+        }
+
+        System.out.printf("%-16s %8s %14s %14s %10s%n", "strategy", "workers", "int max/mean", "str max/mean", "remapped");
+        for (RoutingStrategy strategy : RoutingStrategy.values()) {
+            for (int workers : WORKER_COUNTS) {
+                RoutingTable table = RoutingTables.of(strategy, workers, replicaCount);
+                RoutingTable grown = RoutingTables.of(strategy, workers + 1, replicaCount);
+                int remapped = 0;
+                for (int hash : stringHashes) {
+                    if (table.route(hash) != grown.route(hash)) remapped++;
+                }
+                System.out.printf("%-16s %8d %14.3f %14.3f %9.1f%%%n", strategy, workers,
+                        LoadDistribution.measure(table, intHashes).getMaxToMean(),
+                        LoadDistribution.measure(table, stringHashes).getMaxToMean(),
+                        100.0 * remapped / keyCount);
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.ryntric.benchmarks;
+
+import io.github.ryntric.routing.RoutingTable;
+import io.github.ryntric.routing.RoutingTables;
+
+/**
+ * Prints the routing memory footprint per service for common worker and replica counts,
+ * next to the footprint of the former {@code WorkerNode[]} layout.
+ * <p>
+ * Run with {@code java -cp target/benchmarks.jar io.github.ryntric.benchmarks.RoutingFootprintReport}.
+ */
+public final class RoutingFootprintReport {
+    private static final int[] WORKER_COUNTS = {1, 4, 8, 16, 64, 300};
+    private static final int[] REPLICA_COUNTS = {1, 100, 400};
+
+    private RoutingFootprintReport() {}
+
+    public static void main(String[] args) {
+        System.out.printf("%8s %8s %8s %16s %16s%n", "workers", "replicas", "slots", "node array (B)", "table (B)");
+        for (int workers : WORKER_COUNTS) {
+            for (int replicas : REPLICA_COUNTS) {
+                RoutingTable table = RoutingTables.modulo(workers, replicas);
+                int slots = table.slotCount();
+                // reference array plus one 16 byte WorkerNode per slot, compressed oops
+                long nodeArray = align(16 + 4L * slots) + 16L * slots;
+                System.out.printf("%8d %8d %8d %16d %16d%n", workers, replicas, slots, nodeArray, table.footprint());
+            }
+        }
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
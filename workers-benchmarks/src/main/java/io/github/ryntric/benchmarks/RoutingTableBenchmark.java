@@ -0,0 +1,94 @@
+package io.github.ryntric.benchmarks;
+
+import io.github.ryntric.routing.RoutingStrategy;
+import io.github.ryntric.routing.RoutingTable;
+import io.github.ryntric.routing.RoutingTables;
+import io.github.ryntric.util.WorkerUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a route lookup through the former per-slot wrapper object array
+ * with the compact primitive {@link RoutingTable} for every {@link RoutingStrategy}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@OperationsPerInvocation(RoutingTableBenchmark.HASH_COUNT)
+public class RoutingTableBenchmark {
+    static final int HASH_COUNT = 4096;
+
+    @Param({"4", "16", "64"})
+    public int workerCount;
+
+    @Param({"400"})
+    public int replicaCount;
+
+    @Param({"MODULO", "CONSISTENT_HASH"})
+    public RoutingStrategy strategy;
+
+    private final int[] hashes = new int[HASH_COUNT];
+    private Node[] nodes;
+    private int mask;
+    private RoutingTable routingTable;
+
+    private static final class Node {
+        private final Integer worker;
+
+        private Node(Integer worker) {
+            this.worker = worker;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < HASH_COUNT; i++) {
+            hashes[i] = random.nextInt();
+        }
+        routingTable = RoutingTables.of(strategy, workerCount, replicaCount);
+        nodes = new Node[WorkerUtil.ceilPowerOfTwo(workerCount * replicaCount)];
+        Integer[] workers = new Integer[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = Integer.valueOf(i + 1024);
+        }
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = new Node(workers[i % workerCount]);
+        }
+        mask = nodes.length - 1;
+    }
+
+    @Benchmark
+    public int nodeArray() {
+        int sum = 0;
+        for (int hash : hashes) {
+            sum += nodes[hash & mask].worker;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int routingTable() {
+        int sum = 0;
+        for (int hash : hashes) {
+            sum += routingTable.route(hash);
+        }
+        return sum;
+    }
+}
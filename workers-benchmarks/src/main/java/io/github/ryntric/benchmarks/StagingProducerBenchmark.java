@@ -0,0 +1,85 @@
+package io.github.ryntric.benchmarks;
+
+import io.github.ryntric.DefaultHashCodeProvider;
+import io.github.ryntric.StagingProducer;
+import io.github.ryntric.WorkerService;
+import io.github.ryntric.WorkerServiceConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.github.ryntric.benchmarks.Translators.ONE_ARG;
+
+/**
+ * Compares direct {@code publishEvent} calls ({@code direct}) with publishing through
+ * per-thread {@link StagingProducer} handles ({@code staged}) under many concurrent
+ * {@code MULTI_PRODUCER} publishers. Sweep {@code -p batchSize} to see the trade-off
+ * between claim contention and batch latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(16)
+@Fork(1)
+public class StagingProducerBenchmark {
+    private static final Object ARG = new Object();
+
+    @Param({"64"})
+    public int batchSize;
+
+    @Param({"4"})
+    public int workerCount;
+
+    private WorkerService<BenchmarkEvent> service;
+
+    @Setup
+    public void setup() {
+        WorkerServiceConfig config = WorkerServiceConfig.builder().workerCount(workerCount).build();
+        service = new WorkerService<>("staging", BenchmarkEventHandler.INSTANCE, BenchmarkEvent::new, DefaultHashCodeProvider.INSTANCE, config);
+        service.start();
+    }
+
+    @TearDown
+    public void teardown() {
+        service.shutdown();
+    }
+
+    @Benchmark
+    public void direct(KeyCursor cursor) {
+        service.publishEvent(cursor.next(), ONE_ARG, ARG);
+    }
+
+    @Benchmark
+    public void staged(ProducerState state, KeyCursor cursor) {
+        state.producer.publishEvent(cursor.next(), ARG);
+    }
+
+    @State(Scope.Thread)
+    public static class ProducerState {
+        private StagingProducer<BenchmarkEvent, Object> producer;
+
+        @Setup
+        public void setup(StagingProducerBenchmark benchmark) {
+            producer = benchmark.service.newProducer(ONE_ARG, benchmark.batchSize, 0);
+        }
+
+        @TearDown
+        public void teardown() {
+            producer.close();
+        }
+    }
+}
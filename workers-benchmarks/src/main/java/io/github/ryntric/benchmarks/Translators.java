@@ -0,0 +1,20 @@
+package io.github.ryntric.benchmarks;
+
+import io.github.ryntric.EventTranslator.EventTranslatorFiveArg;
+import io.github.ryntric.EventTranslator.EventTranslatorFourArg;
+import io.github.ryntric.EventTranslator.EventTranslatorOneArg;
+import io.github.ryntric.EventTranslator.EventTranslatorThreeArg;
+import io.github.ryntric.EventTranslator.EventTranslatorTwoArg;
+
+/**
+ * Non-capturing translators for every supported arity.
+ */
+final class Translators {
+    static final EventTranslatorOneArg<BenchmarkEvent, Object> ONE_ARG = BenchmarkEvent::setValue;
+    static final EventTranslatorTwoArg<BenchmarkEvent, Object, Object> TWO_ARG = (event, arg0, arg1) -> event.setValue(arg0);
+    static final EventTranslatorThreeArg<BenchmarkEvent, Object, Object, Object> THREE_ARG = (event, arg0, arg1, arg2) -> event.setValue(arg0);
+    static final EventTranslatorFourArg<BenchmarkEvent, Object, Object, Object, Object> FOUR_ARG = (event, arg0, arg1, arg2, arg3) -> event.setValue(arg0);
+    static final EventTranslatorFiveArg<BenchmarkEvent, Object, Object, Object, Object, Object> FIVE_ARG = (event, arg0, arg1, arg2, arg3, arg4) -> event.setValue(arg0);
+
+    private Translators() {}
+}